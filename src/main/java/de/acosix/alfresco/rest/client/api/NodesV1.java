@@ -16,6 +16,7 @@
 package de.acosix.alfresco.rest.client.api;
 
 import java.io.InputStream;
+import java.util.Iterator;
 import java.util.List;
 
 import jakarta.ws.rs.Consumes;
@@ -535,6 +536,37 @@ public interface NodesV1
             @QueryParam("orderBy") MultiValuedParam<Sort<NodeSortField>> orderBy,
             @QueryParam("include") MultiValuedParam<IncludeOption> include, @QueryParam("fields") MultiValuedParam<String> fields);
 
+    /**
+     * Retrieves a list of children of a specified node as a raw response, e.g. in order to read the entries into a
+     * {@link de.acosix.alfresco.rest.client.jackson.Projection projection} type.
+     *
+     * @param nodeId
+     *     the ID of the node from which to retrieve the children - supports the pseudo IDs {@code -root-},
+     *     {@code -shared-} and {@code -my-}
+     * @param where
+     *     a conditional filter to be applied to the children of the node
+     * @param skipCount
+     *     the number of children matching the retrieval condition(s) to skip
+     * @param maxItems
+     *     the maximum number of children to retrieve
+     * @param orderBy
+     *     the sort order for children to use
+     * @param include
+     *     the list of optional fields / information to include in the response
+     * @param fields
+     *     the list of fields to which to restrict the response in order to save bandwidth ({@code include} adds to this list if
+     *     provided) - should be {@code null} if no restrictions should be applied as an empty list / multi-valued param is treated
+     *     as "include no fields at all"
+     * @return the response object allowing access to the list of children of the specified node
+     */
+    @GET
+    @Produces("application/json")
+    @Path("/{nodeId}/children")
+    Response getChildrenResponse(@PathParam("nodeId") String nodeId, @QueryParam("where") String where,
+            @QueryParam("skipCount") int skipCount, @QueryParam("maxItems") int maxItems,
+            @QueryParam("orderBy") MultiValuedParam<Sort<NodeSortField>> orderBy,
+            @QueryParam("include") MultiValuedParam<IncludeOption> include, @QueryParam("fields") MultiValuedParam<String> fields);
+
     /**
      * Retrieves a list of children of a resolved node.
      *
@@ -768,6 +800,53 @@ public interface NodesV1
             @QueryParam("autoRename") boolean autoRename, @QueryParam("include") MultiValuedParam<IncludeOption> include,
             @QueryParam("fields") MultiValuedParam<String> fields);
 
+    /**
+     * Creates multiple content-less nodes, writing the request incrementally while iterating over the nodes to create. Provided the
+     * {@link de.acosix.alfresco.rest.client.resteasy.WrappedEntityProvider WrappedEntityProvider} is registered and the client does not
+     * buffer request entities, the structures of all nodes to create never need to be held in memory at the same time.
+     *
+     * @param nodeId
+     *     the ID of the node below which to create the new nodes - supports the pseudo IDs {@code -root-},
+     *     {@code -shared-} and {@code -my-}
+     * @param nodesToCreate
+     *     the requested structure of the nodes to create
+     * @return the details of the created nodes
+     */
+    @POST
+    @Consumes("application/json")
+    @Produces("application/json")
+    @Path("/{nodeId}/children")
+    PaginatedList<NodeResponseEntity> createNodes(@PathParam("nodeId") String nodeId, Iterator<NodeCreationRequestEntity> nodesToCreate);
+
+    /**
+     * Creates multiple content-less nodes, writing the request incrementally while iterating over the nodes to create. Provided the
+     * {@link de.acosix.alfresco.rest.client.resteasy.WrappedEntityProvider WrappedEntityProvider} is registered and the client does not
+     * buffer request entities, the structures of all nodes to create never need to be held in memory at the same time.
+     *
+     * @param nodeId
+     *     the ID of the node below which to create the new nodes - supports the pseudo IDs {@code -root-},
+     *     {@code -shared-} and {@code -my-}
+     * @param nodesToCreate
+     *     the requested structure of the nodes to create
+     * @param autoRename
+     *     {@code true} if the node should be auto-renamed (from the requested name) in order to prevent name-clashes, {@code false}
+     *     otherwise
+     * @param include
+     *     the list of optional fields / information to include in the response
+     * @param fields
+     *     the list of fields to which to restrict the response in order to save bandwidth ({@code include} adds to this list if
+     *     provided) - should be {@code null} if no restrictions should be applied as an empty list / multi-valued param is treated
+     *     as "include no fields at all"
+     * @return the details of the created nodes
+     */
+    @POST
+    @Consumes("application/json")
+    @Produces("application/json")
+    @Path("/{nodeId}/children")
+    PaginatedList<NodeResponseEntity> createNodes(@PathParam("nodeId") String nodeId, Iterator<NodeCreationRequestEntity> nodesToCreate,
+            @QueryParam("autoRename") boolean autoRename, @QueryParam("include") MultiValuedParam<IncludeOption> include,
+            @QueryParam("fields") MultiValuedParam<String> fields);
+
     /**
      * Retrieves the content (restricted to cm:content property) of the specified node.
      *
@@ -1296,6 +1375,48 @@ public interface NodesV1
     PaginatedList<ChildAssociationEntity> addSecondaryChildNodes(@PathParam("parentId") String parentId,
             List<ChildAssociationEntity> childAssociations);
 
+    /**
+     * Creates secondary child associations between a parent and multiple child nodes, writing the request incrementally while iterating
+     * over the child associations to create. Provided the {@link de.acosix.alfresco.rest.client.resteasy.WrappedEntityProvider
+     * WrappedEntityProvider} is registered and the client does not buffer request entities, the details of all child associations to
+     * create never need to be held in memory at the same time.
+     *
+     * @param parentId
+     *     the ID of the parent node
+     * @param childAssociations
+     *     the details of the child associations to create, specifically the ID of the child node and the association type
+     * @param fields
+     *     the list of fields to which to restrict the response in order to save bandwidth ({@code include} adds to this list if
+     *     provided) - should be {@code null} if no restrictions should be applied as an empty list / multi-valued param is treated
+     *     as "include no fields at all"
+     * @return the details of the created child associations
+     */
+    @POST
+    @Consumes("application/json")
+    @Produces("application/json")
+    @Path("/{parentId}/secondary-children")
+    PaginatedList<ChildAssociationEntity> addSecondaryChildNodes(@PathParam("parentId") String parentId,
+            Iterator<ChildAssociationEntity> childAssociations, @QueryParam("fields") MultiValuedParam<String> fields);
+
+    /**
+     * Creates secondary child associations between a parent and multiple child nodes, writing the request incrementally while iterating
+     * over the child associations to create. Provided the {@link de.acosix.alfresco.rest.client.resteasy.WrappedEntityProvider
+     * WrappedEntityProvider} is registered and the client does not buffer request entities, the details of all child associations to
+     * create never need to be held in memory at the same time.
+     *
+     * @param parentId
+     *     the ID of the parent node
+     * @param childAssociations
+     *     the details of the child associations to create, specifically the ID of the child node and the association type
+     * @return the details of the created child associations
+     */
+    @POST
+    @Consumes("application/json")
+    @Produces("application/json")
+    @Path("/{parentId}/secondary-children")
+    PaginatedList<ChildAssociationEntity> addSecondaryChildNodes(@PathParam("parentId") String parentId,
+            Iterator<ChildAssociationEntity> childAssociations);
+
     /**
      * Deletes (a) child association(s) between a parent node and a particular child node.
      *
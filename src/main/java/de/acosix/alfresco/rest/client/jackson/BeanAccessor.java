@@ -0,0 +1,154 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.jackson;
+
+import java.lang.reflect.Method;
+
+/**
+ * Instances of this class invoke the default constructor, setters and getters of a specific value type directly, i.e. without reflection.
+ * Concrete accessors are generated at build time for all eligible value types and obtained via {@link #forType(Class)}. Setters and
+ * getters are addressed by an index, which is resolved once from the reflective {@link Method} Jackson discovered for a property.
+ *
+ * @author Axel Faust
+ */
+abstract class BeanAccessor
+{
+
+    private final boolean defaultConstructor;
+
+    private final String[] setterNames;
+
+    private final Class<?>[] setterTypes;
+
+    private final String[] getterNames;
+
+    protected BeanAccessor(final boolean defaultConstructor, final String[] setterNames, final Class<?>[] setterTypes,
+            final String[] getterNames)
+    {
+        this.defaultConstructor = defaultConstructor;
+        this.setterNames = setterNames;
+        this.setterTypes = setterTypes;
+        this.getterNames = getterNames;
+    }
+
+    /**
+     * Retrieves the generated accessor for a value type.
+     *
+     * @param type
+     *            the value type
+     * @return the accessor or {@code null} if no accessor was generated for the type at build time
+     */
+    static BeanAccessor forType(final Class<?> type)
+    {
+        return GeneratedBeanAccessors.forType(type);
+    }
+
+    /**
+     * Checks whether this accessor can create new instances of the value type via its default constructor.
+     *
+     * @return {@code true} if {@link #create()} is supported, {@code false} otherwise
+     */
+    boolean hasDefaultConstructor()
+    {
+        return this.defaultConstructor;
+    }
+
+    /**
+     * Determines the index of a setter for use with {@link #set(Object, int, Object) set}.
+     *
+     * @param setter
+     *            the setter
+     * @return the index of the setter or {@code -1} if the setter is not supported by this accessor
+     */
+    int indexOfSetter(final Method setter)
+    {
+        int index = -1;
+        if (setter.getParameterCount() == 1)
+        {
+            final Class<?> parameterType = setter.getParameterTypes()[0];
+            for (int idx = 0; idx < this.setterNames.length && index == -1; idx++)
+            {
+                if (this.setterNames[idx].equals(setter.getName()) && this.setterTypes[idx] == parameterType)
+                {
+                    index = idx;
+                }
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Determines the index of a getter for use with {@link #get(Object, int) get}.
+     *
+     * @param getter
+     *            the getter
+     * @return the index of the getter or {@code -1} if the getter is not supported by this accessor
+     */
+    int indexOfGetter(final Method getter)
+    {
+        int index = -1;
+        if (getter.getParameterCount() == 0)
+        {
+            for (int idx = 0; idx < this.getterNames.length && index == -1; idx++)
+            {
+                if (this.getterNames[idx].equals(getter.getName()))
+                {
+                    index = idx;
+                }
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Creates a new instance of the value type via its default constructor.
+     *
+     * @return the new instance
+     */
+    Object create()
+    {
+        throw new UnsupportedOperationException("No default constructor supported");
+    }
+
+    /**
+     * Sets the value of a property via its setter.
+     *
+     * @param bean
+     *            the instance of the value type
+     * @param setter
+     *            the index of the setter
+     * @param value
+     *            the value to set
+     */
+    void set(final Object bean, final int setter, final Object value)
+    {
+        throw new IllegalArgumentException("Invalid setter index " + setter);
+    }
+
+    /**
+     * Retrieves the value of a property via its getter.
+     *
+     * @param bean
+     *            the instance of the value type
+     * @param getter
+     *            the index of the getter
+     * @return the value of the property
+     */
+    Object get(final Object bean, final int getter)
+    {
+        throw new IllegalArgumentException("Invalid getter index " + getter);
+    }
+}
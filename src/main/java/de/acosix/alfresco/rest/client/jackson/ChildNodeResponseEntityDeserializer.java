@@ -0,0 +1,95 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.jackson;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+
+import de.acosix.alfresco.rest.client.model.nodes.ChildAssociationResponseEntity;
+import de.acosix.alfresco.rest.client.model.nodes.ChildNodeResponseEntity;
+
+/**
+ * @author Axel Faust
+ */
+public class ChildNodeResponseEntityDeserializer extends NodeResponseEntityDeserializer<ChildNodeResponseEntity>
+{
+
+    private static final long serialVersionUID = 2985043937312005428L;
+
+    protected transient JsonDeserializer<Object> associationDeserializer;
+
+    public ChildNodeResponseEntityDeserializer()
+    {
+        this(null);
+    }
+
+    public ChildNodeResponseEntityDeserializer(final StringPool stringPool)
+    {
+        this(stringPool, false);
+    }
+
+    public ChildNodeResponseEntityDeserializer(final StringPool stringPool, final boolean deferProperties)
+    {
+        super(ChildNodeResponseEntity.class, ChildNodeResponseEntity::new, stringPool, deferProperties);
+    }
+
+    /**
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    public void resolve(final DeserializationContext ctxt) throws JsonMappingException
+    {
+        super.resolve(ctxt);
+        this.associationDeserializer = this.findDeserializer(ctxt, ctxt.constructType(ChildAssociationResponseEntity.class));
+    }
+
+    /**
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    protected void resetInstance(final DeserializationContext ctxt, final ChildNodeResponseEntity bean)
+    {
+        super.resetInstance(ctxt, bean);
+        bean.setAssociation(null);
+    }
+
+    /**
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean deserializeField(final JsonParser p, final DeserializationContext ctxt, final ChildNodeResponseEntity bean,
+            final String fieldName) throws IOException
+    {
+        final boolean handled;
+        if ("association".equals(fieldName))
+        {
+            bean.setAssociation((ChildAssociationResponseEntity) this.readValue(p, ctxt, this.associationDeserializer));
+            handled = true;
+        }
+        else
+        {
+            handled = super.deserializeField(p, ctxt, bean, fieldName);
+        }
+        return handled;
+    }
+}
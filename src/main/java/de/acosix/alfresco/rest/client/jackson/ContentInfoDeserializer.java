@@ -0,0 +1,94 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.jackson;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+
+import de.acosix.alfresco.rest.client.model.nodes.ContentInfo;
+
+/**
+ * @author Axel Faust
+ */
+public class ContentInfoDeserializer extends StreamingBeanDeserializer<ContentInfo>
+{
+
+    private static final long serialVersionUID = -1606410838866455183L;
+
+    public ContentInfoDeserializer()
+    {
+        this(null);
+    }
+
+    public ContentInfoDeserializer(final StringPool stringPool)
+    {
+        super(ContentInfo.class, stringPool);
+    }
+
+    /**
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    protected ContentInfo createInstance()
+    {
+        return new ContentInfo();
+    }
+
+    /**
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    protected void resetInstance(final DeserializationContext ctxt, final ContentInfo bean)
+    {
+        bean.setMimeType(null);
+        bean.setMimeTypeName(null);
+        bean.setSizeInBytes(null);
+        bean.setEncoding(null);
+    }
+
+    /**
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean deserializeField(final JsonParser p, final DeserializationContext ctxt, final ContentInfo bean,
+            final String fieldName) throws IOException
+    {
+        boolean handled = true;
+        switch (fieldName)
+        {
+            case "mimeType":
+                bean.setMimeType(this.readPooledString(p, ctxt));
+                break;
+            case "mimeTypeName":
+                bean.setMimeTypeName(this.readPooledString(p, ctxt));
+                break;
+            case "sizeInBytes":
+                bean.setSizeInBytes(this.readLong(p, ctxt));
+                break;
+            case "encoding":
+                bean.setEncoding(this.readPooledString(p, ctxt));
+                break;
+            default:
+                handled = false;
+        }
+        return handled;
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.jackson;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+/**
+ * Instances of this class hold the properties of a node in their raw JSON form, captured as a compact UTF-8 byte slice during
+ * deserialization. The properties are only bound into Java values when accessed - either completely, or for an individual property by
+ * scanning the raw JSON for that property while skipping all others.
+ *
+ * @author Axel Faust
+ */
+public final class DeferredProperties
+{
+
+    /**
+     * Instances of this class hold the readers to bind deferred properties, as derived from the codec of the parser used to read the
+     * properties.
+     *
+     * @author Axel Faust
+     */
+    static final class Binding
+    {
+
+        private final ObjectCodec codec;
+
+        private final JsonFactory factory;
+
+        private final ObjectReader mapReader;
+
+        private final ObjectReader valueReader;
+
+        private Binding(final ObjectCodec codec, final ObjectReader reader)
+        {
+            this.codec = codec;
+            this.factory = codec.getFactory();
+            final JavaType mapType = reader.getTypeFactory().constructMapType(Map.class, String.class, Object.class);
+            this.mapReader = reader.forType(mapType);
+            this.valueReader = reader.forType(Object.class);
+        }
+
+        /**
+         * Derives the binding for deferred properties from the codec of a parser.
+         *
+         * @param p
+         *            the parser
+         * @param current
+         *            the binding previously derived by the caller, to be reused if still applicable
+         * @return the binding or {@code null} if properties read via the parser cannot be deferred
+         */
+        static Binding forParser(final JsonParser p, final Binding current)
+        {
+            final ObjectCodec codec = p.getCodec();
+            final Binding binding;
+            if (current != null && current.codec == codec)
+            {
+                binding = current;
+            }
+            else if (codec instanceof ObjectMapper)
+            {
+                binding = new Binding(codec, ((ObjectMapper) codec).reader());
+            }
+            else if (codec instanceof ObjectReader)
+            {
+                binding = new Binding(codec, (ObjectReader) codec);
+            }
+            else
+            {
+                binding = null;
+            }
+            return binding;
+        }
+    }
+
+    private final byte[] json;
+
+    private final Binding binding;
+
+    private DeferredProperties(final byte[] json, final Binding binding)
+    {
+        this.json = json;
+        this.binding = binding;
+    }
+
+    /**
+     * Captures the JSON object at the current position of a parser, leaving the parser positioned at the end of that object.
+     *
+     * @param p
+     *            the parser positioned at the start of the JSON object holding the properties
+     * @param binding
+     *            the binding to use when the properties are accessed
+     * @return the deferred properties
+     * @throws IOException
+     *             if the JSON object cannot be read
+     */
+    static DeferredProperties capture(final JsonParser p, final Binding binding) throws IOException
+    {
+        final ByteArrayBuilder bytes = new ByteArrayBuilder();
+        try
+        {
+            try (JsonGenerator generator = binding.factory.createGenerator(bytes))
+            {
+                generator.copyCurrentStructure(p);
+            }
+            return new DeferredProperties(bytes.toByteArray(), binding);
+        }
+        finally
+        {
+            bytes.release();
+        }
+    }
+
+    /**
+     * Binds all properties.
+     *
+     * @return the mutable map of all properties
+     */
+    public Map<String, Object> bind()
+    {
+        try
+        {
+            return this.binding.mapReader.readValue(this.json);
+        }
+        catch (final IOException ioex)
+        {
+            throw new UncheckedIOException("Failed to bind deferred properties", ioex);
+        }
+    }
+
+    /**
+     * Binds the value of an individual property without binding any other properties.
+     *
+     * @param propertyName
+     *            the name of the property
+     * @return the value of the property, or {@code null} if the property is not contained
+     */
+    public Object bind(final String propertyName)
+    {
+        try (JsonParser p = this.binding.factory.createParser(this.json))
+        {
+            Object value = null;
+            boolean found = false;
+            p.nextToken();
+            String fieldName = p.nextFieldName();
+            while (fieldName != null && !found)
+            {
+                final JsonToken valueToken = p.nextToken();
+                if (fieldName.equals(propertyName))
+                {
+                    value = valueToken == JsonToken.VALUE_NULL ? null : this.binding.valueReader.readValue(p);
+                    found = true;
+                }
+                else
+                {
+                    p.skipChildren();
+                    fieldName = p.nextFieldName();
+                }
+            }
+            return value;
+        }
+        catch (final IOException ioex)
+        {
+            throw new UncheckedIOException("Failed to bind deferred property " + propertyName, ioex);
+        }
+    }
+
+    /**
+     * Retrieves the size of the raw JSON form of the properties.
+     *
+     * @return the number of bytes of the raw JSON form
+     */
+    public int getRawSize()
+    {
+        return this.json.length;
+    }
+}
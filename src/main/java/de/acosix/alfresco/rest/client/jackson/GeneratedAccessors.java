@@ -0,0 +1,36 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.jackson;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation used to mark a value type for which the build of this library should generate a bean accessor, so that the
+ * {@link RestAPIAccessorsModule} can bind its properties without reflection. All value types of the client model and all
+ * {@link Wrapped wrapped} value types are handled implicitly, so this annotation is only required for other value types of this library.
+ * As accessors are generated at build time, this annotation has no effect on value types outside of this library.
+ *
+ * @author Axel Faust
+ */
+@Target({ ElementType.TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface GeneratedAccessors
+{
+    // marker only
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.impl.PropertySerializerMap;
+
+/**
+ * Instances of this class read the value of a property via a {@link BeanAccessor generated accessor} instead of invoking the getter
+ * reflectively. Apart from reading the value, serialization follows the logic of the original property writer.
+ *
+ * @author Axel Faust
+ */
+class GeneratedGetterPropertyWriter extends BeanPropertyWriter
+{
+
+    private static final long serialVersionUID = 5195416406779838545L;
+
+    private final transient BeanAccessor accessor;
+
+    private final int getter;
+
+    GeneratedGetterPropertyWriter(final BeanPropertyWriter base, final BeanAccessor accessor, final int getter)
+    {
+        super(base);
+        this.accessor = accessor;
+        this.getter = getter;
+    }
+
+    /**
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    public Object get(final Object bean) throws Exception
+    {
+        return this.accessor.get(bean, this.getter);
+    }
+
+    /**
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    public void serializeAsField(final Object bean, final JsonGenerator gen, final SerializerProvider prov) throws Exception
+    {
+        final Object value = this.accessor.get(bean, this.getter);
+        if (value == null)
+        {
+            if ((this._suppressableValue == null || !prov.includeFilterSuppressNulls(this._suppressableValue))
+                    && this._nullSerializer != null)
+            {
+                gen.writeFieldName(this._name);
+                this._nullSerializer.serialize(null, gen, prov);
+            }
+        }
+        else
+        {
+            final JsonSerializer<Object> ser = this.findSerializer(value, prov);
+            if (!this.isSuppressed(value, ser, prov) && (value != bean || !this._handleSelfReference(bean, gen, prov, ser)))
+            {
+                gen.writeFieldName(this._name);
+                this.serializeValue(value, ser, gen, prov);
+            }
+        }
+    }
+
+    /**
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    public void serializeAsElement(final Object bean, final JsonGenerator gen, final SerializerProvider prov) throws Exception
+    {
+        final Object value = this.accessor.get(bean, this.getter);
+        if (value == null)
+        {
+            if (this._nullSerializer != null)
+            {
+                this._nullSerializer.serialize(null, gen, prov);
+            }
+            else
+            {
+                gen.writeNull();
+            }
+        }
+        else
+        {
+            final JsonSerializer<Object> ser = this.findSerializer(value, prov);
+            if (this.isSuppressed(value, ser, prov))
+            {
+                this.serializeAsPlaceholder(bean, gen, prov);
+            }
+            else if (value != bean || !this._handleSelfReference(bean, gen, prov, ser))
+            {
+                this.serializeValue(value, ser, gen, prov);
+            }
+        }
+    }
+
+    protected JsonSerializer<Object> findSerializer(final Object value, final SerializerProvider prov) throws Exception
+    {
+        JsonSerializer<Object> ser = this._serializer;
+        if (ser == null)
+        {
+            final Class<?> cls = value.getClass();
+            final PropertySerializerMap m = this._dynamicSerializers;
+            ser = m.serializerFor(cls);
+            if (ser == null)
+            {
+                ser = this._findAndAddDynamic(m, cls, prov);
+            }
+        }
+        return ser;
+    }
+
+    protected boolean isSuppressed(final Object value, final JsonSerializer<Object> ser, final SerializerProvider prov)
+    {
+        final boolean suppressed;
+        if (this._suppressableValue == null)
+        {
+            suppressed = false;
+        }
+        else if (MARKER_FOR_EMPTY == this._suppressableValue)
+        {
+            suppressed = ser.isEmpty(prov, value);
+        }
+        else
+        {
+            suppressed = this._suppressableValue.equals(value);
+        }
+        return suppressed;
+    }
+
+    protected void serializeValue(final Object value, final JsonSerializer<Object> ser, final JsonGenerator gen,
+            final SerializerProvider prov) throws Exception
+    {
+        if (this._typeSerializer == null)
+        {
+            ser.serialize(value, gen, prov);
+        }
+        else
+        {
+            ser.serializeWithType(value, gen, prov, this._typeSerializer);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.jackson;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.SettableBeanProperty;
+import com.fasterxml.jackson.databind.deser.impl.NullsConstantProvider;
+
+/**
+ * Instances of this class set the value of a property via a {@link BeanAccessor generated accessor} instead of invoking the setter
+ * reflectively. Reading the value, including the handling of {@code null} values, is left to the original property.
+ *
+ * @author Axel Faust
+ */
+class GeneratedSetterProperty extends SettableBeanProperty.Delegating
+{
+
+    private static final long serialVersionUID = -5735530420446178207L;
+
+    private final transient BeanAccessor accessor;
+
+    private final int setter;
+
+    private final boolean skipNulls;
+
+    GeneratedSetterProperty(final SettableBeanProperty delegate, final BeanAccessor accessor, final int setter)
+    {
+        super(delegate);
+        this.accessor = accessor;
+        this.setter = setter;
+        this.skipNulls = NullsConstantProvider.isSkipper(delegate.getNullValueProvider());
+    }
+
+    /**
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    protected SettableBeanProperty withDelegate(final SettableBeanProperty d)
+    {
+        return new GeneratedSetterProperty(d, this.accessor, this.setter);
+    }
+
+    /**
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    public void deserializeAndSet(final JsonParser p, final DeserializationContext ctxt, final Object instance) throws IOException
+    {
+        if (!this.skipNulls || !p.hasToken(JsonToken.VALUE_NULL))
+        {
+            final Object value = this.delegate.deserialize(p, ctxt);
+            if (value != null || !this.skipNulls)
+            {
+                this.set(instance, value);
+            }
+        }
+    }
+
+    /**
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    public Object deserializeSetAndReturn(final JsonParser p, final DeserializationContext ctxt, final Object instance) throws IOException
+    {
+        this.deserializeAndSet(p, ctxt, instance);
+        return instance;
+    }
+
+    /**
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    public void set(final Object instance, final Object value) throws IOException
+    {
+        try
+        {
+            this.accessor.set(instance, this.setter, value);
+        }
+        catch (final Exception e)
+        {
+            this._throwAsIOE(e, value);
+        }
+    }
+
+    /**
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    public Object setAndReturn(final Object instance, final Object value) throws IOException
+    {
+        this.set(instance, value);
+        return instance;
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.jackson;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdValueInstantiator;
+
+/**
+ * Instances of this class create new instances of a value type via a {@link BeanAccessor generated accessor} for its default
+ * constructor instead of invoking the constructor reflectively. All other means of instantiation are left to the original instantiator.
+ *
+ * @author Axel Faust
+ */
+class GeneratedValueInstantiator extends StdValueInstantiator
+{
+
+    private static final long serialVersionUID = 3587140722718990452L;
+
+    private final transient BeanAccessor accessor;
+
+    GeneratedValueInstantiator(final StdValueInstantiator base, final BeanAccessor accessor)
+    {
+        super(base);
+        this.accessor = accessor;
+    }
+
+    /**
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    public Object createUsingDefault(final DeserializationContext ctxt) throws IOException
+    {
+        try
+        {
+            return this.accessor.create();
+        }
+        catch (final Exception e)
+        {
+            return ctxt.handleInstantiationProblem(this._valueClass, null, this.rewrapCtorProblem(ctxt, e));
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.jackson;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.DeserializationContext;
+
+/**
+ * Instances of this class hold the nested instances released when a reused entity is {@link StreamingBeanDeserializer#resetInstance(
+ * DeserializationContext, Object) reset}, so that the nested values of the next entity read into the same instance can be deserialized
+ * into them instead of into newly allocated instances. Instances of this class are bound to the
+ * {@link DeserializationContext#getAttribute(Object) attributes} of the deserialization context by the {@link StreamingListReader} for the
+ * duration of a single read operation and are not thread-safe.
+ *
+ * @author Axel Faust
+ */
+final class InstanceRecycler
+{
+
+    static final Object ATTRIBUTE_KEY = InstanceRecycler.class;
+
+    private final Map<String, Object> released = new HashMap<>();
+
+    /**
+     * Retrieves the recycler bound to a deserialization context.
+     *
+     * @param ctxt
+     *            the deserialization context
+     * @return the recycler, or {@code null} if no recycler has been bound to the context
+     */
+    static InstanceRecycler fromContext(final DeserializationContext ctxt)
+    {
+        final Object attribute = ctxt.getAttribute(ATTRIBUTE_KEY);
+        return attribute instanceof InstanceRecycler ? (InstanceRecycler) attribute : null;
+    }
+
+    /**
+     * Releases a nested instance for reuse.
+     *
+     * @param slot
+     *            the name of the slot, e.g. the field, the instance was used for
+     * @param instance
+     *            the instance to release - may be {@code null}
+     */
+    void release(final String slot, final Object instance)
+    {
+        // existing keys are overwritten, so that steady-state reuse does not allocate map entries
+        this.released.put(slot, instance);
+    }
+
+    /**
+     * Takes a previously released instance for reuse.
+     *
+     * @param <V>
+     *            the type of instance
+     * @param slot
+     *            the name of the slot the instance was released for
+     * @param type
+     *            the type of instance
+     * @return the released instance, or {@code null} if no instance of the specified type has been released for the slot
+     */
+    <V> V take(final String slot, final Class<V> type)
+    {
+        final Object instance = this.released.put(slot, null);
+        return type.isInstance(instance) ? type.cast(instance) : null;
+    }
+}
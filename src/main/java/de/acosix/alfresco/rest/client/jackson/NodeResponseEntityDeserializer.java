@@ -0,0 +1,384 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.jackson;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+
+import de.acosix.alfresco.rest.client.model.common.UserInfo;
+import de.acosix.alfresco.rest.client.model.nodes.ContentInfo;
+import de.acosix.alfresco.rest.client.model.nodes.NodeResponseEntity;
+import de.acosix.alfresco.rest.client.model.nodes.PathInfo;
+import de.acosix.alfresco.rest.client.model.nodes.ResponsePermissionsInfo;
+
+/**
+ * Instances of this class deserialize {@link NodeResponseEntity node responses} by streaming over the fields of their JSON object instead
+ * of using the generic bean deserializer.
+ *
+ * Timestamps are parsed once while reading and kept in their epoch milliseconds form, so typed access does not need to parse them again.
+ *
+ * When deserializing into an existing instance, e.g. during a {@link StreamingListReader#readReusing(java.io.InputStream, Object,
+ * java.util.function.Consumer) streamed listing reusing a single instance}, the nested user and content info instances of the existing
+ * instance are reused as well if an {@link InstanceRecycler} is bound to the deserialization context.
+ *
+ * @param <T>
+ *            the concrete node response type
+ * @author Axel Faust
+ */
+public class NodeResponseEntityDeserializer<T extends NodeResponseEntity> extends StreamingBeanDeserializer<T>
+{
+
+    private static final long serialVersionUID = -6445009604453802876L;
+
+    private final Supplier<T> instanceFactory;
+
+    private final boolean deferProperties;
+
+    private transient volatile DeferredProperties.Binding deferredPropertiesBinding;
+
+    protected transient JsonDeserializer<Object> stringListDeserializer;
+
+    protected transient JsonDeserializer<Object> propertiesDeserializer;
+
+    protected transient JsonDeserializer<Object> permissionsDeserializer;
+
+    protected transient JsonDeserializer<Object> userInfoDeserializer;
+
+    protected transient JsonDeserializer<Object> contentInfoDeserializer;
+
+    protected transient JsonDeserializer<Object> pathInfoDeserializer;
+
+    /**
+     * Creates a new deserializer for {@link NodeResponseEntity}.
+     *
+     * @return the new deserializer
+     */
+    public static NodeResponseEntityDeserializer<NodeResponseEntity> forNodeResponseEntity()
+    {
+        return forNodeResponseEntity(null);
+    }
+
+    /**
+     * Creates a new deserializer for {@link NodeResponseEntity}.
+     *
+     * @param stringPool
+     *            the pool to canonicalize frequently repeated values - may be {@code null}
+     * @return the new deserializer
+     */
+    public static NodeResponseEntityDeserializer<NodeResponseEntity> forNodeResponseEntity(final StringPool stringPool)
+    {
+        return forNodeResponseEntity(stringPool, false);
+    }
+
+    /**
+     * Creates a new deserializer for {@link NodeResponseEntity}.
+     *
+     * @param stringPool
+     *            the pool to canonicalize frequently repeated values - may be {@code null}
+     * @param deferProperties
+     *            {@code true} if properties should be kept in their {@link DeferredProperties raw form} until accessed
+     * @return the new deserializer
+     */
+    public static NodeResponseEntityDeserializer<NodeResponseEntity> forNodeResponseEntity(final StringPool stringPool,
+            final boolean deferProperties)
+    {
+        return new NodeResponseEntityDeserializer<>(NodeResponseEntity.class, NodeResponseEntity::new, stringPool, deferProperties);
+    }
+
+    protected NodeResponseEntityDeserializer(final Class<T> cls, final Supplier<T> instanceFactory)
+    {
+        this(cls, instanceFactory, null);
+    }
+
+    protected NodeResponseEntityDeserializer(final Class<T> cls, final Supplier<T> instanceFactory, final StringPool stringPool)
+    {
+        this(cls, instanceFactory, stringPool, false);
+    }
+
+    protected NodeResponseEntityDeserializer(final Class<T> cls, final Supplier<T> instanceFactory, final StringPool stringPool,
+            final boolean deferProperties)
+    {
+        super(cls, stringPool);
+        this.instanceFactory = instanceFactory;
+        this.deferProperties = deferProperties;
+    }
+
+    /**
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    public void resolve(final DeserializationContext ctxt) throws JsonMappingException
+    {
+        super.resolve(ctxt);
+
+        final TypeFactory typeFactory = ctxt.getTypeFactory();
+        this.stringListDeserializer = this.findDeserializer(ctxt, typeFactory.constructCollectionType(List.class, String.class));
+        this.propertiesDeserializer = this.findDeserializer(ctxt, typeFactory.constructMapType(Map.class, String.class, Object.class));
+        this.permissionsDeserializer = this.findDeserializer(ctxt, typeFactory.constructType(ResponsePermissionsInfo.class));
+        this.userInfoDeserializer = this.findDeserializer(ctxt, typeFactory.constructType(UserInfo.class));
+        this.contentInfoDeserializer = this.findDeserializer(ctxt, typeFactory.constructType(ContentInfo.class));
+        this.pathInfoDeserializer = this.findDeserializer(ctxt, typeFactory.constructType(PathInfo.class));
+    }
+
+    /**
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    protected T createInstance()
+    {
+        return this.instanceFactory.get();
+    }
+
+    /**
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    protected void resetInstance(final DeserializationContext ctxt, final T bean)
+    {
+        final InstanceRecycler recycler = InstanceRecycler.fromContext(ctxt);
+        if (recycler != null)
+        {
+            // shared user info instances are immutable and cannot be reused
+            recycler.release("createdByUser", recyclableUserInfo(bean.getCreatedByUser()));
+            recycler.release("modifiedByUser", recyclableUserInfo(bean.getModifiedByUser()));
+            recycler.release("content", bean.getContent());
+        }
+
+        bean.setId(null);
+        bean.setName(null);
+        bean.setNodeType(null);
+        bean.setIsFolder(null);
+        bean.setIsFile(null);
+        bean.setModifiedAt(null);
+        bean.setModifiedByUser(null);
+        bean.setCreatedAt(null);
+        bean.setCreatedByUser(null);
+        bean.setParentId(null);
+        bean.setContent(null);
+        bean.setAspectNames(null);
+        bean.setProperties(null);
+        bean.setAllowableOperations(null);
+        bean.setPath(null);
+        bean.setPermissions(null);
+        bean.setIsLocked(null);
+        bean.setIsLink(null);
+        bean.setIsFavorite(null);
+    }
+
+    /**
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean deserializeField(final JsonParser p, final DeserializationContext ctxt, final T bean, final String fieldName)
+            throws IOException
+    {
+        boolean handled = true;
+        // cases ordered roughly by frequency of occurrence in default responses
+        switch (fieldName)
+        {
+            case "id":
+                bean.setId(this.readString(p, ctxt));
+                break;
+            case "name":
+                bean.setName(this.readString(p, ctxt));
+                break;
+            case "nodeType":
+                bean.setNodeType(this.readPooledString(p, ctxt));
+                break;
+            case "isFolder":
+                bean.setIsFolder(this.readBoolean(p, ctxt));
+                break;
+            case "isFile":
+                bean.setIsFile(this.readBoolean(p, ctxt));
+                break;
+            case "modifiedAt":
+                bean.setModifiedAt(this.readString(p, ctxt));
+                break;
+            case "modifiedByUser":
+                bean.setModifiedByUser(this.readRecycledValue(p, ctxt, this.userInfoDeserializer, "modifiedByUser", UserInfo.class));
+                break;
+            case "createdAt":
+                bean.setCreatedAt(this.readString(p, ctxt));
+                break;
+            case "createdByUser":
+                bean.setCreatedByUser(this.readRecycledValue(p, ctxt, this.userInfoDeserializer, "createdByUser", UserInfo.class));
+                break;
+            case "parentId":
+                bean.setParentId(this.readPooledString(p, ctxt));
+                break;
+            case "content":
+                bean.setContent(this.readRecycledValue(p, ctxt, this.contentInfoDeserializer, "content", ContentInfo.class));
+                break;
+            case "aspectNames":
+                bean.adoptAspectNames(this.readPooledStringList(p, ctxt));
+                break;
+            case "properties":
+                this.deserializeProperties(p, ctxt, bean);
+                break;
+            case "allowableOperations":
+                bean.adoptAllowableOperations(this.readPooledStringList(p, ctxt));
+                break;
+            case "path":
+                bean.setPath((PathInfo) this.readValue(p, ctxt, this.pathInfoDeserializer));
+                break;
+            case "permissions":
+                bean.setPermissions((ResponsePermissionsInfo) this.readValue(p, ctxt, this.permissionsDeserializer));
+                break;
+            case "isLocked":
+                bean.setIsLocked(this.readBoolean(p, ctxt));
+                break;
+            case "isLink":
+                bean.setIsLink(this.readBoolean(p, ctxt));
+                break;
+            case "isFavorite":
+                bean.setIsFavorite(this.readBoolean(p, ctxt));
+                break;
+            default:
+                handled = false;
+        }
+        return handled;
+    }
+
+    private static UserInfo recyclableUserInfo(final UserInfo userInfo)
+    {
+        return userInfo != null && !userInfo.isShared() ? userInfo : null;
+    }
+
+    /**
+     * Reads a nested value, deserializing into an instance previously released to the {@link InstanceRecycler} bound to the
+     * deserialization context, if any.
+     *
+     * @param p
+     *            the parser positioned on the value
+     * @param ctxt
+     *            the deserialization context
+     * @param deserializer
+     *            the deserializer to use
+     * @param slot
+     *            the name of the slot for which the instance to reuse has been released
+     * @param <V>
+     *            the type of the value
+     * @param type
+     *            the type of the value
+     * @return the value
+     * @throws IOException
+     *             if the value cannot be read or bound
+     */
+    protected <V> V readRecycledValue(final JsonParser p, final DeserializationContext ctxt, final JsonDeserializer<Object> deserializer,
+            final String slot, final Class<V> type) throws IOException
+    {
+        final InstanceRecycler recycler = InstanceRecycler.fromContext(ctxt);
+        final V intoValue = recycler != null ? recycler.take(slot, type) : null;
+        return type.cast(this.readValue(p, ctxt, deserializer, intoValue));
+    }
+
+    /**
+     * Reads a list of strings which are expected to be frequently repeated, e.g. aspect names, routing each element through the
+     * {@link StringPool pool} of this deserializer, if any.
+     *
+     * @param p
+     *            the parser positioned on the value
+     * @param ctxt
+     *            the deserialization context
+     * @return the list of strings
+     * @throws IOException
+     *             if the value cannot be read or bound
+     */
+    @SuppressWarnings("unchecked")
+    protected List<String> readPooledStringList(final JsonParser p, final DeserializationContext ctxt) throws IOException
+    {
+        final List<String> value;
+        if (this.stringPool != null && p.isExpectedStartArrayToken())
+        {
+            value = new ArrayList<>();
+            while (p.nextToken() != JsonToken.END_ARRAY)
+            {
+                value.add(this.readPooledString(p, ctxt));
+            }
+        }
+        else
+        {
+            value = (List<String>) this.readValue(p, ctxt, this.stringListDeserializer);
+        }
+        return value;
+    }
+
+    /**
+     * Deserializes the properties of a node, either by {@link DeferredProperties deferring} them if enabled and supported by the parser, or
+     * by {@link #readProperties(JsonParser, DeserializationContext) reading} them directly.
+     *
+     * @param p
+     *            the parser positioned on the value
+     * @param ctxt
+     *            the deserialization context
+     * @param bean
+     *            the instance being deserialized
+     * @throws IOException
+     *             if the value cannot be read or bound
+     */
+    protected void deserializeProperties(final JsonParser p, final DeserializationContext ctxt, final T bean) throws IOException
+    {
+        DeferredProperties.Binding binding = null;
+        if (this.deferProperties && p.isExpectedStartObjectToken())
+        {
+            binding = DeferredProperties.Binding.forParser(p, this.deferredPropertiesBinding);
+            this.deferredPropertiesBinding = binding;
+        }
+
+        if (binding != null)
+        {
+            bean.setDeferredProperties(DeferredProperties.capture(p, binding));
+        }
+        else
+        {
+            bean.adoptProperties(this.readProperties(p, ctxt));
+        }
+    }
+
+    /**
+     * Reads the properties of a node. In contrast to the values of fields such as the node type or aspect names, textual property values
+     * are never routed through the {@link StringPool pool} of this deserializer, as they are mostly unique (e.g. titles or descriptions)
+     * and would only evict the truly repetitive values from the bounded pool. Property names do not need to be pooled as the JSON parser
+     * already canonicalizes all field names by default.
+     *
+     * @param p
+     *            the parser positioned on the value
+     * @param ctxt
+     *            the deserialization context
+     * @return the properties
+     * @throws IOException
+     *             if the value cannot be read or bound
+     */
+    @SuppressWarnings("unchecked")
+    protected Map<String, Object> readProperties(final JsonParser p, final DeserializationContext ctxt) throws IOException
+    {
+        return (Map<String, Object>) this.readValue(p, ctxt, this.propertiesDeserializer);
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.jackson;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+
+import de.acosix.alfresco.rest.client.model.common.PaginationInfo;
+
+/**
+ * @author Axel Faust
+ */
+public class PaginationInfoDeserializer extends StreamingBeanDeserializer<PaginationInfo>
+{
+
+    private static final long serialVersionUID = 8868302402164744405L;
+
+    public PaginationInfoDeserializer()
+    {
+        super(PaginationInfo.class);
+    }
+
+    /**
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    protected PaginationInfo createInstance()
+    {
+        return new PaginationInfo();
+    }
+
+    /**
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    protected void resetInstance(final DeserializationContext ctxt, final PaginationInfo bean)
+    {
+        bean.setCount(0);
+        bean.setHasMoreItems(false);
+        bean.setTotalItems(null);
+        bean.setSkipCount(0);
+        bean.setMaxItems(0);
+    }
+
+    /**
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean deserializeField(final JsonParser p, final DeserializationContext ctxt, final PaginationInfo bean,
+            final String fieldName) throws IOException
+    {
+        boolean handled = true;
+        switch (fieldName)
+        {
+            case "count":
+                bean.setCount(this.readPrimitiveInt(p, ctxt));
+                break;
+            case "hasMoreItems":
+                bean.setHasMoreItems(this.readPrimitiveBoolean(p, ctxt));
+                break;
+            case "totalItems":
+                bean.setTotalItems(this.readInteger(p, ctxt));
+                break;
+            case "skipCount":
+                bean.setSkipCount(this.readPrimitiveInt(p, ctxt));
+                break;
+            case "maxItems":
+                bean.setMaxItems(this.readPrimitiveInt(p, ctxt));
+                break;
+            default:
+                handled = false;
+        }
+        return handled;
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.jackson;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+
+import de.acosix.alfresco.rest.client.model.nodes.PathElementsCache;
+import de.acosix.alfresco.rest.client.model.nodes.PathInfo;
+import de.acosix.alfresco.rest.client.model.nodes.PathNodeEntity;
+
+/**
+ * This deserializer {@link PathElementsCache#canonicalize(PathInfo) canonicalizes} the elements of deserialized paths, so that the paths
+ * of e.g. all children in a listing share the elements of their common ancestors. If no cache is provided, a small cache is bound to the
+ * {@link DeserializationContext#getAttribute(Object) attributes} of the deserialization context on first use, limiting the sharing to
+ * the paths read within a single response.
+ *
+ * @author Axel Faust
+ */
+public class PathInfoDeserializer extends StreamingBeanDeserializer<PathInfo>
+{
+
+    /**
+     * The capacity of the cache bound to the deserialization context if no cache is provided.
+     */
+    public static final int RESPONSE_CACHE_CAPACITY = 64;
+
+    private static final long serialVersionUID = -2203984417637356028L;
+
+    private static final Object CACHE_ATTRIBUTE_KEY = PathElementsCache.class;
+
+    private final transient PathElementsCache pathElementsCache;
+
+    protected transient JsonDeserializer<Object> elementsDeserializer;
+
+    public PathInfoDeserializer()
+    {
+        this(null);
+    }
+
+    public PathInfoDeserializer(final StringPool stringPool)
+    {
+        this(stringPool, null);
+    }
+
+    public PathInfoDeserializer(final StringPool stringPool, final PathElementsCache pathElementsCache)
+    {
+        super(PathInfo.class, stringPool);
+        this.pathElementsCache = pathElementsCache;
+    }
+
+    /**
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    public void resolve(final DeserializationContext ctxt) throws JsonMappingException
+    {
+        super.resolve(ctxt);
+
+        this.elementsDeserializer = this.findDeserializer(ctxt,
+                ctxt.getTypeFactory().constructCollectionType(List.class, PathNodeEntity.class));
+    }
+
+    /**
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    protected PathInfo createInstance()
+    {
+        return new PathInfo();
+    }
+
+    /**
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    protected PathInfo deserializeUnwrapped(final JsonParser p, final DeserializationContext ctxt, final PathInfo intoValue)
+            throws IOException
+    {
+        final PathInfo path = super.deserializeUnwrapped(p, ctxt, intoValue);
+        return this.getPathElementsCache(ctxt).canonicalize(path);
+    }
+
+    /**
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    protected void resetInstance(final DeserializationContext ctxt, final PathInfo bean)
+    {
+        bean.setName(null);
+        bean.setIsComplete(null);
+        bean.setElements(null);
+    }
+
+    /**
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    protected boolean deserializeField(final JsonParser p, final DeserializationContext ctxt, final PathInfo bean, final String fieldName)
+            throws IOException
+    {
+        boolean handled = true;
+        switch (fieldName)
+        {
+            case "name":
+                bean.setName(this.readPooledString(p, ctxt));
+                break;
+            case "isComplete":
+                bean.setIsComplete(this.readBoolean(p, ctxt));
+                break;
+            case "elements":
+                bean.setElements((List<PathNodeEntity>) this.readValue(p, ctxt, this.elementsDeserializer));
+                break;
+            default:
+                handled = false;
+        }
+        return handled;
+    }
+
+    private PathElementsCache getPathElementsCache(final DeserializationContext ctxt)
+    {
+        PathElementsCache cache = this.pathElementsCache;
+        if (cache == null)
+        {
+            final Object attribute = ctxt.getAttribute(CACHE_ATTRIBUTE_KEY);
+            if (attribute instanceof PathElementsCache)
+            {
+                cache = (PathElementsCache) attribute;
+            }
+            else
+            {
+                cache = new PathElementsCache(RESPONSE_CACHE_CAPACITY);
+                ctxt.setAttribute(CACHE_ATTRIBUTE_KEY, cache);
+            }
+        }
+        return cache;
+    }
+}
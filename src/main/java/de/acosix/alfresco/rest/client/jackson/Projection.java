@@ -0,0 +1,36 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.jackson;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation used to mark an interface as a projection of a value type of the Alfresco v1 ReST API, consisting only of getters for the
+ * subset of fields a client is interested in. Based on the presence of this annotation, instances of the interface can be read from JSON
+ * returned by the Alfresco Repository - including JSON {@link Wrapped.WrapType#ENTRY wrapped in an entry} - and the {@code fields}
+ * parameter of an operation can be derived via {@link Projections#fields(Class)}.
+ *
+ * @author Axel Faust
+ */
+@Target({ ElementType.TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Projection
+{
+    // marker only
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.jackson;
+
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+/**
+ * Instances of this class deserialize {@link Projection projection} interfaces into lightweight, immutable proxy instances holding only the
+ * values of the properties exposed by the interface. Any other properties in the JSON are skipped without being bound. JSON
+ * {@link Wrapped.WrapType#ENTRY wrapped in an entry} is unwrapped transparently, as projections are typically used in place of entity
+ * types with that wrap type.
+ *
+ * @author Axel Faust
+ */
+public class ProjectionDeserializer<T> extends StdDeserializer<T> implements ResolvableDeserializer
+{
+
+    private static final long serialVersionUID = -4521977426046322218L;
+
+    private static final String ENTRY_WRAP_FIELD_NAME = "entry";
+
+    private final Class<T> cls;
+
+    private final String[] propertyNames;
+
+    private final Map<String, Integer> propertyIndices;
+
+    private final Map<Method, Integer> methodIndices;
+
+    private final Object[] defaultValues;
+
+    private final JsonDeserializer<?>[] deserializers;
+
+    public ProjectionDeserializer(final Class<T> cls)
+    {
+        super(cls);
+        this.cls = cls;
+
+        final Map<String, Method> properties = Projections.properties(cls);
+        this.propertyNames = properties.keySet().toArray(new String[0]);
+        this.propertyIndices = new HashMap<>();
+        this.methodIndices = new HashMap<>();
+        this.defaultValues = new Object[this.propertyNames.length];
+        this.deserializers = new JsonDeserializer<?>[this.propertyNames.length];
+
+        for (int idx = 0; idx < this.propertyNames.length; idx++)
+        {
+            final Method getter = properties.get(this.propertyNames[idx]);
+            this.propertyIndices.put(this.propertyNames[idx], idx);
+            this.methodIndices.put(getter, idx);
+            if (getter.getReturnType().isPrimitive())
+            {
+                this.defaultValues[idx] = Array.get(Array.newInstance(getter.getReturnType(), 1), 0);
+            }
+        }
+    }
+
+    /**
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    public void resolve(final DeserializationContext ctxt) throws JsonMappingException
+    {
+        for (int idx = 0; idx < this.propertyNames.length; idx++)
+        {
+            final Method getter = Projections.properties(this.cls).get(this.propertyNames[idx]);
+            final JavaType type = ctxt.getTypeFactory().constructType(getter.getGenericReturnType());
+            this.deserializers[idx] = ctxt.findRootValueDeserializer(type);
+        }
+    }
+
+    /**
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    public T deserialize(final JsonParser p, final DeserializationContext ctxt) throws IOException, JsonProcessingException
+    {
+        String fieldName;
+        if (p.isExpectedStartObjectToken())
+        {
+            fieldName = p.nextFieldName();
+        }
+        else if (p.currentToken() == JsonToken.FIELD_NAME)
+        {
+            fieldName = p.currentName();
+        }
+        else
+        {
+            return this.cls.cast(ctxt.handleUnexpectedToken(this.cls, p));
+        }
+
+        final boolean entryWrapped = ENTRY_WRAP_FIELD_NAME.equals(fieldName) && !this.propertyIndices.containsKey(ENTRY_WRAP_FIELD_NAME);
+        if (entryWrapped)
+        {
+            if (p.nextToken() != JsonToken.START_OBJECT)
+            {
+                throw new JsonMappingException(p, "JSON for " + this.cls + " does not contain an object as '" + ENTRY_WRAP_FIELD_NAME
+                        + "' wrapper property");
+            }
+            fieldName = p.nextFieldName();
+        }
+
+        final Object[] values = this.defaultValues.clone();
+        while (fieldName != null)
+        {
+            p.nextToken();
+            final Integer idx = this.propertyIndices.get(fieldName);
+            if (idx != null)
+            {
+                final JsonDeserializer<?> deserializer = this.deserializers[idx];
+                final Object value = p.currentToken() == JsonToken.VALUE_NULL ? deserializer.getNullValue(ctxt)
+                        : deserializer.deserialize(p, ctxt);
+                values[idx] = value != null ? value : this.defaultValues[idx];
+            }
+            else
+            {
+                p.skipChildren();
+            }
+            fieldName = p.nextFieldName();
+        }
+
+        if (entryWrapped && p.nextToken() == JsonToken.FIELD_NAME)
+        {
+            throw new JsonMappingException(p, "JSON for " + this.cls + " contains unsupported extra field " + p.currentName() + " besides '"
+                    + ENTRY_WRAP_FIELD_NAME + "' wrapper property");
+        }
+
+        final Object proxy = Proxy.newProxyInstance(this.cls.getClassLoader(), new Class<?>[] { this.cls },
+                new ProjectionInvocationHandler(this.cls, this.propertyNames, this.methodIndices, values));
+        return this.cls.cast(proxy);
+    }
+
+    /**
+     * @author Axel Faust
+     */
+    protected static class ProjectionInvocationHandler implements InvocationHandler
+    {
+
+        private final Class<?> projectionType;
+
+        private final String[] propertyNames;
+
+        private final Map<Method, Integer> methodIndices;
+
+        private final Object[] values;
+
+        protected ProjectionInvocationHandler(final Class<?> projectionType, final String[] propertyNames,
+                final Map<Method, Integer> methodIndices, final Object[] values)
+        {
+            this.projectionType = projectionType;
+            this.propertyNames = propertyNames;
+            this.methodIndices = methodIndices;
+            this.values = values;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable
+        {
+            final Integer idx = this.methodIndices.get(method);
+            final Object result;
+            if (idx != null)
+            {
+                result = this.values[idx];
+            }
+            else if (method.isDefault())
+            {
+                result = InvocationHandler.invokeDefault(proxy, method, args);
+            }
+            else
+            {
+                switch (method.getName())
+                {
+                    case "equals":
+                        result = this.isEqual(args[0]);
+                        break;
+                    case "hashCode":
+                        result = Arrays.hashCode(this.values);
+                        break;
+                    case "toString":
+                        result = this.buildString();
+                        break;
+                    default:
+                        throw new UnsupportedOperationException("Method " + method + " is not supported by projection proxy");
+                }
+            }
+            return result;
+        }
+
+        protected boolean isEqual(final Object other)
+        {
+            boolean equal = false;
+            if (other != null && Proxy.isProxyClass(other.getClass()))
+            {
+                final InvocationHandler otherHandler = Proxy.getInvocationHandler(other);
+                equal = otherHandler instanceof ProjectionInvocationHandler
+                        && ((ProjectionInvocationHandler) otherHandler).projectionType == this.projectionType
+                        && Arrays.equals(this.values, ((ProjectionInvocationHandler) otherHandler).values);
+            }
+            return equal;
+        }
+
+        protected String buildString()
+        {
+            final StringBuilder sb = new StringBuilder(this.projectionType.getSimpleName());
+            sb.append(" [");
+            for (int idx = 0; idx < this.values.length; idx++)
+            {
+                if (idx != 0)
+                {
+                    sb.append(", ");
+                }
+                sb.append(this.propertyNames[idx]).append('=').append(this.values[idx]);
+            }
+            sb.append(']');
+            return sb.toString();
+        }
+    }
+}
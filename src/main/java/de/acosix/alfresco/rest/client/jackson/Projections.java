@@ -0,0 +1,140 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.jackson;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import de.acosix.alfresco.rest.client.model.common.MultiValuedParam;
+
+/**
+ * This class provides utility operations to handle {@link Projection projection} interfaces.
+ *
+ * @author Axel Faust
+ */
+public final class Projections
+{
+
+    private static final ClassValue<Map<String, Method>> PROPERTIES = new ClassValue<Map<String, Method>>()
+    {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected Map<String, Method> computeValue(final Class<?> type)
+        {
+            return Collections.unmodifiableMap(resolveProperties(type));
+        }
+    };
+
+    private Projections()
+    {
+        // NO-OP
+    }
+
+    /**
+     * Builds the {@code fields} parameter restricting the response of an operation to the fields exposed by a projection interface.
+     *
+     * @param projectionType
+     *            the projection interface
+     * @return the {@code fields} parameter
+     */
+    public static MultiValuedParam<String> fields(final Class<?> projectionType)
+    {
+        return new MultiValuedParam<>(new ArrayList<>(properties(projectionType).keySet()));
+    }
+
+    /**
+     * Resolves the properties exposed by a projection interface.
+     *
+     * @param projectionType
+     *            the projection interface
+     * @return the getters of the projection interface keyed by the name of the JSON property they expose, in a stable order
+     */
+    public static Map<String, Method> properties(final Class<?> projectionType)
+    {
+        if (projectionType == null)
+        {
+            throw new IllegalArgumentException("'projectionType' must not be null");
+        }
+        if (!projectionType.isInterface() || !projectionType.isAnnotationPresent(Projection.class))
+        {
+            throw new IllegalArgumentException(projectionType + " is not an interface annotated with @Projection");
+        }
+        return PROPERTIES.get(projectionType);
+    }
+
+    private static Map<String, Method> resolveProperties(final Class<?> projectionType)
+    {
+        final Map<String, Method> properties = new LinkedHashMap<>();
+
+        final List<Method> methods = new ArrayList<>(Arrays.asList(projectionType.getMethods()));
+        // order of getMethods is unspecified
+        methods.sort(Comparator.comparing(Method::getName));
+        for (final Method method : methods)
+        {
+            if (method.isDefault() || Modifier.isStatic(method.getModifiers()) || method.getParameterCount() != 0
+                    || method.getReturnType() == void.class)
+            {
+                continue;
+            }
+
+            final String methodName = method.getName();
+            final JsonProperty jsonProperty = method.getAnnotation(JsonProperty.class);
+            final String propertyName;
+            if (jsonProperty != null && !jsonProperty.value().isEmpty())
+            {
+                propertyName = jsonProperty.value();
+            }
+            else if (methodName.startsWith("get") && methodName.length() > 3)
+            {
+                propertyName = decapitalize(methodName.substring(3));
+            }
+            else if (methodName.startsWith("is") && methodName.length() > 2
+                    && (method.getReturnType() == boolean.class || method.getReturnType() == Boolean.class))
+            {
+                propertyName = decapitalize(methodName.substring(2));
+            }
+            else
+            {
+                throw new IllegalArgumentException(projectionType + " declares abstract method " + methodName + " which is not a getter");
+            }
+
+            properties.put(propertyName, method);
+        }
+        return properties;
+    }
+
+    private static String decapitalize(final String name)
+    {
+        // same rule as bean introspection - keep acronyms such as URL as-is
+        if (name.length() > 1 && Character.isUpperCase(name.charAt(1)) && Character.isUpperCase(name.charAt(0)))
+        {
+            return name;
+        }
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+}
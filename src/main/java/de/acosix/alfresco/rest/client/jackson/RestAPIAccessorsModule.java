@@ -0,0 +1,139 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.jackson;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.Version;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerBuilder;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.deser.SettableBeanProperty;
+import com.fasterxml.jackson.databind.deser.ValueInstantiator;
+import com.fasterxml.jackson.databind.deser.impl.MethodProperty;
+import com.fasterxml.jackson.databind.deser.std.StdValueInstantiator;
+import com.fasterxml.jackson.databind.introspect.AnnotatedConstructor;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMethod;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+
+/**
+ * This module makes Jackson bind the value types of the client model without reflection. The library's build generates a bean accessor for
+ * all value types in the model packages and all types annotated with {@link Wrapped} or {@link GeneratedAccessors}, which invokes the
+ * default constructor, setters and getters of the type directly. When Jackson builds the bean (de)serializer of such a type, the reflective
+ * access to these members is replaced with the generated accessor, while all other aspects of the bean (de)serializer - property discovery,
+ * naming, handling of {@code null} / unknown values, {@link Wrapped wrapping} - remain as they are. As the accessors are regular classes
+ * compiled with the library, no classes are spun at runtime. Any member not covered by a generated accessor, e.g. a method only exposed as
+ * a property via annotations, continues to be accessed via reflection.
+ *
+ * @author Axel Faust
+ */
+public class RestAPIAccessorsModule extends SimpleModule
+{
+
+    private static final long serialVersionUID = 2934861527713940181L;
+
+    public RestAPIAccessorsModule()
+    {
+        super(RestAPIAccessorsModule.class.getSimpleName(), Version.unknownVersion());
+    }
+
+    /**
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    public void setupModule(final SetupContext context)
+    {
+        super.setupModule(context);
+        context.addBeanDeserializerModifier(new BeanDeserializerModifier()
+        {
+
+            private static final long serialVersionUID = -1385052618404315530L;
+
+            /**
+             *
+             * {@inheritDoc}
+             */
+            @Override
+            public BeanDeserializerBuilder updateBuilder(final DeserializationConfig config, final BeanDescription beanDesc,
+                    final BeanDeserializerBuilder builder)
+            {
+                final BeanAccessor accessor = BeanAccessor.forType(beanDesc.getBeanClass());
+                if (accessor != null)
+                {
+                    final ValueInstantiator instantiator = builder.getValueInstantiator();
+                    if (accessor.hasDefaultConstructor() && instantiator != null && instantiator.getClass() == StdValueInstantiator.class
+                            && instantiator.getDefaultCreator() instanceof AnnotatedConstructor)
+                    {
+                        builder.setValueInstantiator(new GeneratedValueInstantiator((StdValueInstantiator) instantiator, accessor));
+                    }
+
+                    final List<SettableBeanProperty> properties = new ArrayList<>();
+                    builder.getProperties().forEachRemaining(properties::add);
+                    for (final SettableBeanProperty property : properties)
+                    {
+                        if (property instanceof MethodProperty && property.getMember() instanceof AnnotatedMethod)
+                        {
+                            final int setter = accessor.indexOfSetter(((AnnotatedMethod) property.getMember()).getAnnotated());
+                            if (setter != -1)
+                            {
+                                builder.addOrReplaceProperty(new GeneratedSetterProperty(property, accessor, setter), true);
+                            }
+                        }
+                    }
+                }
+                return builder;
+            }
+        });
+        context.addBeanSerializerModifier(new BeanSerializerModifier()
+        {
+
+            private static final long serialVersionUID = 6907183212565151862L;
+
+            /**
+             *
+             * {@inheritDoc}
+             */
+            @Override
+            public List<BeanPropertyWriter> changeProperties(final SerializationConfig config, final BeanDescription beanDesc,
+                    final List<BeanPropertyWriter> beanProperties)
+            {
+                final BeanAccessor accessor = BeanAccessor.forType(beanDesc.getBeanClass());
+                if (accessor != null)
+                {
+                    for (int idx = 0; idx < beanProperties.size(); idx++)
+                    {
+                        final BeanPropertyWriter writer = beanProperties.get(idx);
+                        if (writer.getClass() == BeanPropertyWriter.class && writer.getMember() instanceof AnnotatedMethod)
+                        {
+                            final int getter = accessor.indexOfGetter(((AnnotatedMethod) writer.getMember()).getAnnotated());
+                            if (getter != -1)
+                            {
+                                beanProperties.set(idx, new GeneratedGetterPropertyWriter(writer, accessor, getter));
+                            }
+                        }
+                    }
+                }
+                return beanProperties;
+            }
+        });
+    }
+}
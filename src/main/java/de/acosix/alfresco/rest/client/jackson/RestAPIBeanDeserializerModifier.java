@@ -38,7 +38,12 @@ public class RestAPIBeanDeserializerModifier extends BeanDeserializerModifier
         final Class<?> beanClass = beanDesc.getBeanClass();
         JsonDeserializer<?> resultDeserializer = deserializer;
         final Wrapped wrapped = beanClass.getAnnotation(Wrapped.class);
-        if (wrapped != null)
+        if (beanClass.isInterface() && beanClass.isAnnotationPresent(Projection.class))
+        {
+            resultDeserializer = new ProjectionDeserializer<>(beanClass);
+        }
+        // streaming deserializers handle wrapping inline
+        else if (wrapped != null && !(deserializer instanceof StreamingBeanDeserializer))
         {
             resultDeserializer = new WrappedFacadeDeserializer<>(beanClass, wrapped.value(), deserializer);
         }
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.jackson;
+
+import com.fasterxml.jackson.core.Version;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.Deserializers;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import de.acosix.alfresco.rest.client.model.common.PaginationInfo;
+import de.acosix.alfresco.rest.client.model.common.UserInfo;
+import de.acosix.alfresco.rest.client.model.nodes.ChildNodeResponseEntity;
+import de.acosix.alfresco.rest.client.model.nodes.ContentInfo;
+import de.acosix.alfresco.rest.client.model.nodes.NodeResponseEntity;
+import de.acosix.alfresco.rest.client.model.nodes.PathElementsCache;
+import de.acosix.alfresco.rest.client.model.nodes.PathInfo;
+
+/**
+ * This module registers {@link StreamingBeanDeserializer streaming deserializers} for the value types most frequently read from responses
+ * of the Alfresco v1 ReST API, reducing the memory allocated while reading these types compared to the generic, reflection-based bean
+ * deserializers - by roughly a fifth for a typical page of node children. This is an allocation optimization - a gain in throughput has not
+ * been demonstrated. It is meant to be registered in addition to a module using the {@link RestAPIBeanDeserializerModifier}, which remains
+ * responsible for all other types. Optionally, a {@link StringPool string pool} can be provided to canonicalize values typically repeated
+ * across many entities, such as node types, aspect names or user IDs, reducing the memory retained by entities kept after deserialization.
+ * Similarly, the properties of nodes can be {@link DeferredProperties deferred}, so that they are only bound into Java values when
+ * accessed, and a {@link UserInfoCache user info cache} can be provided to share immutable user info instances across all entities
+ * referencing the same user. The elements of node paths are always shared between the paths read within a single response, or - if a
+ * {@link PathElementsCache path elements cache} is provided - between all paths canonicalized via that cache.
+ *
+ * @author Axel Faust
+ */
+public class RestAPIDeserializersModule extends SimpleModule
+{
+
+    private static final long serialVersionUID = -4000915585226452254L;
+
+    private final transient StringPool stringPool;
+
+    private final boolean deferProperties;
+
+    private final transient UserInfoCache userInfoCache;
+
+    private final transient PathElementsCache pathElementsCache;
+
+    /**
+     * Creates a new instance of this module without canonicalization of repeated values or deferral of node properties.
+     */
+    public RestAPIDeserializersModule()
+    {
+        this(null, false);
+    }
+
+    /**
+     * Creates a new instance of this module.
+     *
+     * @param stringPool
+     *            the pool to canonicalize frequently repeated values - may be {@code null} to disable canonicalization
+     */
+    public RestAPIDeserializersModule(final StringPool stringPool)
+    {
+        this(stringPool, false);
+    }
+
+    /**
+     * Creates a new instance of this module.
+     *
+     * @param stringPool
+     *            the pool to canonicalize frequently repeated values - may be {@code null} to disable canonicalization
+     * @param deferProperties
+     *            {@code true} if the properties of nodes should be kept in their raw form until accessed
+     */
+    public RestAPIDeserializersModule(final StringPool stringPool, final boolean deferProperties)
+    {
+        this(stringPool, deferProperties, null);
+    }
+
+    /**
+     * Creates a new instance of this module.
+     *
+     * @param stringPool
+     *            the pool to canonicalize frequently repeated values - may be {@code null} to disable canonicalization
+     * @param deferProperties
+     *            {@code true} if the properties of nodes should be kept in their raw form until accessed
+     * @param userInfoCache
+     *            the cache to canonicalize user info values into shared, immutable instances - may be {@code null} to disable sharing
+     */
+    public RestAPIDeserializersModule(final StringPool stringPool, final boolean deferProperties, final UserInfoCache userInfoCache)
+    {
+        this(stringPool, deferProperties, userInfoCache, null);
+    }
+
+    /**
+     * Creates a new instance of this module.
+     *
+     * @param stringPool
+     *            the pool to canonicalize frequently repeated values - may be {@code null} to disable canonicalization
+     * @param deferProperties
+     *            {@code true} if the properties of nodes should be kept in their raw form until accessed
+     * @param userInfoCache
+     *            the cache to canonicalize user info values into shared, immutable instances - may be {@code null} to disable sharing
+     * @param pathElementsCache
+     *            the cache to canonicalize the elements of node paths across responses - may be {@code null} to only share elements
+     *            within individual responses
+     */
+    public RestAPIDeserializersModule(final StringPool stringPool, final boolean deferProperties, final UserInfoCache userInfoCache,
+            final PathElementsCache pathElementsCache)
+    {
+        super(RestAPIDeserializersModule.class.getSimpleName(), Version.unknownVersion());
+        this.stringPool = stringPool;
+        this.deferProperties = deferProperties;
+        this.userInfoCache = userInfoCache;
+        this.pathElementsCache = pathElementsCache;
+    }
+
+    /**
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    public void setupModule(final SetupContext context)
+    {
+        super.setupModule(context);
+        // deserializers hold state resolved against a specific mapper, so a new instance is provided for each lookup
+        context.addDeserializers(new Deserializers.Base()
+        {
+
+            /**
+             *
+             * {@inheritDoc}
+             */
+            @Override
+            public JsonDeserializer<?> findBeanDeserializer(final JavaType type, final DeserializationConfig config,
+                    final BeanDescription beanDesc)
+            {
+                final Class<?> rawClass = type.getRawClass();
+                JsonDeserializer<?> deserializer = null;
+                if (rawClass == NodeResponseEntity.class)
+                {
+                    deserializer = NodeResponseEntityDeserializer.forNodeResponseEntity(RestAPIDeserializersModule.this.stringPool,
+                            RestAPIDeserializersModule.this.deferProperties);
+                }
+                else if (rawClass == ChildNodeResponseEntity.class)
+                {
+                    deserializer = new ChildNodeResponseEntityDeserializer(RestAPIDeserializersModule.this.stringPool,
+                            RestAPIDeserializersModule.this.deferProperties);
+                }
+                else if (rawClass == PaginationInfo.class)
+                {
+                    deserializer = new PaginationInfoDeserializer();
+                }
+                else if (rawClass == UserInfo.class)
+                {
+                    deserializer = new UserInfoDeserializer(RestAPIDeserializersModule.this.stringPool,
+                            RestAPIDeserializersModule.this.userInfoCache);
+                }
+                else if (rawClass == ContentInfo.class)
+                {
+                    deserializer = new ContentInfoDeserializer(RestAPIDeserializersModule.this.stringPool);
+                }
+                else if (rawClass == PathInfo.class)
+                {
+                    deserializer = new PathInfoDeserializer(RestAPIDeserializersModule.this.stringPool,
+                            RestAPIDeserializersModule.this.pathElementsCache);
+                }
+                return deserializer;
+            }
+
+            /**
+             *
+             * {@inheritDoc}
+             */
+            @Override
+            public boolean hasDeserializerFor(final DeserializationConfig config, final Class<?> valueType)
+            {
+                return valueType == NodeResponseEntity.class || valueType == ChildNodeResponseEntity.class
+                        || valueType == PaginationInfo.class || valueType == UserInfo.class || valueType == ContentInfo.class
+                        || valueType == PathInfo.class;
+            }
+        });
+    }
+}
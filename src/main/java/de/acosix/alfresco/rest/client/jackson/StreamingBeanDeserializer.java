@@ -0,0 +1,467 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.jackson;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import de.acosix.alfresco.rest.client.jackson.Wrapped.WrapType;
+
+/**
+ * Instances of this class deserialize a specific value type by streaming over the fields of its JSON object and switching on the field
+ * name, instead of using the generic, reflection-based bean deserializer. Any {@link Wrapped wrapping} of the value type is handled inline,
+ * exactly like {@link WrappedFacadeDeserializer} does. Values which are not in the regular format of the Alfresco v1 ReST API (e.g. numbers
+ * provided as strings) as well as unknown fields are delegated to / handled by the standard deserializers and configuration of the
+ * deserialization context, so that the result is the same as with the generic bean deserializer. If a {@link StringPool string pool} is
+ * provided, values which are typically repeated across many instances are canonicalized via that pool. All streaming deserializers support
+ * {@link #deserialize(JsonParser, DeserializationContext, Object) updating} an existing instance, which is {@link #resetInstance(
+ * DeserializationContext, Object) reset} to its empty state before deserializing into it, e.g. in order to reuse a single instance for all
+ * entries of a {@link StreamingListReader#readReusing(java.io.InputStream, Object, java.util.function.Consumer) streamed listing}.
+ *
+ * @param <T>
+ *            the value type
+ * @author Axel Faust
+ */
+public abstract class StreamingBeanDeserializer<T> extends StdDeserializer<T> implements ResolvableDeserializer
+{
+
+    private static final long serialVersionUID = -2204436271556380167L;
+
+    protected final Class<T> cls;
+
+    protected final WrapType wrapType;
+
+    protected final transient StringPool stringPool;
+
+    protected transient JsonDeserializer<Object> stringDeserializer;
+
+    protected transient JsonDeserializer<Object> booleanDeserializer;
+
+    protected transient JsonDeserializer<Object> primitiveBooleanDeserializer;
+
+    protected transient JsonDeserializer<Object> integerDeserializer;
+
+    protected transient JsonDeserializer<Object> primitiveIntDeserializer;
+
+    protected transient JsonDeserializer<Object> longDeserializer;
+
+    protected StreamingBeanDeserializer(final Class<T> cls)
+    {
+        this(cls, null);
+    }
+
+    protected StreamingBeanDeserializer(final Class<T> cls, final StringPool stringPool)
+    {
+        super(cls);
+        this.cls = cls;
+        final Wrapped wrapped = cls.getAnnotation(Wrapped.class);
+        this.wrapType = wrapped != null ? wrapped.value() : null;
+        this.stringPool = stringPool;
+    }
+
+    /**
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    public void resolve(final DeserializationContext ctxt) throws JsonMappingException
+    {
+        this.stringDeserializer = ctxt.findRootValueDeserializer(ctxt.constructType(String.class));
+        this.booleanDeserializer = ctxt.findRootValueDeserializer(ctxt.constructType(Boolean.class));
+        this.primitiveBooleanDeserializer = ctxt.findRootValueDeserializer(ctxt.constructType(Boolean.TYPE));
+        this.integerDeserializer = ctxt.findRootValueDeserializer(ctxt.constructType(Integer.class));
+        this.primitiveIntDeserializer = ctxt.findRootValueDeserializer(ctxt.constructType(Integer.TYPE));
+        this.longDeserializer = ctxt.findRootValueDeserializer(ctxt.constructType(Long.class));
+    }
+
+    /**
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    public T deserialize(final JsonParser p, final DeserializationContext ctxt) throws IOException, JsonProcessingException
+    {
+        return this.deserializeWrapped(p, ctxt, null);
+    }
+
+    /**
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    public T deserialize(final JsonParser p, final DeserializationContext ctxt, final T intoValue) throws IOException
+    {
+        return this.deserializeWrapped(p, ctxt, intoValue);
+    }
+
+    /**
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    public Boolean supportsUpdate(final DeserializationConfig config)
+    {
+        return Boolean.TRUE;
+    }
+
+    private T deserializeWrapped(final JsonParser p, final DeserializationContext ctxt, final T intoValue) throws IOException
+    {
+        final T result;
+        if (this.wrapType == null)
+        {
+            result = this.deserializeUnwrapped(p, ctxt, intoValue);
+        }
+        else
+        {
+            String nextFieldName;
+            if (p.isExpectedStartObjectToken())
+            {
+                nextFieldName = p.nextFieldName();
+            }
+            else if (p.currentToken() == JsonToken.FIELD_NAME)
+            {
+                nextFieldName = p.currentName();
+            }
+            else
+            {
+                nextFieldName = null;
+            }
+
+            final String wrapFieldName = this.wrapType == WrapType.LIST ? "list" : "entry";
+            if (wrapFieldName.equals(nextFieldName))
+            {
+                // now points to START_OBJECT token (should)
+                p.nextToken();
+                result = this.deserializeUnwrapped(p, ctxt, intoValue);
+                // now points to END_OBJECT token of nested obj
+                p.nextToken();
+
+                if (p.currentToken() == JsonToken.FIELD_NAME)
+                {
+                    throw new JsonMappingException(p, "JSON for " + this.cls + " contains unsupported extra field " + p.currentName()
+                            + " besides '" + wrapFieldName + "' wrapper property");
+                }
+            }
+            else
+            {
+                throw new JsonMappingException(p,
+                        "JSON for " + this.cls + " is not wrapped inside an object with '" + wrapFieldName + "' property");
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Deserializes the value type from its (unwrapped) JSON object.
+     *
+     * @param p
+     *            the parser positioned at the start of the JSON object or its first field
+     * @param ctxt
+     *            the deserialization context
+     * @return the deserialized instance
+     * @throws IOException
+     *             if the JSON cannot be read or bound
+     */
+    protected T deserializeUnwrapped(final JsonParser p, final DeserializationContext ctxt) throws IOException
+    {
+        return this.deserializeUnwrapped(p, ctxt, null);
+    }
+
+    /**
+     * Deserializes the value type from its (unwrapped) JSON object, either into a new or an existing instance.
+     *
+     * @param p
+     *            the parser positioned at the start of the JSON object or its first field
+     * @param ctxt
+     *            the deserialization context
+     * @param intoValue
+     *            the existing instance to {@link #resetInstance(DeserializationContext, Object) reset} and deserialize into, or
+     *            {@code null} to deserialize into a new instance
+     * @return the deserialized instance
+     * @throws IOException
+     *             if the JSON cannot be read or bound
+     */
+    protected T deserializeUnwrapped(final JsonParser p, final DeserializationContext ctxt, final T intoValue) throws IOException
+    {
+        String fieldName;
+        final JsonToken token = p.currentToken();
+        if (token == JsonToken.START_OBJECT)
+        {
+            fieldName = p.nextFieldName();
+        }
+        else if (token == JsonToken.FIELD_NAME)
+        {
+            fieldName = p.currentName();
+        }
+        else if (token == JsonToken.END_OBJECT)
+        {
+            fieldName = null;
+        }
+        else
+        {
+            return this.cls.cast(ctxt.handleUnexpectedToken(this.cls, p));
+        }
+
+        final T bean;
+        if (intoValue != null)
+        {
+            bean = intoValue;
+            this.resetInstance(ctxt, bean);
+        }
+        else
+        {
+            bean = this.createInstance();
+        }
+
+        while (fieldName != null)
+        {
+            p.nextToken();
+            if (!this.deserializeField(p, ctxt, bean, fieldName))
+            {
+                this.handleUnknownProperty(p, ctxt, bean, fieldName);
+            }
+            fieldName = p.nextFieldName();
+        }
+        return bean;
+    }
+
+    /**
+     * Creates a new, empty instance of the value type.
+     *
+     * @return the new instance
+     */
+    protected abstract T createInstance();
+
+    /**
+     * Resets an existing instance of the value type to the state of a {@link #createInstance() new} instance, so that it can be
+     * deserialized into again.
+     *
+     * @param ctxt
+     *            the deserialization context
+     * @param bean
+     *            the instance to reset
+     */
+    protected abstract void resetInstance(DeserializationContext ctxt, T bean);
+
+    /**
+     * Deserializes the value of a single field and sets it on the instance being deserialized.
+     *
+     * @param p
+     *            the parser positioned on the first token of the value
+     * @param ctxt
+     *            the deserialization context
+     * @param bean
+     *            the instance being deserialized
+     * @param fieldName
+     *            the name of the field
+     * @return {@code true} if the field is supported by the value type, {@code false} otherwise
+     * @throws IOException
+     *             if the value cannot be read or bound
+     */
+    protected abstract boolean deserializeField(JsonParser p, DeserializationContext ctxt, T bean, String fieldName) throws IOException;
+
+    /**
+     * Resolves the deserializer for a specific type.
+     *
+     * @param ctxt
+     *            the deserialization context
+     * @param type
+     *            the type to deserialize
+     * @return the deserializer
+     * @throws JsonMappingException
+     *             if no deserializer can be resolved
+     */
+    protected JsonDeserializer<Object> findDeserializer(final DeserializationContext ctxt, final JavaType type) throws JsonMappingException
+    {
+        return ctxt.findRootValueDeserializer(type);
+    }
+
+    protected String readString(final JsonParser p, final DeserializationContext ctxt) throws IOException
+    {
+        final String value;
+        if (p.hasToken(JsonToken.VALUE_STRING))
+        {
+            value = p.getText();
+        }
+        else
+        {
+            value = (String) this.readValue(p, ctxt, this.stringDeserializer);
+        }
+        return value;
+    }
+
+    /**
+     * Reads a string value which is expected to be frequently repeated, routing it through the {@link StringPool pool} of this
+     * deserializer, if any.
+     *
+     * @param p
+     *            the parser positioned on the value
+     * @param ctxt
+     *            the deserialization context
+     * @return the value
+     * @throws IOException
+     *             if the value cannot be read or bound
+     */
+    protected String readPooledString(final JsonParser p, final DeserializationContext ctxt) throws IOException
+    {
+        final String value;
+        if (this.stringPool == null)
+        {
+            value = this.readString(p, ctxt);
+        }
+        else if (p.hasToken(JsonToken.VALUE_STRING))
+        {
+            value = this.stringPool.canonicalize(p.getTextCharacters(), p.getTextOffset(), p.getTextLength());
+        }
+        else
+        {
+            value = this.stringPool.canonicalize(this.readString(p, ctxt));
+        }
+        return value;
+    }
+
+    protected Boolean readBoolean(final JsonParser p, final DeserializationContext ctxt) throws IOException
+    {
+        final Boolean value;
+        final JsonToken token = p.currentToken();
+        if (token == JsonToken.VALUE_TRUE)
+        {
+            value = Boolean.TRUE;
+        }
+        else if (token == JsonToken.VALUE_FALSE)
+        {
+            value = Boolean.FALSE;
+        }
+        else
+        {
+            value = (Boolean) this.readValue(p, ctxt, this.booleanDeserializer);
+        }
+        return value;
+    }
+
+    protected boolean readPrimitiveBoolean(final JsonParser p, final DeserializationContext ctxt) throws IOException
+    {
+        final boolean value;
+        final JsonToken token = p.currentToken();
+        if (token == JsonToken.VALUE_TRUE || token == JsonToken.VALUE_FALSE)
+        {
+            value = token == JsonToken.VALUE_TRUE;
+        }
+        else
+        {
+            value = ((Boolean) this.readValue(p, ctxt, this.primitiveBooleanDeserializer)).booleanValue();
+        }
+        return value;
+    }
+
+    protected Integer readInteger(final JsonParser p, final DeserializationContext ctxt) throws IOException
+    {
+        final Integer value;
+        if (p.hasToken(JsonToken.VALUE_NUMBER_INT) && p.getNumberType() == JsonParser.NumberType.INT)
+        {
+            value = Integer.valueOf(p.getIntValue());
+        }
+        else
+        {
+            value = (Integer) this.readValue(p, ctxt, this.integerDeserializer);
+        }
+        return value;
+    }
+
+    protected int readPrimitiveInt(final JsonParser p, final DeserializationContext ctxt) throws IOException
+    {
+        final int value;
+        if (p.hasToken(JsonToken.VALUE_NUMBER_INT) && p.getNumberType() == JsonParser.NumberType.INT)
+        {
+            value = p.getIntValue();
+        }
+        else
+        {
+            value = ((Integer) this.readValue(p, ctxt, this.primitiveIntDeserializer)).intValue();
+        }
+        return value;
+    }
+
+    protected Long readLong(final JsonParser p, final DeserializationContext ctxt) throws IOException
+    {
+        final Long value;
+        if (p.hasToken(JsonToken.VALUE_NUMBER_INT) && p.getNumberType() != JsonParser.NumberType.BIG_INTEGER)
+        {
+            value = Long.valueOf(p.getLongValue());
+        }
+        else
+        {
+            value = (Long) this.readValue(p, ctxt, this.longDeserializer);
+        }
+        return value;
+    }
+
+    /**
+     * Reads a value using a specific deserializer, updating an existing instance if it is provided and the deserializer is a streaming
+     * deserializer, i.e. guaranteed to fully reset the existing instance.
+     *
+     * @param p
+     *            the parser positioned on the value
+     * @param ctxt
+     *            the deserialization context
+     * @param deserializer
+     *            the deserializer to use
+     * @param intoValue
+     *            the existing instance to update - may be {@code null}
+     * @return the value
+     * @throws IOException
+     *             if the value cannot be read or bound
+     */
+    protected Object readValue(final JsonParser p, final DeserializationContext ctxt, final JsonDeserializer<Object> deserializer,
+            final Object intoValue) throws IOException
+    {
+        final Object value;
+        if (intoValue != null && deserializer instanceof StreamingBeanDeserializer<?> && !p.hasToken(JsonToken.VALUE_NULL))
+        {
+            value = deserializer.deserialize(p, ctxt, intoValue);
+        }
+        else
+        {
+            value = this.readValue(p, ctxt, deserializer);
+        }
+        return value;
+    }
+
+    protected Object readValue(final JsonParser p, final DeserializationContext ctxt, final JsonDeserializer<Object> deserializer)
+            throws IOException
+    {
+        final Object value;
+        if (p.hasToken(JsonToken.VALUE_NULL))
+        {
+            value = deserializer.getNullValue(ctxt);
+        }
+        else
+        {
+            value = deserializer.deserialize(p, ctxt);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.jackson;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import de.acosix.alfresco.rest.client.model.common.PaginationInfo;
+
+/**
+ * Instances of this class read the JSON of {@link Wrapped.WrapType#LIST list-wrapped} responses of the Alfresco v1 ReST API in a streaming
+ * manner, handing each entry to a consumer as soon as it has been read instead of collecting all entries of a page in a list. This keeps
+ * the memory required for processing a page of a listing at the size of a single entry.
+ *
+ * Entries are read using the deserializer the provided {@link ObjectMapper mapper} uses for the entry type, so any
+ * {@link Wrapped.WrapType#ENTRY entry-wrapping} is handled exactly as for regular (non-streaming) deserialization, provided the mapper has
+ * been configured with the {@link RestAPIBeanDeserializerModifier}. Any elements of the list object other than {@code pagination} and
+ * {@code entries} - e.g. the {@code source} of a node children listing - are skipped.
+ *
+ * For scans which process each entry immediately and do not retain it, entries can be {@link #readReusing(InputStream, Object, Consumer)
+ * read into a single, reused instance}, which is reset between entries. Provided the entry type is handled by a
+ * {@link StreamingBeanDeserializer streaming deserializer} (see {@link RestAPIDeserializersModule}), this avoids allocating a new entity
+ * graph for each entry. For any other entry type, entries are read into new instances, as if reading without reuse.
+ *
+ * @param <T>
+ *            the type of entries in the listing
+ * @author Axel Faust
+ */
+public class StreamingListReader<T>
+{
+
+    private final ObjectMapper mapper;
+
+    private final ObjectReader entryReader;
+
+    private final ObjectReader paginationReader;
+
+    /**
+     * Creates a new instance of this class.
+     *
+     * @param mapper
+     *            the mapper to use for reading the pagination info and entries
+     * @param entryType
+     *            the type of entries in the listing
+     */
+    public StreamingListReader(final ObjectMapper mapper, final Class<T> entryType)
+    {
+        this(mapper, mapper != null ? mapper.constructType(entryType) : null);
+    }
+
+    /**
+     * Creates a new instance of this class.
+     *
+     * @param mapper
+     *            the mapper to use for reading the pagination info and entries
+     * @param entryType
+     *            the type of entries in the listing
+     */
+    public StreamingListReader(final ObjectMapper mapper, final JavaType entryType)
+    {
+        if (mapper == null)
+        {
+            throw new IllegalArgumentException("'mapper' must not be null");
+        }
+        if (entryType == null)
+        {
+            throw new IllegalArgumentException("'entryType' must not be null");
+        }
+        this.mapper = mapper;
+        this.entryReader = mapper.readerFor(entryType);
+        this.paginationReader = mapper.readerFor(PaginationInfo.class);
+    }
+
+    /**
+     * Reads a listing from a stream of JSON data.
+     *
+     * @param in
+     *            the stream from which to read - will not be closed by this operation
+     * @param consumer
+     *            the consumer of the entries of the listing
+     * @return the pagination info of the listing, or {@code null} if the listing did not include pagination info
+     * @throws IOException
+     *             if the stream cannot be read or does not contain a valid listing
+     */
+    public PaginationInfo read(final InputStream in, final Consumer<? super T> consumer) throws IOException
+    {
+        try (JsonParser p = this.mapper.getFactory().createParser(in))
+        {
+            p.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            p.nextToken();
+            return this.read(p, consumer);
+        }
+    }
+
+    /**
+     * Reads a listing from a stream of JSON data, reading all entries into the same reusable instance. The consumer must not retain the
+     * entry handed to it, or any value obtained from it, beyond the invocation of the consumer, as the instance and its nested values will
+     * be reset and overwritten when the next entry is read.
+     *
+     * @param in
+     *            the stream from which to read - will not be closed by this operation
+     * @param reusableEntry
+     *            the instance into which to read all entries
+     * @param consumer
+     *            the consumer of the entries of the listing
+     * @return the pagination info of the listing, or {@code null} if the listing did not include pagination info
+     * @throws IOException
+     *             if the stream cannot be read or does not contain a valid listing
+     */
+    public PaginationInfo readReusing(final InputStream in, final T reusableEntry, final Consumer<? super T> consumer) throws IOException
+    {
+        try (JsonParser p = this.mapper.getFactory().createParser(in))
+        {
+            p.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            p.nextToken();
+            return this.readReusing(p, reusableEntry, consumer);
+        }
+    }
+
+    /**
+     * Reads a listing from a JSON parser positioned on the start token of the object wrapping the listing, reading all entries into the
+     * same reusable instance. When this operation completes, the parser will be positioned on the end token of that object. The consumer
+     * must not retain the entry handed to it, or any value obtained from it, beyond the invocation of the consumer, as the instance and
+     * its nested values will be reset and overwritten when the next entry is read.
+     *
+     * @param p
+     *            the parser from which to read
+     * @param reusableEntry
+     *            the instance into which to read all entries
+     * @param consumer
+     *            the consumer of the entries of the listing
+     * @return the pagination info of the listing, or {@code null} if the listing did not include pagination info
+     * @throws IOException
+     *             if the parser cannot be read or does not contain a valid listing
+     */
+    public PaginationInfo readReusing(final JsonParser p, final T reusableEntry, final Consumer<? super T> consumer) throws IOException
+    {
+        if (reusableEntry == null)
+        {
+            throw new IllegalArgumentException("'reusableEntry' must not be null");
+        }
+
+        // recycler is not thread-safe, so a new one is bound for each read
+        final ObjectReader reusingEntryReader = this.entryReader.withValueToUpdate(reusableEntry)
+                .withAttribute(InstanceRecycler.ATTRIBUTE_KEY, new InstanceRecycler());
+        return this.read(p, reusingEntryReader, consumer);
+    }
+
+    /**
+     * Reads a listing from a JSON parser positioned on the start token of the object wrapping the listing. When this operation
+     * completes, the parser will be positioned on the end token of that object.
+     *
+     * @param p
+     *            the parser from which to read
+     * @param consumer
+     *            the consumer of the entries of the listing
+     * @return the pagination info of the listing, or {@code null} if the listing did not include pagination info
+     * @throws IOException
+     *             if the parser cannot be read or does not contain a valid listing
+     */
+    public PaginationInfo read(final JsonParser p, final Consumer<? super T> consumer) throws IOException
+    {
+        return this.read(p, this.entryReader, consumer);
+    }
+
+    private PaginationInfo read(final JsonParser p, final ObjectReader entryReader, final Consumer<? super T> consumer) throws IOException
+    {
+        if (consumer == null)
+        {
+            throw new IllegalArgumentException("'consumer' must not be null");
+        }
+
+        if (!p.isExpectedStartObjectToken())
+        {
+            throw new JsonMappingException(p, "JSON for listing does not start with an object");
+        }
+        if (!"list".equals(p.nextFieldName()))
+        {
+            throw new JsonMappingException(p, "JSON for listing is not wrapped inside an object with 'list' property");
+        }
+        if (p.nextToken() != JsonToken.START_OBJECT)
+        {
+            throw new JsonMappingException(p, "JSON for listing does not contain an object as 'list' property");
+        }
+
+        PaginationInfo pagination = null;
+        String fieldName;
+        while ((fieldName = p.nextFieldName()) != null)
+        {
+            final JsonToken valueToken = p.nextToken();
+            if ("pagination".equals(fieldName))
+            {
+                pagination = valueToken == JsonToken.VALUE_NULL ? null : this.paginationReader.readValue(p);
+            }
+            else if ("entries".equals(fieldName) && valueToken == JsonToken.START_ARRAY)
+            {
+                while (p.nextToken() != JsonToken.END_ARRAY)
+                {
+                    final T entry = entryReader.readValue(p);
+                    consumer.accept(entry);
+                }
+            }
+            else
+            {
+                p.skipChildren();
+            }
+        }
+
+        if (p.nextToken() == JsonToken.FIELD_NAME)
+        {
+            throw new JsonMappingException(p, "JSON for listing contains unsupported extra field " + p.currentName()
+                    + " besides 'list' wrapper property");
+        }
+        return pagination;
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.jackson;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Instances of this class canonicalize frequently repeated string values, so that equal values read from different responses / entities
+ * share the same {@link String} instance. A pool has a fixed number of slots, each holding the last value canonicalized for a specific hash
+ * bucket, making it bounded in size, lock-free and safe for concurrent use. Values colliding in the same slot simply replace each other, so
+ * a pool only ever trades a missed canonicalization for its constant footprint, and never affects the correctness of values. Values longer
+ * than a configurable maximum length are never pooled, as they are unlikely to be repeated.
+ *
+ * @author Axel Faust
+ */
+public class StringPool
+{
+
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    public static final int DEFAULT_MAX_LENGTH = 128;
+
+    private final AtomicReferenceArray<String> slots;
+
+    private final int mask;
+
+    private final int maxLength;
+
+    /**
+     * Creates a new pool with {@link #DEFAULT_CAPACITY default capacity} and {@link #DEFAULT_MAX_LENGTH default maximum value length}.
+     */
+    public StringPool()
+    {
+        this(DEFAULT_CAPACITY, DEFAULT_MAX_LENGTH);
+    }
+
+    /**
+     * Creates a new pool.
+     *
+     * @param capacity
+     *            the number of slots in the pool - will be rounded up to the next power of two
+     * @param maxLength
+     *            the maximum length of values to pool
+     */
+    public StringPool(final int capacity, final int maxLength)
+    {
+        if (capacity <= 0)
+        {
+            throw new IllegalArgumentException("'capacity' must be a positive integer");
+        }
+        if (maxLength <= 0)
+        {
+            throw new IllegalArgumentException("'maxLength' must be a positive integer");
+        }
+
+        final int slotCount = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(slotCount);
+        this.mask = slotCount - 1;
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * Retrieves the canonical instance for a value.
+     *
+     * @param value
+     *            the value to canonicalize
+     * @return the canonical instance equal to the value, or the value itself if it has not been pooled before / could not be pooled
+     */
+    public String canonicalize(final String value)
+    {
+        String result = value;
+        if (value != null && value.length() <= this.maxLength)
+        {
+            final int slot = this.slot(value.hashCode());
+            final String pooled = this.slots.get(slot);
+            if (value.equals(pooled))
+            {
+                result = pooled;
+            }
+            else
+            {
+                this.slots.lazySet(slot, value);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Retrieves the canonical instance for a value provided as a range of characters, e.g. the text buffer of a JSON parser. A new string
+     * instance is only created if the pool does not already contain an equal value.
+     *
+     * @param buffer
+     *            the buffer containing the characters of the value
+     * @param offset
+     *            the offset of the first character of the value
+     * @param length
+     *            the number of characters of the value
+     * @return the canonical instance for the value
+     */
+    public String canonicalize(final char[] buffer, final int offset, final int length)
+    {
+        final String result;
+        if (length <= this.maxLength)
+        {
+            int hash = 0;
+            for (int idx = offset, end = offset + length; idx < end; idx++)
+            {
+                hash = 31 * hash + buffer[idx];
+            }
+
+            final int slot = this.slot(hash);
+            final String pooled = this.slots.get(slot);
+            if (pooled != null && matches(pooled, buffer, offset, length))
+            {
+                result = pooled;
+            }
+            else
+            {
+                result = new String(buffer, offset, length);
+                this.slots.lazySet(slot, result);
+            }
+        }
+        else
+        {
+            result = new String(buffer, offset, length);
+        }
+        return result;
+    }
+
+    /**
+     * Determines the number of values currently held in this pool.
+     *
+     * @return the number of pooled values
+     */
+    public int size()
+    {
+        int size = 0;
+        for (int idx = 0; idx < this.slots.length(); idx++)
+        {
+            if (this.slots.get(idx) != null)
+            {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Removes all values from this pool.
+     */
+    public void clear()
+    {
+        for (int idx = 0; idx < this.slots.length(); idx++)
+        {
+            this.slots.set(idx, null);
+        }
+    }
+
+    private int slot(final int hash)
+    {
+        return (hash ^ (hash >>> 16)) & this.mask;
+    }
+
+    private static boolean matches(final String pooled, final char[] buffer, final int offset, final int length)
+    {
+        boolean matches = pooled.length() == length;
+        for (int idx = 0; idx < length && matches; idx++)
+        {
+            matches = pooled.charAt(idx) == buffer[offset + idx];
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.jackson;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import de.acosix.alfresco.rest.client.model.common.UserInfo;
+
+/**
+ * Instances of this class canonicalize user info values, so that equal values read from different responses / entities share the same
+ * {@link UserInfo#isShared() shared}, immutable instance. As with a {@link StringPool string pool}, a cache has a fixed number of slots,
+ * each holding the last instance canonicalized for a specific hash bucket, making it bounded in size, lock-free and safe for concurrent
+ * use. Since responses typically only reference a handful of distinct users, a small capacity is sufficient in most cases.
+ *
+ * @author Axel Faust
+ */
+public class UserInfoCache
+{
+
+    public static final int DEFAULT_CAPACITY = 256;
+
+    private final AtomicReferenceArray<UserInfo> slots;
+
+    private final int mask;
+
+    /**
+     * Creates a new cache with {@link #DEFAULT_CAPACITY default capacity}.
+     */
+    public UserInfoCache()
+    {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new cache.
+     *
+     * @param capacity
+     *            the number of slots in the cache - will be rounded up to the next power of two
+     */
+    public UserInfoCache(final int capacity)
+    {
+        if (capacity <= 0)
+        {
+            throw new IllegalArgumentException("'capacity' must be a positive integer");
+        }
+
+        final int slotCount = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(slotCount);
+        this.mask = slotCount - 1;
+    }
+
+    /**
+     * Retrieves the canonical instance for a user.
+     *
+     * @param id
+     *            the ID of the user
+     * @param displayName
+     *            the display name of the user
+     * @return the shared instance for the user
+     */
+    public UserInfo canonicalize(final String id, final String displayName)
+    {
+        final int hash = 31 * Objects.hashCode(id) + Objects.hashCode(displayName);
+        final int slot = (hash ^ (hash >>> 16)) & this.mask;
+        UserInfo result = this.slots.get(slot);
+        if (result == null || !Objects.equals(id, result.getId()) || !Objects.equals(displayName, result.getDisplayName()))
+        {
+            result = UserInfo.shared(id, displayName);
+            this.slots.lazySet(slot, result);
+        }
+        return result;
+    }
+
+    /**
+     * Retrieves the canonical instance for a user info value.
+     *
+     * @param userInfo
+     *            the value to canonicalize - may be {@code null}
+     * @return the shared instance equal to the value, or {@code null} if the value was {@code null}
+     */
+    public UserInfo canonicalize(final UserInfo userInfo)
+    {
+        return userInfo != null ? this.canonicalize(userInfo.getId(), userInfo.getDisplayName()) : null;
+    }
+
+    /**
+     * Determines the number of instances currently held in this cache.
+     *
+     * @return the number of cached instances
+     */
+    public int size()
+    {
+        int size = 0;
+        for (int idx = 0; idx < this.slots.length(); idx++)
+        {
+            if (this.slots.get(idx) != null)
+            {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Removes all instances from this cache.
+     */
+    public void clear()
+    {
+        for (int idx = 0; idx < this.slots.length(); idx++)
+        {
+            this.slots.set(idx, null);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.jackson;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+
+import de.acosix.alfresco.rest.client.model.common.UserInfo;
+
+/**
+ * If a {@link UserInfoCache user info cache} is provided, this deserializer reads the fields of a user info into local variables and
+ * returns the {@link UserInfo#isShared() shared} instance canonicalized via that cache, without creating an intermediate instance or
+ * updating an existing one.
+ *
+ * @author Axel Faust
+ */
+public class UserInfoDeserializer extends StreamingBeanDeserializer<UserInfo>
+{
+
+    private static final long serialVersionUID = 4217553262651349335L;
+
+    private final transient UserInfoCache userInfoCache;
+
+    public UserInfoDeserializer()
+    {
+        this(null);
+    }
+
+    public UserInfoDeserializer(final StringPool stringPool)
+    {
+        this(stringPool, null);
+    }
+
+    public UserInfoDeserializer(final StringPool stringPool, final UserInfoCache userInfoCache)
+    {
+        super(UserInfo.class, stringPool);
+        this.userInfoCache = userInfoCache;
+    }
+
+    /**
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    protected UserInfo createInstance()
+    {
+        return new UserInfo();
+    }
+
+    /**
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    protected UserInfo deserializeUnwrapped(final JsonParser p, final DeserializationContext ctxt, final UserInfo intoValue)
+            throws IOException
+    {
+        final UserInfo userInfo;
+        if (this.userInfoCache != null)
+        {
+            userInfo = this.deserializeCanonical(p, ctxt);
+        }
+        else
+        {
+            // shared instances are immutable and cannot be deserialized into
+            userInfo = super.deserializeUnwrapped(p, ctxt, intoValue != null && intoValue.isShared() ? null : intoValue);
+        }
+        return userInfo;
+    }
+
+    protected UserInfo deserializeCanonical(final JsonParser p, final DeserializationContext ctxt) throws IOException
+    {
+        String fieldName;
+        final JsonToken token = p.currentToken();
+        if (token == JsonToken.START_OBJECT)
+        {
+            fieldName = p.nextFieldName();
+        }
+        else if (token == JsonToken.FIELD_NAME)
+        {
+            fieldName = p.currentName();
+        }
+        else if (token == JsonToken.END_OBJECT)
+        {
+            fieldName = null;
+        }
+        else
+        {
+            return (UserInfo) ctxt.handleUnexpectedToken(this.cls, p);
+        }
+
+        String id = null;
+        String displayName = null;
+        while (fieldName != null)
+        {
+            p.nextToken();
+            switch (fieldName)
+            {
+                case "id":
+                    id = this.readPooledString(p, ctxt);
+                    break;
+                case "displayName":
+                    displayName = this.readPooledString(p, ctxt);
+                    break;
+                default:
+                    this.handleUnknownProperty(p, ctxt, this.cls, fieldName);
+            }
+            fieldName = p.nextFieldName();
+        }
+        return this.userInfoCache.canonicalize(id, displayName);
+    }
+
+    /**
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    protected void resetInstance(final DeserializationContext ctxt, final UserInfo bean)
+    {
+        bean.setId(null);
+        bean.setDisplayName(null);
+    }
+
+    /**
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean deserializeField(final JsonParser p, final DeserializationContext ctxt, final UserInfo bean, final String fieldName)
+            throws IOException
+    {
+        boolean handled = true;
+        switch (fieldName)
+        {
+            case "id":
+                bean.setId(this.readPooledString(p, ctxt));
+                break;
+            case "displayName":
+                bean.setDisplayName(this.readPooledString(p, ctxt));
+                break;
+            default:
+                handled = false;
+        }
+        return handled;
+    }
+}
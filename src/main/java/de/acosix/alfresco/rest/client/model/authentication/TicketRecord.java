@@ -0,0 +1,54 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.model.authentication;
+
+import de.acosix.alfresco.rest.client.jackson.Wrapped;
+import de.acosix.alfresco.rest.client.jackson.Wrapped.WrapType;
+
+/**
+ * Instances of this record are the immutable variant of {@link TicketEntity}.
+ *
+ * @author Axel Faust
+ */
+@Wrapped(WrapType.ENTRY)
+public record TicketRecord(String id, String userId)
+{
+
+    /**
+     * Creates a record from the state of a ticket.
+     *
+     * @param ticket
+     *            the ticket - may be {@code null}
+     * @return the record or {@code null} if the ticket was {@code null}
+     */
+    public static TicketRecord from(final TicketEntity ticket)
+    {
+        return ticket != null ? new TicketRecord(ticket.getId(), ticket.getUserId()) : null;
+    }
+
+    /**
+     * Creates a new, mutable ticket from the state of this record.
+     *
+     * @return the ticket
+     */
+    public TicketEntity toBean()
+    {
+        final TicketEntity ticket = new TicketEntity();
+        ticket.setId(this.id);
+        ticket.setUserId(this.userId);
+        return ticket;
+    }
+}
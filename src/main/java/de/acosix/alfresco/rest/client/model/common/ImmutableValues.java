@@ -0,0 +1,129 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.model.common;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * This class provides the operations used by the immutable record variants of the client model to turn the collections they are
+ * constructed with - either by Jackson or from the mutable value classes - into unmodifiable instances, which can be shared between threads
+ * without any copying.
+ *
+ * @author Axel Faust
+ */
+public final class ImmutableValues
+{
+
+    private ImmutableValues()
+    {
+        // NO-OP
+    }
+
+    /**
+     * Creates an unmodifiable copy of a list, unless the list already is an unmodifiable list as created by
+     * {@link List#copyOf(java.util.Collection) List.copyOf}. As with that operation, the list must not contain {@code null} elements.
+     *
+     * @param <T>
+     *            the type of elements
+     * @param list
+     *            the list to copy - may be {@code null}
+     * @return the unmodifiable list or {@code null} if the list was {@code null}
+     */
+    public static <T> List<T> listOf(final List<? extends T> list)
+    {
+        return list != null ? List.copyOf(list) : null;
+    }
+
+    /**
+     * Creates an unmodifiable list by converting each element of a list.
+     *
+     * @param <S>
+     *            the type of source elements
+     * @param <T>
+     *            the type of converted elements
+     * @param list
+     *            the list to convert - may be {@code null}
+     * @param converter
+     *            the function converting individual elements
+     * @return the unmodifiable list of converted elements or {@code null} if the list was {@code null}
+     */
+    public static <S, T> List<T> listOf(final List<? extends S> list, final Function<? super S, ? extends T> converter)
+    {
+        List<T> result = null;
+        if (list != null)
+        {
+            final List<T> converted = new ArrayList<>(list.size());
+            list.forEach(element -> converted.add(converter.apply(element)));
+            result = Collections.unmodifiableList(converted);
+        }
+        return result;
+    }
+
+    /**
+     * Creates an unmodifiable copy of a map of generic values, e.g. properties, recursively replacing any nested lists and maps with
+     * unmodifiable copies. In contrast to {@link Map#copyOf(Map) Map.copyOf}, {@code null} values are supported and the iteration order of
+     * entries is retained.
+     *
+     * @param map
+     *            the map to copy - may be {@code null}
+     * @return the unmodifiable map or {@code null} if the map was {@code null}
+     */
+    public static Map<String, Object> mapOf(final Map<String, ?> map)
+    {
+        Map<String, Object> result = null;
+        if (map != null)
+        {
+            final Map<String, Object> copy = new LinkedHashMap<>(map.size() * 4 / 3 + 1);
+            map.forEach((key, value) -> copy.put(key, valueOf(value)));
+            result = Collections.unmodifiableMap(copy);
+        }
+        return result;
+    }
+
+    /**
+     * Converts a generic value, e.g. the value of a property, into an unmodifiable value. Lists and maps are recursively copied into
+     * unmodifiable instances, while any other value is considered to already be immutable, as is the case for all simple values read from
+     * JSON.
+     *
+     * @param value
+     *            the value to convert - may be {@code null}
+     * @return the unmodifiable value
+     */
+    public static Object valueOf(final Object value)
+    {
+        Object result = value;
+        if (value instanceof List<?>)
+        {
+            final List<?> list = (List<?>) value;
+            final List<Object> copy = new ArrayList<>(list.size());
+            list.forEach(element -> copy.add(valueOf(element)));
+            result = Collections.unmodifiableList(copy);
+        }
+        else if (value instanceof Map<?, ?>)
+        {
+            final Map<?, ?> map = (Map<?, ?>) value;
+            final Map<Object, Object> copy = new LinkedHashMap<>(map.size() * 4 / 3 + 1);
+            map.forEach((key, element) -> copy.put(key, valueOf(element)));
+            result = Collections.unmodifiableMap(copy);
+        }
+        return result;
+    }
+}
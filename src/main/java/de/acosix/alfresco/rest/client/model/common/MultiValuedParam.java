@@ -18,6 +18,7 @@ package de.acosix.alfresco.rest.client.model.common;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
 import jakarta.ws.rs.ext.ParamConverter;
@@ -52,6 +53,8 @@ public class MultiValuedParam<T>
 
     private final List<T> values;
 
+    private final List<T> valuesView;
+
     /**
      * Creates a new instance from the provided list of values.
      *
@@ -65,6 +68,7 @@ public class MultiValuedParam<T>
             throw new IllegalArgumentException("'values' must not be null");
         }
         this.values = new ArrayList<>(values);
+        this.valuesView = Collections.unmodifiableList(this.values);
     }
 
     /**
@@ -81,6 +85,7 @@ public class MultiValuedParam<T>
             throw new IllegalArgumentException("'values' must not be null");
         }
         this.values = new ArrayList<>(Arrays.asList(values));
+        this.valuesView = Collections.unmodifiableList(this.values);
     }
 
     /**
@@ -93,4 +98,15 @@ public class MultiValuedParam<T>
         return new ArrayList<>(this.values);
     }
 
+    /**
+     * Retrieves the values encapsulated by this instance as an unmodifiable view instead of a copy, e.g. for converting them into the
+     * value of a query parameter.
+     *
+     * @return the unmodifiable view of the encapsulated values
+     */
+    public List<T> getValuesView()
+    {
+        return this.valuesView;
+    }
+
 }
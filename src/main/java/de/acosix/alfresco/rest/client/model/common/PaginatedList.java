@@ -16,8 +16,11 @@
 package de.acosix.alfresco.rest.client.model.common;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import de.acosix.alfresco.rest.client.jackson.Wrapped;
 import de.acosix.alfresco.rest.client.jackson.Wrapped.WrapType;
 
@@ -32,6 +35,8 @@ public class PaginatedList<T>
 
     private List<T> entries;
 
+    private List<T> entriesView;
+
     /**
      * @return the pagination
      */
@@ -64,6 +69,37 @@ public class PaginatedList<T>
     public void setEntries(final List<T> entries)
     {
         this.entries = entries != null ? new ArrayList<>(entries) : null;
+        this.entriesView = null;
+    }
+
+    /**
+     * Sets the entries, taking ownership of the provided list instead of copying it. This operation is meant for deserializers handing
+     * over a freshly built list, which the caller must neither retain nor modify afterwards.
+     *
+     * @param entries
+     *            the entries to adopt
+     */
+    public void adoptEntries(final List<T> entries)
+    {
+        this.entries = entries;
+        this.entriesView = null;
+    }
+
+    /**
+     * Retrieves the entries as an unmodifiable view instead of a copy, e.g. for iterating over the entries of many pages in a traversal.
+     *
+     * @return the unmodifiable view of the entries
+     */
+    @JsonIgnore
+    public List<T> getEntriesView()
+    {
+        List<T> entriesView = this.entriesView;
+        if (entriesView == null && this.entries != null)
+        {
+            entriesView = Collections.unmodifiableList(this.entries);
+            this.entriesView = entriesView;
+        }
+        return entriesView;
     }
 
 }
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.model.common;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import de.acosix.alfresco.rest.client.jackson.Wrapped;
+import de.acosix.alfresco.rest.client.jackson.Wrapped.WrapType;
+
+/**
+ * Instances of this record are the immutable variant of {@link PaginatedList}. Just as the list itself, its entries should be immutable
+ * records for instances of this record to be safely shared between threads.
+ *
+ * @param <T>
+ *            the type of entries
+ * @author Axel Faust
+ */
+@Wrapped(WrapType.LIST)
+public record PaginatedListRecord<T>(PaginationInfoRecord pagination, List<T> entries)
+{
+
+    /**
+     * Creates a new instance of this record.
+     */
+    public PaginatedListRecord
+    {
+        entries = ImmutableValues.listOf(entries);
+    }
+
+    /**
+     * Creates a record from the state of a paginated list.
+     *
+     * @param <S>
+     *            the type of entries in the paginated list
+     * @param <T>
+     *            the type of entries in the record
+     * @param list
+     *            the paginated list - may be {@code null}
+     * @param converter
+     *            the function converting individual entries into their immutable variant
+     * @return the record or {@code null} if the paginated list was {@code null}
+     */
+    public static <S, T> PaginatedListRecord<T> from(final PaginatedList<S> list, final Function<? super S, ? extends T> converter)
+    {
+        return list != null ? new PaginatedListRecord<>(PaginationInfoRecord.from(list.getPagination()),
+                ImmutableValues.listOf(list.getEntriesView(), converter)) : null;
+    }
+
+    /**
+     * Creates a new, mutable paginated list from the state of this record.
+     *
+     * @param <S>
+     *            the type of entries in the paginated list
+     * @param <L>
+     *            the type of paginated list
+     * @param factory
+     *            the factory creating the (empty) paginated list
+     * @param converter
+     *            the function converting individual entries into their mutable variant
+     * @return the paginated list
+     */
+    public <S, L extends PaginatedList<S>> L toBean(final Supplier<L> factory, final Function<? super T, ? extends S> converter)
+    {
+        final L list = factory.get();
+        list.setPagination(this.pagination != null ? this.pagination.toBean() : null);
+        list.setEntries(ImmutableValues.listOf(this.entries, converter));
+        return list;
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.model.common;
+
+/**
+ * Instances of this record are the immutable variant of {@link PaginationInfo}.
+ *
+ * @author Axel Faust
+ */
+public record PaginationInfoRecord(int count, int skipCount, int maxItems, Integer totalItems, boolean hasMoreItems)
+{
+
+    /**
+     * Creates a record from the state of a pagination info.
+     *
+     * @param pagination
+     *            the pagination info - may be {@code null}
+     * @return the record or {@code null} if the pagination info was {@code null}
+     */
+    public static PaginationInfoRecord from(final PaginationInfo pagination)
+    {
+        return pagination != null ? new PaginationInfoRecord(pagination.getCount(), pagination.getSkipCount(), pagination.getMaxItems(),
+                pagination.getTotalItems(), pagination.getHasMoreItems()) : null;
+    }
+
+    /**
+     * Creates a new, mutable pagination info from the state of this record.
+     *
+     * @return the pagination info
+     */
+    public PaginationInfo toBean()
+    {
+        final PaginationInfo pagination = new PaginationInfo();
+        pagination.setCount(this.count);
+        pagination.setSkipCount(this.skipCount);
+        pagination.setMaxItems(this.maxItems);
+        pagination.setTotalItems(this.totalItems);
+        pagination.setHasMoreItems(this.hasMoreItems);
+        return pagination;
+    }
+}
@@ -0,0 +1,260 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.model.common;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+import java.time.temporal.ChronoField;
+import java.util.Locale;
+
+/**
+ * This class provides utility operations to convert between the textual timestamps used in the Alfresco v1 ReST API (e.g.
+ * {@code 2019-01-01T12:00:00.000+0000}) and {@link Instant instants}.
+ *
+ * @author Axel Faust
+ */
+public final class Timestamps
+{
+
+    /**
+     * The sentinel value representing an unset / unparseable timestamp in its epoch milliseconds form.
+     */
+    public static final long NO_EPOCH_MILLIS = Long.MIN_VALUE;
+
+    private static final int ALFRESCO_FORMAT_LENGTH = "yyyy-MM-ddTHH:mm:ss.SSS+HHMM".length();
+
+    private static final String UTC_OFFSET = "+0000";
+
+    private static final long MILLIS_PER_DAY = 86400000L;
+
+    private static final DateTimeFormatter PARSER = new DateTimeFormatterBuilder().append(DateTimeFormatter.ISO_LOCAL_DATE_TIME)
+            .optionalStart().appendOffset("+HH:MM", "Z").optionalEnd().optionalStart().appendOffset("+HHMM", "Z").optionalEnd()
+            .parseDefaulting(ChronoField.OFFSET_SECONDS, 0).toFormatter(Locale.ROOT).withResolverStyle(ResolverStyle.STRICT);
+
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("uuuu-MM-dd'T'HH:mm:ss.SSSZ", Locale.ROOT)
+            .withZone(ZoneOffset.UTC);
+
+    private Timestamps()
+    {
+        // NO-OP
+    }
+
+    /**
+     * Parses a textual timestamp as used in the Alfresco v1 ReST API. Any ISO-8601 date-time with or without an offset is supported, the
+     * exact format used by Alfresco is parsed without involving a {@link DateTimeFormatter formatter}.
+     *
+     * @param timestamp
+     *            the textual timestamp
+     * @return the parsed instant
+     * @throws DateTimeParseException
+     *             if the timestamp cannot be parsed
+     */
+    public static Instant parse(final CharSequence timestamp)
+    {
+        if (timestamp == null)
+        {
+            throw new IllegalArgumentException("'timestamp' must not be null");
+        }
+
+        final long epochMillis = parseAlfrescoFormat(timestamp);
+        return epochMillis != NO_EPOCH_MILLIS ? Instant.ofEpochMilli(epochMillis) : PARSER.parse(timestamp, Instant::from);
+    }
+
+    /**
+     * Parses a textual timestamp as used in the Alfresco v1 ReST API into milliseconds since the epoch, without allocating an intermediary
+     * {@link Instant instant} for the exact format used by Alfresco. Any sub-millisecond precision of other formats is truncated.
+     *
+     * @param timestamp
+     *            the textual timestamp
+     * @return the milliseconds since the epoch
+     * @throws DateTimeParseException
+     *             if the timestamp cannot be parsed
+     */
+    public static long parseEpochMillis(final CharSequence timestamp)
+    {
+        if (timestamp == null)
+        {
+            throw new IllegalArgumentException("'timestamp' must not be null");
+        }
+
+        long epochMillis = parseAlfrescoFormat(timestamp);
+        if (epochMillis == NO_EPOCH_MILLIS)
+        {
+            epochMillis = PARSER.parse(timestamp, Instant::from).toEpochMilli();
+        }
+        return epochMillis;
+    }
+
+    /**
+     * Parses a textual timestamp as used in the Alfresco v1 ReST API into milliseconds since the epoch, if possible.
+     *
+     * @param timestamp
+     *            the textual timestamp - may be {@code null}
+     * @return the milliseconds since the epoch or {@link #NO_EPOCH_MILLIS} if the timestamp is {@code null} or cannot be parsed
+     */
+    public static long tryParseEpochMillis(final CharSequence timestamp)
+    {
+        long epochMillis = NO_EPOCH_MILLIS;
+        if (timestamp != null)
+        {
+            try
+            {
+                epochMillis = parseEpochMillis(timestamp);
+            }
+            catch (final DateTimeParseException | ArithmeticException ex)
+            {
+                epochMillis = NO_EPOCH_MILLIS;
+            }
+        }
+        return epochMillis;
+    }
+
+    /**
+     * Parses a textual timestamp into milliseconds since the epoch if, and only if, it is in the canonical format of the Alfresco v1 ReST
+     * API as produced by {@link #format(long)}, i.e. if the textual timestamp can be restored exactly from its epoch milliseconds form.
+     *
+     * @param timestamp
+     *            the textual timestamp - may be {@code null}
+     * @return the milliseconds since the epoch or {@link #NO_EPOCH_MILLIS} if the timestamp is {@code null} or not in the canonical
+     *         format
+     */
+    public static long parseCanonicalEpochMillis(final CharSequence timestamp)
+    {
+        long epochMillis = NO_EPOCH_MILLIS;
+        if (timestamp != null && timestamp.length() == ALFRESCO_FORMAT_LENGTH)
+        {
+            boolean utc = true;
+            for (int idx = 0, offset = ALFRESCO_FORMAT_LENGTH - UTC_OFFSET.length(); idx < UTC_OFFSET.length() && utc; idx++)
+            {
+                utc = timestamp.charAt(offset + idx) == UTC_OFFSET.charAt(idx);
+            }
+            epochMillis = utc ? parseAlfrescoFormat(timestamp) : NO_EPOCH_MILLIS;
+        }
+        return epochMillis;
+    }
+
+    /**
+     * Formats milliseconds since the epoch in the textual timestamp format used by the Alfresco v1 ReST API, without allocating an
+     * intermediary {@link Instant instant}.
+     *
+     * @param epochMillis
+     *            the milliseconds since the epoch
+     * @return the textual timestamp
+     */
+    public static String format(final long epochMillis)
+    {
+        final String timestamp;
+        final LocalDate date = LocalDate.ofEpochDay(Math.floorDiv(epochMillis, MILLIS_PER_DAY));
+        if (date.getYear() >= 0 && date.getYear() <= 9999)
+        {
+            final int millisOfDay = (int) Math.floorMod(epochMillis, MILLIS_PER_DAY);
+            final char[] chars = new char[ALFRESCO_FORMAT_LENGTH];
+            digits(chars, 0, 4, date.getYear());
+            chars[4] = '-';
+            digits(chars, 5, 2, date.getMonthValue());
+            chars[7] = '-';
+            digits(chars, 8, 2, date.getDayOfMonth());
+            chars[10] = 'T';
+            digits(chars, 11, 2, millisOfDay / 3600000);
+            chars[13] = ':';
+            digits(chars, 14, 2, millisOfDay / 60000 % 60);
+            chars[16] = ':';
+            digits(chars, 17, 2, millisOfDay / 1000 % 60);
+            chars[19] = '.';
+            digits(chars, 20, 3, millisOfDay % 1000);
+            UTC_OFFSET.getChars(0, UTC_OFFSET.length(), chars, ALFRESCO_FORMAT_LENGTH - UTC_OFFSET.length());
+            timestamp = new String(chars);
+        }
+        else
+        {
+            timestamp = FORMATTER.format(Instant.ofEpochMilli(epochMillis));
+        }
+        return timestamp;
+    }
+
+    /**
+     * Formats an instant in the textual timestamp format used by the Alfresco v1 ReST API.
+     *
+     * @param instant
+     *            the instant to format
+     * @return the textual timestamp
+     */
+    public static String format(final Instant instant)
+    {
+        if (instant == null)
+        {
+            throw new IllegalArgumentException("'instant' must not be null");
+        }
+        return FORMATTER.format(instant);
+    }
+
+    private static long parseAlfrescoFormat(final CharSequence timestamp)
+    {
+        long epochMillis = NO_EPOCH_MILLIS;
+        if (timestamp.length() == ALFRESCO_FORMAT_LENGTH && timestamp.charAt(4) == '-' && timestamp.charAt(7) == '-'
+                && timestamp.charAt(10) == 'T' && timestamp.charAt(13) == ':' && timestamp.charAt(16) == ':' && timestamp.charAt(19) == '.'
+                && (timestamp.charAt(23) == '+' || timestamp.charAt(23) == '-'))
+        {
+            final int year = digits(timestamp, 0, 4);
+            final int month = digits(timestamp, 5, 2);
+            final int day = digits(timestamp, 8, 2);
+            final int hour = digits(timestamp, 11, 2);
+            final int minute = digits(timestamp, 14, 2);
+            final int second = digits(timestamp, 17, 2);
+            final int millis = digits(timestamp, 20, 3);
+            final int offsetHours = digits(timestamp, 24, 2);
+            final int offsetMinutes = digits(timestamp, 26, 2);
+
+            // anything invalid / out of range is left to the regular parser to report
+            if (year >= 0 && month >= 1 && month <= 12 && day >= 1 && day <= LocalDate.of(year, month, 1).lengthOfMonth() && hour >= 0
+                    && hour <= 23 && minute >= 0 && minute <= 59 && second >= 0 && second <= 59 && millis >= 0 && offsetHours >= 0
+                    && offsetHours <= 18 && offsetMinutes >= 0 && offsetMinutes <= 59)
+            {
+                final int offsetSeconds = (timestamp.charAt(23) == '-' ? -1 : 1) * (offsetHours * 3600 + offsetMinutes * 60);
+                final long epochSecond = LocalDate.of(year, month, day).toEpochDay() * 86400 + hour * 3600 + minute * 60 + second
+                        - offsetSeconds;
+                epochMillis = epochSecond * 1000 + millis;
+            }
+        }
+        return epochMillis;
+    }
+
+    private static void digits(final char[] chars, final int offset, final int count, final int value)
+    {
+        int remainder = value;
+        for (int idx = offset + count - 1; idx >= offset; idx--)
+        {
+            chars[idx] = (char) ('0' + remainder % 10);
+            remainder /= 10;
+        }
+    }
+
+    private static int digits(final CharSequence text, final int offset, final int count)
+    {
+        int value = 0;
+        for (int idx = offset; idx < offset + count && value != -1; idx++)
+        {
+            final char c = text.charAt(idx);
+            value = c >= '0' && c <= '9' ? value * 10 + (c - '0') : -1;
+        }
+        return value;
+    }
+}
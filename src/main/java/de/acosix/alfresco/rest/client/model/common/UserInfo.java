@@ -15,7 +15,12 @@
  */
 package de.acosix.alfresco.rest.client.model.common;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 /**
+ * Instances of this class are either regular, mutable value objects, or {@link #shared(String, String) shared} instances, which are
+ * immutable so that they can safely be referenced by any number of entities, e.g. all nodes created or modified by the same user.
+ *
  * @author Axel Faust
  */
 public class UserInfo
@@ -25,12 +30,14 @@ public class UserInfo
 
     private String displayName;
 
+    private final boolean shared;
+
     /**
      * Creates a new instance of this value class.
      */
     public UserInfo()
     {
-        // NO-OP
+        this.shared = false;
     }
 
     /**
@@ -43,6 +50,61 @@ public class UserInfo
     {
         this.id = reference.getId();
         this.displayName = reference.getDisplayName();
+        this.shared = false;
+    }
+
+    private UserInfo(final String id, final String displayName)
+    {
+        this.id = id;
+        this.displayName = displayName;
+        this.shared = true;
+    }
+
+    /**
+     * Creates a new, shared and immutable instance of this value class.
+     *
+     * @param id
+     *            the ID of the user
+     * @param displayName
+     *            the display name of the user
+     * @return the new instance
+     */
+    public static UserInfo shared(final String id, final String displayName)
+    {
+        return new UserInfo(id, displayName);
+    }
+
+    /**
+     * Creates a copy of an instance of this value class for use in a copy of an entity referencing it. {@link #isShared() Shared}
+     * instances are immutable and do not need to be copied, so the instance itself is returned in that case.
+     *
+     * @param reference
+     *            the instance to copy - may be {@code null}
+     * @return the copy, the shared instance itself, or {@code null} if {@code reference} was {@code null}
+     */
+    public static UserInfo copyOf(final UserInfo reference)
+    {
+        final UserInfo copy;
+        if (reference == null || reference.shared)
+        {
+            copy = reference;
+        }
+        else
+        {
+            copy = new UserInfo(reference);
+        }
+        return copy;
+    }
+
+    /**
+     * Checks whether this instance is a shared and immutable instance.
+     *
+     * @return {@code true} if this instance is shared and immutable, {@code false} otherwise
+     */
+    @JsonIgnore
+    public boolean isShared()
+    {
+        return this.shared;
     }
 
     /**
@@ -59,6 +121,7 @@ public class UserInfo
      */
     public void setId(final String id)
     {
+        this.checkMutable();
         this.id = id;
     }
 
@@ -76,7 +139,16 @@ public class UserInfo
      */
     public void setDisplayName(final String displayName)
     {
+        this.checkMutable();
         this.displayName = displayName;
     }
 
+    private void checkMutable()
+    {
+        if (this.shared)
+        {
+            throw new UnsupportedOperationException("Shared user info instances are immutable");
+        }
+    }
+
 }
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.model.common;
+
+/**
+ * Instances of this record are the immutable variant of {@link UserInfo}.
+ *
+ * @author Axel Faust
+ */
+public record UserInfoRecord(String id, String displayName)
+{
+
+    /**
+     * Creates a record from the state of a user info.
+     *
+     * @param userInfo
+     *            the user info - may be {@code null}
+     * @return the record or {@code null} if the user info was {@code null}
+     */
+    public static UserInfoRecord from(final UserInfo userInfo)
+    {
+        return userInfo != null ? new UserInfoRecord(userInfo.getId(), userInfo.getDisplayName()) : null;
+    }
+
+    /**
+     * Creates a new, mutable user info from the state of this record.
+     *
+     * @return the user info
+     */
+    public UserInfo toBean()
+    {
+        final UserInfo userInfo = new UserInfo();
+        userInfo.setId(this.id);
+        userInfo.setDisplayName(this.displayName);
+        return userInfo;
+    }
+}
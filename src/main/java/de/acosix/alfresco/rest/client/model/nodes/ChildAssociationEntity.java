@@ -15,6 +15,8 @@
  */
 package de.acosix.alfresco.rest.client.model.nodes;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import de.acosix.alfresco.rest.client.jackson.Wrapped;
 import de.acosix.alfresco.rest.client.jackson.Wrapped.WrapType;
 
@@ -63,4 +65,15 @@ public class ChildAssociationEntity extends AssociationTypeEntity
         this.childId = childId;
     }
 
+    /**
+     * Retrieves the ID of the child node in its compact {@link NodeId} form.
+     *
+     * @return the ID of the child node, or {@code null} if not set
+     */
+    @JsonIgnore
+    public NodeId getChildNodeId()
+    {
+        return NodeId.ofNullable(this.childId);
+    }
+
 }
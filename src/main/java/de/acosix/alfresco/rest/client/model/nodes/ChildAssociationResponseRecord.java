@@ -0,0 +1,50 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.model.nodes;
+
+/**
+ * Instances of this record are the immutable variant of {@link ChildAssociationResponseEntity}.
+ *
+ * @author Axel Faust
+ */
+public record ChildAssociationResponseRecord(String assocType, boolean isPrimary)
+{
+
+    /**
+     * Creates a record from the state of a child association.
+     *
+     * @param association
+     *            the child association - may be {@code null}
+     * @return the record or {@code null} if the child association was {@code null}
+     */
+    public static ChildAssociationResponseRecord from(final ChildAssociationResponseEntity association)
+    {
+        return association != null ? new ChildAssociationResponseRecord(association.getAssocType(), association.isPrimary()) : null;
+    }
+
+    /**
+     * Creates a new, mutable child association from the state of this record.
+     *
+     * @return the child association
+     */
+    public ChildAssociationResponseEntity toBean()
+    {
+        final ChildAssociationResponseEntity association = new ChildAssociationResponseEntity();
+        association.setAssocType(this.assocType);
+        association.setPrimary(this.isPrimary);
+        return association;
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.model.nodes;
+
+import java.util.List;
+import java.util.Map;
+
+import de.acosix.alfresco.rest.client.jackson.Wrapped;
+import de.acosix.alfresco.rest.client.jackson.Wrapped.WrapType;
+import de.acosix.alfresco.rest.client.model.common.ImmutableValues;
+import de.acosix.alfresco.rest.client.model.common.UserInfoRecord;
+
+/**
+ * Instances of this record are the immutable variant of {@link ChildNodeResponseEntity}. Since records cannot extend each other, the state
+ * of the node itself can be obtained as a {@link #node() separate record}.
+ *
+ * @author Axel Faust
+ */
+@Wrapped(WrapType.ENTRY)
+public record ChildNodeResponseRecord(String id, String name, String nodeType, Boolean isFolder, Boolean isFile, Boolean isLocked,
+        Boolean isLink, Boolean isFavorite, String createdAt, UserInfoRecord createdByUser, String modifiedAt,
+        UserInfoRecord modifiedByUser, String parentId, ContentInfoRecord content, List<String> aspectNames, Map<String, Object> properties,
+        List<String> allowableOperations, PathInfoRecord path, ResponsePermissionsInfoRecord permissions,
+        ChildAssociationResponseRecord association)
+{
+
+    /**
+     * Creates a new instance of this record.
+     */
+    public ChildNodeResponseRecord
+    {
+        aspectNames = ImmutableValues.listOf(aspectNames);
+        properties = CompactPropertyMap.unmodifiableCopyOf(properties);
+        allowableOperations = ImmutableValues.listOf(allowableOperations);
+    }
+
+    /**
+     * Creates a record from the state of a node and its association to the parent.
+     *
+     * @param node
+     *            the node
+     * @param association
+     *            the association to the parent - may be {@code null}
+     * @return the record
+     */
+    public static ChildNodeResponseRecord of(final NodeResponseRecord node, final ChildAssociationResponseRecord association)
+    {
+        if (node == null)
+        {
+            throw new IllegalArgumentException("'node' must not be null");
+        }
+
+        return new ChildNodeResponseRecord(node.id(), node.name(), node.nodeType(), node.isFolder(), node.isFile(), node.isLocked(),
+                node.isLink(), node.isFavorite(), node.createdAt(), node.createdByUser(), node.modifiedAt(), node.modifiedByUser(),
+                node.parentId(), node.content(), node.aspectNames(), node.properties(), node.allowableOperations(), node.path(),
+                node.permissions(), association);
+    }
+
+    /**
+     * Creates a record from the state of a child node.
+     *
+     * @param node
+     *            the child node - may be {@code null}
+     * @return the record or {@code null} if the child node was {@code null}
+     */
+    public static ChildNodeResponseRecord from(final ChildNodeResponseEntity node)
+    {
+        return node != null ? of(NodeResponseRecord.from(node), ChildAssociationResponseRecord.from(node.getAssociation())) : null;
+    }
+
+    /**
+     * Retrieves the state of the node itself, without its association to the parent.
+     *
+     * @return the node
+     */
+    public NodeResponseRecord node()
+    {
+        return new NodeResponseRecord(this.id, this.name, this.nodeType, this.isFolder, this.isFile, this.isLocked, this.isLink,
+                this.isFavorite, this.createdAt, this.createdByUser, this.modifiedAt, this.modifiedByUser, this.parentId, this.content,
+                this.aspectNames, this.properties, this.allowableOperations, this.path, this.permissions);
+    }
+
+    /**
+     * Retrieves the ID of the node in its compact form.
+     *
+     * @return the node ID or {@code null} if the ID is not set
+     */
+    public NodeId nodeId()
+    {
+        return NodeId.ofNullable(this.id);
+    }
+
+    /**
+     * Creates a new, mutable child node from the state of this record.
+     *
+     * @return the child node
+     */
+    public ChildNodeResponseEntity toBean()
+    {
+        final ChildNodeResponseEntity node = this.node().copyInto(new ChildNodeResponseEntity());
+        node.setAssociation(this.association != null ? this.association.toBean() : null);
+        return node;
+    }
+}
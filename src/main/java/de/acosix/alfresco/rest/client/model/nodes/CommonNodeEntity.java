@@ -15,19 +15,27 @@
  */
 package de.acosix.alfresco.rest.client.model.nodes;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import de.acosix.alfresco.rest.client.jackson.DeferredProperties;
+
 /**
  * @author Axel Faust
  */
 public class CommonNodeEntity<PI extends PermissionsInfo> extends NodeCoreIdentity
 {
 
+    // compact map sharing the layout of property names with all other nodes having the same set of properties
     private Map<String, Object> properties;
 
+    private Map<String, Object> propertiesView;
+
+    private DeferredProperties deferredProperties;
+
     private PI permissions;
 
     /**
@@ -49,32 +57,18 @@ public class CommonNodeEntity<PI extends PermissionsInfo> extends NodeCoreIdenti
     {
         super(reference);
 
-        final Map<String, Object> properties = reference.getProperties();
-        if (properties != null)
+        // deferred properties are immutable and can be shared without binding them
+        this.deferredProperties = reference.deferredProperties;
+        if (this.deferredProperties == null && reference.properties != null)
         {
-            this.properties = new HashMap<>(properties);
+            this.properties = new CompactPropertyMap(reference.properties);
         }
 
-        // due to generics we cannot handle copy of permissions other than via reflection
+        // due to generics the concrete type of permissions is only known at runtime
         final PI permissions = reference.getPermissions();
         if (permissions != null)
         {
-            @SuppressWarnings("unchecked")
-            final Class<PI> permClass = (Class<PI>) permissions.getClass();
-            try
-            {
-                final Constructor<PI> copyConstructor = permClass.getConstructor(permClass);
-                this.permissions = copyConstructor.newInstance(permissions);
-            }
-            catch (final NoSuchMethodException nsme)
-            {
-                throw new UnsupportedOperationException(
-                        "Cannot create copy as permissions info class " + permClass + " does not define a copy-constructor");
-            }
-            catch (final IllegalAccessException | InstantiationException | InvocationTargetException ite)
-            {
-                throw new RuntimeException("Failed to copy permissions info", ite);
-            }
+            this.permissions = PermissionsInfoCopyFunctions.copy(permissions);
         }
     }
 
@@ -83,6 +77,7 @@ public class CommonNodeEntity<PI extends PermissionsInfo> extends NodeCoreIdenti
      */
     public Map<String, Object> getProperties()
     {
+        this.bindDeferredProperties();
         return this.properties != null ? new HashMap<>(this.properties) : null;
     }
 
@@ -92,7 +87,77 @@ public class CommonNodeEntity<PI extends PermissionsInfo> extends NodeCoreIdenti
      */
     public void setProperties(final Map<String, Object> properties)
     {
-        this.properties = properties != null ? new HashMap<>(properties) : null;
+        this.properties = properties != null ? new CompactPropertyMap(properties) : null;
+        this.propertiesView = null;
+        this.deferredProperties = null;
+    }
+
+    /**
+     * Sets the properties, taking ownership of the provided map instead of copying it. This operation is meant for deserializers handing
+     * over a freshly built map, which the caller must neither retain nor modify afterwards. Properties which are not yet held in the
+     * compact form used by this class are converted once, in place of the copy made by {@link #setProperties(Map)}.
+     *
+     * @param properties
+     *            the properties to adopt
+     */
+    public void adoptProperties(final Map<String, Object> properties)
+    {
+        if (properties instanceof CompactPropertyMap && !((CompactPropertyMap) properties).isUnmodifiable())
+        {
+            this.properties = properties;
+        }
+        else
+        {
+            this.properties = properties != null ? new CompactPropertyMap(properties) : null;
+        }
+        this.propertiesView = null;
+        this.deferredProperties = null;
+    }
+
+    /**
+     * Retrieves the properties as an unmodifiable view instead of a copy. In contrast to {@link #getProperties()}, the map of properties
+     * is only allocated once, when {@link #isPropertiesDeferred() deferred} properties are bound, and any later calls do not allocate at
+     * all. The view reflects any individual properties {@link #setProperty(String, Object) set} or {@link #removeProperty(String)
+     * removed} later on.
+     *
+     * @return the unmodifiable view of the properties
+     */
+    @JsonIgnore
+    public Map<String, Object> getPropertiesView()
+    {
+        this.bindDeferredProperties();
+        Map<String, Object> propertiesView = this.propertiesView;
+        if (propertiesView == null && this.properties != null)
+        {
+            propertiesView = Collections.unmodifiableMap(this.properties);
+            this.propertiesView = propertiesView;
+        }
+        return propertiesView;
+    }
+
+    /**
+     * Checks whether the properties of this instance are still held in their raw, unbound form.
+     *
+     * @return {@code true} if the properties have been deferred and not yet been bound, {@code false} otherwise
+     */
+    @JsonIgnore
+    public boolean isPropertiesDeferred()
+    {
+        return this.deferredProperties != null;
+    }
+
+    /**
+     * Sets the properties of this instance in their raw form, to be bound on first access.
+     *
+     * @param deferredProperties
+     *            the deferred properties to set
+     */
+    @JsonIgnore
+    public void setDeferredProperties(final DeferredProperties deferredProperties)
+    {
+        this.deferredProperties = deferredProperties;
+        this.properties = null;
+        this.propertiesView = null;
     }
 
     /**
@@ -105,15 +170,17 @@ public class CommonNodeEntity<PI extends PermissionsInfo> extends NodeCoreIdenti
      */
     public void setProperty(final String propertyName, final Object value)
     {
+        this.bindDeferredProperties();
         if (this.properties == null)
         {
-            this.properties = new HashMap<>();
+            this.properties = new CompactPropertyMap();
         }
         this.properties.put(propertyName, value);
     }
 
     /**
-     * Retrieves the value of an individual property.
+     * Retrieves the value of an individual property. If the properties of this instance are {@link #isPropertiesDeferred() deferred},
+     * only the value of the requested property is bound, without binding any other properties.
      *
      * @param propertyName
      *            the name of the property for which to retrieve the value
@@ -122,7 +189,11 @@ public class CommonNodeEntity<PI extends PermissionsInfo> extends NodeCoreIdenti
     public Object getProperty(final String propertyName)
     {
         Object currentValue = null;
-        if (this.properties != null)
+        if (this.deferredProperties != null)
+        {
+            currentValue = this.deferredProperties.bind(propertyName);
+        }
+        else if (this.properties != null)
         {
             currentValue = this.properties.get(propertyName);
         }
@@ -138,6 +209,7 @@ public class CommonNodeEntity<PI extends PermissionsInfo> extends NodeCoreIdenti
      */
     public Object removeProperty(final String propertyName)
     {
+        this.bindDeferredProperties();
         Object removedValue = null;
         if (this.properties != null)
         {
@@ -162,4 +234,14 @@ public class CommonNodeEntity<PI extends PermissionsInfo> extends NodeCoreIdenti
     {
         this.permissions = permissions;
     }
+
+    private void bindDeferredProperties()
+    {
+        if (this.deferredProperties != null)
+        {
+            this.properties = new CompactPropertyMap(this.deferredProperties.bind());
+            this.propertiesView = null;
+            this.deferredProperties = null;
+        }
+    }
 }
@@ -0,0 +1,550 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.model.nodes;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import de.acosix.alfresco.rest.client.model.common.ImmutableValues;
+
+/**
+ * Instances of this class store the properties of a node in a compact form: a {@link Shape shape} holding the (sorted) property names,
+ * which is shared by all instances with the same set of property names, plus a flat array of the property values. Since nodes of the same
+ * type and aspects mostly share the same set of property names, this avoids the per-entry objects and sparse hash table of a regular map,
+ * which makes a significant difference when many nodes are held in memory, e.g. in a metadata cache.
+ *
+ * Shapes of complete sets of property names, i.e. of instances created as a copy of other properties, are interned up to a
+ * {@link #MAX_INTERNED_SHAPES fixed limit}, beyond which new shapes are still used, though no longer shared across instances created
+ * independently from each other. Adding or removing a property changes the shape of an instance, which is resolved via transitions cached
+ * on the previous shape, but only ever from and to shapes which have already been interned - the intermediate shapes of an instance built
+ * property by property are never interned themselves and do not hold any cached transitions. The array of values grows with spare capacity,
+ * so that building an instance property by property only copies the array of (shared) property names on each addition.
+ *
+ * Like {@link java.util.HashMap}, instances of this class support a {@code null} property name and are not thread-safe.
+ *
+ * @author Axel Faust
+ */
+final class CompactPropertyMap extends AbstractMap<String, Object>
+{
+
+    /**
+     * The maximum number of distinct shapes to intern.
+     */
+    static final int MAX_INTERNED_SHAPES = 8192;
+
+    private static final ConcurrentMap<List<String>, Shape> INTERNED_SHAPES = new ConcurrentHashMap<>();
+
+    private static final Comparator<String> KEY_ORDER = Comparator.nullsFirst(Comparator.naturalOrder());
+
+    private static final Object[] NO_VALUES = new Object[0];
+
+    // treated as interned as it is the shared starting point of all instances built property by property
+    private static final Shape EMPTY_SHAPE = new Shape(new String[0], true);
+
+    private Shape shape;
+
+    // may have spare capacity beyond the number of property names in the shape
+    private Object[] values;
+
+    private boolean unmodifiable;
+
+    private transient Set<Map.Entry<String, Object>> entrySet;
+
+    /**
+     * Creates a new, empty instance of this class.
+     */
+    CompactPropertyMap()
+    {
+        this.shape = EMPTY_SHAPE;
+        this.values = NO_VALUES;
+    }
+
+    /**
+     * Creates a new instance of this class as a copy of the provided properties.
+     *
+     * @param properties
+     *            the properties to copy
+     */
+    CompactPropertyMap(final Map<String, ?> properties)
+    {
+        if (properties instanceof CompactPropertyMap)
+        {
+            final CompactPropertyMap reference = (CompactPropertyMap) properties;
+            this.shape = reference.shape;
+            this.values = reference.size() != 0 ? Arrays.copyOf(reference.values, reference.size()) : NO_VALUES;
+        }
+        else if (properties.isEmpty())
+        {
+            this.shape = EMPTY_SHAPE;
+            this.values = NO_VALUES;
+        }
+        else
+        {
+            final String[] keys = properties.keySet().toArray(new String[0]);
+            Arrays.sort(keys, KEY_ORDER);
+            this.shape = Shape.of(keys);
+            this.values = new Object[keys.length];
+            for (int idx = 0; idx < keys.length; idx++)
+            {
+                this.values[idx] = properties.get(this.shape.keys[idx]);
+            }
+        }
+    }
+
+    /**
+     * Creates an unmodifiable copy of the provided properties, in which any multi-valued or complex values are replaced with unmodifiable
+     * copies as well, so that the result can be shared between threads once safely published. Properties previously created by this
+     * operation are returned as-is.
+     *
+     * @param properties
+     *            the properties to copy - may be {@code null}
+     * @return the unmodifiable copy of the properties or {@code null} if the properties were {@code null}
+     */
+    static Map<String, Object> unmodifiableCopyOf(final Map<String, ?> properties)
+    {
+        Map<String, Object> result = null;
+        if (properties instanceof CompactPropertyMap && ((CompactPropertyMap) properties).unmodifiable)
+        {
+            result = (CompactPropertyMap) properties;
+        }
+        else if (properties != null)
+        {
+            final CompactPropertyMap copy = new CompactPropertyMap(properties);
+            for (int idx = 0; idx < copy.size(); idx++)
+            {
+                copy.values[idx] = ImmutableValues.valueOf(copy.values[idx]);
+            }
+            copy.unmodifiable = true;
+            result = copy;
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size()
+    {
+        return this.shape.keys.length;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsKey(final Object key)
+    {
+        return this.shape.indexOf(key) >= 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object get(final Object key)
+    {
+        final int idx = this.shape.indexOf(key);
+        return idx >= 0 ? this.values[idx] : null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object put(final String key, final Object value)
+    {
+        this.checkModifiable();
+
+        Object previousValue = null;
+        final int idx = this.shape.indexOf(key);
+        if (idx >= 0)
+        {
+            previousValue = this.values[idx];
+            this.values[idx] = value;
+        }
+        else
+        {
+            final int insertIdx = -(idx + 1);
+            final int size = this.size();
+            if (size == this.values.length)
+            {
+                final Object[] values = new Object[size + (size >> 1) + 1];
+                System.arraycopy(this.values, 0, values, 0, insertIdx);
+                System.arraycopy(this.values, insertIdx, values, insertIdx + 1, size - insertIdx);
+                this.values = values;
+            }
+            else
+            {
+                System.arraycopy(this.values, insertIdx, this.values, insertIdx + 1, size - insertIdx);
+            }
+            this.values[insertIdx] = value;
+            this.shape = this.shape.withKey(key, insertIdx);
+        }
+        return previousValue;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object remove(final Object key)
+    {
+        this.checkModifiable();
+        Object previousValue = null;
+        final int idx = this.shape.indexOf(key);
+        if (idx >= 0)
+        {
+            previousValue = this.values[idx];
+            this.removeAt(idx);
+        }
+        return previousValue;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear()
+    {
+        this.checkModifiable();
+        this.shape = EMPTY_SHAPE;
+        this.values = NO_VALUES;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<Map.Entry<String, Object>> entrySet()
+    {
+        Set<Map.Entry<String, Object>> entrySet = this.entrySet;
+        if (entrySet == null)
+        {
+            entrySet = new EntrySet();
+            this.entrySet = entrySet;
+        }
+        return entrySet;
+    }
+
+    /**
+     * Retrieves the shape of this instance.
+     *
+     * @return the shape
+     */
+    Shape getShape()
+    {
+        return this.shape;
+    }
+
+    /**
+     * Checks whether this instance is unmodifiable.
+     *
+     * @return {@code true} if this instance has been created as an {@link #unmodifiableCopyOf(Map) unmodifiable copy}, {@code false}
+     *         otherwise
+     */
+    boolean isUnmodifiable()
+    {
+        return this.unmodifiable;
+    }
+
+    private void checkModifiable()
+    {
+        if (this.unmodifiable)
+        {
+            throw new UnsupportedOperationException("Properties are unmodifiable");
+        }
+    }
+
+    private void removeAt(final int idx)
+    {
+        this.checkModifiable();
+        final int size = this.size();
+        if (size == 1)
+        {
+            this.clear();
+        }
+        else
+        {
+            System.arraycopy(this.values, idx + 1, this.values, idx, size - idx - 1);
+            this.values[size - 1] = null;
+            this.shape = this.shape.withoutKey(idx);
+        }
+    }
+
+    /**
+     * Instances of this class represent a specific, sorted set of property names shared by all {@link CompactPropertyMap maps} containing
+     * exactly these property names.
+     *
+     * @author Axel Faust
+     */
+    static final class Shape
+    {
+
+        private final String[] keys;
+
+        private final boolean interned;
+
+        // only created for interned shapes on their first cached transition
+        private volatile ConcurrentMap<String, Shape> additions;
+
+        private Shape(final String[] keys, final boolean interned)
+        {
+            this.keys = keys;
+            this.interned = interned;
+        }
+
+        private static Shape of(final String[] sortedKeys)
+        {
+            final List<String> identity = Arrays.asList(sortedKeys);
+            Shape shape = INTERNED_SHAPES.get(identity);
+            if (shape == null)
+            {
+                if (INTERNED_SHAPES.size() < MAX_INTERNED_SHAPES)
+                {
+                    final Shape newShape = new Shape(sortedKeys, true);
+                    final Shape existing = INTERNED_SHAPES.putIfAbsent(identity, newShape);
+                    shape = existing != null ? existing : newShape;
+                }
+                else
+                {
+                    shape = new Shape(sortedKeys, false);
+                }
+            }
+            return shape;
+        }
+
+        private static Shape interned(final String[] sortedKeys)
+        {
+            return INTERNED_SHAPES.get(Arrays.asList(sortedKeys));
+        }
+
+        /**
+         * Retrieves the index of a property name within this shape.
+         *
+         * @param key
+         *            the property name
+         * @return the index of the property name if contained in this shape, otherwise {@code (-(insertion point) - 1)} as specified by
+         *         {@link Arrays#binarySearch(Object[], Object)}
+         */
+        int indexOf(final Object key)
+        {
+            return key == null || key instanceof String ? Arrays.binarySearch(this.keys, (String) key, KEY_ORDER)
+                    : -(this.keys.length + 1);
+        }
+
+        private Shape withKey(final String key, final int insertIdx)
+        {
+            // concurrent maps do not support null keys, so transitions for a null property name are never cached
+            final ConcurrentMap<String, Shape> additions = this.additions;
+            Shape shape = key != null && additions != null ? additions.get(key) : null;
+            if (shape == null)
+            {
+                final String[] keys = new String[this.keys.length + 1];
+                System.arraycopy(this.keys, 0, keys, 0, insertIdx);
+                System.arraycopy(this.keys, insertIdx, keys, insertIdx + 1, this.keys.length - insertIdx);
+                keys[insertIdx] = key;
+                shape = interned(keys);
+                // transitions are only cached between interned shapes to keep the number of cached transitions bounded
+                if (shape == null)
+                {
+                    shape = new Shape(keys, false);
+                }
+                else if (key != null && this.interned)
+                {
+                    this.additions().putIfAbsent(key, shape);
+                }
+            }
+            return shape;
+        }
+
+        private Shape withoutKey(final int idx)
+        {
+            final String[] keys = new String[this.keys.length - 1];
+            System.arraycopy(this.keys, 0, keys, 0, idx);
+            System.arraycopy(this.keys, idx + 1, keys, idx, keys.length - idx);
+            final Shape shape = interned(keys);
+            return shape != null ? shape : new Shape(keys, false);
+        }
+
+        private ConcurrentMap<String, Shape> additions()
+        {
+            ConcurrentMap<String, Shape> additions = this.additions;
+            if (additions == null)
+            {
+                synchronized (this)
+                {
+                    additions = this.additions;
+                    if (additions == null)
+                    {
+                        additions = new ConcurrentHashMap<>();
+                        this.additions = additions;
+                    }
+                }
+            }
+            return additions;
+        }
+    }
+
+    private class EntrySet extends AbstractSet<Map.Entry<String, Object>>
+    {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Iterator<Map.Entry<String, Object>> iterator()
+        {
+            return new EntryIterator();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int size()
+        {
+            return CompactPropertyMap.this.size();
+        }
+    }
+
+    private class EntryIterator implements Iterator<Map.Entry<String, Object>>
+    {
+
+        private int nextIdx;
+
+        private int lastIdx = -1;
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean hasNext()
+        {
+            return this.nextIdx < CompactPropertyMap.this.size();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Map.Entry<String, Object> next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            this.lastIdx = this.nextIdx++;
+            return new Entry(CompactPropertyMap.this.shape.keys[this.lastIdx]);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void remove()
+        {
+            if (this.lastIdx < 0)
+            {
+                throw new IllegalStateException();
+            }
+            CompactPropertyMap.this.removeAt(this.lastIdx);
+            this.nextIdx = this.lastIdx;
+            this.lastIdx = -1;
+        }
+    }
+
+    private class Entry implements Map.Entry<String, Object>
+    {
+
+        private final String key;
+
+        private Entry(final String key)
+        {
+            this.key = key;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String getKey()
+        {
+            return this.key;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Object getValue()
+        {
+            return CompactPropertyMap.this.get(this.key);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Object setValue(final Object value)
+        {
+            return CompactPropertyMap.this.put(this.key, value);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean equals(final Object obj)
+        {
+            boolean equals = false;
+            if (obj instanceof Map.Entry<?, ?>)
+            {
+                final Map.Entry<?, ?> other = (Map.Entry<?, ?>) obj;
+                equals = Objects.equals(this.key, other.getKey()) && Objects.equals(this.getValue(), other.getValue());
+            }
+            return equals;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int hashCode()
+        {
+            return Objects.hashCode(this.key) ^ Objects.hashCode(this.getValue());
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String toString()
+        {
+            return this.key + "=" + this.getValue();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.model.nodes;
+
+/**
+ * Instances of this record are the immutable variant of {@link ContentInfo}.
+ *
+ * @author Axel Faust
+ */
+public record ContentInfoRecord(String mimeType, String mimeTypeName, Long sizeInBytes, String encoding)
+{
+
+    /**
+     * Creates a record from the state of a content info.
+     *
+     * @param content
+     *            the content info - may be {@code null}
+     * @return the record or {@code null} if the content info was {@code null}
+     */
+    public static ContentInfoRecord from(final ContentInfo content)
+    {
+        return content != null
+                ? new ContentInfoRecord(content.getMimeType(), content.getMimeTypeName(), content.getSizeInBytes(), content.getEncoding())
+                : null;
+    }
+
+    /**
+     * Creates a new, mutable content info from the state of this record.
+     *
+     * @return the content info
+     */
+    public ContentInfo toBean()
+    {
+        final ContentInfo content = new ContentInfo();
+        content.setMimeType(this.mimeType);
+        content.setMimeTypeName(this.mimeTypeName);
+        content.setSizeInBytes(this.sizeInBytes);
+        content.setEncoding(this.encoding);
+        return content;
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.model.nodes;
+
+/**
+ * Instances of this class provide the basis for hash tables keyed by {@link NodeId#isPacked() packed} node IDs, storing the two
+ * {@code long} values of each key in a flat array using open addressing with linear probing, so that no objects are required per key. As
+ * the all-zero key is used to mark free slots, it is tracked separately. Keys are never removed individually, which keeps probing simple.
+ *
+ * @author Axel Faust
+ */
+abstract class LongPairHashTable
+{
+
+    private static final int MIN_CAPACITY = 16;
+
+    private static final float LOAD_FACTOR = 0.75f;
+
+    protected long[] keys;
+
+    protected int mask;
+
+    protected int size;
+
+    protected boolean containsZeroKey;
+
+    private int threshold;
+
+    protected LongPairHashTable(final int expectedSize)
+    {
+        if (expectedSize < 0)
+        {
+            throw new IllegalArgumentException("'expectedSize' must not be negative");
+        }
+        final int capacity = capacityFor(expectedSize);
+        this.allocate(capacity);
+        // sub-classes may not rely on field initializers for per-slot state as this is invoked before these are run
+        this.allocateSlots(capacity);
+        this.completeResize();
+    }
+
+    /**
+     * Retrieves the number of packed keys in this table.
+     *
+     * @return the number of packed keys
+     */
+    protected int packedSize()
+    {
+        return this.size + (this.containsZeroKey ? 1 : 0);
+    }
+
+    /**
+     * Looks up the slot for a non-zero key.
+     *
+     * @param mostSignificantBits
+     *            the most significant bits of the key
+     * @param leastSignificantBits
+     *            the least significant bits of the key
+     * @return the index of the slot containing the key if present, otherwise {@code (-(free slot) - 1)}
+     */
+    protected final int slotOf(final long mostSignificantBits, final long leastSignificantBits)
+    {
+        int slot = hash(mostSignificantBits, leastSignificantBits) & this.mask;
+        while (true)
+        {
+            final long keyMostSignificantBits = this.keys[slot << 1];
+            final long keyLeastSignificantBits = this.keys[(slot << 1) + 1];
+            if (keyMostSignificantBits == mostSignificantBits && keyLeastSignificantBits == leastSignificantBits)
+            {
+                return slot;
+            }
+            if (keyMostSignificantBits == 0 && keyLeastSignificantBits == 0)
+            {
+                return -slot - 1;
+            }
+            slot = (slot + 1) & this.mask;
+        }
+    }
+
+    /**
+     * Inserts a non-zero key into a free slot previously determined via {@link #slotOf(long, long) slotOf}. If this insert causes the
+     * table to exceed its load factor, the table is resized, and the slot of the inserted key is returned as it may have changed.
+     *
+     * @param slot
+     *            the free slot
+     * @param mostSignificantBits
+     *            the most significant bits of the key
+     * @param leastSignificantBits
+     *            the least significant bits of the key
+     * @return the slot of the inserted key
+     */
+    protected final int insert(final int slot, final long mostSignificantBits, final long leastSignificantBits)
+    {
+        this.keys[slot << 1] = mostSignificantBits;
+        this.keys[(slot << 1) + 1] = leastSignificantBits;
+        this.size++;
+
+        int effectiveSlot = slot;
+        if (this.size > this.threshold)
+        {
+            this.resize((this.mask + 1) << 1);
+            effectiveSlot = this.slotOf(mostSignificantBits, leastSignificantBits);
+        }
+        return effectiveSlot;
+    }
+
+    /**
+     * Removes all packed keys from this table.
+     */
+    protected void clearPacked()
+    {
+        this.allocate(MIN_CAPACITY);
+        this.allocateSlots(MIN_CAPACITY);
+        this.completeResize();
+        this.size = 0;
+        this.containsZeroKey = false;
+    }
+
+    /**
+     * Allocates any additional per-slot state when the table is (re-)allocated, to be put into effect on
+     * {@link #completeResize() completion}.
+     *
+     * @param capacity
+     *            the new number of slots
+     */
+    protected void allocateSlots(final int capacity)
+    {
+        // NO-OP
+    }
+
+    /**
+     * Moves any additional per-slot state when the table is resized.
+     *
+     * @param oldSlot
+     *            the slot in the previous table
+     * @param newSlot
+     *            the slot in the new table
+     */
+    protected void moveSlot(final int oldSlot, final int newSlot)
+    {
+        // NO-OP
+    }
+
+    /**
+     * Completes the (re-)allocation of the table, replacing any additional per-slot state of the previous table.
+     */
+    protected void completeResize()
+    {
+        // NO-OP
+    }
+
+    private void resize(final int capacity)
+    {
+        final long[] oldKeys = this.keys;
+        this.allocate(capacity);
+        this.allocateSlots(capacity);
+        for (int oldSlot = 0; oldSlot < oldKeys.length >> 1; oldSlot++)
+        {
+            final long mostSignificantBits = oldKeys[oldSlot << 1];
+            final long leastSignificantBits = oldKeys[(oldSlot << 1) + 1];
+            if (mostSignificantBits != 0 || leastSignificantBits != 0)
+            {
+                final int newSlot = -this.slotOf(mostSignificantBits, leastSignificantBits) - 1;
+                this.keys[newSlot << 1] = mostSignificantBits;
+                this.keys[(newSlot << 1) + 1] = leastSignificantBits;
+                this.moveSlot(oldSlot, newSlot);
+            }
+        }
+        this.completeResize();
+    }
+
+    private void allocate(final int capacity)
+    {
+        this.keys = new long[capacity << 1];
+        this.mask = capacity - 1;
+        this.threshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int capacityFor(final int expectedSize)
+    {
+        int capacity = MIN_CAPACITY;
+        while (capacity * LOAD_FACTOR < expectedSize)
+        {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private static int hash(final long mostSignificantBits, final long leastSignificantBits)
+    {
+        // mix both halves, as node IDs generated by Alfresco are random but some bits are fixed by the UUID version / variant
+        long hash = mostSignificantBits * 0x9E3779B97F4A7C15L + leastSignificantBits;
+        hash ^= hash >>> 32;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 29;
+        return (int) hash;
+    }
+}
@@ -16,8 +16,11 @@
 package de.acosix.alfresco.rest.client.model.nodes;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 /**
  * @author Axel Faust
  */
@@ -30,6 +33,8 @@ public class NodeCoreIdentity
 
     private List<String> aspectNames;
 
+    private List<String> aspectNamesView;
+
     /**
      * Creates a new instance of this value class.
      */
@@ -104,6 +109,37 @@ public class NodeCoreIdentity
     public void setAspectNames(final List<String> aspectNames)
     {
         this.aspectNames = aspectNames != null ? new ArrayList<>(aspectNames) : null;
+        this.aspectNamesView = null;
+    }
+
+    /**
+     * Sets the aspect names, taking ownership of the provided list instead of copying it. This operation is meant for deserializers handing
+     * over a freshly built list, which the caller must neither retain nor modify afterwards.
+     *
+     * @param aspectNames
+     *            the aspectNames to adopt
+     */
+    public void adoptAspectNames(final List<String> aspectNames)
+    {
+        this.aspectNames = aspectNames;
+        this.aspectNamesView = null;
+    }
+
+    /**
+     * Retrieves the aspect names as an unmodifiable view instead of a copy, e.g. for checking the aspects of many nodes in a listing.
+     *
+     * @return the unmodifiable view of the aspect names
+     */
+    @JsonIgnore
+    public List<String> getAspectNamesView()
+    {
+        List<String> aspectNamesView = this.aspectNamesView;
+        if (aspectNamesView == null && this.aspectNames != null)
+        {
+            aspectNamesView = Collections.unmodifiableList(this.aspectNames);
+            this.aspectNamesView = aspectNamesView;
+        }
+        return aspectNamesView;
     }
 
 }
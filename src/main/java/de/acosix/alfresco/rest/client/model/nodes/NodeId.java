@@ -0,0 +1,251 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.model.nodes;
+
+/**
+ * Instances of this class represent the ID of a node in a compact form. IDs in the UUID format used by Alfresco for all regular nodes, i.e.
+ * 36 characters of lower-case hexadecimal digits in groups of 8-4-4-4-12 separated by hyphens, are packed into two {@code long} values,
+ * requiring less than half the memory of the string form. Any other IDs, e.g. pseudo IDs such as {@code -root-} or IDs using upper-case
+ * digits which would not be restored to the exact same string, are kept in their string form. Parsing and formatting of packed IDs is
+ * performed in a single pass over the characters without using regular expressions.
+ *
+ * Sets and maps of node IDs which avoid any objects per element / entry for packed IDs are provided by {@link NodeIdSet} and
+ * {@link NodeIdMap}.
+ *
+ * @author Axel Faust
+ */
+public final class NodeId
+{
+
+    private static final int UUID_LENGTH = 36;
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private final long mostSignificantBits;
+
+    private final long leastSignificantBits;
+
+    private final String id;
+
+    private NodeId(final long mostSignificantBits, final long leastSignificantBits, final String id)
+    {
+        this.mostSignificantBits = mostSignificantBits;
+        this.leastSignificantBits = leastSignificantBits;
+        this.id = id;
+    }
+
+    /**
+     * Obtains the node ID for a string representation.
+     *
+     * @param id
+     *            the string representation of the node ID
+     * @return the node ID
+     */
+    public static NodeId of(final String id)
+    {
+        if (id == null)
+        {
+            throw new IllegalArgumentException("'id' must not be null");
+        }
+
+        boolean packable = id.length() == UUID_LENGTH;
+        long mostSignificantBits = 0;
+        long leastSignificantBits = 0;
+        int digits = 0;
+        for (int idx = 0; packable && idx < UUID_LENGTH; idx++)
+        {
+            final char c = id.charAt(idx);
+            if (idx == 8 || idx == 13 || idx == 18 || idx == 23)
+            {
+                packable = c == '-';
+            }
+            else
+            {
+                final int value = hexValue(c);
+                packable = value >= 0;
+                if (digits++ < 16)
+                {
+                    mostSignificantBits = (mostSignificantBits << 4) | value;
+                }
+                else
+                {
+                    leastSignificantBits = (leastSignificantBits << 4) | value;
+                }
+            }
+        }
+
+        return packable ? new NodeId(mostSignificantBits, leastSignificantBits, null) : new NodeId(0, 0, id);
+    }
+
+    /**
+     * Obtains the node ID for a packed representation.
+     *
+     * @param mostSignificantBits
+     *            the most significant bits of the packed representation
+     * @param leastSignificantBits
+     *            the least significant bits of the packed representation
+     * @return the node ID
+     */
+    public static NodeId of(final long mostSignificantBits, final long leastSignificantBits)
+    {
+        return new NodeId(mostSignificantBits, leastSignificantBits, null);
+    }
+
+    /**
+     * Obtains the node ID for a string representation which may be {@code null}.
+     *
+     * @param id
+     *            the string representation of the node ID - may be {@code null}
+     * @return the node ID, or {@code null} if the string representation was {@code null}
+     */
+    static NodeId ofNullable(final String id)
+    {
+        return id != null ? of(id) : null;
+    }
+
+    /**
+     * Checks whether this node ID is held in packed form.
+     *
+     * @return {@code true} if this node ID is held in packed form, {@code false} if it is held in string form
+     */
+    public boolean isPacked()
+    {
+        return this.id == null;
+    }
+
+    /**
+     * Retrieves the most significant bits of the packed representation of this node ID.
+     *
+     * @return the most significant bits
+     * @throws IllegalStateException
+     *             if this node ID is not {@link #isPacked() packed}
+     */
+    public long getMostSignificantBits()
+    {
+        if (this.id != null)
+        {
+            throw new IllegalStateException("Node ID " + this.id + " is not packed");
+        }
+        return this.mostSignificantBits;
+    }
+
+    /**
+     * Retrieves the least significant bits of the packed representation of this node ID.
+     *
+     * @return the least significant bits
+     * @throws IllegalStateException
+     *             if this node ID is not {@link #isPacked() packed}
+     */
+    public long getLeastSignificantBits()
+    {
+        if (this.id != null)
+        {
+            throw new IllegalStateException("Node ID " + this.id + " is not packed");
+        }
+        return this.leastSignificantBits;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode()
+    {
+        return this.id != null ? this.id.hashCode() : Long.hashCode(this.mostSignificantBits ^ this.leastSignificantBits);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object obj)
+    {
+        boolean equals = this == obj;
+        if (!equals && obj instanceof NodeId)
+        {
+            final NodeId other = (NodeId) obj;
+            if (this.id != null)
+            {
+                equals = this.id.equals(other.id);
+            }
+            else
+            {
+                equals = other.id == null && this.mostSignificantBits == other.mostSignificantBits
+                        && this.leastSignificantBits == other.leastSignificantBits;
+            }
+        }
+        return equals;
+    }
+
+    /**
+     * Retrieves the string representation of this node ID, as used in the Alfresco v1 ReST API.
+     *
+     * @return the string representation
+     */
+    @Override
+    public String toString()
+    {
+        return this.id != null ? this.id : format(this.mostSignificantBits, this.leastSignificantBits);
+    }
+
+    /**
+     * Formats the string representation of a packed node ID.
+     *
+     * @param mostSignificantBits
+     *            the most significant bits of the packed representation
+     * @param leastSignificantBits
+     *            the least significant bits of the packed representation
+     * @return the string representation
+     */
+    static String format(final long mostSignificantBits, final long leastSignificantBits)
+    {
+        final char[] chars = new char[UUID_LENGTH];
+        int digits = 0;
+        for (int idx = 0; idx < UUID_LENGTH; idx++)
+        {
+            if (idx == 8 || idx == 13 || idx == 18 || idx == 23)
+            {
+                chars[idx] = '-';
+            }
+            else
+            {
+                final long bits = digits < 16 ? mostSignificantBits : leastSignificantBits;
+                final int shift = (15 - (digits % 16)) * 4;
+                chars[idx] = HEX_DIGITS[(int) ((bits >>> shift) & 0xf)];
+                digits++;
+            }
+        }
+        return new String(chars);
+    }
+
+    private static int hexValue(final char c)
+    {
+        final int value;
+        if (c >= '0' && c <= '9')
+        {
+            value = c - '0';
+        }
+        else if (c >= 'a' && c <= 'f')
+        {
+            value = c - 'a' + 10;
+        }
+        else
+        {
+            value = -1;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,274 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.model.nodes;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Instances of this class map {@link NodeId node IDs} to values, e.g. to track the state of nodes visited in a traversal. Packed node IDs
+ * are held as pairs of {@code long} values in a flat hash table with a parallel array of values, without any objects per entry, while node
+ * IDs in string form are held in a regular map. Entries cannot be removed individually. Like {@link HashMap}, instances of this class are
+ * not thread-safe.
+ *
+ * @param <V>
+ *            the type of values
+ * @author Axel Faust
+ */
+public final class NodeIdMap<V> extends LongPairHashTable
+{
+
+    // no field initializers for per-slot state - see LongPairHashTable
+    private Object[] values;
+
+    private Object[] resizedValues;
+
+    private V zeroKeyValue;
+
+    private Map<String, V> unpacked;
+
+    /**
+     * Creates a new, empty instance of this class.
+     */
+    public NodeIdMap()
+    {
+        this(0);
+    }
+
+    /**
+     * Creates a new, empty instance of this class.
+     *
+     * @param expectedSize
+     *            the number of entries expected to be added, so that the map does not need to be resized until that number is exceeded
+     */
+    public NodeIdMap(final int expectedSize)
+    {
+        super(expectedSize);
+    }
+
+    /**
+     * Associates a value with a node ID in this map.
+     *
+     * @param nodeId
+     *            the node ID
+     * @param value
+     *            the value to associate with the node ID
+     * @return the value previously associated with the node ID, or {@code null} if the node ID was not contained in this map
+     */
+    public V put(final NodeId nodeId, final V value)
+    {
+        if (nodeId == null)
+        {
+            throw new IllegalArgumentException("'nodeId' must not be null");
+        }
+
+        final V previousValue;
+        if (nodeId.isPacked())
+        {
+            previousValue = this.put(nodeId.getMostSignificantBits(), nodeId.getLeastSignificantBits(), value);
+        }
+        else
+        {
+            if (this.unpacked == null)
+            {
+                this.unpacked = new HashMap<>();
+            }
+            previousValue = this.unpacked.put(nodeId.toString(), value);
+        }
+        return previousValue;
+    }
+
+    /**
+     * Associates a value with a packed node ID in this map.
+     *
+     * @param mostSignificantBits
+     *            the most significant bits of the packed node ID
+     * @param leastSignificantBits
+     *            the least significant bits of the packed node ID
+     * @param value
+     *            the value to associate with the node ID
+     * @return the value previously associated with the node ID, or {@code null} if the node ID was not contained in this map
+     */
+    public V put(final long mostSignificantBits, final long leastSignificantBits, final V value)
+    {
+        final V previousValue;
+        if (mostSignificantBits == 0 && leastSignificantBits == 0)
+        {
+            previousValue = this.zeroKeyValue;
+            this.zeroKeyValue = value;
+            this.containsZeroKey = true;
+        }
+        else
+        {
+            int slot = this.slotOf(mostSignificantBits, leastSignificantBits);
+            if (slot >= 0)
+            {
+                previousValue = this.valueAt(slot);
+            }
+            else
+            {
+                previousValue = null;
+                slot = this.insert(-slot - 1, mostSignificantBits, leastSignificantBits);
+            }
+            this.values[slot] = value;
+        }
+        return previousValue;
+    }
+
+    /**
+     * Retrieves the value associated with a node ID in this map.
+     *
+     * @param nodeId
+     *            the node ID
+     * @return the value associated with the node ID, or {@code null} if the node ID is not contained in this map
+     */
+    public V get(final NodeId nodeId)
+    {
+        final V value;
+        if (nodeId == null)
+        {
+            value = null;
+        }
+        else if (nodeId.isPacked())
+        {
+            value = this.get(nodeId.getMostSignificantBits(), nodeId.getLeastSignificantBits());
+        }
+        else
+        {
+            value = this.unpacked != null ? this.unpacked.get(nodeId.toString()) : null;
+        }
+        return value;
+    }
+
+    /**
+     * Retrieves the value associated with a packed node ID in this map.
+     *
+     * @param mostSignificantBits
+     *            the most significant bits of the packed node ID
+     * @param leastSignificantBits
+     *            the least significant bits of the packed node ID
+     * @return the value associated with the node ID, or {@code null} if the node ID is not contained in this map
+     */
+    public V get(final long mostSignificantBits, final long leastSignificantBits)
+    {
+        final V value;
+        if (mostSignificantBits == 0 && leastSignificantBits == 0)
+        {
+            value = this.zeroKeyValue;
+        }
+        else
+        {
+            final int slot = this.slotOf(mostSignificantBits, leastSignificantBits);
+            value = slot >= 0 ? this.valueAt(slot) : null;
+        }
+        return value;
+    }
+
+    /**
+     * Checks whether a node ID is contained in this map.
+     *
+     * @param nodeId
+     *            the node ID to check
+     * @return {@code true} if the node ID is contained in this map, {@code false} otherwise
+     */
+    public boolean containsKey(final NodeId nodeId)
+    {
+        final boolean contains;
+        if (nodeId == null)
+        {
+            contains = false;
+        }
+        else if (nodeId.isPacked())
+        {
+            final long mostSignificantBits = nodeId.getMostSignificantBits();
+            final long leastSignificantBits = nodeId.getLeastSignificantBits();
+            contains = mostSignificantBits == 0 && leastSignificantBits == 0 ? this.containsZeroKey
+                    : this.slotOf(mostSignificantBits, leastSignificantBits) >= 0;
+        }
+        else
+        {
+            contains = this.unpacked != null && this.unpacked.containsKey(nodeId.toString());
+        }
+        return contains;
+    }
+
+    /**
+     * Retrieves the number of node IDs contained in this map.
+     *
+     * @return the number of node IDs
+     */
+    public int size()
+    {
+        return this.packedSize() + (this.unpacked != null ? this.unpacked.size() : 0);
+    }
+
+    /**
+     * Checks whether this map is empty.
+     *
+     * @return {@code true} if this map does not contain any node IDs, {@code false} otherwise
+     */
+    public boolean isEmpty()
+    {
+        return this.size() == 0;
+    }
+
+    /**
+     * Removes all entries from this map.
+     */
+    public void clear()
+    {
+        this.clearPacked();
+        this.zeroKeyValue = null;
+        this.unpacked = null;
+    }
+
+    /**
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    protected void allocateSlots(final int capacity)
+    {
+        this.resizedValues = new Object[capacity];
+    }
+
+    /**
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    protected void moveSlot(final int oldSlot, final int newSlot)
+    {
+        this.resizedValues[newSlot] = this.values[oldSlot];
+    }
+
+    /**
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    protected void completeResize()
+    {
+        this.values = this.resizedValues;
+        this.resizedValues = null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private V valueAt(final int slot)
+    {
+        return (V) this.values[slot];
+    }
+}
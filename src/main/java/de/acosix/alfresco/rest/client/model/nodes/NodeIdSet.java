@@ -0,0 +1,212 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.model.nodes;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Instances of this class track a set of {@link NodeId node IDs}, e.g. the nodes already visited in a traversal. Packed node IDs are held
+ * as pairs of {@code long} values in a flat hash table without any objects per element, while node IDs in string form are held in a
+ * regular set. Elements cannot be removed individually. Like {@link HashSet}, instances of this class are not thread-safe.
+ *
+ * @author Axel Faust
+ */
+public final class NodeIdSet extends LongPairHashTable
+{
+
+    private Set<String> unpacked;
+
+    /**
+     * Creates a new, empty instance of this class.
+     */
+    public NodeIdSet()
+    {
+        this(0);
+    }
+
+    /**
+     * Creates a new, empty instance of this class.
+     *
+     * @param expectedSize
+     *            the number of elements expected to be added, so that the set does not need to be resized until that number is
+     *            exceeded
+     */
+    public NodeIdSet(final int expectedSize)
+    {
+        super(expectedSize);
+    }
+
+    /**
+     * Adds a node ID to this set.
+     *
+     * @param nodeId
+     *            the node ID to add
+     * @return {@code true} if the node ID was added, {@code false} if it already was contained in this set
+     */
+    public boolean add(final NodeId nodeId)
+    {
+        if (nodeId == null)
+        {
+            throw new IllegalArgumentException("'nodeId' must not be null");
+        }
+
+        final boolean added;
+        if (nodeId.isPacked())
+        {
+            added = this.add(nodeId.getMostSignificantBits(), nodeId.getLeastSignificantBits());
+        }
+        else
+        {
+            if (this.unpacked == null)
+            {
+                this.unpacked = new HashSet<>();
+            }
+            added = this.unpacked.add(nodeId.toString());
+        }
+        return added;
+    }
+
+    /**
+     * Adds a node ID to this set.
+     *
+     * @param nodeId
+     *            the string representation of the node ID to add
+     * @return {@code true} if the node ID was added, {@code false} if it already was contained in this set
+     */
+    public boolean add(final String nodeId)
+    {
+        return this.add(NodeId.of(nodeId));
+    }
+
+    /**
+     * Adds a packed node ID to this set.
+     *
+     * @param mostSignificantBits
+     *            the most significant bits of the packed node ID
+     * @param leastSignificantBits
+     *            the least significant bits of the packed node ID
+     * @return {@code true} if the node ID was added, {@code false} if it already was contained in this set
+     */
+    public boolean add(final long mostSignificantBits, final long leastSignificantBits)
+    {
+        boolean added;
+        if (mostSignificantBits == 0 && leastSignificantBits == 0)
+        {
+            added = !this.containsZeroKey;
+            this.containsZeroKey = true;
+        }
+        else
+        {
+            final int slot = this.slotOf(mostSignificantBits, leastSignificantBits);
+            added = slot < 0;
+            if (added)
+            {
+                this.insert(-slot - 1, mostSignificantBits, leastSignificantBits);
+            }
+        }
+        return added;
+    }
+
+    /**
+     * Checks whether a node ID is contained in this set.
+     *
+     * @param nodeId
+     *            the node ID to check
+     * @return {@code true} if the node ID is contained in this set, {@code false} otherwise
+     */
+    public boolean contains(final NodeId nodeId)
+    {
+        final boolean contains;
+        if (nodeId == null)
+        {
+            contains = false;
+        }
+        else if (nodeId.isPacked())
+        {
+            contains = this.contains(nodeId.getMostSignificantBits(), nodeId.getLeastSignificantBits());
+        }
+        else
+        {
+            contains = this.unpacked != null && this.unpacked.contains(nodeId.toString());
+        }
+        return contains;
+    }
+
+    /**
+     * Checks whether a node ID is contained in this set.
+     *
+     * @param nodeId
+     *            the string representation of the node ID to check
+     * @return {@code true} if the node ID is contained in this set, {@code false} otherwise
+     */
+    public boolean contains(final String nodeId)
+    {
+        return nodeId != null && this.contains(NodeId.of(nodeId));
+    }
+
+    /**
+     * Checks whether a packed node ID is contained in this set.
+     *
+     * @param mostSignificantBits
+     *            the most significant bits of the packed node ID
+     * @param leastSignificantBits
+     *            the least significant bits of the packed node ID
+     * @return {@code true} if the node ID is contained in this set, {@code false} otherwise
+     */
+    public boolean contains(final long mostSignificantBits, final long leastSignificantBits)
+    {
+        final boolean contains;
+        if (mostSignificantBits == 0 && leastSignificantBits == 0)
+        {
+            contains = this.containsZeroKey;
+        }
+        else
+        {
+            contains = this.slotOf(mostSignificantBits, leastSignificantBits) >= 0;
+        }
+        return contains;
+    }
+
+    /**
+     * Retrieves the number of node IDs contained in this set.
+     *
+     * @return the number of node IDs
+     */
+    public int size()
+    {
+        return this.packedSize() + (this.unpacked != null ? this.unpacked.size() : 0);
+    }
+
+    /**
+     * Checks whether this set is empty.
+     *
+     * @return {@code true} if this set does not contain any node IDs, {@code false} otherwise
+     */
+    public boolean isEmpty()
+    {
+        return this.size() == 0;
+    }
+
+    /**
+     * Removes all node IDs from this set.
+     */
+    public void clear()
+    {
+        this.clearPacked();
+        this.unpacked = null;
+    }
+}
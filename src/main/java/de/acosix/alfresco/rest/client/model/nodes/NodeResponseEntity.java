@@ -15,11 +15,16 @@
  */
 package de.acosix.alfresco.rest.client.model.nodes;
 
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import de.acosix.alfresco.rest.client.jackson.Wrapped;
 import de.acosix.alfresco.rest.client.jackson.Wrapped.WrapType;
+import de.acosix.alfresco.rest.client.model.common.Timestamps;
 import de.acosix.alfresco.rest.client.model.common.UserInfo;
 
 /**
@@ -41,12 +46,18 @@ public class NodeResponseEntity extends CommonNodeEntity<ResponsePermissionsInfo
 
     private Boolean isFavorite;
 
+    // only set if the textual value is not in the canonical format and thus cannot be restored from its epoch milliseconds form
     private String createdAt;
 
+    private long createdAtEpochMillis = Timestamps.NO_EPOCH_MILLIS;
+
     private UserInfo createdByUser;
 
+    // only set if the textual value is not in the canonical format and thus cannot be restored from its epoch milliseconds form
     private String modifiedAt;
 
+    private long modifiedAtEpochMillis = Timestamps.NO_EPOCH_MILLIS;
+
     private UserInfo modifiedByUser;
 
     private String parentId;
@@ -81,19 +92,14 @@ public class NodeResponseEntity extends CommonNodeEntity<ResponsePermissionsInfo
         this.isLocked = reference.getIsLocked();
         this.isLink = reference.getIsLink();
         this.isFavorite = reference.getIsFavorite();
-        this.createdAt = reference.getCreatedAt();
-        final UserInfo createdByUser = reference.getCreatedByUser();
-        if (createdByUser != null)
-        {
-            this.createdByUser = new UserInfo(createdByUser);
-        }
+        this.createdAt = reference.createdAt;
+        this.createdAtEpochMillis = reference.createdAtEpochMillis;
+        // shared user info instances are immutable and do not need to be copied
+        this.createdByUser = UserInfo.copyOf(reference.getCreatedByUser());
 
-        this.modifiedAt = reference.getModifiedAt();
-        final UserInfo modifiedByUser = reference.getModifiedByUser();
-        if (modifiedByUser != null)
-        {
-            this.modifiedByUser = new UserInfo(modifiedByUser);
-        }
+        this.modifiedAt = reference.modifiedAt;
+        this.modifiedAtEpochMillis = reference.modifiedAtEpochMillis;
+        this.modifiedByUser = UserInfo.copyOf(reference.getModifiedByUser());
 
         this.parentId = reference.getParentId();
 
@@ -133,6 +139,18 @@ public class NodeResponseEntity extends CommonNodeEntity<ResponsePermissionsInfo
         this.id = id;
     }
 
+    /**
+     * Retrieves the ID of this node in its compact {@link NodeId} form, e.g. for tracking it in a {@link NodeIdSet} or
+     * {@link NodeIdMap}.
+     *
+     * @return the ID of this node, or {@code null} if not set
+     */
+    @JsonIgnore
+    public NodeId getNodeId()
+    {
+        return NodeId.ofNullable(this.id);
+    }
+
     /**
      * @return the isFolder
      */
@@ -223,16 +241,77 @@ public class NodeResponseEntity extends CommonNodeEntity<ResponsePermissionsInfo
      */
     public String getCreatedAt()
     {
-        return this.createdAt;
+        // only the epoch milliseconds form is retained for a value in the canonical format
+        return this.createdAt != null || this.createdAtEpochMillis == Timestamps.NO_EPOCH_MILLIS ? this.createdAt
+                : Timestamps.format(this.createdAtEpochMillis);
     }
 
     /**
+     * Sets the creation timestamp. The textual value is parsed immediately, and only retained as is if it is not in the canonical
+     * format of the Alfresco v1 ReST API, i.e. if it cannot be restored from its epoch milliseconds form.
+     *
      * @param createdAt
      *            the createdAt to set
      */
     public void setCreatedAt(final String createdAt)
     {
-        this.createdAt = createdAt;
+        final long canonicalEpochMillis = Timestamps.parseCanonicalEpochMillis(createdAt);
+        if (canonicalEpochMillis != Timestamps.NO_EPOCH_MILLIS)
+        {
+            this.createdAt = null;
+            this.createdAtEpochMillis = canonicalEpochMillis;
+        }
+        else
+        {
+            this.createdAt = createdAt;
+            this.createdAtEpochMillis = Timestamps.tryParseEpochMillis(createdAt);
+        }
+    }
+
+    /**
+     * Retrieves the creation timestamp in milliseconds since the epoch. In contrast to {@link #getCreatedAtInstant()}, this operation
+     * never allocates any object.
+     *
+     * @return the createdAt in milliseconds since the epoch or {@link Timestamps#NO_EPOCH_MILLIS} if not set or not parseable
+     */
+    @JsonIgnore
+    public long getCreatedAtEpochMillis()
+    {
+        return this.createdAtEpochMillis;
+    }
+
+    /**
+     * Retrieves the creation timestamp as an instant.
+     *
+     * @return the createdAt as an instant or {@code null} if not set
+     * @throws DateTimeParseException
+     *             if the textual value set for the timestamp could not be parsed
+     */
+    @JsonIgnore
+    public Instant getCreatedAtInstant()
+    {
+        Instant instant = null;
+        if (this.createdAtEpochMillis != Timestamps.NO_EPOCH_MILLIS)
+        {
+            instant = Instant.ofEpochMilli(this.createdAtEpochMillis);
+        }
+        else if (this.createdAt != null)
+        {
+            // failure to parse was already determined when the value was set
+            throw new DateTimeParseException("Text '" + this.createdAt + "' could not be parsed as a timestamp", this.createdAt, 0);
+        }
+        return instant;
+    }
+
+    /**
+     * @param createdAtInstant
+     *            the createdAt to set as an instant
+     */
+    @JsonIgnore
+    public void setCreatedAtInstant(final Instant createdAtInstant)
+    {
+        this.createdAt = null;
+        this.createdAtEpochMillis = createdAtInstant != null ? createdAtInstant.toEpochMilli() : Timestamps.NO_EPOCH_MILLIS;
     }
 
     /**
@@ -257,16 +336,77 @@ public class NodeResponseEntity extends CommonNodeEntity<ResponsePermissionsInfo
      */
     public String getModifiedAt()
     {
-        return this.modifiedAt;
+        // only the epoch milliseconds form is retained for a value in the canonical format
+        return this.modifiedAt != null || this.modifiedAtEpochMillis == Timestamps.NO_EPOCH_MILLIS ? this.modifiedAt
+                : Timestamps.format(this.modifiedAtEpochMillis);
     }
 
     /**
+     * Sets the modification timestamp. The textual value is parsed immediately, and only retained as is if it is not in the canonical
+     * format of the Alfresco v1 ReST API, i.e. if it cannot be restored from its epoch milliseconds form.
+     *
      * @param modifiedAt
      *            the modifiedAt to set
      */
     public void setModifiedAt(final String modifiedAt)
     {
-        this.modifiedAt = modifiedAt;
+        final long canonicalEpochMillis = Timestamps.parseCanonicalEpochMillis(modifiedAt);
+        if (canonicalEpochMillis != Timestamps.NO_EPOCH_MILLIS)
+        {
+            this.modifiedAt = null;
+            this.modifiedAtEpochMillis = canonicalEpochMillis;
+        }
+        else
+        {
+            this.modifiedAt = modifiedAt;
+            this.modifiedAtEpochMillis = Timestamps.tryParseEpochMillis(modifiedAt);
+        }
+    }
+
+    /**
+     * Retrieves the modification timestamp in milliseconds since the epoch. In contrast to {@link #getModifiedAtInstant()}, this operation
+     * never allocates any object.
+     *
+     * @return the modifiedAt in milliseconds since the epoch or {@link Timestamps#NO_EPOCH_MILLIS} if not set or not parseable
+     */
+    @JsonIgnore
+    public long getModifiedAtEpochMillis()
+    {
+        return this.modifiedAtEpochMillis;
+    }
+
+    /**
+     * Retrieves the modification timestamp as an instant.
+     *
+     * @return the modifiedAt as an instant or {@code null} if not set
+     * @throws DateTimeParseException
+     *             if the textual value set for the timestamp could not be parsed
+     */
+    @JsonIgnore
+    public Instant getModifiedAtInstant()
+    {
+        Instant instant = null;
+        if (this.modifiedAtEpochMillis != Timestamps.NO_EPOCH_MILLIS)
+        {
+            instant = Instant.ofEpochMilli(this.modifiedAtEpochMillis);
+        }
+        else if (this.modifiedAt != null)
+        {
+            // failure to parse was already determined when the value was set
+            throw new DateTimeParseException("Text '" + this.modifiedAt + "' could not be parsed as a timestamp", this.modifiedAt, 0);
+        }
+        return instant;
+    }
+
+    /**
+     * @param modifiedAtInstant
+     *            the modifiedAt to set as an instant
+     */
+    @JsonIgnore
+    public void setModifiedAtInstant(final Instant modifiedAtInstant)
+    {
+        this.modifiedAt = null;
+        this.modifiedAtEpochMillis = modifiedAtInstant != null ? modifiedAtInstant.toEpochMilli() : Timestamps.NO_EPOCH_MILLIS;
     }
 
     /**
@@ -303,6 +443,18 @@ public class NodeResponseEntity extends CommonNodeEntity<ResponsePermissionsInfo
         this.parentId = parentId;
     }
 
+    /**
+     * Retrieves the ID of the parent node in its compact {@link NodeId} form, e.g. for checking whether the parent has already been
+     * visited in a traversal.
+     *
+     * @return the ID of the parent node, or {@code null} if not set
+     */
+    @JsonIgnore
+    public NodeId getParentNodeId()
+    {
+        return NodeId.ofNullable(this.parentId);
+    }
+
     /**
      * @return the content
      */
@@ -337,6 +489,18 @@ public class NodeResponseEntity extends CommonNodeEntity<ResponsePermissionsInfo
         this.allowableOperations = allowableOperations != null ? new ArrayList<>(allowableOperations) : null;
     }
 
+    /**
+     * Sets the allowable operations, taking ownership of the provided list instead of copying it. This operation is meant for deserializers
+     * handing over a freshly built list, which the caller must neither retain nor modify afterwards.
+     *
+     * @param allowableOperations
+     *            the allowableOperations to adopt
+     */
+    public void adoptAllowableOperations(final List<String> allowableOperations)
+    {
+        this.allowableOperations = allowableOperations;
+    }
+
     /**
      * @return the path
      */
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.model.nodes;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import de.acosix.alfresco.rest.client.jackson.Wrapped;
+import de.acosix.alfresco.rest.client.jackson.Wrapped.WrapType;
+import de.acosix.alfresco.rest.client.model.common.ImmutableValues;
+import de.acosix.alfresco.rest.client.model.common.Timestamps;
+import de.acosix.alfresco.rest.client.model.common.UserInfoRecord;
+
+/**
+ * Instances of this record are the immutable variant of {@link NodeResponseEntity}. All collections - including multi-valued property
+ * values - are unmodifiable, so instances can be shared between threads or kept in caches without the defensive copies required for the
+ * mutable entity.
+ *
+ * @author Axel Faust
+ */
+@Wrapped(WrapType.ENTRY)
+public record NodeResponseRecord(String id, String name, String nodeType, Boolean isFolder, Boolean isFile, Boolean isLocked,
+        Boolean isLink, Boolean isFavorite, String createdAt, UserInfoRecord createdByUser, String modifiedAt,
+        UserInfoRecord modifiedByUser, String parentId, ContentInfoRecord content, List<String> aspectNames, Map<String, Object> properties,
+        List<String> allowableOperations, PathInfoRecord path, ResponsePermissionsInfoRecord permissions)
+{
+
+    /**
+     * Creates a new instance of this record.
+     */
+    public NodeResponseRecord
+    {
+        aspectNames = ImmutableValues.listOf(aspectNames);
+        properties = CompactPropertyMap.unmodifiableCopyOf(properties);
+        allowableOperations = ImmutableValues.listOf(allowableOperations);
+    }
+
+    /**
+     * Creates a record from the state of a node.
+     *
+     * @param node
+     *            the node - may be {@code null}
+     * @return the record or {@code null} if the node was {@code null}
+     */
+    public static NodeResponseRecord from(final NodeResponseEntity node)
+    {
+        return node != null ? new NodeResponseRecord(node.getId(), node.getName(), node.getNodeType(), node.getIsFolder(),
+                node.getIsFile(), node.getIsLocked(), node.getIsLink(), node.getIsFavorite(), node.getCreatedAt(),
+                UserInfoRecord.from(node.getCreatedByUser()), node.getModifiedAt(), UserInfoRecord.from(node.getModifiedByUser()),
+                node.getParentId(), ContentInfoRecord.from(node.getContent()), node.getAspectNamesView(), node.getPropertiesView(),
+                node.getAllowableOperations(), PathInfoRecord.from(node.getPath()),
+                ResponsePermissionsInfoRecord.from(node.getPermissions())) : null;
+    }
+
+    /**
+     * Retrieves the ID of the node in its compact form.
+     *
+     * @return the node ID or {@code null} if the ID is not set
+     */
+    public NodeId nodeId()
+    {
+        return NodeId.ofNullable(this.id);
+    }
+
+    /**
+     * Retrieves the ID of the parent node in its compact form.
+     *
+     * @return the parent node ID or {@code null} if the parent ID is not set
+     */
+    public NodeId parentNodeId()
+    {
+        return NodeId.ofNullable(this.parentId);
+    }
+
+    /**
+     * Retrieves the creation timestamp as an instant, parsing the textual value on every call.
+     *
+     * @return the createdAt as an instant or {@code null} if not set
+     */
+    public Instant createdAtInstant()
+    {
+        return this.createdAt != null ? Timestamps.parse(this.createdAt) : null;
+    }
+
+    /**
+     * Retrieves the modification timestamp as an instant, parsing the textual value on every call.
+     *
+     * @return the modifiedAt as an instant or {@code null} if not set
+     */
+    public Instant modifiedAtInstant()
+    {
+        return this.modifiedAt != null ? Timestamps.parse(this.modifiedAt) : null;
+    }
+
+    /**
+     * Creates a new, mutable node from the state of this record.
+     *
+     * @return the node
+     */
+    public NodeResponseEntity toBean()
+    {
+        return this.copyInto(new NodeResponseEntity());
+    }
+
+    /**
+     * Copies the state of this record into a mutable node.
+     *
+     * @param <E>
+     *            the type of node
+     * @param node
+     *            the node to copy into
+     * @return the node
+     */
+    <E extends NodeResponseEntity> E copyInto(final E node)
+    {
+        node.setId(this.id);
+        node.setName(this.name);
+        node.setNodeType(this.nodeType);
+        node.setIsFolder(this.isFolder);
+        node.setIsFile(this.isFile);
+        node.setIsLocked(this.isLocked);
+        node.setIsLink(this.isLink);
+        node.setIsFavorite(this.isFavorite);
+        node.setCreatedAt(this.createdAt);
+        node.setCreatedByUser(this.createdByUser != null ? this.createdByUser.toBean() : null);
+        node.setModifiedAt(this.modifiedAt);
+        node.setModifiedByUser(this.modifiedByUser != null ? this.modifiedByUser.toBean() : null);
+        node.setParentId(this.parentId);
+        node.setContent(this.content != null ? this.content.toBean() : null);
+        node.setAspectNames(this.aspectNames);
+        // property values are immutable and remain shared
+        node.setProperties(this.properties);
+        node.setAllowableOperations(this.allowableOperations);
+        node.setPath(this.path != null ? this.path.toBean() : null);
+        node.setPermissions(this.permissions != null ? this.permissions.toBean() : null);
+        return node;
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.model.nodes;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import de.acosix.alfresco.rest.client.jackson.Wrapped;
+import de.acosix.alfresco.rest.client.jackson.Wrapped.WrapType;
+import de.acosix.alfresco.rest.client.model.common.ImmutableValues;
+import de.acosix.alfresco.rest.client.model.common.PaginationInfoRecord;
+import de.acosix.alfresco.rest.client.model.nodes.PaginatedNodeChildrenList.NodeSourceEnitity;
+
+/**
+ * Instances of this record are the immutable variant of {@link PaginatedNodeChildrenList}.
+ *
+ * @author Axel Faust
+ */
+@Wrapped(WrapType.LIST)
+public record PaginatedNodeChildrenListRecord(PaginationInfoRecord pagination, List<ChildNodeResponseRecord> entries,
+        NodeResponseRecord source)
+{
+
+    /**
+     * Creates a new instance of this record.
+     */
+    public PaginatedNodeChildrenListRecord
+    {
+        entries = ImmutableValues.listOf(entries);
+    }
+
+    /**
+     * Creates a new instance of this record from its JSON representation. In contrast to all other nodes in responses, the source node is
+     * not {@link Wrapped wrapped} and thus read via the mutable entity before being converted.
+     *
+     * @param pagination
+     *            the pagination
+     * @param entries
+     *            the entries
+     * @param source
+     *            the source node
+     * @return the record
+     */
+    @JsonCreator
+    static PaginatedNodeChildrenListRecord fromJson(@JsonProperty("pagination") final PaginationInfoRecord pagination,
+            @JsonProperty("entries") final List<ChildNodeResponseRecord> entries, @JsonProperty("source") final NodeSourceEnitity source)
+    {
+        return new PaginatedNodeChildrenListRecord(pagination, entries, NodeResponseRecord.from(source));
+    }
+
+    /**
+     * Creates a record from the state of a paginated list of child nodes.
+     *
+     * @param list
+     *            the paginated list - may be {@code null}
+     * @return the record or {@code null} if the paginated list was {@code null}
+     */
+    public static PaginatedNodeChildrenListRecord from(final PaginatedNodeChildrenList list)
+    {
+        return list != null ? new PaginatedNodeChildrenListRecord(PaginationInfoRecord.from(list.getPagination()),
+                ImmutableValues.listOf(list.getEntriesView(), ChildNodeResponseRecord::from), NodeResponseRecord.from(list.getSource()))
+                : null;
+    }
+
+    /**
+     * Creates a new, mutable paginated list of child nodes from the state of this record.
+     *
+     * @return the paginated list
+     */
+    public PaginatedNodeChildrenList toBean()
+    {
+        final PaginatedNodeChildrenList list = new PaginatedNodeChildrenList();
+        list.setPagination(this.pagination != null ? this.pagination.toBean() : null);
+        list.setEntries(ImmutableValues.listOf(this.entries, ChildNodeResponseRecord::toBean));
+        list.setSource(this.source != null ? this.source.copyInto(new NodeSourceEnitity()) : null);
+        return list;
+    }
+}
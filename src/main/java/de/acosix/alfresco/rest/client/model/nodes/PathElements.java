@@ -0,0 +1,189 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.model.nodes;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Instances of this class form a persistent, parent-linked structure of the elements of a {@link PathInfo path}. Each instance represents
+ * the path up to and including one element, and references the instance for the path of its parent, so that the paths of sibling nodes -
+ * e.g. the children in a listing - can share the instances for their common ancestors instead of each holding a separate list. Instances
+ * are immutable, only reference {@link PathNodeEntity#isShared() shared} path elements, and can be
+ * {@link PathElementsCache#canonicalize(PathInfo) canonicalized} so that equal paths share the same instance.
+ *
+ * @author Axel Faust
+ */
+final class PathElements
+{
+
+    /**
+     * The instance representing a path without any elements.
+     */
+    static final PathElements EMPTY = new PathElements(null, null);
+
+    private final PathElements parent;
+
+    private final PathNodeEntity element;
+
+    private final int size;
+
+    private final int hash;
+
+    private List<PathNodeEntity> list;
+
+    private PathElements(final PathElements parent, final PathNodeEntity element)
+    {
+        this.parent = parent;
+        this.element = element;
+        this.size = parent != null ? parent.size + 1 : 0;
+        this.hash = parent != null ? 31 * parent.hash + hashElement(element) : 0;
+    }
+
+    /**
+     * Creates the structure for a list of path elements.
+     *
+     * @param elements
+     *            the path elements, starting with the root of the path
+     * @return the instance for the full path
+     */
+    static PathElements of(final List<PathNodeEntity> elements)
+    {
+        PathElements result = EMPTY;
+        for (final PathNodeEntity element : elements)
+        {
+            if (element == null)
+            {
+                throw new IllegalArgumentException("'elements' must not contain null");
+            }
+            result = result.append(element);
+        }
+        return result;
+    }
+
+    /**
+     * Checks whether two path elements are equal in all their state.
+     *
+     * @param element
+     *            the first path element
+     * @param otherElement
+     *            the second path element
+     * @return {@code true} if the path elements are equal, {@code false} otherwise
+     */
+    static boolean sameElement(final PathNodeEntity element, final PathNodeEntity otherElement)
+    {
+        return element == otherElement || (Objects.equals(element.getId(), otherElement.getId())
+                && Objects.equals(element.getName(), otherElement.getName())
+                && Objects.equals(element.getNodeType(), otherElement.getNodeType())
+                && Objects.equals(element.getAspectNamesView(), otherElement.getAspectNamesView()));
+    }
+
+    private static int hashElement(final PathNodeEntity element)
+    {
+        return Objects.hash(element.getId(), element.getName(), element.getNodeType(), element.getAspectNamesView());
+    }
+
+    /**
+     * Creates the structure for the path extending this path by one element.
+     *
+     * @param element
+     *            the path element to append
+     * @return the instance for the extended path
+     */
+    PathElements append(final PathNodeEntity element)
+    {
+        return new PathElements(this, PathNodeEntity.sharedCopyOf(element));
+    }
+
+    /**
+     * Retrieves the structure for the parent path.
+     *
+     * @return the instance for the parent path, or {@code null} if this instance represents the empty path
+     */
+    PathElements getParent()
+    {
+        return this.parent;
+    }
+
+    /**
+     * Retrieves the last element of this path.
+     *
+     * @return the last element of this path, or {@code null} if this instance represents the empty path
+     */
+    PathNodeEntity getElement()
+    {
+        return this.element;
+    }
+
+    /**
+     * Retrieves the number of elements in this path.
+     *
+     * @return the number of elements
+     */
+    int size()
+    {
+        return this.size;
+    }
+
+    /**
+     * Retrieves the elements of this path as a list. The list is unmodifiable and created only once, on first access, for each instance.
+     *
+     * @return the elements of this path, starting with the root of the path
+     */
+    List<PathNodeEntity> asList()
+    {
+        List<PathNodeEntity> list = this.list;
+        if (list == null)
+        {
+            final PathNodeEntity[] elements = new PathNodeEntity[this.size];
+            PathElements current = this;
+            for (int idx = this.size - 1; idx >= 0; idx--)
+            {
+                elements[idx] = current.element;
+                current = current.parent;
+            }
+            // instances of List.of(..) are safely published via final fields, so the list may be shared between threads without locking
+            list = List.of(elements);
+            this.list = list;
+        }
+        return list;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode()
+    {
+        return this.hash;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object obj)
+    {
+        boolean equals = this == obj;
+        if (!equals && obj instanceof PathElements)
+        {
+            final PathElements other = (PathElements) obj;
+            equals = this.hash == other.hash && this.size == other.size && this.size != 0 && sameElement(this.element, other.element)
+                    && this.parent.equals(other.parent);
+        }
+        return equals;
+    }
+}
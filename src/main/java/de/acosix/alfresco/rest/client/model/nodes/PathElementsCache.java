@@ -0,0 +1,135 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.model.nodes;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Instances of this class canonicalize the elements of {@link PathInfo paths}, so that equal paths - and paths with common ancestors - read
+ * for different nodes share the same, immutable structure for their common elements. With the paths of children in a listing, this makes
+ * the memory retained for paths grow with the depth of the folder instead of with its depth multiplied by the number of children. As with
+ * the {@link de.acosix.alfresco.rest.client.jackson.UserInfoCache user info cache}, a cache has a fixed number of slots, each holding the
+ * last path canonicalized for a specific hash bucket, making it bounded in size, lock-free and safe for concurrent use.
+ *
+ * @author Axel Faust
+ */
+public class PathElementsCache
+{
+
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private final AtomicReferenceArray<PathElements> slots;
+
+    private final int mask;
+
+    /**
+     * Creates a new cache with {@link #DEFAULT_CAPACITY default capacity}.
+     */
+    public PathElementsCache()
+    {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new cache.
+     *
+     * @param capacity
+     *            the number of slots in the cache - will be rounded up to the next power of two
+     */
+    public PathElementsCache(final int capacity)
+    {
+        if (capacity <= 0)
+        {
+            throw new IllegalArgumentException("'capacity' must be a positive integer");
+        }
+
+        final int slotCount = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(slotCount);
+        this.mask = slotCount - 1;
+    }
+
+    /**
+     * Canonicalizes the elements of a path, replacing them with the canonical structure for an equal path held in this cache.
+     *
+     * @param path
+     *            the path to canonicalize - may be {@code null}
+     * @return the path itself
+     */
+    public PathInfo canonicalize(final PathInfo path)
+    {
+        if (path != null)
+        {
+            final PathElements elements = path.pathElements();
+            if (elements != null)
+            {
+                path.replacePathElements(this.canonicalize(elements));
+            }
+        }
+        return path;
+    }
+
+    /**
+     * Determines the number of paths currently held in this cache.
+     *
+     * @return the number of cached paths
+     */
+    public int size()
+    {
+        int size = 0;
+        for (int idx = 0; idx < this.slots.length(); idx++)
+        {
+            if (this.slots.get(idx) != null)
+            {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Removes all paths from this cache.
+     */
+    public void clear()
+    {
+        for (int idx = 0; idx < this.slots.length(); idx++)
+        {
+            this.slots.set(idx, null);
+        }
+    }
+
+    private PathElements canonicalize(final PathElements elements)
+    {
+        PathElements result = elements;
+        if (elements.size() != 0)
+        {
+            // ancestors are canonicalized first, so that the parent of any cached instance can be compared by identity
+            final PathElements parent = this.canonicalize(elements.getParent());
+            final int hash = elements.hashCode();
+            final int slot = (hash ^ (hash >>> 16)) & this.mask;
+            final PathElements cached = this.slots.get(slot);
+            if (cached != null && cached.getParent() == parent && PathElements.sameElement(cached.getElement(), elements.getElement()))
+            {
+                result = cached;
+            }
+            else
+            {
+                result = parent == elements.getParent() ? elements : parent.append(elements.getElement());
+                this.slots.lazySet(slot, result);
+            }
+        }
+        return result;
+    }
+}
@@ -18,7 +18,15 @@ package de.acosix.alfresco.rest.client.model.nodes;
 import java.util.ArrayList;
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 /**
+ * Instances of this class hold their path elements in a persistent, parent-linked structure of {@link PathNodeEntity#isShared() shared},
+ * immutable elements, so that copies of a path and - once {@link PathElementsCache#canonicalize(PathInfo) canonicalized} - the paths of
+ * sibling nodes share the elements of common ancestors instead of holding individual copies. Both {@link #getElements()} and
+ * {@link #getElementsView()} expose these shared elements, which are read-only. A path element can be modified by
+ * {@link PathNodeEntity#PathNodeEntity(PathNodeEntity) copying} it and {@link #setElements(List) setting} the modified list of elements.
+ *
  * @author Axel Faust
  */
 public class PathInfo
@@ -28,7 +36,7 @@ public class PathInfo
 
     private Boolean isComplete;
 
-    private List<PathNodeEntity> elements;
+    private PathElements elements;
 
     /**
      * Creates a new instance of this value class.
@@ -39,7 +47,8 @@ public class PathInfo
     }
 
     /**
-     * Creates a new instance of this value class as a full (recursive) copy of the provided reference / template.
+     * Creates a new instance of this value class as a copy of the provided reference / template. Since path elements are immutable, the
+     * copy shares them with the reference.
      *
      * @param reference
      *            the reference / template for the new instance
@@ -48,12 +57,7 @@ public class PathInfo
     {
         this.name = reference.getName();
         this.isComplete = reference.getIsComplete();
-        final List<PathNodeEntity> elements = reference.getElements();
-        if (elements != null)
-        {
-            this.elements = new ArrayList<>(elements.size());
-            elements.stream().map(PathNodeEntity::new).forEach(this.elements::add);
-        }
+        this.elements = reference.elements;
     }
 
     /**
@@ -91,20 +95,58 @@ public class PathInfo
     }
 
     /**
+     * Retrieves the path elements as a mutable list. The elements themselves are {@link PathNodeEntity#isShared() shared} and read-only -
+     * any attempt to modify them fails with an {@link UnsupportedOperationException}.
+     *
      * @return the elements
      */
     public List<PathNodeEntity> getElements()
     {
-        return this.elements != null ? new ArrayList<>(this.elements) : null;
+        return this.elements != null ? new ArrayList<>(this.elements.asList()) : null;
     }
 
     /**
+     * Sets the path elements. Any elements which are not yet {@link PathNodeEntity#isShared() shared} are replaced with shared copies.
+     *
      * @param elements
      *            the elements to set
      */
     public void setElements(final List<PathNodeEntity> elements)
     {
-        this.elements = elements != null ? new ArrayList<>(elements) : null;
+        this.elements = elements != null ? PathElements.of(elements) : null;
+    }
+
+    /**
+     * Retrieves the path elements as an unmodifiable view instead of a copy. The elements in the view are {@link PathNodeEntity#isShared()
+     * shared} and immutable.
+     *
+     * @return the unmodifiable view of the path elements
+     */
+    @JsonIgnore
+    public List<PathNodeEntity> getElementsView()
+    {
+        return this.elements != null ? this.elements.asList() : null;
+    }
+
+    /**
+     * Retrieves the structure holding the path elements.
+     *
+     * @return the path elements structure, or {@code null} if no elements are set
+     */
+    PathElements pathElements()
+    {
+        return this.elements;
+    }
+
+    /**
+     * Replaces the structure holding the path elements with an equal, e.g. canonical, structure.
+     *
+     * @param elements
+     *            the path elements structure
+     */
+    void replacePathElements(final PathElements elements)
+    {
+        this.elements = elements;
     }
 
 }
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.model.nodes;
+
+import java.util.List;
+
+import de.acosix.alfresco.rest.client.model.common.ImmutableValues;
+
+/**
+ * Instances of this record are the immutable variant of {@link PathInfo}.
+ *
+ * @author Axel Faust
+ */
+public record PathInfoRecord(String name, Boolean isComplete, List<PathNodeRecord> elements)
+{
+
+    /**
+     * Creates a new instance of this record.
+     */
+    public PathInfoRecord
+    {
+        elements = ImmutableValues.listOf(elements);
+    }
+
+    /**
+     * Creates a record from the state of a path info.
+     *
+     * @param path
+     *            the path info - may be {@code null}
+     * @return the record or {@code null} if the path info was {@code null}
+     */
+    public static PathInfoRecord from(final PathInfo path)
+    {
+        return path != null ? new PathInfoRecord(path.getName(), path.getIsComplete(),
+                ImmutableValues.listOf(path.getElementsView(), PathNodeRecord::from)) : null;
+    }
+
+    /**
+     * Creates a new, mutable path info from the state of this record.
+     *
+     * @return the path info
+     */
+    public PathInfo toBean()
+    {
+        final PathInfo path = new PathInfo();
+        path.setName(this.name);
+        path.setIsComplete(this.isComplete);
+        path.setElements(ImmutableValues.listOf(this.elements, PathNodeRecord::toBean));
+        return path;
+    }
+}
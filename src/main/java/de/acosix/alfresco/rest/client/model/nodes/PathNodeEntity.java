@@ -15,6 +15,10 @@
  */
 package de.acosix.alfresco.rest.client.model.nodes;
 
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 /**
  * @author Axel Faust
  */
@@ -23,12 +27,15 @@ public class PathNodeEntity extends NodeCoreIdentity
 
     private String id;
 
+    private final boolean shared;
+
     /**
      * Creates a new instance of this value class.
      */
     public PathNodeEntity()
     {
         super();
+        this.shared = false;
     }
 
     /**
@@ -38,9 +45,38 @@ public class PathNodeEntity extends NodeCoreIdentity
      *            the reference / template for the new instance
      */
     public PathNodeEntity(final PathNodeEntity reference)
+    {
+        this(reference, false);
+    }
+
+    private PathNodeEntity(final PathNodeEntity reference, final boolean shared)
     {
         super(reference);
         this.id = reference.getId();
+        this.shared = shared;
+    }
+
+    /**
+     * Retrieves a shared and immutable instance equal to a path element, which may be referenced by the paths of any number of nodes.
+     *
+     * @param reference
+     *            the path element
+     * @return the path element itself if it already is a shared instance, or a shared copy of it
+     */
+    static PathNodeEntity sharedCopyOf(final PathNodeEntity reference)
+    {
+        return reference.shared ? reference : new PathNodeEntity(reference, true);
+    }
+
+    /**
+     * Checks whether this instance is a shared and immutable instance, as used for all elements of a {@link PathInfo path}.
+     *
+     * @return {@code true} if this instance is shared and immutable, {@code false} otherwise
+     */
+    @JsonIgnore
+    public boolean isShared()
+    {
+        return this.shared;
     }
 
     /**
@@ -57,6 +93,66 @@ public class PathNodeEntity extends NodeCoreIdentity
      */
     public void setId(final String id)
     {
+        this.checkMutable();
         this.id = id;
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setName(final String name)
+    {
+        this.checkMutable();
+        super.setName(name);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setNodeType(final String nodeType)
+    {
+        this.checkMutable();
+        super.setNodeType(nodeType);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setAspectNames(final List<String> aspectNames)
+    {
+        this.checkMutable();
+        super.setAspectNames(aspectNames);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void adoptAspectNames(final List<String> aspectNames)
+    {
+        this.checkMutable();
+        super.adoptAspectNames(aspectNames);
+    }
+
+    /**
+     * Retrieves the ID of this path element in its compact {@link NodeId} form.
+     *
+     * @return the ID of this path element, or {@code null} if not set
+     */
+    @JsonIgnore
+    public NodeId getNodeId()
+    {
+        return NodeId.ofNullable(this.id);
+    }
+
+    private void checkMutable()
+    {
+        if (this.shared)
+        {
+            throw new UnsupportedOperationException("Shared path elements are immutable");
+        }
+    }
 }
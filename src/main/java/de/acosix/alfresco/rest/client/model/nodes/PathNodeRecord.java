@@ -0,0 +1,76 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.model.nodes;
+
+import java.util.List;
+
+import de.acosix.alfresco.rest.client.model.common.ImmutableValues;
+
+/**
+ * Instances of this record are the immutable variant of {@link PathNodeEntity}.
+ *
+ * @author Axel Faust
+ */
+public record PathNodeRecord(String id, String name, String nodeType, List<String> aspectNames)
+{
+
+    /**
+     * Creates a new instance of this record.
+     */
+    public PathNodeRecord
+    {
+        aspectNames = ImmutableValues.listOf(aspectNames);
+    }
+
+    /**
+     * Creates a record from the state of a path element.
+     *
+     * @param element
+     *            the path element - may be {@code null}
+     * @return the record or {@code null} if the path element was {@code null}
+     */
+    public static PathNodeRecord from(final PathNodeEntity element)
+    {
+        return element != null
+                ? new PathNodeRecord(element.getId(), element.getName(), element.getNodeType(), element.getAspectNamesView())
+                : null;
+    }
+
+    /**
+     * Retrieves the ID of the node in its compact form.
+     *
+     * @return the node ID or {@code null} if the ID is not set
+     */
+    public NodeId nodeId()
+    {
+        return NodeId.ofNullable(this.id);
+    }
+
+    /**
+     * Creates a new, mutable path element from the state of this record.
+     *
+     * @return the path element
+     */
+    public PathNodeEntity toBean()
+    {
+        final PathNodeEntity element = new PathNodeEntity();
+        element.setId(this.id);
+        element.setName(this.name);
+        element.setNodeType(this.nodeType);
+        element.setAspectNames(this.aspectNames);
+        return element;
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.model.nodes;
+
+import de.acosix.alfresco.rest.client.model.nodes.PermissionElement.AccessStatus;
+
+/**
+ * Instances of this record are the immutable variant of {@link PermissionElement}.
+ *
+ * @author Axel Faust
+ */
+public record PermissionElementRecord(String authorityId, String name, AccessStatus accessStatus)
+{
+
+    /**
+     * Creates a record from the state of a permission element.
+     *
+     * @param element
+     *            the permission element - may be {@code null}
+     * @return the record or {@code null} if the permission element was {@code null}
+     */
+    public static PermissionElementRecord from(final PermissionElement element)
+    {
+        return element != null ? new PermissionElementRecord(element.getAuthorityId(), element.getName(), element.getAccessStatus())
+                : null;
+    }
+
+    /**
+     * Creates a new, mutable permission element from the state of this record.
+     *
+     * @return the permission element
+     */
+    public PermissionElement toBean()
+    {
+        final PermissionElement element = new PermissionElement();
+        element.setAuthorityId(this.authorityId);
+        element.setName(this.name);
+        element.setAccessStatus(this.accessStatus);
+        return element;
+    }
+}
@@ -16,8 +16,11 @@
 package de.acosix.alfresco.rest.client.model.nodes;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 /**
  * @author Axel Faust
  */
@@ -28,6 +31,8 @@ public class PermissionsInfo
 
     private List<PermissionElement> locallySet;
 
+    private List<PermissionElement> locallySetView;
+
     /**
      * Creates a new instance of this value class.
      */
@@ -85,5 +90,36 @@ public class PermissionsInfo
     public void setLocallySet(final List<PermissionElement> locallySet)
     {
         this.locallySet = locallySet != null ? new ArrayList<>(locallySet) : null;
+        this.locallySetView = null;
+    }
+
+    /**
+     * Sets the locally set permissions, taking ownership of the provided list instead of copying it. This operation is meant for
+     * deserializers handing over a freshly built list, which the caller must neither retain nor modify afterwards.
+     *
+     * @param locallySet
+     *            the locallySet to adopt
+     */
+    public void adoptLocallySet(final List<PermissionElement> locallySet)
+    {
+        this.locallySet = locallySet;
+        this.locallySetView = null;
+    }
+
+    /**
+     * Retrieves the locally set permissions as an unmodifiable view instead of a copy.
+     *
+     * @return the unmodifiable view of the locally set permissions
+     */
+    @JsonIgnore
+    public List<PermissionElement> getLocallySetView()
+    {
+        List<PermissionElement> locallySetView = this.locallySetView;
+        if (locallySetView == null && this.locallySet != null)
+        {
+            locallySetView = Collections.unmodifiableList(this.locallySet);
+            this.locallySetView = locallySetView;
+        }
+        return locallySetView;
     }
 }
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.model.nodes;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * This class provides the registry of functions used to create full (recursive) copies of {@link PermissionsInfo permissions info}
+ * instances, whose concrete type is only known at runtime due to the generic type parameter of {@link CommonNodeEntity}. Functions can be
+ * registered explicitly for custom subtypes, or are otherwise derived once per type from its public copy-constructor via a cached
+ * {@link MethodHandle}, avoiding the lookup and access checks of reflective constructor invocations for every copy.
+ *
+ * @author Axel Faust
+ */
+public final class PermissionsInfoCopyFunctions
+{
+
+    private static final Map<Class<?>, UnaryOperator<PermissionsInfo>> REGISTERED_FUNCTIONS = new ConcurrentHashMap<>();
+
+    private static final ClassValue<UnaryOperator<PermissionsInfo>> COPY_FUNCTIONS = new ClassValue<UnaryOperator<PermissionsInfo>>()
+    {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected UnaryOperator<PermissionsInfo> computeValue(final Class<?> type)
+        {
+            UnaryOperator<PermissionsInfo> copyFunction = REGISTERED_FUNCTIONS.get(type);
+            if (copyFunction == null)
+            {
+                copyFunction = fromCopyConstructor(type);
+            }
+            return copyFunction;
+        }
+    };
+
+    static
+    {
+        register(PermissionsInfo.class, PermissionsInfo::new);
+        register(ResponsePermissionsInfo.class, ResponsePermissionsInfo::new);
+    }
+
+    private PermissionsInfoCopyFunctions()
+    {
+        // NO-OP
+    }
+
+    /**
+     * Registers the function to use for copying instances of a specific permissions info type. The function is only used for instances of
+     * exactly that type, not for instances of any of its subtypes.
+     *
+     * @param <P>
+     *            the type of permissions info
+     * @param type
+     *            the type of permissions info
+     * @param copyFunction
+     *            the function creating a full (recursive) copy of an instance of the type
+     */
+    @SuppressWarnings("unchecked")
+    public static <P extends PermissionsInfo> void register(final Class<P> type, final UnaryOperator<P> copyFunction)
+    {
+        if (type == null)
+        {
+            throw new IllegalArgumentException("'type' must not be null");
+        }
+        if (copyFunction == null)
+        {
+            throw new IllegalArgumentException("'copyFunction' must not be null");
+        }
+
+        REGISTERED_FUNCTIONS.put(type, (UnaryOperator<PermissionsInfo>) copyFunction);
+        // drop any function previously derived / cached for the type
+        COPY_FUNCTIONS.remove(type);
+    }
+
+    /**
+     * Creates a full (recursive) copy of a permissions info instance.
+     *
+     * @param <P>
+     *            the type of permissions info
+     * @param permissions
+     *            the permissions info to copy
+     * @return the copy of the permissions info
+     * @throws UnsupportedOperationException
+     *             if no function has been registered for the type of the permissions info and it does not define a public copy-constructor
+     */
+    @SuppressWarnings("unchecked")
+    public static <P extends PermissionsInfo> P copy(final P permissions)
+    {
+        if (permissions == null)
+        {
+            throw new IllegalArgumentException("'permissions' must not be null");
+        }
+
+        return (P) COPY_FUNCTIONS.get(permissions.getClass()).apply(permissions);
+    }
+
+    private static UnaryOperator<PermissionsInfo> fromCopyConstructor(final Class<?> type)
+    {
+        UnaryOperator<PermissionsInfo> copyFunction;
+        try
+        {
+            final MethodHandle copyConstructor = MethodHandles.publicLookup()
+                    .findConstructor(type, MethodType.methodType(void.class, type))
+                    .asType(MethodType.methodType(PermissionsInfo.class, PermissionsInfo.class));
+            copyFunction = permissions -> {
+                try
+                {
+                    return (PermissionsInfo) copyConstructor.invokeExact(permissions);
+                }
+                catch (final RuntimeException | Error e)
+                {
+                    throw e;
+                }
+                catch (final Throwable t)
+                {
+                    throw new RuntimeException("Failed to copy permissions info", t);
+                }
+            };
+        }
+        catch (final NoSuchMethodException | IllegalAccessException e)
+        {
+            copyFunction = permissions -> {
+                throw new UnsupportedOperationException(
+                        "Cannot create copy as permissions info class " + type + " does not define a copy-constructor");
+            };
+        }
+        return copyFunction;
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.model.nodes;
+
+import java.util.List;
+
+import de.acosix.alfresco.rest.client.model.common.ImmutableValues;
+
+/**
+ * Instances of this record are the immutable variant of {@link ResponsePermissionsInfo}.
+ *
+ * @author Axel Faust
+ */
+public record ResponsePermissionsInfoRecord(Boolean isInheritanceEnabled, List<PermissionElementRecord> locallySet,
+        List<PermissionElementRecord> inherited, List<String> settable)
+{
+
+    /**
+     * Creates a new instance of this record.
+     */
+    public ResponsePermissionsInfoRecord
+    {
+        locallySet = ImmutableValues.listOf(locallySet);
+        inherited = ImmutableValues.listOf(inherited);
+        settable = ImmutableValues.listOf(settable);
+    }
+
+    /**
+     * Creates a record from the state of a permissions info.
+     *
+     * @param permissions
+     *            the permissions info - may be {@code null}
+     * @return the record or {@code null} if the permissions info was {@code null}
+     */
+    public static ResponsePermissionsInfoRecord from(final ResponsePermissionsInfo permissions)
+    {
+        return permissions != null ? new ResponsePermissionsInfoRecord(permissions.getIsInheritanceEnabled(),
+                ImmutableValues.listOf(permissions.getLocallySetView(), PermissionElementRecord::from),
+                ImmutableValues.listOf(permissions.getInherited(), PermissionElementRecord::from), permissions.getSettable()) : null;
+    }
+
+    /**
+     * Creates a new, mutable permissions info from the state of this record.
+     *
+     * @return the permissions info
+     */
+    public ResponsePermissionsInfo toBean()
+    {
+        final ResponsePermissionsInfo permissions = new ResponsePermissionsInfo();
+        permissions.setIsInheritanceEnabled(this.isInheritanceEnabled);
+        permissions.setLocallySet(ImmutableValues.listOf(this.locallySet, PermissionElementRecord::toBean));
+        permissions.setInherited(ImmutableValues.listOf(this.inherited, PermissionElementRecord::toBean));
+        permissions.setSettable(this.settable);
+        return permissions;
+    }
+}
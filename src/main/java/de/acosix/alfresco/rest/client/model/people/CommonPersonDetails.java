@@ -15,11 +15,17 @@
  */
 package de.acosix.alfresco.rest.client.model.people;
 
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import de.acosix.alfresco.rest.client.model.common.Timestamps;
+
 /**
  * @author Axel Faust
  */
@@ -54,8 +60,11 @@ public class CommonPersonDetails
 
     private String telephone;
 
+    // only set if the textual value is not in the canonical format and thus cannot be restored from its epoch milliseconds form
     private String statusUpdatedAt;
 
+    private long statusUpdatedAtEpochMillis = Timestamps.NO_EPOCH_MILLIS;
+
     private String userStatus;
 
     private Boolean enabled;
@@ -106,7 +115,8 @@ public class CommonPersonDetails
 
         this.mobile = reference.getMobile();
         this.telephone = reference.getTelephone();
-        this.statusUpdatedAt = reference.getStatusUpdatedAt();
+        this.statusUpdatedAt = reference.statusUpdatedAt;
+        this.statusUpdatedAtEpochMillis = reference.statusUpdatedAtEpochMillis;
         this.userStatus = reference.getUserStatus();
         this.enabled = reference.getEnabled();
         this.emailNotificationsEnabled = reference.getEmailNotificationsEnabled();
@@ -371,16 +381,79 @@ public class CommonPersonDetails
      */
     public String getStatusUpdatedAt()
     {
-        return this.statusUpdatedAt;
+        // only the epoch milliseconds form is retained for a value in the canonical format
+        return this.statusUpdatedAt != null || this.statusUpdatedAtEpochMillis == Timestamps.NO_EPOCH_MILLIS ? this.statusUpdatedAt
+                : Timestamps.format(this.statusUpdatedAtEpochMillis);
     }
 
     /**
+     * Sets the status update timestamp. The textual value is parsed immediately, and only retained as is if it is not in the canonical
+     * format of the Alfresco v1 ReST API, i.e. if it cannot be restored from its epoch milliseconds form.
+     *
      * @param statusUpdatedAt
      *            the statusUpdatedAt to set
      */
     public void setStatusUpdatedAt(final String statusUpdatedAt)
     {
-        this.statusUpdatedAt = statusUpdatedAt;
+        final long canonicalEpochMillis = Timestamps.parseCanonicalEpochMillis(statusUpdatedAt);
+        if (canonicalEpochMillis != Timestamps.NO_EPOCH_MILLIS)
+        {
+            this.statusUpdatedAt = null;
+            this.statusUpdatedAtEpochMillis = canonicalEpochMillis;
+        }
+        else
+        {
+            this.statusUpdatedAt = statusUpdatedAt;
+            this.statusUpdatedAtEpochMillis = Timestamps.tryParseEpochMillis(statusUpdatedAt);
+        }
+    }
+
+    /**
+     * Retrieves the status update timestamp in milliseconds since the epoch. In contrast to {@link #getStatusUpdatedAtInstant()}, this
+     * operation never allocates any object.
+     *
+     * @return the statusUpdatedAt in milliseconds since the epoch or {@link Timestamps#NO_EPOCH_MILLIS} if not set or not parseable
+     */
+    @JsonIgnore
+    public long getStatusUpdatedAtEpochMillis()
+    {
+        return this.statusUpdatedAtEpochMillis;
+    }
+
+    /**
+     * Retrieves the status update timestamp as an instant.
+     *
+     * @return the statusUpdatedAt as an instant or {@code null} if not set
+     * @throws DateTimeParseException
+     *             if the textual value set for the timestamp could not be parsed
+     */
+    @JsonIgnore
+    public Instant getStatusUpdatedAtInstant()
+    {
+        Instant instant = null;
+        if (this.statusUpdatedAtEpochMillis != Timestamps.NO_EPOCH_MILLIS)
+        {
+            instant = Instant.ofEpochMilli(this.statusUpdatedAtEpochMillis);
+        }
+        else if (this.statusUpdatedAt != null)
+        {
+            // failure to parse was already determined when the value was set
+            throw new DateTimeParseException("Text '" + this.statusUpdatedAt + "' could not be parsed as a timestamp", this.statusUpdatedAt,
+                    0);
+        }
+        return instant;
+    }
+
+    /**
+     * @param statusUpdatedAtInstant
+     *            the statusUpdatedAt to set as an instant
+     */
+    @JsonIgnore
+    public void setStatusUpdatedAtInstant(final Instant statusUpdatedAtInstant)
+    {
+        this.statusUpdatedAt = null;
+        this.statusUpdatedAtEpochMillis = statusUpdatedAtInstant != null ? statusUpdatedAtInstant.toEpochMilli()
+                : Timestamps.NO_EPOCH_MILLIS;
     }
 
     /**
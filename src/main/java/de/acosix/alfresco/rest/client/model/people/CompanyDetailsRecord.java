@@ -0,0 +1,58 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.model.people;
+
+/**
+ * Instances of this record are the immutable variant of {@link CompanyDetails}.
+ *
+ * @author Axel Faust
+ */
+public record CompanyDetailsRecord(String organization, String address1, String address2, String address3, String postcode,
+        String telephone, String fax, String email)
+{
+
+    /**
+     * Creates a record from the state of company details.
+     *
+     * @param company
+     *            the company details - may be {@code null}
+     * @return the record or {@code null} if the company details were {@code null}
+     */
+    public static CompanyDetailsRecord from(final CompanyDetails company)
+    {
+        return company != null ? new CompanyDetailsRecord(company.getOrganization(), company.getAddress1(), company.getAddress2(),
+                company.getAddress3(), company.getPostcode(), company.getTelephone(), company.getFax(), company.getEmail()) : null;
+    }
+
+    /**
+     * Creates new, mutable company details from the state of this record.
+     *
+     * @return the company details
+     */
+    public CompanyDetails toBean()
+    {
+        final CompanyDetails company = new CompanyDetails();
+        company.setOrganization(this.organization);
+        company.setAddress1(this.address1);
+        company.setAddress2(this.address2);
+        company.setAddress3(this.address3);
+        company.setPostcode(this.postcode);
+        company.setTelephone(this.telephone);
+        company.setFax(this.fax);
+        company.setEmail(this.email);
+        return company;
+    }
+}
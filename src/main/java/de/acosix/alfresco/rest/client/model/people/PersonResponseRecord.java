@@ -0,0 +1,110 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.model.people;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import de.acosix.alfresco.rest.client.jackson.Wrapped;
+import de.acosix.alfresco.rest.client.jackson.Wrapped.WrapType;
+import de.acosix.alfresco.rest.client.model.common.ImmutableValues;
+import de.acosix.alfresco.rest.client.model.common.Timestamps;
+
+/**
+ * Instances of this record are the immutable variant of {@link PersonResponseEntity}. Properties and capabilities - including any nested
+ * values - are unmodifiable.
+ *
+ * @author Axel Faust
+ */
+@Wrapped(WrapType.ENTRY)
+public record PersonResponseRecord(String id, String firstName, String lastName, String displayName, String description, String avatarId,
+        String email, String skypeId, String googleId, String instantMessageId, String jobTitle, String location,
+        CompanyDetailsRecord company, String mobile, String telephone, String statusUpdatedAt, String userStatus, Boolean enabled,
+        Boolean emailNotificationsEnabled, List<String> aspectNames, Map<String, Object> properties, Map<String, Object> capabilities)
+{
+
+    /**
+     * Creates a new instance of this record.
+     */
+    public PersonResponseRecord
+    {
+        aspectNames = ImmutableValues.listOf(aspectNames);
+        properties = ImmutableValues.mapOf(properties);
+        capabilities = ImmutableValues.mapOf(capabilities);
+    }
+
+    /**
+     * Creates a record from the state of a person.
+     *
+     * @param person
+     *            the person - may be {@code null}
+     * @return the record or {@code null} if the person was {@code null}
+     */
+    public static PersonResponseRecord from(final PersonResponseEntity person)
+    {
+        return person != null ? new PersonResponseRecord(person.getId(), person.getFirstName(), person.getLastName(),
+                person.getDisplayName(), person.getDescription(), person.getAvatarId(), person.getEmail(), person.getSkypeId(),
+                person.getGoogleId(), person.getInstantMessageId(), person.getJobTitle(), person.getLocation(),
+                CompanyDetailsRecord.from(person.getCompany()), person.getMobile(), person.getTelephone(), person.getStatusUpdatedAt(),
+                person.getUserStatus(), person.getEnabled(), person.getEmailNotificationsEnabled(), person.getAspectNames(),
+                person.getProperties(), person.getCapabilities()) : null;
+    }
+
+    /**
+     * Retrieves the timestamp of the last status update as an instant, parsing the textual value on every call.
+     *
+     * @return the statusUpdatedAt as an instant or {@code null} if not set
+     */
+    public Instant statusUpdatedAtInstant()
+    {
+        return this.statusUpdatedAt != null ? Timestamps.parse(this.statusUpdatedAt) : null;
+    }
+
+    /**
+     * Creates a new, mutable person from the state of this record.
+     *
+     * @return the person
+     */
+    public PersonResponseEntity toBean()
+    {
+        final PersonResponseEntity person = new PersonResponseEntity();
+        person.setId(this.id);
+        person.setFirstName(this.firstName);
+        person.setLastName(this.lastName);
+        person.setDisplayName(this.displayName);
+        person.setDescription(this.description);
+        person.setAvatarId(this.avatarId);
+        person.setEmail(this.email);
+        person.setSkypeId(this.skypeId);
+        person.setGoogleId(this.googleId);
+        person.setInstantMessageId(this.instantMessageId);
+        person.setJobTitle(this.jobTitle);
+        person.setLocation(this.location);
+        person.setCompany(this.company != null ? this.company.toBean() : null);
+        person.setMobile(this.mobile);
+        person.setTelephone(this.telephone);
+        person.setStatusUpdatedAt(this.statusUpdatedAt);
+        person.setUserStatus(this.userStatus);
+        person.setEnabled(this.enabled);
+        person.setEmailNotificationsEnabled(this.emailNotificationsEnabled);
+        person.setAspectNames(this.aspectNames);
+        // property / capability values are immutable and remain shared
+        person.setProperties(this.properties);
+        person.setCapabilities(this.capabilities);
+        return person;
+    }
+}
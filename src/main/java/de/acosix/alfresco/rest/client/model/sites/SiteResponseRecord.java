@@ -0,0 +1,61 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.model.sites;
+
+import de.acosix.alfresco.rest.client.jackson.Wrapped;
+import de.acosix.alfresco.rest.client.jackson.Wrapped.WrapType;
+
+/**
+ * Instances of this record are the immutable variant of {@link SiteResponseEntity}.
+ *
+ * @author Axel Faust
+ */
+@Wrapped(WrapType.ENTRY)
+public record SiteResponseRecord(String id, String guid, String title, String description, SiteVisibility visibility, String preset,
+        String role)
+{
+
+    /**
+     * Creates a record from the state of a site.
+     *
+     * @param site
+     *            the site - may be {@code null}
+     * @return the record or {@code null} if the site was {@code null}
+     */
+    public static SiteResponseRecord from(final SiteResponseEntity site)
+    {
+        return site != null ? new SiteResponseRecord(site.getId(), site.getGuid(), site.getTitle(), site.getDescription(),
+                site.getVisibility(), site.getPreset(), site.getRole()) : null;
+    }
+
+    /**
+     * Creates a new, mutable site from the state of this record.
+     *
+     * @return the site
+     */
+    public SiteResponseEntity toBean()
+    {
+        final SiteResponseEntity site = new SiteResponseEntity();
+        site.setId(this.id);
+        site.setGuid(this.guid);
+        site.setTitle(this.title);
+        site.setDescription(this.description);
+        site.setVisibility(this.visibility);
+        site.setPreset(this.preset);
+        site.setRole(this.role);
+        return site;
+    }
+}
@@ -0,0 +1,313 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.pagination;
+
+import java.time.Duration;
+
+/**
+ * Instances of this class adapt the page size used to traverse a paginated listing based on the observed time and - if known - payload
+ * size per entry of previously retrieved pages, aiming to retrieve each page within a target duration. The cost per entry depends on the
+ * specific operation, requested optional {@code include} data and server load, so this allows the page size to settle at a value
+ * appropriate for the specific listing.
+ *
+ * The duration of a page is modelled as a fixed overhead per request - e.g. network latency, authentication and query setup - plus a cost
+ * per entry, i.e. {@code duration ~ overhead + entries * perEntry}. Both are estimated by a linear regression over the observed pages,
+ * using exponentially weighted moving averages of the page sizes, durations and their (co-)variance, so that older observations fade out.
+ * The overhead is only re-estimated while page sizes vary enough to distinguish it from the cost per entry, and is never assumed to exceed
+ * the duration of the fastest page observed. If the overhead alone already exceeds the target duration, the target cannot be met by any
+ * page size and the policy aims for the maximum page size instead, to spread the overhead across as many entries as possible.
+ *
+ * In order to avoid oscillation, the page size may at most double from one page to the next, while it may be reduced immediately to any
+ * value within the configured bounds. Additionally, an upper limit on the expected payload size per page may be configured, which is only
+ * effective if payload sizes are being recorded, e.g. via {@link de.acosix.alfresco.rest.client.resteasy.ResponseSizeRecordingFilter}.
+ *
+ * Instances of this class are thread-safe and expose the current page size and aggregated observations as metrics.
+ *
+ * @author Axel Faust
+ */
+public class AdaptivePageSizePolicy implements PageSizePolicy
+{
+
+    private static final double SMOOTHING_FACTOR = 0.3;
+
+    // minimum relative standard deviation of page sizes required to re-estimate the overhead from the observations
+    private static final double MIN_RELATIVE_PAGE_SIZE_DEVIATION = 0.1;
+
+    private final int minPageSize;
+
+    private final int maxPageSize;
+
+    private final long targetPageNanos;
+
+    private final long maxPayloadBytes;
+
+    private int currentPageSize;
+
+    private int smallestPageSize;
+
+    private int largestPageSize;
+
+    private double meanEntries = Double.NaN;
+
+    private double meanNanos = Double.NaN;
+
+    private double entriesVariance;
+
+    private double entriesNanosCovariance;
+
+    private long minPageDurationNanos = Long.MAX_VALUE;
+
+    private double overheadNanos;
+
+    private double nanosPerEntry = Double.NaN;
+
+    private double bytesPerEntry = Double.NaN;
+
+    private long pagesFetched;
+
+    private long entriesFetched;
+
+    private long lastPageDurationNanos;
+
+    /**
+     * Creates a new instance of this class without a limit on the payload size per page.
+     *
+     * @param minPageSize
+     *            the smallest page size to use
+     * @param maxPageSize
+     *            the largest page size to use
+     * @param initialPageSize
+     *            the page size to use for the first page
+     * @param targetPageDuration
+     *            the duration in which a page should ideally be retrieved
+     */
+    public AdaptivePageSizePolicy(final int minPageSize, final int maxPageSize, final int initialPageSize,
+            final Duration targetPageDuration)
+    {
+        this(minPageSize, maxPageSize, initialPageSize, targetPageDuration, 0);
+    }
+
+    /**
+     * Creates a new instance of this class.
+     *
+     * @param minPageSize
+     *            the smallest page size to use
+     * @param maxPageSize
+     *            the largest page size to use
+     * @param initialPageSize
+     *            the page size to use for the first page
+     * @param targetPageDuration
+     *            the duration in which a page should ideally be retrieved
+     * @param maxPayloadBytes
+     *            the maximum expected payload size of a page in bytes, or {@code 0} if the payload size should not limit the page size
+     */
+    public AdaptivePageSizePolicy(final int minPageSize, final int maxPageSize, final int initialPageSize,
+            final Duration targetPageDuration, final long maxPayloadBytes)
+    {
+        if (minPageSize <= 0 || maxPageSize < minPageSize)
+        {
+            throw new IllegalArgumentException("'minPageSize' and 'maxPageSize' must define a valid range of positive integers");
+        }
+        if (initialPageSize < minPageSize || initialPageSize > maxPageSize)
+        {
+            throw new IllegalArgumentException("'initialPageSize' must be within the range of 'minPageSize' and 'maxPageSize'");
+        }
+        if (targetPageDuration == null || targetPageDuration.isNegative() || targetPageDuration.isZero())
+        {
+            throw new IllegalArgumentException("'targetPageDuration' must be a positive duration");
+        }
+        if (maxPayloadBytes < 0)
+        {
+            throw new IllegalArgumentException("'maxPayloadBytes' must not be negative");
+        }
+        this.minPageSize = minPageSize;
+        this.maxPageSize = maxPageSize;
+        this.targetPageNanos = targetPageDuration.toNanos();
+        this.maxPayloadBytes = maxPayloadBytes;
+        this.currentPageSize = initialPageSize;
+        this.smallestPageSize = initialPageSize;
+        this.largestPageSize = initialPageSize;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized int nextPageSize()
+    {
+        return this.currentPageSize;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void pageFetched(final int requestedItems, final int receivedItems, final long durationNanos,
+            final long payloadBytes)
+    {
+        this.pagesFetched++;
+        this.lastPageDurationNanos = durationNanos;
+
+        // an empty page (end of listing) carries no information about the cost per entry
+        if (receivedItems > 0)
+        {
+            this.entriesFetched += receivedItems;
+            this.updateCostModel(receivedItems, durationNanos);
+            if (payloadBytes != UNKNOWN_PAYLOAD_SIZE)
+            {
+                this.bytesPerEntry = smooth(this.bytesPerEntry, (double) payloadBytes / receivedItems);
+            }
+
+            final double availableNanos = this.targetPageNanos - this.overheadNanos;
+            // if the overhead alone exceeds the target, larger pages at least amortize it across more entries
+            double candidate = availableNanos > 0 ? availableNanos / this.nanosPerEntry : this.maxPageSize;
+            if (this.maxPayloadBytes > 0 && !Double.isNaN(this.bytesPerEntry))
+            {
+                candidate = Math.min(candidate, this.maxPayloadBytes / Math.max(1d, this.bytesPerEntry));
+            }
+            candidate = Math.min(candidate, 2d * this.currentPageSize);
+
+            this.currentPageSize = (int) Math.max(this.minPageSize, Math.min(this.maxPageSize, Math.floor(candidate)));
+            this.smallestPageSize = Math.min(this.smallestPageSize, this.currentPageSize);
+            this.largestPageSize = Math.max(this.largestPageSize, this.currentPageSize);
+        }
+    }
+
+    /**
+     * Retrieves the page size that will be used for the next page.
+     *
+     * @return the current page size
+     */
+    public synchronized int getCurrentPageSize()
+    {
+        return this.currentPageSize;
+    }
+
+    /**
+     * Retrieves the smallest page size chosen by this policy so far.
+     *
+     * @return the smallest page size
+     */
+    public synchronized int getSmallestPageSize()
+    {
+        return this.smallestPageSize;
+    }
+
+    /**
+     * Retrieves the largest page size chosen by this policy so far.
+     *
+     * @return the largest page size
+     */
+    public synchronized int getLargestPageSize()
+    {
+        return this.largestPageSize;
+    }
+
+    /**
+     * Retrieves the number of pages observed by this policy.
+     *
+     * @return the number of pages
+     */
+    public synchronized long getPagesFetched()
+    {
+        return this.pagesFetched;
+    }
+
+    /**
+     * Retrieves the number of entries observed by this policy.
+     *
+     * @return the number of entries
+     */
+    public synchronized long getEntriesFetched()
+    {
+        return this.entriesFetched;
+    }
+
+    /**
+     * Retrieves the duration of the last page observed by this policy.
+     *
+     * @return the duration of the last page in nanoseconds
+     */
+    public synchronized long getLastPageDurationNanos()
+    {
+        return this.lastPageDurationNanos;
+    }
+
+    /**
+     * Retrieves the estimated fixed overhead per page, independent of the number of entries.
+     *
+     * @return the estimated overhead per page in nanoseconds, or {@code 0} if it could not be estimated yet
+     */
+    public synchronized double getOverheadNanos()
+    {
+        return this.overheadNanos;
+    }
+
+    /**
+     * Retrieves the estimated time per entry, excluding the {@link #getOverheadNanos() overhead per page}.
+     *
+     * @return the estimated time per entry in nanoseconds, or {@link Double#NaN} if no entries have been observed yet
+     */
+    public synchronized double getNanosPerEntry()
+    {
+        return this.nanosPerEntry;
+    }
+
+    /**
+     * Retrieves the smoothed payload size per entry.
+     *
+     * @return the smoothed payload size per entry in bytes, or {@link Double#NaN} if no payload sizes have been observed yet
+     */
+    public synchronized double getBytesPerEntry()
+    {
+        return this.bytesPerEntry;
+    }
+
+    private void updateCostModel(final int receivedItems, final long durationNanos)
+    {
+        this.minPageDurationNanos = Math.min(this.minPageDurationNanos, durationNanos);
+        if (Double.isNaN(this.meanEntries))
+        {
+            this.meanEntries = receivedItems;
+            this.meanNanos = durationNanos;
+        }
+        else
+        {
+            final double entriesDelta = receivedItems - this.meanEntries;
+            final double nanosDelta = durationNanos - this.meanNanos;
+            this.meanEntries += SMOOTHING_FACTOR * entriesDelta;
+            this.meanNanos += SMOOTHING_FACTOR * nanosDelta;
+            this.entriesVariance = (1 - SMOOTHING_FACTOR) * (this.entriesVariance + SMOOTHING_FACTOR * entriesDelta * entriesDelta);
+            this.entriesNanosCovariance = (1 - SMOOTHING_FACTOR)
+                    * (this.entriesNanosCovariance + SMOOTHING_FACTOR * entriesDelta * nanosDelta);
+        }
+
+        // with (nearly) constant page sizes, overhead and cost per entry cannot be told apart - keep the last estimate of the overhead
+        final double minEntriesDeviation = MIN_RELATIVE_PAGE_SIZE_DEVIATION * this.meanEntries;
+        if (this.entriesVariance > minEntriesDeviation * minEntriesDeviation && this.entriesNanosCovariance > 0)
+        {
+            final double slope = this.entriesNanosCovariance / this.entriesVariance;
+            final double intercept = this.meanNanos - slope * this.meanEntries;
+            this.overheadNanos = Math.min(Math.max(0d, intercept), this.minPageDurationNanos);
+        }
+        this.nanosPerEntry = Math.max(1d, (this.meanNanos - this.overheadNanos) / this.meanEntries);
+    }
+
+    private static double smooth(final double average, final double observation)
+    {
+        return Double.isNaN(average) ? observation : average + SMOOTHING_FACTOR * (observation - average);
+    }
+}
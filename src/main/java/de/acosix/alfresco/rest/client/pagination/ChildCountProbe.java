@@ -0,0 +1,232 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.pagination;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import de.acosix.alfresco.rest.client.api.NodesV1;
+import de.acosix.alfresco.rest.client.model.common.MultiValuedParam;
+import de.acosix.alfresco.rest.client.model.common.PaginatedList;
+import de.acosix.alfresco.rest.client.model.common.PaginationInfo;
+
+/**
+ * Instances of this class determine the number of children of nodes with the smallest possible requests, i.e. retrieving a single child
+ * restricted to its {@code id} field without any optional information included, and using only the
+ * {@link PaginationInfo#getTotalItems() total number of items} reported in the pagination info of the response.
+ *
+ * As the total number of items is an optional element of the pagination info, the number of children is determined by paging through all
+ * children - still restricted to their {@code id} field - if it is not reported.
+ *
+ * @author Axel Faust
+ */
+public class ChildCountProbe
+{
+
+    /**
+     * The default number of entries to retrieve per page when paging through children to count them.
+     */
+    public static final int DEFAULT_FALLBACK_PAGE_SIZE = 1000;
+
+    private static final MultiValuedParam<String> ID_FIELDS = new MultiValuedParam<>("id");
+
+    private final NodesV1 nodesAPI;
+
+    private final String where;
+
+    private final int fallbackPageSize;
+
+    /**
+     * Creates a new instance of this class counting all children of nodes.
+     *
+     * @param nodesAPI
+     *            the nodes API to use
+     */
+    public ChildCountProbe(final NodesV1 nodesAPI)
+    {
+        this(nodesAPI, null, DEFAULT_FALLBACK_PAGE_SIZE);
+    }
+
+    /**
+     * Creates a new instance of this class.
+     *
+     * @param nodesAPI
+     *            the nodes API to use
+     * @param where
+     *            the filter for the children to count, e.g. {@code (isFolder=true)} - may be {@code null}
+     * @param fallbackPageSize
+     *            the number of entries to retrieve per page when paging through children to count them
+     */
+    public ChildCountProbe(final NodesV1 nodesAPI, final String where, final int fallbackPageSize)
+    {
+        if (nodesAPI == null)
+        {
+            throw new IllegalArgumentException("'nodesAPI' must not be null");
+        }
+        if (fallbackPageSize <= 0)
+        {
+            throw new IllegalArgumentException("'fallbackPageSize' must be a positive integer");
+        }
+        this.nodesAPI = nodesAPI;
+        this.where = where;
+        this.fallbackPageSize = fallbackPageSize;
+    }
+
+    /**
+     * Determines the number of entries of a paginated listing using a single-entry probe, falling back to paging through the listing if
+     * the total number of items is not reported.
+     *
+     * @param fetcher
+     *            the fetcher for individual pages of the listing - should restrict the entries to the minimal set of fields
+     * @param fallbackPageSize
+     *            the number of entries to retrieve per page when paging through the listing to count its entries
+     * @return the number of entries
+     */
+    public static int count(final PageFetcher<?> fetcher, final int fallbackPageSize)
+    {
+        if (fetcher == null)
+        {
+            throw new IllegalArgumentException("'fetcher' must not be null");
+        }
+        if (fallbackPageSize <= 0)
+        {
+            throw new IllegalArgumentException("'fallbackPageSize' must be a positive integer");
+        }
+
+        int count = 0;
+        int maxItems = 1;
+        boolean exhausted = false;
+        while (!exhausted)
+        {
+            final PaginatedList<?> page = fetcher.fetchPage(count, maxItems);
+            final List<?> entries = page != null ? page.getEntriesView() : null;
+            final PaginationInfo pagination = page != null ? page.getPagination() : null;
+
+            if (maxItems == 1 && pagination != null && pagination.getTotalItems() != null)
+            {
+                count = pagination.getTotalItems().intValue();
+                exhausted = true;
+            }
+            else
+            {
+                final int entryCount = entries != null ? entries.size() : 0;
+                final int pageCount = pagination != null ? pagination.getCount() : entryCount;
+                count += pageCount;
+                // without pagination info, a short page is the only indicator that the end of the listing has been reached
+                exhausted = pageCount == 0 || (pagination != null ? !pagination.getHasMoreItems() : entryCount < maxItems);
+                maxItems = fallbackPageSize;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Determines the number of children of a node.
+     *
+     * @param nodeId
+     *            the ID of the node
+     * @return the number of children
+     */
+    public int countChildren(final String nodeId)
+    {
+        if (nodeId == null)
+        {
+            throw new IllegalArgumentException("'nodeId' must not be null");
+        }
+        return count((skipCount, maxItems) -> this.nodesAPI.getChildren(nodeId, this.where, skipCount, maxItems, null, null, ID_FIELDS),
+                this.fallbackPageSize);
+    }
+
+    /**
+     * Concurrently determines the number of children of multiple nodes with bounded parallelism.
+     *
+     * @param nodeIds
+     *            the IDs of the nodes
+     * @param parallelism
+     *            the maximum number of nodes to probe concurrently
+     * @param executor
+     *            the executor with which to concurrently probe nodes
+     * @return the number of children keyed by the ID of the node, in the iteration order of the provided IDs
+     */
+    public Map<String, Integer> countChildren(final Collection<String> nodeIds, final int parallelism, final ExecutorService executor)
+    {
+        if (nodeIds == null)
+        {
+            throw new IllegalArgumentException("'nodeIds' must not be null");
+        }
+        if (parallelism <= 0)
+        {
+            throw new IllegalArgumentException("'parallelism' must be a positive integer");
+        }
+        if (executor == null)
+        {
+            throw new IllegalArgumentException("'executor' must not be null");
+        }
+
+        final Queue<String> pendingNodeIds = new ConcurrentLinkedQueue<>(nodeIds);
+        final Map<String, Integer> counts = new ConcurrentHashMap<>();
+        final List<Future<?>> workers = new ArrayList<>();
+        for (int idx = 0, max = Math.min(parallelism, pendingNodeIds.size()); idx < max; idx++)
+        {
+            workers.add(executor.submit(() -> {
+                String nodeId;
+                while ((nodeId = pendingNodeIds.poll()) != null && !Thread.currentThread().isInterrupted())
+                {
+                    counts.put(nodeId, this.countChildren(nodeId));
+                }
+            }));
+        }
+
+        try
+        {
+            for (final Future<?> worker : workers)
+            {
+                worker.get();
+            }
+        }
+        catch (final InterruptedException iex)
+        {
+            Thread.currentThread().interrupt();
+            pendingNodeIds.clear();
+            workers.forEach(future -> future.cancel(true));
+            throw new IllegalStateException("Interrupted while waiting for child counts", iex);
+        }
+        catch (final ExecutionException eex)
+        {
+            pendingNodeIds.clear();
+            workers.forEach(future -> future.cancel(true));
+            final Throwable cause = eex.getCause();
+            if (cause instanceof RuntimeException)
+            {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException("Failed to determine child count", cause);
+        }
+
+        final Map<String, Integer> result = new LinkedHashMap<>();
+        nodeIds.forEach(nodeId -> result.put(nodeId, counts.get(nodeId)));
+        return result;
+    }
+}
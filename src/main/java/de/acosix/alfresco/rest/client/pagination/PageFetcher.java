@@ -0,0 +1,46 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.pagination;
+
+import de.acosix.alfresco.rest.client.model.common.PaginatedList;
+
+/**
+ * Instances of this interface retrieve a single page of a paginated listing operation of the Alfresco v1 ReST API. Implementations are
+ * typically lambdas binding all non-pagination parameters of a specific API operation, e.g.
+ *
+ * <pre>
+ * PageFetcher&lt;ChildNodeResponseEntity&gt; fetcher = (skipCount, maxItems) -&gt; nodesAPI.getChildren(nodeId, skipCount, maxItems, null);
+ * </pre>
+ *
+ * @param <T>
+ *            the type of entries in the paginated listing
+ * @author Axel Faust
+ */
+@FunctionalInterface
+public interface PageFetcher<T>
+{
+
+    /**
+     * Retrieves a single page of the listing.
+     *
+     * @param skipCount
+     *            the number of entries to skip
+     * @param maxItems
+     *            the maximum number of entries to retrieve
+     * @return the page of entries
+     */
+    PaginatedList<? extends T> fetchPage(int skipCount, int maxItems);
+}
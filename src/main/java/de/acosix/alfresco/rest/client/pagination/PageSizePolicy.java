@@ -0,0 +1,88 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.pagination;
+
+/**
+ * Instances of this interface determine the number of entries to request per page when traversing a paginated listing, and may adapt that
+ * number based on observations of previously retrieved pages.
+ *
+ * @author Axel Faust
+ */
+public interface PageSizePolicy
+{
+
+    /**
+     * Value to indicate that the size of a response payload is not known.
+     */
+    long UNKNOWN_PAYLOAD_SIZE = -1;
+
+    /**
+     * Retrieves the number of entries to request for the next page.
+     *
+     * @return the page size - must be a positive integer
+     */
+    int nextPageSize();
+
+    /**
+     * Records the observations of a retrieved page.
+     *
+     * @param requestedItems
+     *            the number of entries requested for the page
+     * @param receivedItems
+     *            the number of entries received
+     * @param durationNanos
+     *            the time taken to retrieve the page (including deserialisation) in nanoseconds
+     * @param payloadBytes
+     *            the size of the response payload in bytes, or {@link #UNKNOWN_PAYLOAD_SIZE} if the size is not known
+     */
+    void pageFetched(int requestedItems, int receivedItems, long durationNanos, long payloadBytes);
+
+    /**
+     * Creates a policy that always uses the same page size.
+     *
+     * @param pageSize
+     *            the page size
+     * @return the policy
+     */
+    static PageSizePolicy fixed(final int pageSize)
+    {
+        if (pageSize <= 0)
+        {
+            throw new IllegalArgumentException("'pageSize' must be a positive integer");
+        }
+        return new PageSizePolicy()
+        {
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public int nextPageSize()
+            {
+                return pageSize;
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public void pageFetched(final int requestedItems, final int receivedItems, final long durationNanos, final long payloadBytes)
+            {
+                // NO-OP
+            }
+        };
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.pagination;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import de.acosix.alfresco.rest.client.model.common.PaginatedList;
+import de.acosix.alfresco.rest.client.model.common.PaginationInfo;
+import de.acosix.alfresco.rest.client.resteasy.ResponseSizeRecordingFilter;
+
+/**
+ * Instances of this class lazily iterate over all entries of a paginated listing, retrieving the next page only when the entries of the
+ * current page have been consumed. At any point in time, only the entries of a single page are held by an instance of this class.
+ *
+ * The number of entries requested per page is determined by a {@link PageSizePolicy policy}, which is informed about the duration and - if
+ * recorded via {@link ResponseSizeRecordingFilter} - payload size of each retrieved page.
+ *
+ * @param <T>
+ *            the type of entries in the paginated listing
+ * @author Axel Faust
+ */
+public class PagedIterator<T> implements Iterator<T>
+{
+
+    private final PageFetcher<T> fetcher;
+
+    private final PageSizePolicy pageSizePolicy;
+
+    private int nextSkipCount;
+
+    private boolean exhausted;
+
+    private Iterator<? extends T> currentPage = Collections.emptyIterator();
+
+    /**
+     * Creates a new instance of this class iterating over a paginated listing from its first entry.
+     *
+     * @param fetcher
+     *            the fetcher for individual pages of the listing
+     * @param pageSize
+     *            the number of entries to retrieve per page
+     */
+    public PagedIterator(final PageFetcher<T> fetcher, final int pageSize)
+    {
+        this(fetcher, pageSize, 0);
+    }
+
+    /**
+     * Creates a new instance of this class iterating over a paginated listing from a specific offset.
+     *
+     * @param fetcher
+     *            the fetcher for individual pages of the listing
+     * @param pageSize
+     *            the number of entries to retrieve per page
+     * @param skipCount
+     *            the number of entries to skip at the start of the listing
+     */
+    public PagedIterator(final PageFetcher<T> fetcher, final int pageSize, final int skipCount)
+    {
+        this(fetcher, PageSizePolicy.fixed(pageSize), skipCount);
+    }
+
+    /**
+     * Creates a new instance of this class iterating over a paginated listing from a specific offset.
+     *
+     * @param fetcher
+     *            the fetcher for individual pages of the listing
+     * @param pageSizePolicy
+     *            the policy determining the number of entries to retrieve per page
+     * @param skipCount
+     *            the number of entries to skip at the start of the listing
+     */
+    public PagedIterator(final PageFetcher<T> fetcher, final PageSizePolicy pageSizePolicy, final int skipCount)
+    {
+        if (fetcher == null)
+        {
+            throw new IllegalArgumentException("'fetcher' must not be null");
+        }
+        if (pageSizePolicy == null)
+        {
+            throw new IllegalArgumentException("'pageSizePolicy' must not be null");
+        }
+        if (skipCount < 0)
+        {
+            throw new IllegalArgumentException("'skipCount' must not be negative");
+        }
+        this.fetcher = fetcher;
+        this.pageSizePolicy = pageSizePolicy;
+        this.nextSkipCount = skipCount;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasNext()
+    {
+        while (!this.currentPage.hasNext() && !this.exhausted)
+        {
+            this.fetchNextPage();
+        }
+        return this.currentPage.hasNext();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public T next()
+    {
+        if (!this.hasNext())
+        {
+            throw new NoSuchElementException();
+        }
+        return this.currentPage.next();
+    }
+
+    /**
+     * Retrieves the number of entries of the listing that precede the first entry of the next page to be retrieved.
+     *
+     * @return the skip count of the next page
+     */
+    public int getNextSkipCount()
+    {
+        return this.nextSkipCount;
+    }
+
+    protected void fetchNextPage()
+    {
+        final int pageSize = this.pageSizePolicy.nextPageSize();
+        if (pageSize <= 0)
+        {
+            throw new IllegalStateException("Page size policy provided an invalid page size of " + pageSize);
+        }
+
+        final PaginatedList<? extends T> page;
+        final long payloadBytes;
+        final long start = System.nanoTime();
+        ResponseSizeRecordingFilter.startRecording();
+        try
+        {
+            page = this.fetcher.fetchPage(this.nextSkipCount, pageSize);
+        }
+        finally
+        {
+            payloadBytes = ResponseSizeRecordingFilter.stopRecording();
+        }
+        final long durationNanos = System.nanoTime() - start;
+
+        final List<? extends T> entries = page != null ? page.getEntriesView() : null;
+        final PaginationInfo pagination = page != null ? page.getPagination() : null;
+
+        final int entryCount = entries != null ? entries.size() : 0;
+        final int count = pagination != null ? pagination.getCount() : entryCount;
+        this.pageSizePolicy.pageFetched(pageSize, entryCount, durationNanos,
+                payloadBytes != ResponseSizeRecordingFilter.UNKNOWN_SIZE ? payloadBytes : PageSizePolicy.UNKNOWN_PAYLOAD_SIZE);
+
+        this.nextSkipCount += count;
+        // without pagination info, a short page is the only indicator that the end of the listing has been reached
+        this.exhausted = count == 0 || (pagination != null ? !pagination.getHasMoreItems() : entryCount < pageSize);
+        this.currentPage = entries != null ? entries.iterator() : Collections.emptyIterator();
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.pagination;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import de.acosix.alfresco.rest.client.model.common.PaginatedList;
+import de.acosix.alfresco.rest.client.model.common.PaginationInfo;
+
+/**
+ * Instances of this class publish all entries of a paginated listing to reactive subscribers, retrieving pages only as subscribers signal
+ * demand. The size of each retrieved page is derived from the outstanding demand of the subscriber, limited by a maximum page size, so
+ * that no entries need to be buffered. Once a subscription has been cancelled, no further pages are retrieved.
+ *
+ * This publisher is cold - each subscriber receives its own traversal of the listing, starting from the first entry. All signals to a
+ * subscriber are emitted from tasks run via the configured executor.
+ *
+ * @param <T>
+ *            the type of entries in the paginated listing
+ * @author Axel Faust
+ */
+public class PagedPublisher<T> implements Flow.Publisher<T>
+{
+
+    private final PageFetcher<T> fetcher;
+
+    private final int maxPageSize;
+
+    private final Executor executor;
+
+    /**
+     * Creates a new instance of this class.
+     *
+     * @param fetcher
+     *            the fetcher for individual pages of the listing
+     * @param maxPageSize
+     *            the maximum number of entries to retrieve per page
+     * @param executor
+     *            the executor with which to retrieve pages and signal subscribers
+     */
+    public PagedPublisher(final PageFetcher<T> fetcher, final int maxPageSize, final Executor executor)
+    {
+        if (fetcher == null)
+        {
+            throw new IllegalArgumentException("'fetcher' must not be null");
+        }
+        if (executor == null)
+        {
+            throw new IllegalArgumentException("'executor' must not be null");
+        }
+        if (maxPageSize <= 0)
+        {
+            throw new IllegalArgumentException("'maxPageSize' must be a positive integer");
+        }
+        this.fetcher = fetcher;
+        this.maxPageSize = maxPageSize;
+        this.executor = executor;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void subscribe(final Flow.Subscriber<? super T> subscriber)
+    {
+        if (subscriber == null)
+        {
+            throw new NullPointerException("'subscriber' must not be null");
+        }
+        subscriber.onSubscribe(new PagedSubscription(subscriber));
+    }
+
+    /**
+     * @author Axel Faust
+     */
+    protected class PagedSubscription implements Flow.Subscription
+    {
+
+        private final Flow.Subscriber<? super T> subscriber;
+
+        private final AtomicLong requested = new AtomicLong();
+
+        private final AtomicInteger workInProgress = new AtomicInteger();
+
+        private volatile boolean cancelled;
+
+        private volatile Throwable invalidRequest;
+
+        // only accessed from the serialised drain loop
+        private int nextSkipCount;
+
+        private boolean done;
+
+        protected PagedSubscription(final Flow.Subscriber<? super T> subscriber)
+        {
+            this.subscriber = subscriber;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void request(final long n)
+        {
+            if (n <= 0)
+            {
+                this.invalidRequest = new IllegalArgumentException(
+                        "Non-positive request of " + n + " entries violates reactive streams rule 3.9");
+            }
+            else
+            {
+                this.requested.getAndUpdate(current -> {
+                    final long sum = current + n;
+                    return sum < 0 ? Long.MAX_VALUE : sum;
+                });
+            }
+            this.scheduleDrain();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void cancel()
+        {
+            this.cancelled = true;
+        }
+
+        protected void scheduleDrain()
+        {
+            if (this.workInProgress.getAndIncrement() == 0)
+            {
+                PagedPublisher.this.executor.execute(this::drain);
+            }
+        }
+
+        protected void drain()
+        {
+            int missed = 1;
+            while (missed != 0)
+            {
+                this.drainAvailableDemand();
+                missed = this.workInProgress.addAndGet(-missed);
+            }
+        }
+
+        protected void drainAvailableDemand()
+        {
+            while (!this.cancelled && !this.done)
+            {
+                final Throwable invalidRequest = this.invalidRequest;
+                if (invalidRequest != null)
+                {
+                    this.done = true;
+                    this.subscriber.onError(invalidRequest);
+                    break;
+                }
+
+                final long demand = this.requested.get();
+                if (demand <= 0)
+                {
+                    break;
+                }
+
+                final int maxItems = (int) Math.min(PagedPublisher.this.maxPageSize, demand);
+                final PaginatedList<? extends T> page;
+                try
+                {
+                    page = PagedPublisher.this.fetcher.fetchPage(this.nextSkipCount, maxItems);
+                }
+                catch (final RuntimeException rex)
+                {
+                    this.done = true;
+                    this.subscriber.onError(rex);
+                    break;
+                }
+
+                final List<? extends T> entries = page != null ? page.getEntriesView() : null;
+                final PaginationInfo pagination = page != null ? page.getPagination() : null;
+                final int entryCount = entries != null ? entries.size() : 0;
+                final int count = pagination != null ? pagination.getCount() : entryCount;
+                // a server returning more entries than requested must not push us past the demand of the subscriber - surplus entries
+                // are skipped here and retrieved again with the next page
+                final boolean truncated = count > maxItems || entryCount > maxItems;
+                this.nextSkipCount += Math.min(count, maxItems);
+
+                int emitted = 0;
+                if (entries != null)
+                {
+                    for (final T entry : entries)
+                    {
+                        if (this.cancelled || emitted >= maxItems)
+                        {
+                            break;
+                        }
+                        this.subscriber.onNext(entry);
+                        emitted++;
+                    }
+                }
+                final long emittedCount = emitted;
+                this.requested.getAndUpdate(current -> current == Long.MAX_VALUE ? current : Math.max(0, current - emittedCount));
+
+                final boolean hasMoreItems = count > 0
+                        && (truncated || (pagination != null ? pagination.getHasMoreItems() : entryCount >= maxItems));
+                if (!hasMoreItems && !this.cancelled)
+                {
+                    this.done = true;
+                    this.subscriber.onComplete();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.pagination;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import de.acosix.alfresco.rest.client.model.common.PaginatedList;
+import de.acosix.alfresco.rest.client.model.common.PaginationInfo;
+
+/**
+ * Instances of this class provide a splittable view over a range of entries of a paginated listing, allowing listings to be processed with
+ * parallel {@link java.util.stream.Stream streams}. Splitting divides the range of not yet retrieved entries along page boundaries, and
+ * each split retrieves its own pages as it is traversed.
+ *
+ * Instances created via {@link #forListing(PageFetcher, int)} are {@link Spliterator#SIZED sized} if the first page of the listing reports
+ * the total number of items. Any changes to the listing while it is being traversed may cause the reported size to be inaccurate.
+ *
+ * @param <T>
+ *            the type of entries in the paginated listing
+ * @author Axel Faust
+ */
+public class PagedSpliterator<T> implements Spliterator<T>
+{
+
+    private static final int UNKNOWN_FENCE = -1;
+
+    private final PageFetcher<T> fetcher;
+
+    private final int pageSize;
+
+    private final int characteristics;
+
+    private List<? extends T> buffer;
+
+    private int bufferIndex;
+
+    private int origin;
+
+    private int fence;
+
+    /**
+     * Creates a new instance of this class for a listing by retrieving its first page in order to determine the total number of items.
+     *
+     * @param <T>
+     *            the type of entries in the paginated listing
+     * @param fetcher
+     *            the fetcher for individual pages of the listing
+     * @param pageSize
+     *            the number of entries to retrieve per page
+     * @return the spliterator over the entire listing
+     */
+    public static <T> PagedSpliterator<T> forListing(final PageFetcher<T> fetcher, final int pageSize)
+    {
+        if (fetcher == null)
+        {
+            throw new IllegalArgumentException("'fetcher' must not be null");
+        }
+        if (pageSize <= 0)
+        {
+            throw new IllegalArgumentException("'pageSize' must be a positive integer");
+        }
+
+        final PaginatedList<? extends T> firstPage = fetcher.fetchPage(0, pageSize);
+        final List<? extends T> entries = firstPage != null ? firstPage.getEntriesView() : null;
+        final PaginationInfo pagination = firstPage != null ? firstPage.getPagination() : null;
+
+        final List<? extends T> buffer = entries != null ? entries : Collections.emptyList();
+        final int count = pagination != null ? pagination.getCount() : buffer.size();
+        final boolean hasMoreItems = count > 0
+                && (pagination != null ? pagination.getHasMoreItems() : buffer.size() >= pageSize);
+        final Integer totalItems = pagination != null ? pagination.getTotalItems() : null;
+
+        final PagedSpliterator<T> spliterator;
+        if (!hasMoreItems)
+        {
+            spliterator = new PagedSpliterator<>(fetcher, pageSize, buffer, count, count);
+        }
+        else if (totalItems != null)
+        {
+            spliterator = new PagedSpliterator<>(fetcher, pageSize, buffer, count, Math.max(count, totalItems.intValue()));
+        }
+        else
+        {
+            spliterator = new PagedSpliterator<>(fetcher, pageSize, buffer, count, UNKNOWN_FENCE);
+        }
+        return spliterator;
+    }
+
+    /**
+     * Creates a new instance of this class for a specific range of a paginated listing.
+     *
+     * @param fetcher
+     *            the fetcher for individual pages of the listing
+     * @param pageSize
+     *            the number of entries to retrieve per page
+     * @param origin
+     *            the skip count of the first entry in the range
+     * @param fence
+     *            the skip count of the first entry after the range
+     */
+    public PagedSpliterator(final PageFetcher<T> fetcher, final int pageSize, final int origin, final int fence)
+    {
+        this(fetcher, pageSize, Collections.emptyList(), origin, fence);
+        if (origin < 0 || fence < origin)
+        {
+            throw new IllegalArgumentException("'origin' and 'fence' must define a valid range");
+        }
+    }
+
+    protected PagedSpliterator(final PageFetcher<T> fetcher, final int pageSize, final List<? extends T> buffer, final int origin,
+            final int fence)
+    {
+        this.fetcher = fetcher;
+        this.pageSize = pageSize;
+        this.buffer = buffer;
+        this.origin = origin;
+        this.fence = fence;
+
+        int characteristics = Spliterator.ORDERED | Spliterator.NONNULL;
+        if (fence != UNKNOWN_FENCE)
+        {
+            characteristics |= Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+        this.characteristics = characteristics;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean tryAdvance(final Consumer<? super T> action)
+    {
+        if (action == null)
+        {
+            throw new NullPointerException("'action' must not be null");
+        }
+
+        while (this.bufferIndex >= this.buffer.size() && this.hasUnfetchedEntries())
+        {
+            this.fetchNextPage();
+        }
+
+        boolean advanced = false;
+        if (this.bufferIndex < this.buffer.size())
+        {
+            action.accept(this.buffer.get(this.bufferIndex++));
+            advanced = true;
+        }
+        return advanced;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Spliterator<T> trySplit()
+    {
+        Spliterator<T> prefix = null;
+        if (this.fence != UNKNOWN_FENCE)
+        {
+            final int remainingPages = (this.fence - this.origin) / this.pageSize;
+            if (remainingPages >= 2)
+            {
+                final int mid = this.origin + (remainingPages / 2) * this.pageSize;
+                // prefix takes over any buffered entries as they precede the unfetched range
+                prefix = new PagedSpliterator<>(this.fetcher, this.pageSize, this.remainingBuffer(), this.origin, mid);
+                this.buffer = Collections.emptyList();
+                this.bufferIndex = 0;
+                this.origin = mid;
+            }
+        }
+        return prefix;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long estimateSize()
+    {
+        final long buffered = this.buffer.size() - this.bufferIndex;
+        return this.fence == UNKNOWN_FENCE ? Long.MAX_VALUE : buffered + (this.fence - this.origin);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int characteristics()
+    {
+        return this.characteristics;
+    }
+
+    protected boolean hasUnfetchedEntries()
+    {
+        return this.fence == UNKNOWN_FENCE || this.origin < this.fence;
+    }
+
+    protected List<? extends T> remainingBuffer()
+    {
+        return this.bufferIndex == 0 ? this.buffer : this.buffer.subList(this.bufferIndex, this.buffer.size());
+    }
+
+    protected void fetchNextPage()
+    {
+        final int maxItems = this.fence == UNKNOWN_FENCE ? this.pageSize : Math.min(this.pageSize, this.fence - this.origin);
+        final PaginatedList<? extends T> page = this.fetcher.fetchPage(this.origin, maxItems);
+        final List<? extends T> entries = page != null ? page.getEntriesView() : null;
+        final PaginationInfo pagination = page != null ? page.getPagination() : null;
+
+        this.buffer = entries != null ? entries : Collections.emptyList();
+        this.bufferIndex = 0;
+
+        final int count = pagination != null ? pagination.getCount() : this.buffer.size();
+        this.origin += count;
+
+        final boolean hasMoreItems = pagination != null ? pagination.getHasMoreItems() : this.buffer.size() >= maxItems;
+        if (count == 0 || (this.fence == UNKNOWN_FENCE && !hasMoreItems))
+        {
+            // listing ended early (e.g. concurrent deletions) or end of unsized listing has been reached
+            this.fence = this.fence == UNKNOWN_FENCE ? this.origin : Math.min(this.fence, this.origin);
+        }
+    }
+}
@@ -0,0 +1,628 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.pagination;
+
+import java.io.IOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Flow;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.GenericType;
+import jakarta.ws.rs.core.Response;
+
+import de.acosix.alfresco.rest.client.api.NodesV1;
+import de.acosix.alfresco.rest.client.api.NodesV1.IncludeOption;
+import de.acosix.alfresco.rest.client.api.PeopleV1;
+import de.acosix.alfresco.rest.client.api.SitesV1;
+import de.acosix.alfresco.rest.client.jackson.Projection;
+import de.acosix.alfresco.rest.client.jackson.Projections;
+import de.acosix.alfresco.rest.client.model.common.MultiValuedParam;
+import de.acosix.alfresco.rest.client.model.common.PaginatedList;
+import de.acosix.alfresco.rest.client.model.common.Sort;
+import de.acosix.alfresco.rest.client.model.nodes.ChildNodeResponseEntity;
+import de.acosix.alfresco.rest.client.model.nodes.NodeSortField;
+import de.acosix.alfresco.rest.client.model.people.PersonResponseEntity;
+import de.acosix.alfresco.rest.client.model.people.PersonSortField;
+import de.acosix.alfresco.rest.client.model.sites.SiteRelation;
+import de.acosix.alfresco.rest.client.model.sites.SiteResponseEntity;
+import de.acosix.alfresco.rest.client.model.sites.SiteSortField;
+
+/**
+ * This class provides utility operations to lazily traverse paginated listings of the Alfresco v1 ReST API without having to manually
+ * handle {@code skipCount} / {@code maxItems} parameters.
+ *
+ * @author Axel Faust
+ */
+public final class Paging
+{
+
+    private Paging()
+    {
+        // NO-OP
+    }
+
+    /**
+     * Creates a lazy iterator over all entries of a paginated listing.
+     *
+     * @param <T>
+     *            the type of entries in the paginated listing
+     * @param fetcher
+     *            the fetcher for individual pages of the listing
+     * @param pageSize
+     *            the number of entries to retrieve per page
+     * @return the lazy iterator
+     */
+    public static <T> PagedIterator<T> iterator(final PageFetcher<T> fetcher, final int pageSize)
+    {
+        return new PagedIterator<>(fetcher, pageSize);
+    }
+
+    /**
+     * Creates a lazy, sequential stream over all entries of a paginated listing.
+     *
+     * @param <T>
+     *            the type of entries in the paginated listing
+     * @param fetcher
+     *            the fetcher for individual pages of the listing
+     * @param pageSize
+     *            the number of entries to retrieve per page
+     * @return the lazy stream
+     */
+    public static <T> Stream<T> stream(final PageFetcher<T> fetcher, final int pageSize)
+    {
+        final PagedIterator<T> iterator = iterator(fetcher, pageSize);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * Creates a lazy, sequential stream over all entries of a paginated listing with page sizes determined by a policy.
+     *
+     * @param <T>
+     *            the type of entries in the paginated listing
+     * @param fetcher
+     *            the fetcher for individual pages of the listing
+     * @param pageSizePolicy
+     *            the policy determining the number of entries to retrieve per page, e.g. an {@link AdaptivePageSizePolicy adaptive
+     *            policy}
+     * @return the lazy stream
+     */
+    public static <T> Stream<T> stream(final PageFetcher<T> fetcher, final PageSizePolicy pageSizePolicy)
+    {
+        final PagedIterator<T> iterator = new PagedIterator<>(fetcher, pageSizePolicy, 0);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * Creates an iterator over all entries of a paginated listing which asynchronously retrieves subsequent pages ahead of consumption.
+     *
+     * @param <T>
+     *            the type of entries in the paginated listing
+     * @param fetcher
+     *            the fetcher for individual pages of the listing
+     * @param pageSize
+     *            the number of entries to retrieve per page
+     * @param prefetchDepth
+     *            the number of pages to retrieve ahead of the page currently being consumed
+     * @param executor
+     *            the executor with which to asynchronously retrieve pages
+     * @return the prefetching iterator
+     */
+    public static <T> PrefetchingPagedIterator<T> prefetchingIterator(final PageFetcher<T> fetcher, final int pageSize,
+            final int prefetchDepth, final ExecutorService executor)
+    {
+        return new PrefetchingPagedIterator<>(fetcher, pageSize, prefetchDepth, executor);
+    }
+
+    /**
+     * Creates a sequential stream over all entries of a paginated listing which asynchronously retrieves subsequent pages ahead of
+     * consumption. The stream should be {@link Stream#close() closed} by the caller (e.g. via try-with-resources) in order to cancel any
+     * outstanding page requests if the stream is not consumed completely.
+     *
+     * @param <T>
+     *            the type of entries in the paginated listing
+     * @param fetcher
+     *            the fetcher for individual pages of the listing
+     * @param pageSize
+     *            the number of entries to retrieve per page
+     * @param prefetchDepth
+     *            the number of pages to retrieve ahead of the page currently being consumed
+     * @param executor
+     *            the executor with which to asynchronously retrieve pages
+     * @return the prefetching stream
+     */
+    public static <T> Stream<T> prefetchingStream(final PageFetcher<T> fetcher, final int pageSize, final int prefetchDepth,
+            final ExecutorService executor)
+    {
+        final PrefetchingPagedIterator<T> iterator = prefetchingIterator(fetcher, pageSize, prefetchDepth, executor);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(iterator::close);
+    }
+
+    /**
+     * Loads all entries of a paginated listing, concurrently retrieving all pages after the first if the listing reports the total number
+     * of items.
+     *
+     * @param <T>
+     *            the type of entries in the paginated listing
+     * @param fetcher
+     *            the fetcher for individual pages of the listing
+     * @param pageSize
+     *            the number of entries to retrieve per page
+     * @param parallelism
+     *            the maximum number of pages to retrieve concurrently
+     * @param executor
+     *            the executor with which to concurrently retrieve pages
+     * @return the complete listing
+     */
+    public static <T> PaginatedList<T> loadAll(final PageFetcher<T> fetcher, final int pageSize, final int parallelism,
+            final ExecutorService executor)
+    {
+        return new ParallelPageLoader<>(fetcher, pageSize, parallelism, executor).loadAll();
+    }
+
+    /**
+     * Creates an ordered, sequential stream over all entries of a paginated listing, concurrently retrieving all pages after the first if
+     * the listing reports the total number of items. The stream should be {@link Stream#close() closed} by the caller (e.g. via
+     * try-with-resources) in order to cancel any outstanding page requests if the stream is not consumed completely.
+     *
+     * @param <T>
+     *            the type of entries in the paginated listing
+     * @param fetcher
+     *            the fetcher for individual pages of the listing
+     * @param pageSize
+     *            the number of entries to retrieve per page
+     * @param parallelism
+     *            the maximum number of pages to retrieve concurrently
+     * @param executor
+     *            the executor with which to concurrently retrieve pages
+     * @return the ordered stream
+     */
+    public static <T> Stream<T> fanOutStream(final PageFetcher<T> fetcher, final int pageSize, final int parallelism,
+            final ExecutorService executor)
+    {
+        return new ParallelPageLoader<>(fetcher, pageSize, parallelism, executor).stream();
+    }
+
+    /**
+     * Creates a parallel stream over all entries of a paginated listing. The first page of the listing is retrieved immediately in order to
+     * determine the total number of items, which allows the listing to be split along page boundaries, with each split retrieving its own
+     * pages. Listings that do not report the total number of items cannot be split and will be processed sequentially.
+     *
+     * @param <T>
+     *            the type of entries in the paginated listing
+     * @param fetcher
+     *            the fetcher for individual pages of the listing
+     * @param pageSize
+     *            the number of entries to retrieve per page
+     * @return the parallel stream
+     */
+    public static <T> Stream<T> parallelStream(final PageFetcher<T> fetcher, final int pageSize)
+    {
+        return StreamSupport.stream(PagedSpliterator.forListing(fetcher, pageSize), true);
+    }
+
+    /**
+     * Creates a reactive publisher of all entries of a paginated listing, retrieving pages sized according to the demand signalled by
+     * subscribers.
+     *
+     * @param <T>
+     *            the type of entries in the paginated listing
+     * @param fetcher
+     *            the fetcher for individual pages of the listing
+     * @param maxPageSize
+     *            the maximum number of entries to retrieve per page
+     * @param executor
+     *            the executor with which to retrieve pages and signal subscribers
+     * @return the publisher
+     */
+    public static <T> Flow.Publisher<T> publisher(final PageFetcher<T> fetcher, final int maxPageSize, final Executor executor)
+    {
+        return new PagedPublisher<>(fetcher, maxPageSize, executor);
+    }
+
+    /**
+     * Creates an iterator over all entries of a paginated listing which checkpoints its position to a file, resuming from any previously
+     * checkpointed position for the same listing.
+     *
+     * @param <T>
+     *            the type of entries in the paginated listing
+     * @param fetcher
+     *            the fetcher for individual pages of the listing
+     * @param idExtractor
+     *            the function to determine the unique ID of an entry
+     * @param pageSize
+     *            the number of entries to retrieve per page
+     * @param initialCursor
+     *            the cursor identifying the listing and positioned at the start of the traversal
+     * @param checkpointFile
+     *            the file to which to checkpoint the cursor and from which to load any previous checkpoint
+     * @return the resumable iterator
+     * @throws IOException
+     *             if an existing checkpoint file cannot be read
+     * @throws IllegalStateException
+     *             if the existing checkpoint file refers to a different listing
+     */
+    public static <T> ResumablePagedIterator<T> resumableIterator(final PageFetcher<T> fetcher,
+            final Function<? super T, String> idExtractor, final int pageSize, final PagingCursor initialCursor,
+            final PagingCursorFile checkpointFile) throws IOException
+    {
+        if (initialCursor == null)
+        {
+            throw new IllegalArgumentException("'initialCursor' must not be null");
+        }
+        if (checkpointFile == null)
+        {
+            throw new IllegalArgumentException("'checkpointFile' must not be null");
+        }
+
+        PagingCursor cursor = checkpointFile.load();
+        if (cursor == null)
+        {
+            cursor = initialCursor;
+        }
+        else if (!cursor.isSameListing(initialCursor))
+        {
+            throw new IllegalStateException("Checkpoint " + checkpointFile.getFile() + " refers to a different listing (endpoint "
+                    + cursor.getEndpoint() + ", parameters " + cursor.getParameters() + ")");
+        }
+        return new ResumablePagedIterator<>(fetcher, idExtractor, pageSize, cursor, checkpointFile);
+    }
+
+    /**
+     * Creates an iterator over all children of a specific node which checkpoints its position to a file, resuming from any previously
+     * checkpointed position for the same listing.
+     *
+     * @param nodesAPI
+     *            the nodes API to use
+     * @param nodeId
+     *            the ID of the node from which to retrieve the children
+     * @param orderBy
+     *            the sort order for children to use - may be {@code null}
+     * @param include
+     *            the list of optional fields / information to include in the response - may be {@code null}
+     * @param fields
+     *            the list of fields to which to restrict the response - should be {@code null} if no restrictions should be applied
+     * @param pageSize
+     *            the number of children to retrieve per page
+     * @param checkpointFile
+     *            the file to which to checkpoint the cursor and from which to load any previous checkpoint
+     * @return the resumable iterator
+     * @throws IOException
+     *             if an existing checkpoint file cannot be read
+     */
+    public static ResumablePagedIterator<ChildNodeResponseEntity> resumableChildren(final NodesV1 nodesAPI, final String nodeId,
+            final MultiValuedParam<Sort<NodeSortField>> orderBy, final MultiValuedParam<IncludeOption> include,
+            final MultiValuedParam<String> fields, final int pageSize, final PagingCursorFile checkpointFile) throws IOException
+    {
+        return resumableIterator(children(nodesAPI, nodeId, orderBy, include, fields), ChildNodeResponseEntity::getId, pageSize,
+                PagingCursor.children(nodeId, orderBy, include, fields), checkpointFile);
+    }
+
+    /**
+     * Creates an iterator over all accessible sites which checkpoints its position to a file, resuming from any previously checkpointed
+     * position for the same listing.
+     *
+     * @param sitesAPI
+     *            the sites API to use
+     * @param orderBy
+     *            the sort order for sites to use - may be {@code null}
+     * @param relations
+     *            the list of relations to secondary structures to load with the result - may be {@code null}
+     * @param fields
+     *            the list of fields to which to restrict the response - should be {@code null} if no restrictions should be applied
+     * @param where
+     *            a conditional filter to be applied to restrict the list of sites - may be {@code null}
+     * @param pageSize
+     *            the number of sites to retrieve per page
+     * @param checkpointFile
+     *            the file to which to checkpoint the cursor and from which to load any previous checkpoint
+     * @return the resumable iterator
+     * @throws IOException
+     *             if an existing checkpoint file cannot be read
+     */
+    public static ResumablePagedIterator<SiteResponseEntity> resumableSites(final SitesV1 sitesAPI,
+            final MultiValuedParam<Sort<SiteSortField>> orderBy, final MultiValuedParam<SiteRelation> relations,
+            final MultiValuedParam<String> fields, final String where, final int pageSize, final PagingCursorFile checkpointFile)
+            throws IOException
+    {
+        return resumableIterator(sites(sitesAPI, orderBy, relations, fields, where), SiteResponseEntity::getId, pageSize,
+                PagingCursor.sites(orderBy, relations, fields, where), checkpointFile);
+    }
+
+    /**
+     * Creates an iterator over all people / user accounts which checkpoints its position to a file, resuming from any previously
+     * checkpointed position for the same listing.
+     *
+     * @param peopleAPI
+     *            the people API to use
+     * @param orderBy
+     *            the sort order for people to use - may be {@code null}
+     * @param include
+     *            the list of optional fields / information to include in the response - may be {@code null}
+     * @param fields
+     *            the list of fields to which to restrict the response - should be {@code null} if no restrictions should be applied
+     * @param pageSize
+     *            the number of people to retrieve per page
+     * @param checkpointFile
+     *            the file to which to checkpoint the cursor and from which to load any previous checkpoint
+     * @return the resumable iterator
+     * @throws IOException
+     *             if an existing checkpoint file cannot be read
+     */
+    public static ResumablePagedIterator<PersonResponseEntity> resumablePeople(final PeopleV1 peopleAPI,
+            final MultiValuedParam<Sort<PersonSortField>> orderBy, final MultiValuedParam<PeopleV1.IncludeOption> include,
+            final MultiValuedParam<String> fields, final int pageSize, final PagingCursorFile checkpointFile) throws IOException
+    {
+        return resumableIterator(people(peopleAPI, orderBy, include, fields), PersonResponseEntity::getId, pageSize,
+                PagingCursor.people(orderBy, include, fields), checkpointFile);
+    }
+
+    /**
+     * Creates a page fetcher for the children of a specific node.
+     *
+     * @param nodesAPI
+     *            the nodes API to use
+     * @param nodeId
+     *            the ID of the node from which to retrieve the children - supports the pseudo IDs {@code -root-}, {@code -shared-} and
+     *            {@code -my-}
+     * @param orderBy
+     *            the sort order for children to use - may be {@code null}
+     * @param include
+     *            the list of optional fields / information to include in the response - may be {@code null}
+     * @param fields
+     *            the list of fields to which to restrict the response - should be {@code null} if no restrictions should be applied
+     * @return the page fetcher
+     */
+    public static PageFetcher<ChildNodeResponseEntity> children(final NodesV1 nodesAPI, final String nodeId,
+            final MultiValuedParam<Sort<NodeSortField>> orderBy, final MultiValuedParam<IncludeOption> include,
+            final MultiValuedParam<String> fields)
+    {
+        return (skipCount, maxItems) -> nodesAPI.getChildren(nodeId, (String) null, skipCount, maxItems, orderBy, include, fields);
+    }
+
+    /**
+     * Creates a lazy, sequential stream over all children of a specific node.
+     *
+     * @param nodesAPI
+     *            the nodes API to use
+     * @param nodeId
+     *            the ID of the node from which to retrieve the children - supports the pseudo IDs {@code -root-}, {@code -shared-} and
+     *            {@code -my-}
+     * @param pageSize
+     *            the number of children to retrieve per page
+     * @param orderBy
+     *            the sort order for children to use - may be {@code null}
+     * @return the lazy stream
+     */
+    public static Stream<ChildNodeResponseEntity> children(final NodesV1 nodesAPI, final String nodeId, final int pageSize,
+            final MultiValuedParam<Sort<NodeSortField>> orderBy)
+    {
+        return stream(children(nodesAPI, nodeId, orderBy, null, null), pageSize);
+    }
+
+    /**
+     * Creates a page fetcher for the children of a specific node, reading the children into a {@link Projection projection} type. The
+     * {@code fields} parameter is derived from the projection type, and any optional information which needs to be explicitly included
+     * is requested if the projection type exposes a property of the same name.
+     *
+     * @param <P>
+     *            the projection type
+     * @param nodesAPI
+     *            the nodes API to use
+     * @param nodeId
+     *            the ID of the node from which to retrieve the children - supports the pseudo IDs {@code -root-}, {@code -shared-} and
+     *            {@code -my-}
+     * @param projectionType
+     *            the projection interface into which to read the children
+     * @param orderBy
+     *            the sort order for children to use - may be {@code null}
+     * @return the page fetcher
+     */
+    public static <P> PageFetcher<P> children(final NodesV1 nodesAPI, final String nodeId, final Class<P> projectionType,
+            final MultiValuedParam<Sort<NodeSortField>> orderBy)
+    {
+        final MultiValuedParam<String> fields = Projections.fields(projectionType);
+        final List<String> fieldNames = fields.getValuesView();
+        final List<IncludeOption> includeOptions = new ArrayList<>();
+        for (final IncludeOption includeOption : IncludeOption.values())
+        {
+            if (fieldNames.contains(includeOption.toString()))
+            {
+                includeOptions.add(includeOption);
+            }
+        }
+        final MultiValuedParam<IncludeOption> include = includeOptions.isEmpty() ? null : new MultiValuedParam<>(includeOptions);
+        final GenericType<PaginatedList<P>> listType = new GenericType<>(new ProjectionListType(projectionType));
+
+        return (skipCount, maxItems) -> {
+            final Response response = nodesAPI.getChildrenResponse(nodeId, null, skipCount, maxItems, orderBy, include, fields);
+            try
+            {
+                if (response.getStatusInfo().getFamily() != Response.Status.Family.SUCCESSFUL)
+                {
+                    throw new WebApplicationException(response);
+                }
+                return response.readEntity(listType);
+            }
+            finally
+            {
+                response.close();
+            }
+        };
+    }
+
+    /**
+     * Creates a page fetcher for the child nodes of a specific node which are referenced by secondary child associations.
+     *
+     * @param nodesAPI
+     *            the nodes API to use
+     * @param parentId
+     *            the ID of the parent node from which to retrieve the child nodes
+     * @param where
+     *            optionally filter the list by assocType - may be {@code null}
+     * @param include
+     *            the list of optional fields / information to include in the response - may be {@code null}
+     * @param fields
+     *            the list of fields to which to restrict the response - should be {@code null} if no restrictions should be applied
+     * @return the page fetcher
+     */
+    public static PageFetcher<ChildNodeResponseEntity> secondaryChildren(final NodesV1 nodesAPI, final String parentId,
+            final String where, final MultiValuedParam<IncludeOption> include, final MultiValuedParam<String> fields)
+    {
+        return (skipCount, maxItems) -> nodesAPI.getSecondaryChildNodes(parentId, where, skipCount, maxItems, include, fields);
+    }
+
+    /**
+     * Creates a page fetcher for the accessible sites.
+     *
+     * @param sitesAPI
+     *            the sites API to use
+     * @param orderBy
+     *            the sort order for sites to use - may be {@code null}
+     * @param relations
+     *            the list of relations to secondary structures to load with the result - may be {@code null}
+     * @param fields
+     *            the list of fields to which to restrict the response - should be {@code null} if no restrictions should be applied
+     * @param where
+     *            a conditional filter to be applied to restrict the list of sites - may be {@code null}
+     * @return the page fetcher
+     */
+    public static PageFetcher<SiteResponseEntity> sites(final SitesV1 sitesAPI, final MultiValuedParam<Sort<SiteSortField>> orderBy,
+            final MultiValuedParam<SiteRelation> relations, final MultiValuedParam<String> fields, final String where)
+    {
+        return (skipCount, maxItems) -> sitesAPI.getSites(skipCount, maxItems, orderBy, relations, fields, where);
+    }
+
+    /**
+     * Creates a page fetcher for the people / user accounts.
+     *
+     * @param peopleAPI
+     *            the people API to use
+     * @param orderBy
+     *            the sort order for people to use - may be {@code null}
+     * @param include
+     *            the list of optional fields / information to include in the response - may be {@code null}
+     * @param fields
+     *            the list of fields to which to restrict the response - should be {@code null} if no restrictions should be applied
+     * @return the page fetcher
+     */
+    public static PageFetcher<PersonResponseEntity> people(final PeopleV1 peopleAPI,
+            final MultiValuedParam<Sort<PersonSortField>> orderBy, final MultiValuedParam<PeopleV1.IncludeOption> include,
+            final MultiValuedParam<String> fields)
+    {
+        return (skipCount, maxItems) -> peopleAPI.getPeople(skipCount, maxItems, orderBy, include, fields);
+    }
+
+    /**
+     * Parameterized type for a paginated list of projections, as a generic type argument cannot be captured at runtime.
+     *
+     * @author Axel Faust
+     */
+    private static final class ProjectionListType implements ParameterizedType
+    {
+
+        private final Class<?> projectionType;
+
+        private ProjectionListType(final Class<?> projectionType)
+        {
+            this.projectionType = projectionType;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Type[] getActualTypeArguments()
+        {
+            return new Type[] { this.projectionType };
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Type getRawType()
+        {
+            return PaginatedList.class;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Type getOwnerType()
+        {
+            return null;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String getTypeName()
+        {
+            return PaginatedList.class.getName() + "<" + this.projectionType.getName() + ">";
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int hashCode()
+        {
+            // consistent with the JDK implementation of parameterized types
+            return Arrays.hashCode(this.getActualTypeArguments()) ^ Objects.hashCode(this.getOwnerType())
+                    ^ Objects.hashCode(this.getRawType());
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean equals(final Object obj)
+        {
+            boolean equals = this == obj;
+            if (!equals && obj instanceof ParameterizedType)
+            {
+                final ParameterizedType other = (ParameterizedType) obj;
+                equals = Objects.equals(this.getRawType(), other.getRawType()) && Objects.equals(this.getOwnerType(), other.getOwnerType())
+                        && Arrays.equals(this.getActualTypeArguments(), other.getActualTypeArguments());
+            }
+            return equals;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String toString()
+        {
+            return this.getTypeName();
+        }
+    }
+}
@@ -0,0 +1,313 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.pagination;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import de.acosix.alfresco.rest.client.api.NodesV1.IncludeOption;
+import de.acosix.alfresco.rest.client.api.PeopleV1;
+import de.acosix.alfresco.rest.client.model.common.MultiValuedParam;
+import de.acosix.alfresco.rest.client.model.common.Sort;
+import de.acosix.alfresco.rest.client.model.nodes.NodeSortField;
+import de.acosix.alfresco.rest.client.model.people.PersonSortField;
+import de.acosix.alfresco.rest.client.model.sites.SiteRelation;
+import de.acosix.alfresco.rest.client.model.sites.SiteSortField;
+
+/**
+ * Instances of this class capture the position of a traversal over a paginated listing so that the traversal can be resumed, e.g. after a
+ * process has been terminated. A cursor identifies the listing via the name of its endpoint and the (stringified) parameters of the
+ * operation, and records the number of entries processed so far as well as the IDs of the most recently processed entries. The latter are
+ * used to deduplicate entries around the resume position, as the listing may have changed in the meantime.
+ *
+ * Instances of this class are simple value objects which can be (de)serialised via Jackson, e.g. by {@link PagingCursorFile}.
+ *
+ * @author Axel Faust
+ */
+public class PagingCursor
+{
+
+    private String endpoint;
+
+    private Map<String, String> parameters = new LinkedHashMap<>();
+
+    private int skipCount;
+
+    private List<String> seenIds = new ArrayList<>();
+
+    private boolean complete;
+
+    /**
+     * Creates a new instance of this value class.
+     */
+    public PagingCursor()
+    {
+        // NO-OP
+    }
+
+    /**
+     * Creates a new instance of this value class positioned at the start of the identified listing.
+     *
+     * @param endpoint
+     *            the name of the endpoint providing the listing
+     * @param parameters
+     *            the parameters of the listing operation
+     */
+    public PagingCursor(final String endpoint, final Map<String, String> parameters)
+    {
+        if (endpoint == null)
+        {
+            throw new IllegalArgumentException("'endpoint' must not be null");
+        }
+        this.endpoint = endpoint;
+        this.setParameters(parameters);
+    }
+
+    /**
+     * Creates a new instance of this value class as a full (recursive) copy of the provided reference / template.
+     *
+     * @param reference
+     *            the reference / template for the new instance
+     */
+    public PagingCursor(final PagingCursor reference)
+    {
+        this.endpoint = reference.getEndpoint();
+        this.parameters = reference.getParameters();
+        this.skipCount = reference.getSkipCount();
+        this.seenIds = reference.getSeenIds();
+        this.complete = reference.isComplete();
+    }
+
+    /**
+     * Creates a new cursor positioned at the start of the listing of children of a specific node.
+     *
+     * @param nodeId
+     *            the ID of the node from which to retrieve the children
+     * @param orderBy
+     *            the sort order for children to use - may be {@code null}
+     * @param include
+     *            the list of optional fields / information to include in the response - may be {@code null}
+     * @param fields
+     *            the list of fields to which to restrict the response - may be {@code null}
+     * @return the cursor
+     */
+    public static PagingCursor children(final String nodeId, final MultiValuedParam<Sort<NodeSortField>> orderBy,
+            final MultiValuedParam<IncludeOption> include, final MultiValuedParam<String> fields)
+    {
+        final Map<String, String> parameters = new LinkedHashMap<>();
+        parameters.put("nodeId", nodeId);
+        putParameter(parameters, "orderBy", orderBy);
+        putParameter(parameters, "include", include);
+        putParameter(parameters, "fields", fields);
+        return new PagingCursor("nodes/children", parameters);
+    }
+
+    /**
+     * Creates a new cursor positioned at the start of the listing of secondary children of a specific node.
+     *
+     * @param parentId
+     *            the ID of the parent node from which to retrieve the child nodes
+     * @param where
+     *            the filter of the listing by assocType - may be {@code null}
+     * @param include
+     *            the list of optional fields / information to include in the response - may be {@code null}
+     * @param fields
+     *            the list of fields to which to restrict the response - may be {@code null}
+     * @return the cursor
+     */
+    public static PagingCursor secondaryChildren(final String parentId, final String where, final MultiValuedParam<IncludeOption> include,
+            final MultiValuedParam<String> fields)
+    {
+        final Map<String, String> parameters = new LinkedHashMap<>();
+        parameters.put("parentId", parentId);
+        if (where != null)
+        {
+            parameters.put("where", where);
+        }
+        putParameter(parameters, "include", include);
+        putParameter(parameters, "fields", fields);
+        return new PagingCursor("nodes/secondary-children", parameters);
+    }
+
+    /**
+     * Creates a new cursor positioned at the start of the listing of sites.
+     *
+     * @param orderBy
+     *            the sort order for sites to use - may be {@code null}
+     * @param relations
+     *            the list of relations to secondary structures to load with the result - may be {@code null}
+     * @param fields
+     *            the list of fields to which to restrict the response - may be {@code null}
+     * @param where
+     *            the conditional filter to restrict the list of sites - may be {@code null}
+     * @return the cursor
+     */
+    public static PagingCursor sites(final MultiValuedParam<Sort<SiteSortField>> orderBy, final MultiValuedParam<SiteRelation> relations,
+            final MultiValuedParam<String> fields, final String where)
+    {
+        final Map<String, String> parameters = new LinkedHashMap<>();
+        putParameter(parameters, "orderBy", orderBy);
+        putParameter(parameters, "relations", relations);
+        putParameter(parameters, "fields", fields);
+        if (where != null)
+        {
+            parameters.put("where", where);
+        }
+        return new PagingCursor("sites", parameters);
+    }
+
+    /**
+     * Creates a new cursor positioned at the start of the listing of people.
+     *
+     * @param orderBy
+     *            the sort order for people to use - may be {@code null}
+     * @param include
+     *            the list of optional fields / information to include in the response - may be {@code null}
+     * @param fields
+     *            the list of fields to which to restrict the response - may be {@code null}
+     * @return the cursor
+     */
+    public static PagingCursor people(final MultiValuedParam<Sort<PersonSortField>> orderBy,
+            final MultiValuedParam<PeopleV1.IncludeOption> include, final MultiValuedParam<String> fields)
+    {
+        final Map<String, String> parameters = new LinkedHashMap<>();
+        putParameter(parameters, "orderBy", orderBy);
+        putParameter(parameters, "include", include);
+        putParameter(parameters, "fields", fields);
+        return new PagingCursor("people", parameters);
+    }
+
+    /**
+     * Checks whether this cursor refers to the same listing as another cursor, i.e. whether both cursors have the same endpoint and
+     * parameters.
+     *
+     * @param other
+     *            the other cursor
+     * @return {@code true} if both cursors refer to the same listing, {@code false} otherwise
+     */
+    public boolean isSameListing(final PagingCursor other)
+    {
+        return other != null && Objects.equals(this.endpoint, other.getEndpoint()) && Objects.equals(this.parameters, other.parameters);
+    }
+
+    /**
+     * @return the endpoint
+     */
+    public String getEndpoint()
+    {
+        return this.endpoint;
+    }
+
+    /**
+     * @param endpoint
+     *            the endpoint to set
+     */
+    public void setEndpoint(final String endpoint)
+    {
+        this.endpoint = endpoint;
+    }
+
+    /**
+     * @return the parameters
+     */
+    public Map<String, String> getParameters()
+    {
+        return new LinkedHashMap<>(this.parameters);
+    }
+
+    /**
+     * @param parameters
+     *            the parameters to set
+     */
+    public void setParameters(final Map<String, String> parameters)
+    {
+        this.parameters = parameters != null ? new LinkedHashMap<>(parameters) : new LinkedHashMap<>();
+    }
+
+    /**
+     * @return the skipCount
+     */
+    public int getSkipCount()
+    {
+        return this.skipCount;
+    }
+
+    /**
+     * @param skipCount
+     *            the skipCount to set
+     */
+    public void setSkipCount(final int skipCount)
+    {
+        this.skipCount = skipCount;
+    }
+
+    /**
+     * @return the seenIds
+     */
+    public List<String> getSeenIds()
+    {
+        return new ArrayList<>(this.seenIds);
+    }
+
+    /**
+     * @param seenIds
+     *            the seenIds to set
+     */
+    public void setSeenIds(final List<String> seenIds)
+    {
+        this.seenIds = seenIds != null ? new ArrayList<>(seenIds) : new ArrayList<>();
+    }
+
+    /**
+     * @return the complete
+     */
+    public boolean isComplete()
+    {
+        return this.complete;
+    }
+
+    /**
+     * @param complete
+     *            the complete to set
+     */
+    public void setComplete(final boolean complete)
+    {
+        this.complete = complete;
+    }
+
+    private static void putParameter(final Map<String, String> parameters, final String name, final MultiValuedParam<?> value)
+    {
+        if (value != null)
+        {
+            // same representation as used by MultiValuedParamConverter for query parameters
+            final StringBuilder sb = new StringBuilder();
+            value.getValuesView().forEach(e -> {
+                if (e != null)
+                {
+                    if (sb.length() != 0)
+                    {
+                        sb.append(',');
+                    }
+                    sb.append(e);
+                }
+            });
+            parameters.put(name, sb.toString());
+        }
+    }
+}
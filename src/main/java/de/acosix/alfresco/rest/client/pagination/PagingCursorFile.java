@@ -0,0 +1,138 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.pagination;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Instances of this class persist {@link PagingCursor paging cursors} as small JSON checkpoint files in the local file system. Checkpoints
+ * are written to a temporary file first and then moved to the actual file location, so that a process terminating while writing a
+ * checkpoint never leaves a corrupted checkpoint behind.
+ *
+ * @author Axel Faust
+ */
+public class PagingCursorFile
+{
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    private final Path file;
+
+    /**
+     * Creates a new instance of this class.
+     *
+     * @param file
+     *            the path to the checkpoint file
+     */
+    public PagingCursorFile(final Path file)
+    {
+        if (file == null)
+        {
+            throw new IllegalArgumentException("'file' must not be null");
+        }
+        this.file = file;
+    }
+
+    /**
+     * Retrieves the path to the checkpoint file.
+     *
+     * @return the path to the checkpoint file
+     */
+    public Path getFile()
+    {
+        return this.file;
+    }
+
+    /**
+     * Loads the cursor from the checkpoint file.
+     *
+     * @return the cursor, or {@code null} if the checkpoint file does not exist
+     * @throws IOException
+     *             if the checkpoint file cannot be read
+     */
+    public PagingCursor load() throws IOException
+    {
+        PagingCursor cursor = null;
+        if (Files.exists(this.file))
+        {
+            cursor = MAPPER.readValue(this.file.toFile(), PagingCursor.class);
+        }
+        return cursor;
+    }
+
+    /**
+     * Saves a cursor to the checkpoint file, replacing any previously saved cursor.
+     *
+     * @param cursor
+     *            the cursor to save
+     * @throws IOException
+     *             if the checkpoint file cannot be written
+     */
+    public void save(final PagingCursor cursor) throws IOException
+    {
+        if (cursor == null)
+        {
+            throw new IllegalArgumentException("'cursor' must not be null");
+        }
+
+        final Path absoluteFile = this.file.toAbsolutePath();
+        final Path directory = absoluteFile.getParent();
+        if (directory != null)
+        {
+            Files.createDirectories(directory);
+        }
+        final Path tempFile = Files.createTempFile(directory, absoluteFile.getFileName().toString(), ".tmp");
+        try
+        {
+            try (OutputStream os = Files.newOutputStream(tempFile))
+            {
+                MAPPER.writeValue(os, cursor);
+            }
+
+            try
+            {
+                Files.move(tempFile, absoluteFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            }
+            catch (final AtomicMoveNotSupportedException amnsex)
+            {
+                Files.move(tempFile, absoluteFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        finally
+        {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Deletes the checkpoint file if it exists.
+     *
+     * @throws IOException
+     *             if the checkpoint file cannot be deleted
+     */
+    public void delete() throws IOException
+    {
+        Files.deleteIfExists(this.file);
+    }
+}
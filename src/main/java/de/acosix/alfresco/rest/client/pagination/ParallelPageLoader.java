@@ -0,0 +1,291 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.pagination;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import de.acosix.alfresco.rest.client.model.common.PaginatedList;
+import de.acosix.alfresco.rest.client.model.common.PaginationInfo;
+
+/**
+ * Instances of this class load all entries of a paginated listing by retrieving the first page, and - if the total number of items is
+ * reported in its {@link PaginationInfo#getTotalItems() pagination info} - concurrently retrieving all remaining pages with bounded
+ * parallelism. Results are always stitched together in listing order.
+ *
+ * If the total number of items is not reported, the remaining pages are retrieved sequentially. If the listing has grown between the
+ * retrieval of the first and the last page, any entries beyond the initially reported total are retrieved sequentially as well.
+ *
+ * @param <T>
+ *            the type of entries in the paginated listing
+ * @author Axel Faust
+ */
+public class ParallelPageLoader<T>
+{
+
+    private final PageFetcher<T> fetcher;
+
+    private final int pageSize;
+
+    private final int parallelism;
+
+    private final ExecutorService executor;
+
+    /**
+     * Creates a new instance of this class.
+     *
+     * @param fetcher
+     *            the fetcher for individual pages of the listing
+     * @param pageSize
+     *            the number of entries to retrieve per page
+     * @param parallelism
+     *            the maximum number of pages to retrieve concurrently
+     * @param executor
+     *            the executor with which to concurrently retrieve pages
+     */
+    public ParallelPageLoader(final PageFetcher<T> fetcher, final int pageSize, final int parallelism, final ExecutorService executor)
+    {
+        if (fetcher == null)
+        {
+            throw new IllegalArgumentException("'fetcher' must not be null");
+        }
+        if (executor == null)
+        {
+            throw new IllegalArgumentException("'executor' must not be null");
+        }
+        if (pageSize <= 0)
+        {
+            throw new IllegalArgumentException("'pageSize' must be a positive integer");
+        }
+        if (parallelism <= 0)
+        {
+            throw new IllegalArgumentException("'parallelism' must be a positive integer");
+        }
+        this.fetcher = fetcher;
+        this.pageSize = pageSize;
+        this.parallelism = parallelism;
+        this.executor = executor;
+    }
+
+    /**
+     * Loads all entries of the listing into a single list.
+     *
+     * @return the complete listing, with pagination info reflecting all entries
+     */
+    public PaginatedList<T> loadAll()
+    {
+        final List<T> entries = new ArrayList<>();
+        final Iterator<T> iterator = this.iterator();
+        iterator.forEachRemaining(entries::add);
+
+        final PaginationInfo pagination = new PaginationInfo();
+        pagination.setCount(entries.size());
+        pagination.setSkipCount(0);
+        pagination.setMaxItems(entries.size());
+        pagination.setTotalItems(entries.size());
+        pagination.setHasMoreItems(false);
+
+        final PaginatedList<T> result = new PaginatedList<>();
+        result.setPagination(pagination);
+        result.adoptEntries(entries);
+        return result;
+    }
+
+    /**
+     * Creates an ordered stream over all entries of the listing. The stream should be {@link Stream#close() closed} by the caller (e.g.
+     * via try-with-resources) in order to cancel any outstanding page requests if the stream is not consumed completely.
+     *
+     * @return the ordered stream
+     */
+    public Stream<T> stream()
+    {
+        final FanOutIterator iterator = this.iterator();
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(iterator::close);
+    }
+
+    protected FanOutIterator iterator()
+    {
+        return new FanOutIterator();
+    }
+
+    /**
+     * @author Axel Faust
+     */
+    protected class FanOutIterator implements Iterator<T>, AutoCloseable
+    {
+
+        private final Deque<Future<PaginatedList<? extends T>>> pendingPages = new ArrayDeque<>();
+
+        private Iterator<? extends T> currentPage;
+
+        private int nextWindowSkipCount;
+
+        private int windowEnd;
+
+        private int windowSize;
+
+        private PagedIterator<T> remainder;
+
+        private boolean closed;
+
+        protected FanOutIterator()
+        {
+            final PaginatedList<? extends T> firstPage = ParallelPageLoader.this.fetcher.fetchPage(0,
+                    ParallelPageLoader.this.pageSize);
+            final List<? extends T> entries = firstPage != null ? firstPage.getEntriesView() : null;
+            final PaginationInfo pagination = firstPage != null ? firstPage.getPagination() : null;
+
+            final int entryCount = entries != null ? entries.size() : 0;
+            final int count = pagination != null ? pagination.getCount() : entryCount;
+            final boolean hasMoreItems = pagination != null ? pagination.getHasMoreItems() : entryCount >= ParallelPageLoader.this.pageSize;
+
+            this.currentPage = entries != null ? entries.iterator() : Collections.emptyIterator();
+            this.nextWindowSkipCount = count;
+            // server may cap the page size, so use the actual count as window size for subsequent pages
+            this.windowSize = Math.max(1, Math.min(count, ParallelPageLoader.this.pageSize));
+
+            final Integer totalItems = pagination != null ? pagination.getTotalItems() : null;
+            if (count == 0 || !hasMoreItems)
+            {
+                this.windowEnd = count;
+            }
+            else if (totalItems != null)
+            {
+                this.windowEnd = totalItems.intValue();
+                this.fillPendingPages();
+            }
+            else
+            {
+                this.windowEnd = count;
+                this.remainder = new PagedIterator<>(ParallelPageLoader.this.fetcher, ParallelPageLoader.this.pageSize, count);
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public synchronized boolean hasNext()
+        {
+            while (!this.currentPage.hasNext() && !this.pendingPages.isEmpty())
+            {
+                this.consumeNextWindow();
+            }
+
+            boolean hasNext = this.currentPage.hasNext();
+            if (!hasNext && this.remainder != null && !this.closed)
+            {
+                hasNext = this.remainder.hasNext();
+            }
+            return hasNext;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public synchronized T next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            return this.currentPage.hasNext() ? this.currentPage.next() : this.remainder.next();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public synchronized void close()
+        {
+            this.closed = true;
+            this.currentPage = Collections.emptyIterator();
+            this.pendingPages.forEach(future -> future.cancel(true));
+            this.pendingPages.clear();
+        }
+
+        protected void consumeNextWindow()
+        {
+            final Future<PaginatedList<? extends T>> future = this.pendingPages.removeFirst();
+            final PaginatedList<? extends T> page;
+            try
+            {
+                page = future.get();
+            }
+            catch (final InterruptedException iex)
+            {
+                Thread.currentThread().interrupt();
+                this.close();
+                throw new IllegalStateException("Interrupted while waiting for page", iex);
+            }
+            catch (final ExecutionException eex)
+            {
+                this.close();
+                final Throwable cause = eex.getCause();
+                if (cause instanceof RuntimeException)
+                {
+                    throw (RuntimeException) cause;
+                }
+                throw new IllegalStateException("Failed to retrieve page", cause);
+            }
+
+            final List<? extends T> entries = page != null ? page.getEntriesView() : null;
+            this.currentPage = entries != null ? entries.iterator() : Collections.emptyIterator();
+
+            if (this.pendingPages.isEmpty() && this.nextWindowSkipCount >= this.windowEnd)
+            {
+                final PaginationInfo pagination = page != null ? page.getPagination() : null;
+                if (pagination != null && pagination.getHasMoreItems())
+                {
+                    // listing has grown since first page was retrieved
+                    final int count = pagination.getCount();
+                    this.remainder = new PagedIterator<>(ParallelPageLoader.this.fetcher, ParallelPageLoader.this.pageSize,
+                            pagination.getSkipCount() + count);
+                }
+            }
+            else
+            {
+                this.fillPendingPages();
+            }
+        }
+
+        protected void fillPendingPages()
+        {
+            while (this.pendingPages.size() < ParallelPageLoader.this.parallelism && this.nextWindowSkipCount < this.windowEnd)
+            {
+                final int skipCount = this.nextWindowSkipCount;
+                final int maxItems = this.windowSize;
+                this.pendingPages.addLast(ParallelPageLoader.this.executor
+                        .submit(() -> ParallelPageLoader.this.fetcher.fetchPage(skipCount, maxItems)));
+                this.nextWindowSkipCount += maxItems;
+            }
+        }
+    }
+}
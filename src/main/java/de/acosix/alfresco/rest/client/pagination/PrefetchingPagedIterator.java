@@ -0,0 +1,272 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.pagination;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import de.acosix.alfresco.rest.client.model.common.PaginatedList;
+import de.acosix.alfresco.rest.client.model.common.PaginationInfo;
+
+/**
+ * Instances of this class iterate over all entries of a paginated listing while asynchronously retrieving a configurable number of
+ * subsequent pages ahead of the page currently being consumed. Entries are always provided in listing order, and at most
+ * {@code prefetchDepth} pages are buffered / in flight in addition to the current page.
+ *
+ * Since the end of a listing can only be determined from an actual response, read-ahead requests are issued speculatively, assuming each
+ * page is returned with the full page size. Should the server return fewer entries for a page than requested without signalling the end of
+ * the listing, all outstanding read-ahead requests are cancelled and re-issued from the correct offset.
+ *
+ * Instances should be {@link #close() closed} when the consumer stops before the end of the listing has been reached, in order to cancel
+ * any outstanding requests.
+ *
+ * @param <T>
+ *            the type of entries in the paginated listing
+ * @author Axel Faust
+ */
+public class PrefetchingPagedIterator<T> implements Iterator<T>, AutoCloseable
+{
+
+    /**
+     * @author Axel Faust
+     */
+    protected static class PendingPage<T>
+    {
+
+        protected final int skipCount;
+
+        protected final Future<PaginatedList<? extends T>> future;
+
+        protected PendingPage(final int skipCount, final Future<PaginatedList<? extends T>> future)
+        {
+            this.skipCount = skipCount;
+            this.future = future;
+        }
+    }
+
+    private final PageFetcher<T> fetcher;
+
+    private final int pageSize;
+
+    private final int prefetchDepth;
+
+    private final ExecutorService executor;
+
+    private final Deque<PendingPage<T>> pendingPages = new ArrayDeque<>();
+
+    private int nextSkipCount;
+
+    private int nextRequestSkipCount;
+
+    private boolean exhausted;
+
+    private Iterator<? extends T> currentPage = Collections.emptyIterator();
+
+    /**
+     * Creates a new instance of this class iterating over a paginated listing from its first entry.
+     *
+     * @param fetcher
+     *            the fetcher for individual pages of the listing
+     * @param pageSize
+     *            the number of entries to retrieve per page
+     * @param prefetchDepth
+     *            the number of pages to retrieve ahead of the page currently being consumed
+     * @param executor
+     *            the executor with which to asynchronously retrieve pages
+     */
+    public PrefetchingPagedIterator(final PageFetcher<T> fetcher, final int pageSize, final int prefetchDepth,
+            final ExecutorService executor)
+    {
+        this(fetcher, pageSize, 0, prefetchDepth, executor);
+    }
+
+    /**
+     * Creates a new instance of this class iterating over a paginated listing from a specific offset.
+     *
+     * @param fetcher
+     *            the fetcher for individual pages of the listing
+     * @param pageSize
+     *            the number of entries to retrieve per page
+     * @param skipCount
+     *            the number of entries to skip at the start of the listing
+     * @param prefetchDepth
+     *            the number of pages to retrieve ahead of the page currently being consumed
+     * @param executor
+     *            the executor with which to asynchronously retrieve pages
+     */
+    public PrefetchingPagedIterator(final PageFetcher<T> fetcher, final int pageSize, final int skipCount, final int prefetchDepth,
+            final ExecutorService executor)
+    {
+        if (fetcher == null)
+        {
+            throw new IllegalArgumentException("'fetcher' must not be null");
+        }
+        if (executor == null)
+        {
+            throw new IllegalArgumentException("'executor' must not be null");
+        }
+        if (pageSize <= 0)
+        {
+            throw new IllegalArgumentException("'pageSize' must be a positive integer");
+        }
+        if (skipCount < 0)
+        {
+            throw new IllegalArgumentException("'skipCount' must not be negative");
+        }
+        if (prefetchDepth <= 0)
+        {
+            throw new IllegalArgumentException("'prefetchDepth' must be a positive integer");
+        }
+        this.fetcher = fetcher;
+        this.pageSize = pageSize;
+        this.prefetchDepth = prefetchDepth;
+        this.executor = executor;
+        this.nextSkipCount = skipCount;
+        this.nextRequestSkipCount = skipCount;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized boolean hasNext()
+    {
+        while (!this.currentPage.hasNext() && !this.exhausted)
+        {
+            this.consumeNextPage();
+        }
+        return this.currentPage.hasNext();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized T next()
+    {
+        if (!this.hasNext())
+        {
+            throw new NoSuchElementException();
+        }
+        return this.currentPage.next();
+    }
+
+    /**
+     * Retrieves the number of entries of the listing that precede the first entry of the next page to be consumed.
+     *
+     * @return the skip count of the next page
+     */
+    public synchronized int getNextSkipCount()
+    {
+        return this.nextSkipCount;
+    }
+
+    /**
+     * Stops the iteration, cancelling any outstanding page requests.
+     */
+    @Override
+    public synchronized void close()
+    {
+        this.exhausted = true;
+        this.currentPage = Collections.emptyIterator();
+        this.cancelPendingPages();
+    }
+
+    protected void consumeNextPage()
+    {
+        this.fillPendingPages();
+
+        final PendingPage<T> pendingPage = this.pendingPages.removeFirst();
+        final PaginatedList<? extends T> page = this.awaitPage(pendingPage);
+
+        final List<? extends T> entries = page != null ? page.getEntriesView() : null;
+        final PaginationInfo pagination = page != null ? page.getPagination() : null;
+
+        final int entryCount = entries != null ? entries.size() : 0;
+        final int count = pagination != null ? pagination.getCount() : entryCount;
+
+        this.nextSkipCount = pendingPage.skipCount + count;
+        this.exhausted = count == 0 || (pagination != null ? !pagination.getHasMoreItems() : entryCount < this.pageSize);
+        this.currentPage = entries != null ? entries.iterator() : Collections.emptyIterator();
+
+        if (this.exhausted)
+        {
+            this.cancelPendingPages();
+        }
+        else
+        {
+            final PendingPage<T> followingPage = this.pendingPages.peekFirst();
+            if (followingPage != null && followingPage.skipCount != this.nextSkipCount)
+            {
+                // speculative read-ahead was based on a full page - restart from actual offset
+                this.cancelPendingPages();
+                this.nextRequestSkipCount = this.nextSkipCount;
+            }
+            this.fillPendingPages();
+        }
+    }
+
+    protected void fillPendingPages()
+    {
+        // current page has just been taken off, so one more than depth when consumer has not yet started on a page
+        final int targetPending = this.currentPage.hasNext() ? this.prefetchDepth : this.prefetchDepth + 1;
+        while (this.pendingPages.size() < targetPending)
+        {
+            final int skipCount = this.nextRequestSkipCount;
+            final Future<PaginatedList<? extends T>> future = this.executor
+                    .submit(() -> this.fetcher.fetchPage(skipCount, this.pageSize));
+            this.pendingPages.addLast(new PendingPage<>(skipCount, future));
+            this.nextRequestSkipCount += this.pageSize;
+        }
+    }
+
+    protected PaginatedList<? extends T> awaitPage(final PendingPage<T> pendingPage)
+    {
+        try
+        {
+            return pendingPage.future.get();
+        }
+        catch (final InterruptedException iex)
+        {
+            Thread.currentThread().interrupt();
+            this.close();
+            throw new IllegalStateException("Interrupted while waiting for page at skipCount " + pendingPage.skipCount, iex);
+        }
+        catch (final ExecutionException eex)
+        {
+            this.close();
+            final Throwable cause = eex.getCause();
+            if (cause instanceof RuntimeException)
+            {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException("Failed to retrieve page at skipCount " + pendingPage.skipCount, cause);
+        }
+    }
+
+    protected void cancelPendingPages()
+    {
+        this.pendingPages.forEach(pendingPage -> pendingPage.future.cancel(true));
+        this.pendingPages.clear();
+    }
+}
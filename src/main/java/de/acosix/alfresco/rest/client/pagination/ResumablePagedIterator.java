@@ -0,0 +1,280 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.pagination;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Function;
+
+import de.acosix.alfresco.rest.client.model.common.PaginatedList;
+import de.acosix.alfresco.rest.client.model.common.PaginationInfo;
+
+/**
+ * Instances of this class lazily iterate over all entries of a paginated listing, keeping track of the position of the traversal in a
+ * {@link PagingCursor cursor} which is checkpointed to a {@link PagingCursorFile file} whenever all entries of a page have been processed.
+ * An entry is considered processed once {@link #hasNext() hasNext} is invoked after the entry was returned, so entries returned after the
+ * last checkpoint will be returned again when a traversal is resumed (at-least-once semantics).
+ *
+ * When resuming from a cursor, the traversal restarts slightly before the recorded position - by the number of recently processed entry
+ * IDs recorded in the cursor - and skips any entries with one of those IDs in the vicinity of the recorded position. This avoids both
+ * missing entries if entries before the recorded position have been deleted and processing entries twice if entries have been added in the
+ * meantime, as long as the number of such changes does not exceed the number of recorded entry IDs.
+ *
+ * @param <T>
+ *            the type of entries in the paginated listing
+ * @author Axel Faust
+ */
+public class ResumablePagedIterator<T> implements Iterator<T>
+{
+
+    /**
+     * The default number of entry IDs recorded in a cursor for deduplication.
+     */
+    public static final int DEFAULT_OVERLAP = 25;
+
+    private final PageFetcher<T> fetcher;
+
+    private final Function<? super T, String> idExtractor;
+
+    private final int pageSize;
+
+    private final int overlap;
+
+    private final PagingCursor cursor;
+
+    private final PagingCursorFile checkpointFile;
+
+    private final Deque<String> recentIds;
+
+    private final Set<String> resumeIds;
+
+    private final int dedupeFence;
+
+    private int nextSkipCount;
+
+    private boolean exhausted;
+
+    private List<? extends T> currentPage = Collections.emptyList();
+
+    private int currentPageSkipCount;
+
+    private int currentPageIndex;
+
+    private T nextEntry;
+
+    /**
+     * Creates a new instance of this class.
+     *
+     * @param fetcher
+     *            the fetcher for individual pages of the listing
+     * @param idExtractor
+     *            the function to determine the unique ID of an entry
+     * @param pageSize
+     *            the number of entries to retrieve per page
+     * @param cursor
+     *            the cursor from which to start / resume the traversal - will not be modified by this instance
+     * @param checkpointFile
+     *            the file to which to checkpoint the cursor
+     */
+    public ResumablePagedIterator(final PageFetcher<T> fetcher, final Function<? super T, String> idExtractor, final int pageSize,
+            final PagingCursor cursor, final PagingCursorFile checkpointFile)
+    {
+        this(fetcher, idExtractor, pageSize, DEFAULT_OVERLAP, cursor, checkpointFile);
+    }
+
+    /**
+     * Creates a new instance of this class.
+     *
+     * @param fetcher
+     *            the fetcher for individual pages of the listing
+     * @param idExtractor
+     *            the function to determine the unique ID of an entry
+     * @param pageSize
+     *            the number of entries to retrieve per page
+     * @param overlap
+     *            the number of recently processed entry IDs to record in the cursor for deduplication when resuming
+     * @param cursor
+     *            the cursor from which to start / resume the traversal - will not be modified by this instance
+     * @param checkpointFile
+     *            the file to which to checkpoint the cursor
+     */
+    public ResumablePagedIterator(final PageFetcher<T> fetcher, final Function<? super T, String> idExtractor, final int pageSize,
+            final int overlap, final PagingCursor cursor, final PagingCursorFile checkpointFile)
+    {
+        if (fetcher == null)
+        {
+            throw new IllegalArgumentException("'fetcher' must not be null");
+        }
+        if (idExtractor == null)
+        {
+            throw new IllegalArgumentException("'idExtractor' must not be null");
+        }
+        if (pageSize <= 0)
+        {
+            throw new IllegalArgumentException("'pageSize' must be a positive integer");
+        }
+        if (overlap < 0)
+        {
+            throw new IllegalArgumentException("'overlap' must not be negative");
+        }
+        if (cursor == null)
+        {
+            throw new IllegalArgumentException("'cursor' must not be null");
+        }
+        if (checkpointFile == null)
+        {
+            throw new IllegalArgumentException("'checkpointFile' must not be null");
+        }
+
+        this.fetcher = fetcher;
+        this.idExtractor = idExtractor;
+        this.pageSize = pageSize;
+        this.overlap = overlap;
+        this.cursor = new PagingCursor(cursor);
+        this.checkpointFile = checkpointFile;
+
+        final List<String> seenIds = this.cursor.getSeenIds();
+        this.recentIds = new ArrayDeque<>(seenIds);
+        while (this.recentIds.size() > overlap)
+        {
+            this.recentIds.removeFirst();
+        }
+        this.resumeIds = new HashSet<>(seenIds);
+        this.dedupeFence = this.cursor.getSkipCount() + seenIds.size();
+        this.nextSkipCount = Math.max(0, this.cursor.getSkipCount() - seenIds.size());
+        this.currentPageSkipCount = this.nextSkipCount;
+        this.exhausted = this.cursor.isComplete();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasNext()
+    {
+        while (this.nextEntry == null)
+        {
+            if (this.currentPageIndex < this.currentPage.size())
+            {
+                final int position = this.currentPageSkipCount + this.currentPageIndex;
+                final T entry = this.currentPage.get(this.currentPageIndex++);
+                if (position >= this.dedupeFence || !this.resumeIds.contains(this.idExtractor.apply(entry)))
+                {
+                    this.nextEntry = entry;
+                }
+            }
+            else if (this.exhausted)
+            {
+                if (!this.cursor.isComplete())
+                {
+                    this.cursor.setComplete(true);
+                    this.checkpoint();
+                }
+                break;
+            }
+            else
+            {
+                if (!this.currentPage.isEmpty())
+                {
+                    this.checkpoint();
+                }
+                this.fetchNextPage();
+            }
+        }
+        return this.nextEntry != null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public T next()
+    {
+        if (!this.hasNext())
+        {
+            throw new NoSuchElementException();
+        }
+        final T entry = this.nextEntry;
+        this.nextEntry = null;
+
+        this.cursor.setSkipCount(this.currentPageSkipCount + this.currentPageIndex);
+        if (this.overlap > 0)
+        {
+            if (this.recentIds.size() == this.overlap)
+            {
+                this.recentIds.removeFirst();
+            }
+            this.recentIds.addLast(this.idExtractor.apply(entry));
+        }
+        return entry;
+    }
+
+    /**
+     * Retrieves a copy of the cursor reflecting the current position of this iterator, i.e. the position after the entry most recently
+     * returned by {@link #next() next}.
+     *
+     * @return the current cursor
+     */
+    public PagingCursor getCursor()
+    {
+        final PagingCursor copy = new PagingCursor(this.cursor);
+        copy.setSeenIds(new ArrayList<>(this.recentIds));
+        return copy;
+    }
+
+    /**
+     * Writes the {@link #getCursor() current cursor} to the checkpoint file. This operation may be used by clients to record progress
+     * more frequently than at page boundaries.
+     */
+    public void checkpoint()
+    {
+        try
+        {
+            this.checkpointFile.save(this.getCursor());
+        }
+        catch (final IOException ioex)
+        {
+            throw new UncheckedIOException("Failed to write paging checkpoint to " + this.checkpointFile.getFile(), ioex);
+        }
+    }
+
+    protected void fetchNextPage()
+    {
+        final PaginatedList<? extends T> page = this.fetcher.fetchPage(this.nextSkipCount, this.pageSize);
+        final List<? extends T> entries = page != null ? page.getEntriesView() : null;
+        final PaginationInfo pagination = page != null ? page.getPagination() : null;
+
+        final int entryCount = entries != null ? entries.size() : 0;
+        final int count = pagination != null ? pagination.getCount() : entryCount;
+
+        this.currentPageSkipCount = this.nextSkipCount;
+        this.currentPageIndex = 0;
+        this.currentPage = entries != null ? entries : Collections.emptyList();
+
+        this.nextSkipCount += count;
+        // without pagination info, a short page is the only indicator that the end of the listing has been reached
+        this.exhausted = count == 0 || (pagination != null ? !pagination.getHasMoreItems() : entryCount < this.pageSize);
+    }
+}
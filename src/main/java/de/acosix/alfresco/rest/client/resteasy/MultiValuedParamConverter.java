@@ -70,10 +70,10 @@ public class MultiValuedParamConverter implements ParamConverter<MultiValuedPara
 
         if (value != null)
         {
-            final List<?> values = value.getValues();
+            final List<?> values = value.getValuesView();
             LOGGER.debug("Converting MultiValuedParam with generic type {} and values {} to string", value, this.genericType, values);
             final StringBuilder sb = new StringBuilder();
-            value.getValues().forEach(e -> {
+            values.forEach(e -> {
                 if (e != null)
                 {
                     if (sb.length() != 0)
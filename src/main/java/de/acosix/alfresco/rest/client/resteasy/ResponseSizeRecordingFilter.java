@@ -0,0 +1,135 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.resteasy;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import jakarta.ws.rs.client.ClientRequestContext;
+import jakarta.ws.rs.client.ClientResponseContext;
+import jakarta.ws.rs.client.ClientResponseFilter;
+
+/**
+ * This filter records the number of bytes of response payloads read by the current thread, provided recording has been
+ * {@link #startRecording() started} for that thread. This allows clients, e.g. adaptive pagination, to correlate the size of a payload with
+ * the ReST API operation invoked via a (synchronous) client proxy. Responses read while no recording is active for the current thread are
+ * not affected by this filter.
+ *
+ * @author Axel Faust
+ */
+public class ResponseSizeRecordingFilter implements ClientResponseFilter
+{
+
+    /**
+     * Value to indicate that no payload size has been recorded.
+     */
+    public static final long UNKNOWN_SIZE = -1;
+
+    private static final ThreadLocal<long[]> RECORDED_BYTES = new ThreadLocal<>();
+
+    /**
+     * Starts recording the payload size of responses read by the current thread, discarding any previously recorded size.
+     */
+    public static void startRecording()
+    {
+        RECORDED_BYTES.set(new long[] { UNKNOWN_SIZE });
+    }
+
+    /**
+     * Stops recording the payload size of responses read by the current thread.
+     *
+     * @return the number of bytes read from response payloads since recording was started, or {@link #UNKNOWN_SIZE} if no response has
+     *         been processed by this filter
+     */
+    public static long stopRecording()
+    {
+        final long[] recordedBytes = RECORDED_BYTES.get();
+        RECORDED_BYTES.remove();
+        return recordedBytes != null ? recordedBytes[0] : UNKNOWN_SIZE;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void filter(final ClientRequestContext requestContext, final ClientResponseContext responseContext) throws IOException
+    {
+        final long[] recordedBytes = RECORDED_BYTES.get();
+        if (recordedBytes != null && responseContext.hasEntity())
+        {
+            if (recordedBytes[0] == UNKNOWN_SIZE)
+            {
+                recordedBytes[0] = 0;
+            }
+            responseContext.setEntityStream(new CountingInputStream(responseContext.getEntityStream(), recordedBytes));
+        }
+    }
+
+    /**
+     * @author Axel Faust
+     */
+    protected static class CountingInputStream extends FilterInputStream
+    {
+
+        private final long[] counter;
+
+        protected CountingInputStream(final InputStream in, final long[] counter)
+        {
+            super(in);
+            this.counter = counter;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int read() throws IOException
+        {
+            final int read = super.read();
+            if (read != -1)
+            {
+                this.counter[0]++;
+            }
+            return read;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException
+        {
+            final int read = super.read(b, off, len);
+            if (read > 0)
+            {
+                this.counter[0] += read;
+            }
+            return read;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public long skip(final long n) throws IOException
+        {
+            final long skipped = super.skip(n);
+            this.counter[0] += skipped;
+            return skipped;
+        }
+    }
+}
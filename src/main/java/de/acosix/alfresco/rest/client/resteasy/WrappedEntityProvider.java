@@ -0,0 +1,275 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.resteasy;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Stream;
+
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.core.NoContentException;
+import jakarta.ws.rs.ext.MessageBodyReader;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import de.acosix.alfresco.rest.client.jackson.Wrapped;
+
+/**
+ * This provider reads and writes the entities of the Alfresco v1 ReST API without going through a generic JAX-RS JSON provider. It reads
+ * any {@link Wrapped wrapped} response entity, and writes any request entity of the client model, either individually or as a collection,
+ * {@link Iterator iterator} or {@link Stream stream}. Iterators and streams are written incrementally, element by element, so that large
+ * batches of request entities never need to be held in memory at the same time - provided the JAX-RS client does not buffer request
+ * entities itself, e.g. by using chunked transfer encoding.
+ * An {@link ObjectReader} / {@link ObjectWriter} is resolved once per canonical generic entity type and cached, and entities are parsed
+ * directly from / generated directly to the entity stream without intermediate buffering. All other types are left to other providers, e.g.
+ * a generic Jackson provider, which this provider should take precedence over by being registered with a higher priority (lower priority
+ * value), e.g. via {@code register(new WrappedEntityProvider(mapper), Priorities.ENTITY_CODER)}.
+ *
+ * @author Axel Faust
+ */
+@Consumes({ MediaType.APPLICATION_JSON, "application/*+json" })
+@Produces({ MediaType.APPLICATION_JSON, "application/*+json" })
+public class WrappedEntityProvider implements MessageBodyReader<Object>, MessageBodyWriter<Object>
+{
+
+    private static final String MODEL_PACKAGE_PREFIX = "de.acosix.alfresco.rest.client.model.";
+
+    private final ObjectMapper mapper;
+
+    // keyed by canonical Jackson type - JAX-RS runtimes and callers may supply distinct but equivalent Type instances for each request
+    private final ConcurrentMap<JavaType, ObjectReader> readers = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<JavaType, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<JavaType, ObjectWriter> elementWriters = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new instance of this provider.
+     *
+     * @param mapper
+     *            the mapper to use for reading / writing entities - should be configured with the
+     *            {@link de.acosix.alfresco.rest.client.jackson.RestAPIBeanDeserializerModifier ReST API deserializer modifier} and
+     *            must not be modified after being passed to this provider
+     */
+    public WrappedEntityProvider(final ObjectMapper mapper)
+    {
+        if (mapper == null)
+        {
+            throw new IllegalArgumentException("'mapper' must not be null");
+        }
+        this.mapper = mapper;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isReadable(final Class<?> type, final Type genericType, final Annotation[] annotations, final MediaType mediaType)
+    {
+        return type.isAnnotationPresent(Wrapped.class) && isJson(mediaType);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object readFrom(final Class<Object> type, final Type genericType, final Annotation[] annotations, final MediaType mediaType,
+            final MultivaluedMap<String, String> httpHeaders, final InputStream entityStream) throws IOException
+    {
+        final ObjectReader reader = this.getReader(genericType != null ? genericType : type);
+        try (JsonParser p = reader.createParser(entityStream))
+        {
+            // entity stream is managed by the JAX-RS runtime
+            p.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            if (p.nextToken() == null)
+            {
+                throw new NoContentException("No JSON content to read " + type + " from");
+            }
+            return reader.readValue(p);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isWriteable(final Class<?> type, final Type genericType, final Annotation[] annotations, final MediaType mediaType)
+    {
+        boolean writeable = false;
+        if (isJson(mediaType))
+        {
+            final Class<?> elementContainerType = getElementContainerType(type);
+            if (elementContainerType != null)
+            {
+                final JavaType elementType = this.getElementType(genericType != null ? genericType : type, elementContainerType);
+                writeable = isModelType(elementType.getRawClass());
+            }
+            else
+            {
+                writeable = isModelType(type);
+            }
+        }
+        return writeable;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void writeTo(final Object t, final Class<?> type, final Type genericType, final Annotation[] annotations,
+            final MediaType mediaType, final MultivaluedMap<String, Object> httpHeaders, final OutputStream entityStream) throws IOException
+    {
+        final Type effectiveType = genericType != null ? genericType : type;
+        if (t instanceof Iterator<?>)
+        {
+            this.writeIncrementally((Iterator<?>) t, this.getElementType(effectiveType, Iterator.class), entityStream);
+        }
+        else if (t instanceof Stream<?>)
+        {
+            try (Stream<?> stream = (Stream<?>) t)
+            {
+                this.writeIncrementally(stream.iterator(), this.getElementType(effectiveType, Stream.class), entityStream);
+            }
+        }
+        else
+        {
+            final ObjectWriter writer = this.getWriter(effectiveType);
+            try (JsonGenerator generator = writer.createGenerator(entityStream))
+            {
+                // entity stream is managed by the JAX-RS runtime
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                writer.writeValue(generator, t);
+            }
+        }
+    }
+
+    /**
+     * Retrieves the reader for a (generic) entity type, resolving and caching it on first use.
+     *
+     * @param entityType
+     *            the (generic) type of the entity to read
+     * @return the reader for the entity type
+     */
+    protected ObjectReader getReader(final Type entityType)
+    {
+        return this.readers.computeIfAbsent(this.mapper.getTypeFactory().constructType(entityType), this.mapper::readerFor);
+    }
+
+    /**
+     * Retrieves the writer for a (generic) entity type, resolving and caching it on first use.
+     *
+     * @param entityType
+     *            the (generic) type of the entity to write
+     * @return the writer for the entity type
+     */
+    protected ObjectWriter getWriter(final Type entityType)
+    {
+        return this.writers.computeIfAbsent(this.mapper.getTypeFactory().constructType(entityType), this.mapper::writerFor);
+    }
+
+    /**
+     * Writes the elements of an iterator as a JSON array, generating each element directly to the entity stream as it is retrieved.
+     *
+     * @param elements
+     *            the elements to write
+     * @param elementType
+     *            the type of the elements
+     * @param entityStream
+     *            the entity stream to write to
+     * @throws IOException
+     *             if any element cannot be written
+     */
+    protected void writeIncrementally(final Iterator<?> elements, final JavaType elementType, final OutputStream entityStream)
+            throws IOException
+    {
+        // flushing is left to the generator buffer, instead of flushing after each element
+        final ObjectWriter writer = this.elementWriters.computeIfAbsent(elementType,
+                et -> this.mapper.writerFor(et).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE));
+        try (JsonGenerator generator = writer.createGenerator(entityStream))
+        {
+            // entity stream is managed by the JAX-RS runtime
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartArray();
+            while (elements.hasNext())
+            {
+                writer.writeValue(generator, elements.next());
+            }
+            generator.writeEndArray();
+        }
+    }
+
+    /**
+     * Resolves the type of the elements of a collection, iterator or stream.
+     *
+     * @param containerType
+     *            the (generic) type of the collection, iterator or stream
+     * @param elementContainerType
+     *            the raw container interface for which to resolve the type parameter
+     * @return the type of the elements
+     */
+    protected JavaType getElementType(final Type containerType, final Class<?> elementContainerType)
+    {
+        final JavaType[] typeParameters = this.mapper.getTypeFactory().findTypeParameters(this.mapper.constructType(containerType),
+                elementContainerType);
+        return typeParameters.length == 1 ? typeParameters[0] : this.mapper.getTypeFactory().constructType(Object.class);
+    }
+
+    private static Class<?> getElementContainerType(final Class<?> type)
+    {
+        Class<?> elementContainerType = null;
+        if (Collection.class.isAssignableFrom(type))
+        {
+            elementContainerType = Collection.class;
+        }
+        else if (Iterator.class.isAssignableFrom(type))
+        {
+            elementContainerType = Iterator.class;
+        }
+        else if (Stream.class.isAssignableFrom(type))
+        {
+            elementContainerType = Stream.class;
+        }
+        return elementContainerType;
+    }
+
+    private static boolean isJson(final MediaType mediaType)
+    {
+        return mediaType == null || ("application".equals(mediaType.getType())
+                && ("json".equals(mediaType.getSubtype()) || mediaType.getSubtype().endsWith("+json")));
+    }
+
+    private static boolean isModelType(final Class<?> type)
+    {
+        return type.getName().startsWith(MODEL_PACKAGE_PREFIX);
+    }
+}
@@ -0,0 +1,384 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.jackson.processor;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.RecordComponentElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic.Kind;
+
+/**
+ * This annotation processor generates the reflection-free bean accessors used by the {@code RestAPIAccessorsModule} at build time. For
+ * each eligible value type - any public, concrete class in the model packages, any class annotated with {@code @Wrapped} or
+ * {@code @GeneratedAccessors} - one accessor class is generated which invokes the default constructor, setters and getters of the type
+ * directly. All accessors are generated as nested classes of a single {@code GeneratedBeanAccessors} class, which acts as the registry the
+ * module uses to look them up.
+ *
+ * Setters for which the type provides a matching {@code adopt} operation, e.g. {@code adoptEntries(List)} for {@code setEntries(List)},
+ * are generated to invoke that operation instead, as any value handed over during deserialization has been freshly built and can be taken
+ * over by the bean without the defensive copy made by the regular setter.
+ *
+ * This processor is not registered as a service, as it only handles the types of this library. It is compiled in a separate pass before
+ * the main sources and explicitly configured for their compilation.
+ *
+ * @author Axel Faust
+ */
+@SupportedAnnotationTypes("*")
+public class BeanAccessorsProcessor extends AbstractProcessor
+{
+
+    private static final String TARGET_PACKAGE = "de.acosix.alfresco.rest.client.jackson";
+
+    private static final String REGISTRY_NAME = "GeneratedBeanAccessors";
+
+    private static final String MODEL_PACKAGE_PREFIX = "de.acosix.alfresco.rest.client.model.";
+
+    private static final Set<String> MARKER_ANNOTATIONS = Set.of(TARGET_PACKAGE + ".Wrapped", TARGET_PACKAGE + ".GeneratedAccessors");
+
+    private static final Set<String> IGNORED_DECLARING_TYPES = Set.of(Object.class.getName(), Record.class.getName());
+
+    private boolean generated;
+
+    /**
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    public SourceVersion getSupportedSourceVersion()
+    {
+        return SourceVersion.latestSupported();
+    }
+
+    /**
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv)
+    {
+        // all sources of the library are root elements of the first round - later rounds only contain generated sources
+        if (!this.generated && !roundEnv.getRootElements().isEmpty())
+        {
+            this.generated = true;
+
+            final Map<String, TypeElement> eligibleTypes = new TreeMap<>();
+            this.collectEligibleTypes(ElementFilter.typesIn(roundEnv.getRootElements()), eligibleTypes);
+            if (!eligibleTypes.isEmpty())
+            {
+                try
+                {
+                    this.generateRegistry(eligibleTypes.values());
+                }
+                catch (final IOException ioex)
+                {
+                    this.processingEnv.getMessager().printMessage(Kind.ERROR, "Failed to generate bean accessors: " + ioex.getMessage());
+                }
+            }
+        }
+        return false;
+    }
+
+    protected void collectEligibleTypes(final Iterable<TypeElement> types, final Map<String, TypeElement> eligibleTypes)
+    {
+        for (final TypeElement type : types)
+        {
+            if (type.getKind() == ElementKind.CLASS || type.getKind() == ElementKind.RECORD)
+            {
+                final Set<Modifier> modifiers = type.getModifiers();
+                final boolean accessible = modifiers.contains(Modifier.PUBLIC)
+                        && (type.getNestingKind() == NestingKind.TOP_LEVEL || modifiers.contains(Modifier.STATIC));
+                if (accessible)
+                {
+                    if (!modifiers.contains(Modifier.ABSTRACT) && this.isEligible(type) && this.hasAccessibleMembers(type))
+                    {
+                        eligibleTypes.put(type.getQualifiedName().toString(), type);
+                    }
+                    this.collectEligibleTypes(ElementFilter.typesIn(type.getEnclosedElements()), eligibleTypes);
+                }
+            }
+        }
+    }
+
+    protected boolean isEligible(final TypeElement type)
+    {
+        boolean eligible = type.getQualifiedName().toString().startsWith(MODEL_PACKAGE_PREFIX);
+        for (final AnnotationMirror annotation : type.getAnnotationMirrors())
+        {
+            final Element annotationType = annotation.getAnnotationType().asElement();
+            eligible = eligible || MARKER_ANNOTATIONS.contains(((TypeElement) annotationType).getQualifiedName().toString());
+        }
+        return eligible;
+    }
+
+    protected boolean hasAccessibleMembers(final TypeElement type)
+    {
+        final List<ExecutableElement> setters = new ArrayList<>();
+        final List<ExecutableElement> getters = new ArrayList<>();
+        this.collectAccessibleMethods(type, setters, getters, new HashMap<>());
+        return this.hasDefaultConstructor(type) || !setters.isEmpty() || !getters.isEmpty();
+    }
+
+    protected boolean hasDefaultConstructor(final TypeElement type)
+    {
+        return ElementFilter.constructorsIn(type.getEnclosedElements()).stream()
+                .anyMatch(c -> c.getModifiers().contains(Modifier.PUBLIC) && c.getParameters().isEmpty());
+    }
+
+    protected void generateRegistry(final Iterable<TypeElement> types) throws IOException
+    {
+        final Map<TypeElement, String> accessorNames = new LinkedHashMap<>();
+        final Set<String> usedNames = new HashSet<>();
+        final List<Element> originatingElements = new ArrayList<>();
+        for (final TypeElement type : types)
+        {
+            final String baseName = type.getSimpleName() + "Accessor";
+            String accessorName = baseName;
+            for (int suffix = 2; !usedNames.add(accessorName); suffix++)
+            {
+                accessorName = baseName + suffix;
+            }
+            accessorNames.put(type, accessorName);
+            originatingElements.add(type);
+        }
+
+        final Writer writer = this.processingEnv.getFiler()
+                .createSourceFile(TARGET_PACKAGE + "." + REGISTRY_NAME, originatingElements.toArray(new Element[0])).openWriter();
+        try (PrintWriter out = new PrintWriter(writer))
+        {
+            out.println("package " + TARGET_PACKAGE + ";");
+            out.println();
+            out.println("@javax.annotation.processing.Generated(\"" + BeanAccessorsProcessor.class.getName() + "\")");
+            out.println("@SuppressWarnings({ \"rawtypes\", \"unchecked\" })");
+            out.println("final class " + REGISTRY_NAME);
+            out.println("{");
+            out.println();
+            out.println("    private " + REGISTRY_NAME + "()");
+            out.println("    {");
+            out.println("        // NO-OP");
+            out.println("    }");
+            out.println();
+            out.println("    static BeanAccessor forType(final Class<?> type)");
+            out.println("    {");
+            out.println("        final BeanAccessor accessor;");
+            out.println("        switch (type.getName())");
+            out.println("        {");
+            for (final Map.Entry<TypeElement, String> entry : accessorNames.entrySet())
+            {
+                final TypeElement type = entry.getKey();
+                out.println("            case \"" + this.processingEnv.getElementUtils().getBinaryName(type) + "\":");
+                out.println("                accessor = type == " + this.typeName(type.asType()) + ".class ? new " + entry.getValue()
+                        + "() : null;");
+                out.println("                break;");
+            }
+            out.println("            default:");
+            out.println("                accessor = null;");
+            out.println("        }");
+            out.println("        return accessor;");
+            out.println("    }");
+
+            for (final Map.Entry<TypeElement, String> entry : accessorNames.entrySet())
+            {
+                this.generateAccessor(out, entry.getKey(), entry.getValue());
+            }
+            out.println("}");
+        }
+    }
+
+    protected void generateAccessor(final PrintWriter out, final TypeElement type, final String accessorName)
+    {
+        final String typeName = this.typeName(type.asType());
+        final boolean defaultConstructor = this.hasDefaultConstructor(type);
+        final List<ExecutableElement> setters = new ArrayList<>();
+        final List<ExecutableElement> getters = new ArrayList<>();
+        final Map<String, ExecutableElement> adopters = new HashMap<>();
+        this.collectAccessibleMethods(type, setters, getters, adopters);
+
+        final List<String> setterNames = new ArrayList<>();
+        final List<String> setterTypes = new ArrayList<>();
+        for (final ExecutableElement setter : setters)
+        {
+            setterNames.add('"' + setter.getSimpleName().toString() + '"');
+            setterTypes.add(this.typeName(setter.getParameters().get(0).asType()) + ".class");
+        }
+        final List<String> getterNames = new ArrayList<>();
+        for (final ExecutableElement getter : getters)
+        {
+            getterNames.add('"' + getter.getSimpleName().toString() + '"');
+        }
+
+        out.println();
+        out.println("    private static final class " + accessorName + " extends BeanAccessor");
+        out.println("    {");
+        out.println();
+        out.println("        " + accessorName + "()");
+        out.println("        {");
+        out.println("            super(" + defaultConstructor + ", new String[] {" + this.join(setterNames) + "},");
+        out.println("                    new Class<?>[] {" + this.join(setterTypes) + "},");
+        out.println("                    new String[] {" + this.join(getterNames) + "});");
+        out.println("        }");
+
+        if (defaultConstructor)
+        {
+            out.println();
+            out.println("        @Override");
+            out.println("        Object create()");
+            out.println("        {");
+            out.println("            return new " + typeName + "();");
+            out.println("        }");
+        }
+
+        if (!setters.isEmpty())
+        {
+            out.println();
+            out.println("        @Override");
+            out.println("        void set(final Object bean, final int setter, final Object value)");
+            out.println("        {");
+            out.println("            final " + typeName + " typedBean = (" + typeName + ") bean;");
+            out.println("            switch (setter)");
+            out.println("            {");
+            for (int idx = 0; idx < setters.size(); idx++)
+            {
+                final ExecutableElement setter = setters.get(idx);
+                out.println("                case " + idx + ":");
+                // cast to the parameter type as resolved for the value type, which may differ from the declared type of generic setters
+                final ExecutableType resolvedSetter = (ExecutableType) this.processingEnv.getTypeUtils()
+                        .asMemberOf((DeclaredType) type.asType(), setter);
+                final String setterName = setter.getSimpleName().toString();
+                final ExecutableElement adopter = adopters
+                        .get("adopt" + setterName.substring(3) + "(" + this.typeName(setter.getParameters().get(0).asType()) + ")");
+                out.println("                    typedBean." + (adopter != null ? adopter.getSimpleName() : setterName) + "(("
+                        + this.typeName(resolvedSetter.getParameterTypes().get(0)) + ") value);");
+                out.println("                    break;");
+            }
+            out.println("                default:");
+            out.println("                    super.set(bean, setter, value);");
+            out.println("            }");
+            out.println("        }");
+        }
+
+        if (!getters.isEmpty())
+        {
+            out.println();
+            out.println("        @Override");
+            out.println("        Object get(final Object bean, final int getter)");
+            out.println("        {");
+            out.println("            final " + typeName + " typedBean = (" + typeName + ") bean;");
+            out.println("            final Object value;");
+            out.println("            switch (getter)");
+            out.println("            {");
+            for (int idx = 0; idx < getters.size(); idx++)
+            {
+                out.println("                case " + idx + ":");
+                out.println("                    value = typedBean." + getters.get(idx).getSimpleName() + "();");
+                out.println("                    break;");
+            }
+            out.println("                default:");
+            out.println("                    value = super.get(bean, getter);");
+            out.println("            }");
+            out.println("            return value;");
+            out.println("        }");
+        }
+        out.println("    }");
+    }
+
+    protected void collectAccessibleMethods(final TypeElement type, final List<ExecutableElement> setters,
+            final List<ExecutableElement> getters, final Map<String, ExecutableElement> adopters)
+    {
+        final Set<String> recordAccessors = new HashSet<>();
+        if (type.getKind() == ElementKind.RECORD)
+        {
+            for (final RecordComponentElement component : ElementFilter.recordComponentsIn(type.getEnclosedElements()))
+            {
+                recordAccessors.add(component.getAccessor().getSimpleName().toString());
+            }
+        }
+
+        final Set<String> signatures = new HashSet<>();
+        for (final ExecutableElement method : ElementFilter.methodsIn(this.processingEnv.getElementUtils().getAllMembers(type)))
+        {
+            final Set<Modifier> modifiers = method.getModifiers();
+            final String declaringType = ((TypeElement) method.getEnclosingElement()).getQualifiedName().toString();
+            if (modifiers.contains(Modifier.PUBLIC) && !modifiers.contains(Modifier.STATIC) && method.getTypeParameters().isEmpty()
+                    && !IGNORED_DECLARING_TYPES.contains(declaringType))
+            {
+                final String name = method.getSimpleName().toString();
+                final List<? extends Element> parameters = method.getParameters();
+                final boolean hasResult = method.getReturnType().getKind() != TypeKind.VOID;
+                if (parameters.size() == 1 && name.length() > 3 && name.startsWith("set"))
+                {
+                    if (signatures.add(name + "(" + this.typeName(parameters.get(0).asType()) + ")"))
+                    {
+                        setters.add(method);
+                    }
+                }
+                else if (parameters.size() == 1 && name.length() > 5 && name.startsWith("adopt"))
+                {
+                    adopters.putIfAbsent(name + "(" + this.typeName(parameters.get(0).asType()) + ")", method);
+                }
+                else if (parameters.isEmpty() && hasResult
+                        && (recordAccessors.contains(name) || (name.length() > 3 && name.startsWith("get"))
+                                || (name.length() > 2 && name.startsWith("is"))))
+                {
+                    if (signatures.add(name + "()"))
+                    {
+                        getters.add(method);
+                    }
+                }
+            }
+        }
+
+        final Comparator<ExecutableElement> byName = Comparator.comparing(m -> m.getSimpleName().toString());
+        setters.sort(byName.thenComparing(m -> this.typeName(m.getParameters().get(0).asType())));
+        getters.sort(byName);
+    }
+
+    protected String join(final List<String> values)
+    {
+        return values.isEmpty() ? "" : " " + String.join(", ", values) + " ";
+    }
+
+    protected String typeName(final TypeMirror type)
+    {
+        return this.processingEnv.getTypeUtils().erasure(type).toString();
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import de.acosix.alfresco.rest.client.jackson.RestAPIBeanDeserializerModifier;
+import de.acosix.alfresco.rest.client.jackson.RestAPIDeserializersModule;
+import de.acosix.alfresco.rest.client.jackson.StreamingListReader;
+import de.acosix.alfresco.rest.client.model.common.PaginationInfo;
+import de.acosix.alfresco.rest.client.model.nodes.ChildNodeResponseEntity;
+
+/**
+ * Compares streaming a page of node children into new instances for each entry against streaming all entries into a single,
+ * {@link StreamingListReader#readReusing(java.io.InputStream, Object, java.util.function.Consumer) reused} instance. Run via
+ * {@link #main(String[]) main} from the test classpath, which enables the GC profiler to report the allocation rate per operation, or via
+ * the {@code benchmark} Maven profile, e.g. {@code mvn -P benchmark test -Dbenchmark.include=EntityReuseBenchmark}.
+ *
+ * @author Axel Faust
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class EntityReuseBenchmark
+{
+
+    private static final String ENTRY_JSON = "{\"entry\":{\"createdAt\":\"2026-01-05T10:15:30.000+0000\",\"isFolder\":false,"
+            + "\"isFile\":true,\"createdByUser\":{\"id\":\"admin\",\"displayName\":\"Administrator\"},"
+            + "\"modifiedAt\":\"2026-01-06T08:00:00.000+0000\",\"modifiedByUser\":{\"id\":\"jdoe\",\"displayName\":\"John Doe\"},"
+            + "\"name\":\"Document %1$d.txt\",\"id\":\"2b3c4d5e-0000-4000-8000-%1$012d\",\"nodeType\":\"cm:content\","
+            + "\"content\":{\"mimeType\":\"text/plain\",\"mimeTypeName\":\"Plain Text\",\"sizeInBytes\":%1$d,\"encoding\":\"UTF-8\"},"
+            + "\"parentId\":\"1a2b3c4d-0000-4000-8000-000000000000\",\"aspectNames\":[\"cm:auditable\",\"cm:titled\"],"
+            + "\"properties\":{\"cm:title\":\"Title %1$d\",\"cm:description\":\"Description\"}}}";
+
+    @Param({ "100", "1000" })
+    public int entries;
+
+    private byte[] json;
+
+    private StreamingListReader<ChildNodeResponseEntity> reader;
+
+    private ChildNodeResponseEntity reusableEntry;
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        final StringBuilder sb = new StringBuilder(512 * this.entries);
+        sb.append("{\"list\":{\"pagination\":{\"count\":").append(this.entries).append(",\"hasMoreItems\":true,\"totalItems\":")
+                .append(this.entries * 10).append(",\"skipCount\":0,\"maxItems\":").append(this.entries).append("},\"entries\":[");
+        for (int idx = 0; idx < this.entries; idx++)
+        {
+            if (idx != 0)
+            {
+                sb.append(',');
+            }
+            sb.append(String.format(Locale.ENGLISH, ENTRY_JSON, idx));
+        }
+        sb.append("]}}");
+        this.json = sb.toString().getBytes(StandardCharsets.UTF_8);
+
+        final SimpleModule module = new SimpleModule();
+        module.setDeserializerModifier(new RestAPIBeanDeserializerModifier());
+
+        final ObjectMapper mapper = new ObjectMapper();
+        mapper.registerModule(module);
+        mapper.registerModule(new RestAPIDeserializersModule());
+        this.reader = new StreamingListReader<>(mapper, ChildNodeResponseEntity.class);
+        this.reusableEntry = new ChildNodeResponseEntity();
+    }
+
+    @Benchmark
+    public PaginationInfo newInstances(final Blackhole blackhole) throws IOException
+    {
+        return this.reader.read(new ByteArrayInputStream(this.json), blackhole::consume);
+    }
+
+    @Benchmark
+    public PaginationInfo reusedInstance(final Blackhole blackhole) throws IOException
+    {
+        return this.reader.readReusing(new ByteArrayInputStream(this.json), this.reusableEntry, blackhole::consume);
+    }
+
+    public static void main(final String[] args) throws RunnerException
+    {
+        new Runner(new OptionsBuilder().include(EntityReuseBenchmark.class.getSimpleName()).addProfiler(GCProfiler.class).build()).run();
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.benchmark;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import de.acosix.alfresco.rest.client.model.nodes.NodeResponseEntity;
+import de.acosix.alfresco.rest.client.model.nodes.PermissionElement;
+import de.acosix.alfresco.rest.client.model.nodes.PermissionsInfoCopyFunctions;
+import de.acosix.alfresco.rest.client.model.nodes.ResponsePermissionsInfo;
+
+/**
+ * Compares copying the permissions of a node via a reflective copy-constructor lookup and invocation - as previously done in the copy
+ * constructor of the node entities - against the cached {@link PermissionsInfoCopyFunctions copy functions}. Run via {@link #main(String[])
+ * main} from the test classpath, or via the {@code benchmark} Maven profile, e.g.
+ * {@code mvn -P benchmark test -Dbenchmark.include=PermissionsCopyBenchmark}.
+ *
+ * @author Axel Faust
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PermissionsCopyBenchmark
+{
+
+    private ResponsePermissionsInfo permissions;
+
+    private NodeResponseEntity node;
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        final PermissionElement element = new PermissionElement();
+        element.setAuthorityId("GROUP_EVERYONE");
+        element.setName("Consumer");
+        element.setAccessStatus(PermissionElement.AccessStatus.ALLOWED);
+
+        this.permissions = new ResponsePermissionsInfo();
+        this.permissions.setIsInheritanceEnabled(Boolean.TRUE);
+        this.permissions.setLocallySet(Collections.singletonList(element));
+        this.permissions.setInherited(Collections.singletonList(element));
+        this.permissions.setSettable(Arrays.asList("Consumer", "Contributor", "Collaborator", "Coordinator"));
+
+        this.node = new NodeResponseEntity();
+        this.node.setId("2b3c4d5e-0000-4000-8000-000000000001");
+        this.node.setName("Document.txt");
+        this.node.setNodeType("cm:content");
+        this.node.setProperty("cm:title", "Title");
+        this.node.setPermissions(this.permissions);
+    }
+
+    @Benchmark
+    public ResponsePermissionsInfo reflectiveCopy()
+    {
+        @SuppressWarnings("unchecked")
+        final Class<ResponsePermissionsInfo> permClass = (Class<ResponsePermissionsInfo>) this.permissions.getClass();
+        try
+        {
+            final Constructor<ResponsePermissionsInfo> copyConstructor = permClass.getConstructor(permClass);
+            return copyConstructor.newInstance(this.permissions);
+        }
+        catch (final NoSuchMethodException | IllegalAccessException | InstantiationException | InvocationTargetException e)
+        {
+            throw new RuntimeException("Failed to copy permissions info", e);
+        }
+    }
+
+    @Benchmark
+    public ResponsePermissionsInfo copyFunction()
+    {
+        return PermissionsInfoCopyFunctions.copy(this.permissions);
+    }
+
+    @Benchmark
+    public NodeResponseEntity entityCopy()
+    {
+        return new NodeResponseEntity(this.node);
+    }
+
+    public static void main(final String[] args) throws RunnerException
+    {
+        new Runner(new OptionsBuilder().include(PermissionsCopyBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.jackson;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import de.acosix.alfresco.rest.client.model.nodes.ChildNodeResponseEntity;
+import de.acosix.alfresco.rest.client.model.nodes.NodeResponseEntity;
+import de.acosix.alfresco.rest.client.model.nodes.PaginatedNodeChildrenList;
+
+/**
+ * @author Axel Faust
+ */
+public class DeferredPropertiesTests
+{
+
+    private static ObjectMapper defaultMapper;
+
+    private static ObjectMapper deferringMapper;
+
+    @BeforeClass
+    public static void setupClass()
+    {
+        final SimpleModule module = new SimpleModule();
+        module.setDeserializerModifier(new RestAPIBeanDeserializerModifier());
+
+        defaultMapper = new ObjectMapper();
+        defaultMapper.registerModule(module);
+
+        deferringMapper = new ObjectMapper();
+        deferringMapper.registerModule(module);
+        deferringMapper.registerModule(new RestAPIDeserializersModule(null, true));
+    }
+
+    @Test
+    public void sameResultAsDefaultDeserialization() throws Exception
+    {
+        final String json = RestAPIDeserializersModuleTests.CHILDREN_JSON;
+        final PaginatedNodeChildrenList expected = defaultMapper.readValue(json, PaginatedNodeChildrenList.class);
+        final PaginatedNodeChildrenList actual = deferringMapper.readValue(json, PaginatedNodeChildrenList.class);
+
+        Assert.assertTrue(actual.getEntries().get(0).isPropertiesDeferred());
+        Assert.assertEquals(defaultMapper.valueToTree(expected), defaultMapper.valueToTree(actual));
+        Assert.assertFalse(actual.getEntries().get(0).isPropertiesDeferred());
+        // no properties in JSON - nothing to defer
+        Assert.assertFalse(actual.getEntries().get(1).isPropertiesDeferred());
+    }
+
+    @Test
+    public void individualPropertiesBoundWithoutBindingAll() throws Exception
+    {
+        final PaginatedNodeChildrenList list = deferringMapper.readValue(RestAPIDeserializersModuleTests.CHILDREN_JSON,
+                PaginatedNodeChildrenList.class);
+        final ChildNodeResponseEntity node = list.getEntries().get(0);
+
+        Assert.assertEquals("Title", node.getProperty("cm:title"));
+        Assert.assertEquals(Integer.valueOf(3), node.getProperty("custom:count"));
+        Assert.assertEquals(Arrays.asList("x", "y"), node.getProperty("cm:tags"));
+        Assert.assertNull(node.getProperty("cm:description"));
+        Assert.assertTrue(node.isPropertiesDeferred());
+
+        final Map<String, Object> properties = node.getProperties();
+        Assert.assertFalse(node.isPropertiesDeferred());
+        Assert.assertEquals(3, properties.size());
+        Assert.assertEquals("Title", properties.get("cm:title"));
+    }
+
+    @Test
+    public void modificationBindsDeferredProperties() throws Exception
+    {
+        final NodeResponseEntity node = deferringMapper.readValue("{\"entry\":{\"id\":\"a\",\"properties\":{\"cm:title\":\"Title\"}}}",
+                NodeResponseEntity.class);
+        final NodeResponseEntity copy = new NodeResponseEntity(node);
+        Assert.assertTrue(copy.isPropertiesDeferred());
+
+        node.setProperty("cm:description", "Description");
+        Assert.assertFalse(node.isPropertiesDeferred());
+        Assert.assertEquals("Title", node.getProperty("cm:title"));
+        Assert.assertEquals("Description", node.getProperty("cm:description"));
+
+        Assert.assertNull(copy.getProperty("cm:description"));
+        Assert.assertEquals("Title", copy.removeProperty("cm:title"));
+        Assert.assertTrue(copy.getProperties().isEmpty());
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.jackson;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import de.acosix.alfresco.rest.client.model.nodes.ChildNodeResponseEntity;
+import de.acosix.alfresco.rest.client.model.nodes.PaginatedNodeChildrenList;
+import de.acosix.alfresco.rest.client.model.nodes.PathElementsCache;
+
+/**
+ * @author Axel Faust
+ */
+public class PathInfoDeserializerTests
+{
+
+    private static final String PATH_JSON = "\"path\":{\"name\":\"/Company Home/Sites\",\"isComplete\":true,\"elements\":["
+            + "{\"id\":\"root\",\"name\":\"Company Home\",\"nodeType\":\"cm:folder\"},"
+            + "{\"id\":\"sites\",\"name\":\"Sites\",\"nodeType\":\"st:sites\",\"aspectNames\":[\"cm:titled\"]}]}";
+
+    private static final String CHILDREN_JSON = "{\"list\":{\"pagination\":{\"count\":2,\"hasMoreItems\":false,\"totalItems\":2,"
+            + "\"skipCount\":0,\"maxItems\":100},\"entries\":[{\"entry\":{\"id\":\"a-1\",\"name\":\"A\"," + PATH_JSON + "}},"
+            + "{\"entry\":{\"id\":\"b-2\",\"name\":\"B\"," + PATH_JSON + "}}]}}";
+
+    @Test
+    public void pathsWithinResponseAreShared() throws Exception
+    {
+        final PaginatedNodeChildrenList list = mapper(new RestAPIDeserializersModule()).readValue(CHILDREN_JSON,
+                PaginatedNodeChildrenList.class);
+
+        final ChildNodeResponseEntity first = list.getEntriesView().get(0);
+        final ChildNodeResponseEntity second = list.getEntriesView().get(1);
+        Assert.assertEquals("Sites", first.getPath().getElementsView().get(1).getName());
+        Assert.assertSame(first.getPath().getElementsView(), second.getPath().getElementsView());
+        Assert.assertNotSame(first.getPath(), second.getPath());
+    }
+
+    @Test
+    public void pathsAcrossResponsesAreSharedViaCache() throws Exception
+    {
+        final ObjectMapper perResponseMapper = mapper(new RestAPIDeserializersModule());
+        final PaginatedNodeChildrenList firstResponse = perResponseMapper.readValue(CHILDREN_JSON, PaginatedNodeChildrenList.class);
+        final PaginatedNodeChildrenList secondResponse = perResponseMapper.readValue(CHILDREN_JSON, PaginatedNodeChildrenList.class);
+        Assert.assertNotSame(firstResponse.getEntriesView().get(0).getPath().getElementsView(),
+                secondResponse.getEntriesView().get(0).getPath().getElementsView());
+
+        final ObjectMapper cachingMapper = mapper(new RestAPIDeserializersModule(null, false, null, new PathElementsCache()));
+        final PaginatedNodeChildrenList thirdResponse = cachingMapper.readValue(CHILDREN_JSON, PaginatedNodeChildrenList.class);
+        final PaginatedNodeChildrenList fourthResponse = cachingMapper.readValue(CHILDREN_JSON, PaginatedNodeChildrenList.class);
+        Assert.assertSame(thirdResponse.getEntriesView().get(0).getPath().getElementsView(),
+                fourthResponse.getEntriesView().get(1).getPath().getElementsView());
+    }
+
+    @Test
+    public void sameResultAsDefaultDeserialization() throws Exception
+    {
+        final SimpleModule module = new SimpleModule();
+        module.setDeserializerModifier(new RestAPIBeanDeserializerModifier());
+        final ObjectMapper defaultMapper = new ObjectMapper();
+        defaultMapper.registerModule(module);
+
+        final PaginatedNodeChildrenList expected = defaultMapper.readValue(CHILDREN_JSON, PaginatedNodeChildrenList.class);
+        final PaginatedNodeChildrenList actual = mapper(new RestAPIDeserializersModule()).readValue(CHILDREN_JSON,
+                PaginatedNodeChildrenList.class);
+        Assert.assertEquals(defaultMapper.valueToTree(expected), defaultMapper.valueToTree(actual));
+    }
+
+    private static ObjectMapper mapper(final RestAPIDeserializersModule deserializersModule)
+    {
+        final SimpleModule module = new SimpleModule();
+        module.setDeserializerModifier(new RestAPIBeanDeserializerModifier());
+
+        final ObjectMapper mapper = new ObjectMapper();
+        mapper.registerModule(module);
+        mapper.registerModule(deserializersModule);
+        return mapper;
+    }
+}
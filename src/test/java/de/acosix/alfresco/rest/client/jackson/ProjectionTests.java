@@ -0,0 +1,106 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.jackson;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import de.acosix.alfresco.rest.client.model.common.PaginatedList;
+import de.acosix.alfresco.rest.client.model.common.UserInfo;
+
+/**
+ * @author Axel Faust
+ */
+public class ProjectionTests
+{
+
+    private static final String CHILDREN_JSON = "{\"list\":{\"pagination\":{\"count\":2,\"hasMoreItems\":false,\"totalItems\":2,"
+            + "\"skipCount\":0,\"maxItems\":100},\"entries\":[{\"entry\":{\"id\":\"a\",\"name\":\"A\",\"nodeType\":\"cm:folder\","
+            + "\"isFolder\":true,\"createdByUser\":{\"id\":\"admin\",\"displayName\":\"Administrator\"},"
+            + "\"properties\":{\"cm:title\":\"T\"}}},"
+            + "{\"entry\":{\"id\":\"b\",\"name\":\"B\",\"nodeType\":\"cm:content\"}}]}}";
+
+    @Projection
+    public interface Slim
+    {
+
+        String getId();
+
+        String getName();
+
+        boolean getIsFolder();
+
+        UserInfo getCreatedByUser();
+
+        default String getLabel()
+        {
+            return this.getName() + " (" + this.getId() + ")";
+        }
+    }
+
+    private static ObjectMapper mapper;
+
+    @BeforeClass
+    public static void setupClass()
+    {
+        final SimpleModule module = new SimpleModule();
+        module.setDeserializerModifier(new RestAPIBeanDeserializerModifier());
+
+        mapper = new ObjectMapper();
+        mapper.registerModule(module);
+    }
+
+    @Test
+    public void fieldsFromGetters()
+    {
+        Assert.assertEquals(Arrays.asList("createdByUser", "id", "isFolder", "name"), Projections.fields(Slim.class).getValues());
+    }
+
+    @Test
+    public void readListOfProjections() throws Exception
+    {
+        final PaginatedList<Slim> list = mapper.readValue(CHILDREN_JSON, new TypeReference<PaginatedList<Slim>>()
+        {
+        });
+
+        Assert.assertEquals(2, list.getPagination().getCount());
+        final List<Slim> entries = list.getEntries();
+        Assert.assertEquals(2, entries.size());
+
+        final Slim first = entries.get(0);
+        Assert.assertEquals("a", first.getId());
+        Assert.assertEquals("A", first.getName());
+        Assert.assertTrue(first.getIsFolder());
+        Assert.assertEquals("Administrator", first.getCreatedByUser().getDisplayName());
+        Assert.assertEquals("A (a)", first.getLabel());
+
+        final Slim second = entries.get(1);
+        Assert.assertEquals("b", second.getId());
+        Assert.assertFalse(second.getIsFolder());
+        Assert.assertNull(second.getCreatedByUser());
+
+        Assert.assertEquals(second, mapper.readValue("{\"entry\":{\"id\":\"b\",\"name\":\"B\"}}", Slim.class));
+        Assert.assertNotEquals(first, second);
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.jackson;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerBase;
+import com.fasterxml.jackson.databind.deser.DefaultDeserializationContext;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializer;
+
+import de.acosix.alfresco.rest.client.model.common.PaginationInfo;
+import de.acosix.alfresco.rest.client.model.common.UserInfo;
+import de.acosix.alfresco.rest.client.model.nodes.AssociationTypeEntity;
+import de.acosix.alfresco.rest.client.model.nodes.NodeCreationRequestEntity;
+import de.acosix.alfresco.rest.client.model.nodes.PaginatedNodeChildrenList;
+import de.acosix.alfresco.rest.client.model.nodes.PermissionElement;
+import de.acosix.alfresco.rest.client.model.nodes.PermissionsInfo;
+
+/**
+ * @author Axel Faust
+ */
+public class RestAPIAccessorsModuleTests
+{
+
+    private static ObjectMapper defaultMapper;
+
+    private static ObjectMapper accessorsMapper;
+
+    @BeforeClass
+    public static void setupClass()
+    {
+        final SimpleModule module = new SimpleModule();
+        module.setDeserializerModifier(new RestAPIBeanDeserializerModifier());
+
+        defaultMapper = new ObjectMapper();
+        defaultMapper.registerModule(module);
+
+        accessorsMapper = new ObjectMapper();
+        accessorsMapper.registerModule(module);
+        accessorsMapper.registerModule(new RestAPIAccessorsModule());
+    }
+
+    @Test
+    public void reflectiveAccessReplaced() throws Exception
+    {
+        final DeserializationContext ctxt = ((DefaultDeserializationContext) accessorsMapper.getDeserializationContext())
+                .createInstance(accessorsMapper.getDeserializationConfig(), null, null);
+        final BeanDeserializerBase deserializer = (BeanDeserializerBase) ctxt
+                .findRootValueDeserializer(ctxt.constructType(UserInfo.class));
+        Assert.assertTrue(deserializer.getValueInstantiator() instanceof GeneratedValueInstantiator);
+        Assert.assertTrue(deserializer.findProperty("id") instanceof GeneratedSetterProperty);
+        Assert.assertTrue(deserializer.findProperty("displayName") instanceof GeneratedSetterProperty);
+
+        final BeanSerializer serializer = (BeanSerializer) accessorsMapper.getSerializerProviderInstance()
+                .findValueSerializer(UserInfo.class);
+        serializer.properties().forEachRemaining(p -> Assert.assertTrue(p instanceof GeneratedGetterPropertyWriter));
+    }
+
+    @Test
+    public void accessorsGeneratedForModelTypesOnly()
+    {
+        final BeanAccessor accessor = BeanAccessor.forType(UserInfo.class);
+        Assert.assertNotNull(accessor);
+        Assert.assertTrue(accessor.hasDefaultConstructor());
+        Assert.assertTrue(accessor.create() instanceof UserInfo);
+        Assert.assertNull(BeanAccessor.forType(ObjectMapper.class));
+        Assert.assertNull(BeanAccessor.forType(RestAPIAccessorsModuleTests.class));
+    }
+
+    @Test
+    public void sameResultAsReflectiveDeserialization() throws Exception
+    {
+        final String json = RestAPIDeserializersModuleTests.CHILDREN_JSON;
+        final PaginatedNodeChildrenList expected = defaultMapper.readValue(json, PaginatedNodeChildrenList.class);
+        final PaginatedNodeChildrenList actual = accessorsMapper.readValue(json, PaginatedNodeChildrenList.class);
+
+        Assert.assertEquals(defaultMapper.valueToTree(expected), defaultMapper.valueToTree(actual));
+    }
+
+    @Test
+    public void primitivePropertiesConverted() throws Exception
+    {
+        final String json = "{\"count\":\"5\",\"hasMoreItems\":true,\"skipCount\":null,\"maxItems\":10,\"totalItems\":null}";
+        final PaginationInfo pagination = accessorsMapper.readValue(json, PaginationInfo.class);
+        Assert.assertEquals(5, pagination.getCount());
+        Assert.assertTrue(pagination.getHasMoreItems());
+        Assert.assertEquals(0, pagination.getSkipCount());
+        Assert.assertEquals(10, pagination.getMaxItems());
+        Assert.assertNull(pagination.getTotalItems());
+    }
+
+    @Test
+    public void freshValuesAdoptedWithoutCopy() throws Exception
+    {
+        final BeanAccessor accessor = BeanAccessor.forType(PermissionsInfo.class);
+        final int setter = accessor.indexOfSetter(PermissionsInfo.class.getMethod("setLocallySet", List.class));
+        final PermissionsInfo permissions = (PermissionsInfo) accessor.create();
+        final List<PermissionElement> locallySet = new ArrayList<>();
+        accessor.set(permissions, setter, locallySet);
+
+        // the list handed over by the deserializer is owned by the bean, so later additions are visible
+        locallySet.add(new PermissionElement());
+        Assert.assertEquals(1, permissions.getLocallySetView().size());
+
+        final String json = "{\"isInheritanceEnabled\":true,\"locallySet\":[{\"authorityId\":\"GROUP_EVERYONE\"}]}";
+        final PermissionsInfo read = accessorsMapper.readValue(json, PermissionsInfo.class);
+        Assert.assertEquals("GROUP_EVERYONE", read.getLocallySetView().get(0).getAuthorityId());
+    }
+
+    @Test
+    public void sameResultAsReflectiveSerialization() throws Exception
+    {
+        final NodeCreationRequestEntity entity = new NodeCreationRequestEntity();
+        entity.setName("Doc.txt");
+        entity.setNodeType("cm:content");
+        entity.setAspectNames(Arrays.asList("cm:titled"));
+        entity.setProperty("cm:title", "Title");
+        entity.setRelativePath("a/b");
+        final AssociationTypeEntity association = new AssociationTypeEntity();
+        association.setAssocType("cm:contains");
+        entity.setAssociation(association);
+
+        Assert.assertEquals(defaultMapper.writeValueAsString(entity), accessorsMapper.writeValueAsString(entity));
+        final PaginationInfo pagination = new PaginationInfo();
+        Assert.assertEquals(defaultMapper.writeValueAsString(pagination), accessorsMapper.writeValueAsString(pagination));
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.jackson;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import de.acosix.alfresco.rest.client.model.nodes.ChildNodeResponseEntity;
+import de.acosix.alfresco.rest.client.model.nodes.NodeResponseEntity;
+import de.acosix.alfresco.rest.client.model.nodes.PaginatedNodeChildrenList;
+
+/**
+ * @author Axel Faust
+ */
+public class RestAPIDeserializersModuleTests
+{
+
+    public static final String CHILDREN_JSON = "{\"list\":{\"pagination\":{\"count\":2,\"hasMoreItems\":false,\"totalItems\":2,"
+            + "\"skipCount\":0,\"maxItems\":100},\"entries\":["
+            + "{\"entry\":{\"createdAt\":\"2026-01-05T10:15:30.000+0000\",\"isFolder\":true,\"isFile\":false,"
+            + "\"createdByUser\":{\"id\":\"admin\",\"displayName\":\"Administrator\"},\"modifiedAt\":\"2026-01-06T08:00:00.000+0000\","
+            + "\"modifiedByUser\":{\"id\":\"jdoe\",\"displayName\":\"John Doe\"},\"name\":\"Folder\",\"id\":\"a-1\","
+            + "\"nodeType\":\"cm:folder\",\"parentId\":\"p-1\",\"aspectNames\":[\"cm:auditable\",\"cm:titled\"],"
+            + "\"properties\":{\"cm:title\":\"Title\",\"cm:tags\":[\"x\",\"y\"],\"custom:count\":3},"
+            + "\"allowableOperations\":[\"delete\",\"update\"],\"path\":{\"name\":\"/Company Home\",\"isComplete\":true,"
+            + "\"elements\":[{\"id\":\"root\",\"name\":\"Company Home\"}]},\"association\":{\"assocType\":\"cm:contains\"}}},"
+            + "{\"entry\":{\"createdAt\":\"2026-01-05T10:15:30.000+0000\",\"isFolder\":false,\"isFile\":true,"
+            + "\"createdByUser\":{\"id\":\"admin\",\"displayName\":\"Administrator\"},\"modifiedAt\":\"2026-01-06T08:00:00.000+0000\","
+            + "\"modifiedByUser\":{\"id\":\"admin\",\"displayName\":\"Administrator\"},\"name\":\"Doc.txt\",\"id\":\"b-2\","
+            + "\"nodeType\":\"cm:content\",\"content\":{\"mimeType\":\"text/plain\",\"mimeTypeName\":\"Plain Text\","
+            + "\"sizeInBytes\":\"1234\",\"encoding\":\"UTF-8\"},\"parentId\":\"p-1\",\"isLocked\":null}}]}}";
+
+    private static ObjectMapper defaultMapper;
+
+    private static ObjectMapper streamingMapper;
+
+    @BeforeClass
+    public static void setupClass()
+    {
+        final SimpleModule module = new SimpleModule();
+        module.setDeserializerModifier(new RestAPIBeanDeserializerModifier());
+
+        defaultMapper = new ObjectMapper();
+        defaultMapper.registerModule(module);
+
+        streamingMapper = new ObjectMapper();
+        streamingMapper.registerModule(module);
+        streamingMapper.registerModule(new RestAPIDeserializersModule());
+    }
+
+    @Test
+    public void sameResultAsDefaultDeserialization() throws Exception
+    {
+        final PaginatedNodeChildrenList expected = defaultMapper.readValue(CHILDREN_JSON, PaginatedNodeChildrenList.class);
+        final PaginatedNodeChildrenList actual = streamingMapper.readValue(CHILDREN_JSON, PaginatedNodeChildrenList.class);
+
+        Assert.assertEquals(defaultMapper.valueToTree(expected), defaultMapper.valueToTree(actual));
+        Assert.assertEquals(Long.valueOf(1234), actual.getEntries().get(1).getContent().getSizeInBytes());
+        Assert.assertEquals("cm:contains", actual.getEntries().get(0).getAssociation().getAssocType());
+    }
+
+    @Test
+    public void singleEntryRequiresWrapper() throws Exception
+    {
+        final String entryJSON = "{\"entry\":{\"id\":\"a\",\"name\":\"A\"}}";
+        Assert.assertEquals("A", streamingMapper.readValue(entryJSON, NodeResponseEntity.class).getName());
+
+        try
+        {
+            streamingMapper.readValue("{\"id\":\"a\",\"name\":\"A\"}", ChildNodeResponseEntity.class);
+            Assert.fail("Unwrapped JSON should not be accepted");
+        }
+        catch (final JsonMappingException expected)
+        {
+            Assert.assertTrue(expected.getMessage().contains("is not wrapped inside an object with 'entry' property"));
+        }
+    }
+
+    @Test
+    public void timestampsSupportTypedAccess() throws Exception
+    {
+        final NodeResponseEntity node = streamingMapper.readValue(
+                "{\"entry\":{\"id\":\"a\",\"createdAt\":\"2026-01-05T10:15:30.000+0100\",\"modifiedAt\":\"not a timestamp\"}}",
+                NodeResponseEntity.class);
+        Assert.assertEquals("2026-01-05T10:15:30.000+0100", node.getCreatedAt());
+        Assert.assertEquals(Instant.parse("2026-01-05T09:15:30Z"), node.getCreatedAtInstant());
+        // invalid timestamps are kept as-is and only fail on typed access, as with default deserialization
+        Assert.assertEquals("not a timestamp", node.getModifiedAt());
+        try
+        {
+            node.getModifiedAtInstant();
+            Assert.fail("Invalid timestamp should fail on typed access");
+        }
+        catch (final DateTimeParseException expected)
+        {
+            Assert.assertEquals("not a timestamp", expected.getParsedString());
+        }
+    }
+
+    @Test(expected = JsonMappingException.class)
+    public void unknownPropertiesFailAsInDefaultDeserialization() throws Exception
+    {
+        streamingMapper.readValue("{\"entry\":{\"id\":\"a\",\"unknownField\":true}}", NodeResponseEntity.class);
+    }
+}
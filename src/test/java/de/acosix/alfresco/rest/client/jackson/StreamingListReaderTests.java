@@ -0,0 +1,162 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.jackson;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import de.acosix.alfresco.rest.client.model.common.PaginationInfo;
+import de.acosix.alfresco.rest.client.model.common.UserInfo;
+import de.acosix.alfresco.rest.client.model.nodes.ChildNodeResponseEntity;
+
+/**
+ * @author Axel Faust
+ */
+public class StreamingListReaderTests
+{
+
+    private static final String CHILDREN_JSON = "{\"list\":{\"pagination\":{\"count\":2,\"hasMoreItems\":true,\"totalItems\":5,"
+            + "\"skipCount\":0,\"maxItems\":2},\"entries\":[{\"entry\":{\"id\":\"a\",\"name\":\"A\",\"nodeType\":\"cm:folder\","
+            + "\"createdByUser\":{\"id\":\"admin\",\"displayName\":\"Administrator\"}}},{\"entry\":{\"id\":\"b\",\"name\":\"B\","
+            + "\"nodeType\":\"cm:content\"}}],\"source\":{\"id\":\"parent\",\"name\":\"Parent\"}}}";
+
+    private static ObjectMapper mapper;
+
+    private static ObjectMapper streamingMapper;
+
+    @BeforeClass
+    public static void setupClass()
+    {
+        final SimpleModule module = new SimpleModule();
+        module.setDeserializerModifier(new RestAPIBeanDeserializerModifier());
+
+        mapper = new ObjectMapper();
+        mapper.registerModule(module);
+
+        streamingMapper = new ObjectMapper();
+        streamingMapper.registerModule(module);
+        streamingMapper.registerModule(new RestAPIDeserializersModule());
+    }
+
+    @Test
+    public void readsEntriesAndPagination() throws Exception
+    {
+        final List<ChildNodeResponseEntity> children = new ArrayList<>();
+        final StreamingListReader<ChildNodeResponseEntity> reader = new StreamingListReader<>(mapper, ChildNodeResponseEntity.class);
+        final PaginationInfo pagination = reader.read(new ByteArrayInputStream(CHILDREN_JSON.getBytes(StandardCharsets.UTF_8)),
+                children::add);
+
+        Assert.assertEquals(2, children.size());
+        Assert.assertEquals("a", children.get(0).getId());
+        Assert.assertEquals("Administrator", children.get(0).getCreatedByUser().getDisplayName());
+        Assert.assertEquals("cm:content", children.get(1).getNodeType());
+
+        Assert.assertNotNull(pagination);
+        Assert.assertEquals(2, pagination.getCount());
+        Assert.assertEquals(Integer.valueOf(5), pagination.getTotalItems());
+        Assert.assertTrue(pagination.getHasMoreItems());
+    }
+
+    @Test
+    public void handsOutEntriesBeforeListIsComplete() throws Exception
+    {
+        // broken JSON after first entry - first entry must still have been handed to the consumer
+        final String truncatedJSON = "{\"list\":{\"entries\":[{\"entry\":{\"id\":\"a\",\"name\":\"A\"}},{\"entry\":{\"id\":";
+        final List<ChildNodeResponseEntity> children = new ArrayList<>();
+        final StreamingListReader<ChildNodeResponseEntity> reader = new StreamingListReader<>(mapper, ChildNodeResponseEntity.class);
+        try
+        {
+            reader.read(new ByteArrayInputStream(truncatedJSON.getBytes(StandardCharsets.UTF_8)), children::add);
+            Assert.fail("Truncated JSON should not be read successfully");
+        }
+        catch (final JsonProcessingException expected)
+        {
+            Assert.assertEquals(1, children.size());
+            Assert.assertEquals("a", children.get(0).getId());
+        }
+    }
+
+    @Test
+    public void readsEntriesIntoReusedInstance() throws Exception
+    {
+        final byte[] json = RestAPIDeserializersModuleTests.CHILDREN_JSON.getBytes(StandardCharsets.UTF_8);
+        final StreamingListReader<ChildNodeResponseEntity> reader = new StreamingListReader<>(streamingMapper,
+                ChildNodeResponseEntity.class);
+
+        final List<ChildNodeResponseEntity> expected = new ArrayList<>();
+        reader.read(new ByteArrayInputStream(json), expected::add);
+
+        final ChildNodeResponseEntity reusableEntry = new ChildNodeResponseEntity();
+        final List<ChildNodeResponseEntity> handedOut = new ArrayList<>();
+        final List<UserInfo> createdByUsers = new ArrayList<>();
+        final List<ChildNodeResponseEntity> snapshots = new ArrayList<>();
+        final PaginationInfo pagination = reader.readReusing(new ByteArrayInputStream(json), reusableEntry, entry -> {
+            handedOut.add(entry);
+            createdByUsers.add(entry.getCreatedByUser());
+            snapshots.add(new ChildNodeResponseEntity(entry));
+        });
+
+        Assert.assertEquals(2, pagination.getCount());
+        Assert.assertEquals(2, handedOut.size());
+        Assert.assertSame(reusableEntry, handedOut.get(0));
+        Assert.assertSame(reusableEntry, handedOut.get(1));
+        Assert.assertSame("Nested user info should have been reused", createdByUsers.get(0), createdByUsers.get(1));
+
+        for (int idx = 0; idx < expected.size(); idx++)
+        {
+            Assert.assertEquals(streamingMapper.valueToTree(expected.get(idx)), streamingMapper.valueToTree(snapshots.get(idx)));
+        }
+        // state exclusive to first entry must have been reset
+        Assert.assertNull(reusableEntry.getAssociation());
+        Assert.assertNull(reusableEntry.getPath());
+        Assert.assertNull(reusableEntry.getProperties());
+    }
+
+    @Test
+    public void readsEntriesIntoNewInstancesIfReuseIsNotSupported() throws Exception
+    {
+        final List<ChildNodeResponseEntity> children = new ArrayList<>();
+        final StreamingListReader<ChildNodeResponseEntity> reader = new StreamingListReader<>(mapper, ChildNodeResponseEntity.class);
+        reader.readReusing(new ByteArrayInputStream(CHILDREN_JSON.getBytes(StandardCharsets.UTF_8)), new ChildNodeResponseEntity(),
+                children::add);
+
+        Assert.assertEquals(2, children.size());
+        Assert.assertEquals("a", children.get(0).getId());
+        Assert.assertEquals("b", children.get(1).getId());
+        Assert.assertNull(children.get(1).getCreatedByUser());
+    }
+
+    @Test(expected = JsonMappingException.class)
+    public void rejectsNonListJSON() throws Exception
+    {
+        final String entryJSON = "{\"entry\":{\"id\":\"a\"}}";
+        new StreamingListReader<>(mapper, ChildNodeResponseEntity.class)
+                .read(new ByteArrayInputStream(entryJSON.getBytes(StandardCharsets.UTF_8)), child -> {
+                    // NO-OP
+                });
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.jackson;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import de.acosix.alfresco.rest.client.model.common.UserInfo;
+import de.acosix.alfresco.rest.client.model.nodes.ChildNodeResponseEntity;
+import de.acosix.alfresco.rest.client.model.nodes.ContentInfo;
+import de.acosix.alfresco.rest.client.model.nodes.PaginatedNodeChildrenList;
+
+/**
+ * @author Axel Faust
+ */
+public class StringPoolTests
+{
+
+    private static final String ENTRY_JSON = "{\"entry\":{\"createdAt\":\"2026-01-05T10:15:30.000+0000\",\"isFolder\":false,"
+            + "\"isFile\":true,\"createdByUser\":{\"id\":\"admin\",\"displayName\":\"Administrator\"},"
+            + "\"modifiedAt\":\"2026-01-06T08:00:00.000+0000\",\"modifiedByUser\":{\"id\":\"jdoe\",\"displayName\":\"John Doe\"},"
+            + "\"name\":\"Document %1$d.txt\",\"id\":\"id-%1$d\",\"nodeType\":\"cm:content\","
+            + "\"content\":{\"mimeType\":\"text/plain\",\"mimeTypeName\":\"Plain Text\",\"sizeInBytes\":%1$d,\"encoding\":\"UTF-8\"},"
+            + "\"parentId\":\"parent\",\"aspectNames\":[\"cm:auditable\",\"cm:titled\"],\"allowableOperations\":[\"delete\"],"
+            + "\"properties\":{\"cm:title\":\"Title %1$d\",\"cm:versionType\":\"MAJOR\",\"cm:versionLabel\":\"1.0\"}}}";
+
+    @Test
+    public void canonicalizeStrings()
+    {
+        final StringPool pool = new StringPool();
+        final String first = pool.canonicalize(new String("cm:content"));
+        Assert.assertSame(first, pool.canonicalize(new String("cm:content")));
+        Assert.assertSame(first, pool.canonicalize("xcm:contentx".toCharArray(), 1, 10));
+        Assert.assertNull(pool.canonicalize(null));
+        Assert.assertEquals(1, pool.size());
+
+        pool.clear();
+        Assert.assertEquals(0, pool.size());
+        Assert.assertNotSame(first, pool.canonicalize(new String("cm:content")));
+    }
+
+    @Test
+    public void longValuesNotPooled()
+    {
+        final StringPool pool = new StringPool(16, 4);
+        final String value = new String("cm:content");
+        Assert.assertSame(value, pool.canonicalize(value));
+        Assert.assertNotSame(value, pool.canonicalize(new String("cm:content")));
+        Assert.assertEquals(0, pool.size());
+    }
+
+    @Test
+    public void boundedSize()
+    {
+        final StringPool pool = new StringPool(100, StringPool.DEFAULT_MAX_LENGTH);
+        for (int idx = 0; idx < 10000; idx++)
+        {
+            final String value = "value" + idx;
+            Assert.assertEquals(value, pool.canonicalize(value));
+        }
+        Assert.assertTrue(pool.size() <= 128);
+    }
+
+    @Test
+    public void concurrentCanonicalization() throws Exception
+    {
+        final StringPool pool = new StringPool(64, StringPool.DEFAULT_MAX_LENGTH);
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try
+        {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 4; thread++)
+            {
+                futures.add(executor.submit(() -> {
+                    for (int idx = 0; idx < 100000; idx++)
+                    {
+                        final String value = "value" + (idx % 500);
+                        Assert.assertEquals(value, pool.canonicalize(value));
+                        Assert.assertEquals(value, pool.canonicalize(value.toCharArray(), 0, value.length()));
+                    }
+                }));
+            }
+            for (final Future<?> future : futures)
+            {
+                future.get();
+            }
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void propertyValuesNotPooled() throws Exception
+    {
+        final SimpleModule module = new SimpleModule();
+        module.setDeserializerModifier(new RestAPIBeanDeserializerModifier());
+        final ObjectMapper pooledMapper = new ObjectMapper();
+        pooledMapper.registerModule(module);
+        pooledMapper.registerModule(new RestAPIDeserializersModule(new StringPool()));
+
+        final ChildNodeResponseEntity node1 = pooledMapper.readValue(String.format(Locale.ENGLISH, ENTRY_JSON, 1),
+                ChildNodeResponseEntity.class);
+        final ChildNodeResponseEntity node2 = pooledMapper.readValue(String.format(Locale.ENGLISH, ENTRY_JSON, 2),
+                ChildNodeResponseEntity.class);
+
+        Assert.assertSame(node1.getNodeType(), node2.getNodeType());
+        Assert.assertEquals(node1.getProperty("cm:versionType"), node2.getProperty("cm:versionType"));
+        Assert.assertNotSame(node1.getProperty("cm:versionType"), node2.getProperty("cm:versionType"));
+    }
+
+    @Test
+    public void footprintOfPooledListing() throws Exception
+    {
+        final int entries = 1000;
+        final StringBuilder sb = new StringBuilder(1024 * entries);
+        sb.append("{\"list\":{\"pagination\":{\"count\":").append(entries).append(",\"hasMoreItems\":false,\"skipCount\":0,\"maxItems\":")
+                .append(entries).append("},\"entries\":[");
+        for (int idx = 0; idx < entries; idx++)
+        {
+            sb.append(idx != 0 ? "," : "").append(String.format(Locale.ENGLISH, ENTRY_JSON, idx));
+        }
+        final String json = sb.append("]}}").toString();
+
+        final SimpleModule module = new SimpleModule();
+        module.setDeserializerModifier(new RestAPIBeanDeserializerModifier());
+        final ObjectMapper plainMapper = new ObjectMapper();
+        plainMapper.registerModule(module);
+        plainMapper.registerModule(new RestAPIDeserializersModule());
+        final ObjectMapper pooledMapper = new ObjectMapper();
+        pooledMapper.registerModule(module);
+        pooledMapper.registerModule(new RestAPIDeserializersModule(new StringPool()));
+
+        final PaginatedNodeChildrenList plain = plainMapper.readValue(json, PaginatedNodeChildrenList.class);
+        final PaginatedNodeChildrenList pooled = pooledMapper.readValue(json, PaginatedNodeChildrenList.class);
+        Assert.assertEquals(plainMapper.valueToTree(plain), pooledMapper.valueToTree(pooled));
+
+        final long plainBytes = retainedBytesOfRepeatedValues(plain);
+        final long pooledBytes = retainedBytesOfRepeatedValues(pooled);
+        // all repeated values share one instance each, so footprint no longer scales with the number of entries
+        Assert.assertTrue("Pooled footprint " + pooledBytes + " not significantly lower than " + plainBytes,
+                pooledBytes * 100 < plainBytes);
+    }
+
+    private static long retainedBytesOfRepeatedValues(final PaginatedNodeChildrenList list)
+    {
+        final Set<String> distinctInstances = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (final ChildNodeResponseEntity node : list.getEntries())
+        {
+            distinctInstances.add(node.getNodeType());
+            distinctInstances.add(node.getParentId());
+            distinctInstances.addAll(node.getAspectNames());
+            distinctInstances.addAll(node.getAllowableOperations());
+            for (final UserInfo user : new UserInfo[] { node.getCreatedByUser(), node.getModifiedByUser() })
+            {
+                distinctInstances.add(user.getId());
+                distinctInstances.add(user.getDisplayName());
+            }
+            final ContentInfo content = node.getContent();
+            distinctInstances.add(content.getMimeType());
+            distinctInstances.add(content.getMimeTypeName());
+            distinctInstances.add(content.getEncoding());
+        }
+
+        long bytes = 0;
+        for (final String value : distinctInstances)
+        {
+            // compressed-oops estimate: 24 bytes String header/fields + 16 bytes array header + (Latin-1) content, 8-byte aligned
+            bytes += 24 + ((16 + value.length() + 7) / 8) * 8;
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.jackson;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import de.acosix.alfresco.rest.client.model.common.UserInfo;
+import de.acosix.alfresco.rest.client.model.nodes.ChildNodeResponseEntity;
+import de.acosix.alfresco.rest.client.model.nodes.NodeResponseEntity;
+import de.acosix.alfresco.rest.client.model.nodes.PaginatedNodeChildrenList;
+
+/**
+ * @author Axel Faust
+ */
+public class UserInfoCacheTests
+{
+
+    private static ObjectMapper createMapper(final UserInfoCache userInfoCache)
+    {
+        final SimpleModule module = new SimpleModule();
+        module.setDeserializerModifier(new RestAPIBeanDeserializerModifier());
+
+        final ObjectMapper mapper = new ObjectMapper();
+        mapper.registerModule(module);
+        mapper.registerModule(new RestAPIDeserializersModule(null, false, userInfoCache));
+        return mapper;
+    }
+
+    @Test
+    public void canonicalizesEqualUsers()
+    {
+        final UserInfoCache cache = new UserInfoCache();
+        final UserInfo admin = cache.canonicalize("admin", "Administrator");
+
+        Assert.assertTrue(admin.isShared());
+        Assert.assertSame(admin, cache.canonicalize("admin", "Administrator"));
+        Assert.assertNotSame(admin, cache.canonicalize("admin", "Admin"));
+        Assert.assertNull(cache.canonicalize(null));
+        Assert.assertEquals(2, cache.size());
+
+        cache.clear();
+        Assert.assertEquals(0, cache.size());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void sharedInstancesAreImmutable()
+    {
+        UserInfo.shared("admin", "Administrator").setDisplayName("Admin");
+    }
+
+    @Test
+    public void deserializationSharesInstances() throws Exception
+    {
+        final ObjectMapper mapper = createMapper(new UserInfoCache());
+        final PaginatedNodeChildrenList list = mapper.readValue(RestAPIDeserializersModuleTests.CHILDREN_JSON,
+                PaginatedNodeChildrenList.class);
+
+        final ChildNodeResponseEntity folder = list.getEntries().get(0);
+        final ChildNodeResponseEntity document = list.getEntries().get(1);
+        Assert.assertEquals("Administrator", folder.getCreatedByUser().getDisplayName());
+        Assert.assertSame(folder.getCreatedByUser(), document.getCreatedByUser());
+        Assert.assertSame(document.getCreatedByUser(), document.getModifiedByUser());
+        Assert.assertNotSame(folder.getCreatedByUser(), folder.getModifiedByUser());
+
+        final NodeResponseEntity copy = new NodeResponseEntity(folder);
+        Assert.assertSame(folder.getCreatedByUser(), copy.getCreatedByUser());
+    }
+
+    @Test
+    public void deserializationReturnsCachedInstance() throws Exception
+    {
+        final UserInfoCache cache = new UserInfoCache();
+        final UserInfo admin = cache.canonicalize("admin", "Administrator");
+        final ObjectMapper mapper = createMapper(cache);
+
+        Assert.assertSame(admin, mapper.readValue("{\"displayName\":\"Administrator\",\"id\":\"admin\"}", UserInfo.class));
+        final String json = "{\"id\":\"admin\",\"displayName\":\"Administrator\"}";
+        Assert.assertSame(admin, mapper.readerForUpdating(new UserInfo()).readValue(json));
+        Assert.assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void copiesUnsharedInstances() throws Exception
+    {
+        final ObjectMapper mapper = createMapper(null);
+        final NodeResponseEntity node = mapper.readValue("{\"entry\":{\"id\":\"a\",\"createdByUser\":{\"id\":\"admin\"}}}",
+                NodeResponseEntity.class);
+
+        Assert.assertFalse(node.getCreatedByUser().isShared());
+        final NodeResponseEntity copy = new NodeResponseEntity(node);
+        Assert.assertNotSame(node.getCreatedByUser(), copy.getCreatedByUser());
+        Assert.assertEquals("admin", copy.getCreatedByUser().getId());
+    }
+
+    @Test
+    public void reuseModeSkipsSharedInstances() throws Exception
+    {
+        final ObjectMapper mapper = createMapper(new UserInfoCache());
+        final StreamingListReader<ChildNodeResponseEntity> reader = new StreamingListReader<>(mapper, ChildNodeResponseEntity.class);
+
+        final List<String> modifiers = new ArrayList<>();
+        reader.readReusing(new ByteArrayInputStream(RestAPIDeserializersModuleTests.CHILDREN_JSON.getBytes(StandardCharsets.UTF_8)),
+                new ChildNodeResponseEntity(), entry -> modifiers.add(entry.getModifiedByUser().getDisplayName()));
+
+        Assert.assertEquals(List.of("John Doe", "Administrator"), modifiers);
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.model.common;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import de.acosix.alfresco.rest.client.model.nodes.NodeResponseEntity;
+
+/**
+ * @author Axel Faust
+ */
+public class TimestampsTests
+{
+
+    @Test
+    public void parseAlfrescoFormat()
+    {
+        Assert.assertEquals(Instant.parse("2026-01-05T10:15:30.123Z"), Timestamps.parse("2026-01-05T10:15:30.123+0000"));
+        Assert.assertEquals(Instant.parse("2026-01-05T08:45:30.123Z"), Timestamps.parse("2026-01-05T10:15:30.123+0130"));
+        Assert.assertEquals(Instant.parse("2024-02-29T23:59:59.999Z"), Timestamps.parse("2024-02-29T20:59:59.999-0300"));
+        Assert.assertEquals(Instant.parse("1969-12-31T23:59:59Z"), Timestamps.parse("1969-12-31T23:59:59.000+0000"));
+    }
+
+    @Test
+    public void parseOtherISOFormats()
+    {
+        Assert.assertEquals(Instant.parse("2026-01-05T10:15:30Z"), Timestamps.parse("2026-01-05T10:15:30Z"));
+        Assert.assertEquals(OffsetDateTime.parse("2026-01-05T10:15:30.5+01:00").toInstant(),
+                Timestamps.parse("2026-01-05T10:15:30.5+01:00"));
+        Assert.assertEquals(Instant.parse("2026-01-05T10:15:30Z"), Timestamps.parse("2026-01-05T10:15:30"));
+    }
+
+    @Test
+    public void parseEpochMillis()
+    {
+        Assert.assertEquals(Instant.parse("2026-01-05T08:45:30.123Z").toEpochMilli(),
+                Timestamps.parseEpochMillis("2026-01-05T10:15:30.123+0130"));
+        Assert.assertEquals(-1000L, Timestamps.parseEpochMillis("1969-12-31T23:59:59.000+0000"));
+        Assert.assertEquals(Instant.parse("2026-01-05T10:15:30.500Z").toEpochMilli(),
+                Timestamps.parseEpochMillis("2026-01-05T10:15:30.5Z"));
+
+        Assert.assertEquals(Timestamps.NO_EPOCH_MILLIS, Timestamps.tryParseEpochMillis(null));
+        Assert.assertEquals(Timestamps.NO_EPOCH_MILLIS, Timestamps.tryParseEpochMillis("2026-02-30T10:15:30.000+0000"));
+        Assert.assertEquals(Timestamps.NO_EPOCH_MILLIS, Timestamps.tryParseEpochMillis("yesterday"));
+    }
+
+    @Test(expected = DateTimeParseException.class)
+    public void rejectInvalidDate()
+    {
+        Timestamps.parse("2026-02-30T10:15:30.000+0000");
+    }
+
+    @Test
+    public void formatRoundTrip()
+    {
+        final String timestamp = "2026-01-05T10:15:30.123+0000";
+        Assert.assertEquals(timestamp, Timestamps.format(Timestamps.parse(timestamp)));
+    }
+
+    @Test
+    public void typedNodeTimestamps() throws Exception
+    {
+        final ObjectMapper mapper = new ObjectMapper();
+        final NodeResponseEntity node = new NodeResponseEntity();
+        node.setCreatedAt("2026-01-05T10:15:30.000+0100");
+        Assert.assertEquals(Instant.parse("2026-01-05T09:15:30Z"), node.getCreatedAtInstant());
+        Assert.assertEquals(node.getCreatedAtInstant(), new NodeResponseEntity(node).getCreatedAtInstant());
+        Assert.assertNull(node.getModifiedAtInstant());
+
+        node.setModifiedAtInstant(Instant.parse("2026-01-06T08:00:00Z"));
+        Assert.assertEquals("2026-01-06T08:00:00.000+0000", node.getModifiedAt());
+        node.setModifiedAt("2026-01-07T08:00:00.000+0000");
+        Assert.assertEquals(Instant.parse("2026-01-07T08:00:00Z"), node.getModifiedAtInstant());
+
+        final JsonNode json = mapper.valueToTree(node);
+        Assert.assertEquals("2026-01-05T10:15:30.000+0100", json.get("createdAt").asText());
+        Assert.assertFalse(json.has("createdAtInstant"));
+        Assert.assertFalse(json.has("modifiedAtInstant"));
+        Assert.assertFalse(json.has("createdAtEpochMillis"));
+        Assert.assertFalse(json.has("modifiedAtEpochMillis"));
+    }
+
+    @Test
+    public void canonicalEpochMillis()
+    {
+        final String timestamp = "2026-01-05T10:15:30.123+0000";
+        Assert.assertEquals(Instant.parse("2026-01-05T10:15:30.123Z").toEpochMilli(), Timestamps.parseCanonicalEpochMillis(timestamp));
+        Assert.assertEquals(timestamp, Timestamps.format(Timestamps.parseCanonicalEpochMillis(timestamp)));
+        Assert.assertEquals("1969-12-31T23:59:59.999+0000", Timestamps.format(-1L));
+
+        Assert.assertEquals(Timestamps.NO_EPOCH_MILLIS, Timestamps.parseCanonicalEpochMillis(null));
+        Assert.assertEquals(Timestamps.NO_EPOCH_MILLIS, Timestamps.parseCanonicalEpochMillis("2026-01-05T10:15:30.123+0100"));
+        Assert.assertEquals(Timestamps.NO_EPOCH_MILLIS, Timestamps.parseCanonicalEpochMillis("2026-02-30T10:15:30.000+0000"));
+        Assert.assertEquals(Timestamps.NO_EPOCH_MILLIS, Timestamps.parseCanonicalEpochMillis("2026-01-05T10:15:30.5Z"));
+    }
+
+    @Test
+    public void primitiveNodeTimestamps()
+    {
+        final NodeResponseEntity node = new NodeResponseEntity();
+        Assert.assertEquals(Timestamps.NO_EPOCH_MILLIS, node.getCreatedAtEpochMillis());
+        Assert.assertNull(node.getCreatedAt());
+
+        node.setCreatedAt("2026-01-05T10:15:30.123+0000");
+        Assert.assertEquals(Instant.parse("2026-01-05T10:15:30.123Z").toEpochMilli(), node.getCreatedAtEpochMillis());
+        Assert.assertEquals("2026-01-05T10:15:30.123+0000", node.getCreatedAt());
+
+        node.setCreatedAt("2026-01-05T10:15:30.123+0100");
+        Assert.assertEquals(Instant.parse("2026-01-05T09:15:30.123Z").toEpochMilli(), node.getCreatedAtEpochMillis());
+        Assert.assertEquals("2026-01-05T10:15:30.123+0100", node.getCreatedAt());
+
+        node.setCreatedAt(null);
+        Assert.assertEquals(Timestamps.NO_EPOCH_MILLIS, node.getCreatedAtEpochMillis());
+        Assert.assertNull(node.getCreatedAt());
+        Assert.assertNull(node.getCreatedAtInstant());
+    }
+
+    @Test
+    public void unparseableNodeTimestamp()
+    {
+        final NodeResponseEntity node = new NodeResponseEntity();
+        node.setModifiedAt("yesterday");
+        Assert.assertEquals("yesterday", node.getModifiedAt());
+        Assert.assertEquals(Timestamps.NO_EPOCH_MILLIS, node.getModifiedAtEpochMillis());
+
+        // failure is determined once on set and reported consistently on every access
+        for (int i = 0; i < 2; i++)
+        {
+            try
+            {
+                node.getModifiedAtInstant();
+                Assert.fail("Unparseable timestamp should not be accessible as an instant");
+            }
+            catch (final DateTimeParseException expected)
+            {
+                Assert.assertEquals("yesterday", expected.getParsedString());
+            }
+        }
+        Assert.assertEquals("yesterday", new NodeResponseEntity(node).getModifiedAt());
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.model.nodes;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * @author Axel Faust
+ */
+public class CommonNodeEntityTests
+{
+
+    @Test
+    public void viewsDoNotCopy()
+    {
+        final NodeResponseEntity node = new NodeResponseEntity();
+        node.setAspectNames(Arrays.asList("cm:auditable", "cm:titled"));
+        node.setProperty("cm:title", "Title");
+
+        final List<String> aspectNames = node.getAspectNamesView();
+        Assert.assertEquals(Arrays.asList("cm:auditable", "cm:titled"), aspectNames);
+        Assert.assertSame(aspectNames, node.getAspectNamesView());
+
+        final Map<String, Object> properties = node.getPropertiesView();
+        Assert.assertEquals(Collections.singletonMap("cm:title", "Title"), properties);
+        Assert.assertSame(properties, node.getPropertiesView());
+
+        node.setProperty("cm:description", "Description");
+        Assert.assertEquals("Description", properties.get("cm:description"));
+
+        node.setAspectNames(Arrays.asList("cm:titled"));
+        Assert.assertEquals(Arrays.asList("cm:titled"), node.getAspectNamesView());
+    }
+
+    @Test
+    public void adoptedValuesAreNotCopied()
+    {
+        final NodeResponseEntity node = new NodeResponseEntity();
+        final List<String> aspectNames = new ArrayList<>(Arrays.asList("cm:auditable"));
+        node.adoptAspectNames(aspectNames);
+        aspectNames.add("cm:titled");
+        Assert.assertEquals(Arrays.asList("cm:auditable", "cm:titled"), node.getAspectNamesView());
+
+        final CompactPropertyMap compactProperties = new CompactPropertyMap(Collections.singletonMap("cm:title", "Title"));
+        node.adoptProperties(compactProperties);
+        compactProperties.put("cm:description", "Description");
+        Assert.assertEquals("Description", node.getProperty("cm:description"));
+
+        // properties not in compact form are converted once, detaching them from the provided map
+        final Map<String, Object> properties = new HashMap<>(Collections.singletonMap("cm:title", "Title"));
+        node.adoptProperties(properties);
+        properties.put("cm:description", "Description");
+        Assert.assertNull(node.getProperty("cm:description"));
+
+        // unmodifiable properties, e.g. from a record, are never adopted as-is
+        node.adoptProperties(CompactPropertyMap.unmodifiableCopyOf(properties));
+        node.setProperty("cm:author", "Author");
+        Assert.assertEquals("Author", node.getProperty("cm:author"));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void viewsAreUnmodifiable()
+    {
+        final NodeResponseEntity node = new NodeResponseEntity();
+        node.setProperty("cm:title", "Title");
+        node.getPropertiesView().put("cm:description", "Description");
+    }
+
+    @Test
+    public void viewsAreNotSerialized()
+    {
+        final NodeResponseEntity node = new NodeResponseEntity();
+        node.setAspectNames(Arrays.asList("cm:auditable"));
+        node.setProperty("cm:title", "Title");
+        node.getAspectNamesView();
+        node.getPropertiesView();
+
+        final JsonNode json = new ObjectMapper().valueToTree(node);
+        Assert.assertTrue(json.has("aspectNames"));
+        Assert.assertTrue(json.has("properties"));
+        Assert.assertFalse(json.has("aspectNamesView"));
+        Assert.assertFalse(json.has("propertiesView"));
+    }
+}
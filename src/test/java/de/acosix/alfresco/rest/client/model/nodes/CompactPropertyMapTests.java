@@ -0,0 +1,186 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.model.nodes;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author Axel Faust
+ */
+public class CompactPropertyMapTests
+{
+
+    @Test
+    public void sameKeySetSharesShape()
+    {
+        final Map<String, Object> properties1 = new LinkedHashMap<>();
+        properties1.put("cm:title", "Title 1");
+        properties1.put("cm:description", "Description 1");
+        properties1.put("cm:author", null);
+
+        final Map<String, Object> properties2 = new LinkedHashMap<>();
+        properties2.put("cm:author", "Author 2");
+        properties2.put("cm:title", "Title 2");
+        properties2.put("cm:description", "Description 2");
+
+        final CompactPropertyMap map1 = new CompactPropertyMap(properties1);
+        final CompactPropertyMap map2 = new CompactPropertyMap(properties2);
+
+        Assert.assertSame(map1.getShape(), map2.getShape());
+        Assert.assertEquals(properties1, map1);
+        Assert.assertEquals(properties2, map2);
+        Assert.assertEquals(properties1.hashCode(), map1.hashCode());
+        Assert.assertTrue(map1.containsKey("cm:author"));
+        Assert.assertNull(map1.get("cm:author"));
+        Assert.assertNull(map1.get("cm:missing"));
+        Assert.assertNull(map1.get(Integer.valueOf(1)));
+    }
+
+    @Test
+    public void addingAndRemovingPropertiesTransitionsShape()
+    {
+        final Map<String, Object> expected = new HashMap<>();
+        expected.put("cm:description", "Description");
+        expected.put("cm:title", "Title");
+        final CompactPropertyMap map2 = new CompactPropertyMap(expected);
+
+        final CompactPropertyMap map1 = new CompactPropertyMap();
+        map1.put("cm:title", "Title");
+        map1.put("cm:description", "Description");
+
+        Assert.assertEquals(expected, map1);
+        Assert.assertSame(map2.getShape(), map1.getShape());
+
+        Assert.assertEquals("Title", map1.put("cm:title", "New Title"));
+        Assert.assertSame(map2.getShape(), map1.getShape());
+
+        Assert.assertEquals("Description", map1.remove("cm:description"));
+        Assert.assertNull(map1.remove("cm:description"));
+        Assert.assertEquals(1, map1.size());
+        Assert.assertEquals("New Title", map1.get("cm:title"));
+        Assert.assertEquals("Title", map2.get("cm:title"));
+    }
+
+    @Test
+    public void copyIsIndependent()
+    {
+        final CompactPropertyMap map = new CompactPropertyMap();
+        map.put("cm:title", "Title");
+        final CompactPropertyMap copy = new CompactPropertyMap(map);
+        copy.put("cm:title", "Other Title");
+
+        Assert.assertSame(map.getShape(), copy.getShape());
+        Assert.assertEquals("Title", map.get("cm:title"));
+        Assert.assertEquals("Other Title", copy.get("cm:title"));
+    }
+
+    @Test
+    public void entryIteratorSupportsUpdateAndRemoval()
+    {
+        final CompactPropertyMap map = new CompactPropertyMap();
+        map.put("a", Integer.valueOf(1));
+        map.put("b", Integer.valueOf(2));
+        map.put("c", Integer.valueOf(3));
+
+        final Iterator<Map.Entry<String, Object>> iterator = map.entrySet().iterator();
+        while (iterator.hasNext())
+        {
+            final Map.Entry<String, Object> entry = iterator.next();
+            if ("b".equals(entry.getKey()))
+            {
+                iterator.remove();
+            }
+            else
+            {
+                entry.setValue(((Integer) entry.getValue()).intValue() * 10);
+            }
+        }
+
+        final Map<String, Object> expected = new HashMap<>();
+        expected.put("a", Integer.valueOf(10));
+        expected.put("c", Integer.valueOf(30));
+        Assert.assertEquals(expected, map);
+    }
+
+    @Test
+    public void intermediateShapesAreNotInterned()
+    {
+        final CompactPropertyMap map1 = new CompactPropertyMap();
+        final CompactPropertyMap map2 = new CompactPropertyMap();
+        for (int idx = 0; idx < 100; idx++)
+        {
+            map1.put("test:intermediate" + idx, Integer.valueOf(idx));
+            map2.put("test:intermediate" + idx, Integer.valueOf(idx));
+        }
+
+        Assert.assertEquals(100, map1.size());
+        Assert.assertEquals(Integer.valueOf(42), map1.get("test:intermediate42"));
+        Assert.assertEquals(map1, map2);
+        Assert.assertNotSame(map1.getShape(), map2.getShape());
+
+        // a complete set of property names is interned, and incrementally built maps transition to it from then on
+        final CompactPropertyMap complete = new CompactPropertyMap(new HashMap<>(map1));
+        final CompactPropertyMap map3 = new CompactPropertyMap();
+        for (int idx = 99; idx >= 0; idx--)
+        {
+            map3.put("test:intermediate" + idx, Integer.valueOf(idx));
+        }
+        Assert.assertSame(complete.getShape(), map3.getShape());
+    }
+
+    @Test
+    public void supportsNullPropertyName()
+    {
+        // same as the plain HashMap used before
+        final CompactPropertyMap map = new CompactPropertyMap();
+        map.put("cm:title", "Title");
+        map.put(null, "value");
+
+        Assert.assertTrue(map.containsKey(null));
+        Assert.assertEquals("value", map.get(null));
+        Assert.assertEquals("Title", map.get("cm:title"));
+
+        final Map<String, Object> expected = new HashMap<>();
+        expected.put(null, "value");
+        expected.put("cm:title", "Title");
+        Assert.assertEquals(expected, map);
+        Assert.assertEquals(expected, new CompactPropertyMap(expected));
+        Assert.assertEquals(expected.hashCode(), map.hashCode());
+
+        Assert.assertEquals("value", map.remove(null));
+        Assert.assertFalse(map.containsKey(null));
+    }
+
+    @Test
+    public void nodeEntityUsesCompactMap()
+    {
+        final NodeResponseEntity node1 = new NodeResponseEntity();
+        node1.setProperty("cm:title", "Title 1");
+        final NodeResponseEntity node2 = new NodeResponseEntity();
+        node2.setProperties(node1.getProperties());
+        node2.setProperty("cm:title", "Title 2");
+
+        Assert.assertEquals("Title 1", node1.getProperty("cm:title"));
+        Assert.assertEquals("Title 2", node2.getProperty("cm:title"));
+        Assert.assertEquals(node1.getProperties(), new NodeResponseEntity(node1).getProperties());
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.model.nodes;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author Axel Faust
+ */
+public class NodeIdMapTests
+{
+
+    @Test
+    public void mapsPackedAndUnpackedIds()
+    {
+        final List<NodeId> nodeIds = new ArrayList<>();
+        for (int idx = 0; idx < 10000; idx++)
+        {
+            nodeIds.add(NodeId.of(UUID.randomUUID().toString()));
+        }
+        nodeIds.add(NodeId.of(0, 0));
+        nodeIds.add(NodeId.of("-root-"));
+
+        final NodeIdMap<Integer> map = new NodeIdMap<>(16);
+        for (int idx = 0; idx < nodeIds.size(); idx++)
+        {
+            Assert.assertNull(map.put(nodeIds.get(idx), Integer.valueOf(idx)));
+        }
+        for (int idx = 0; idx < nodeIds.size(); idx++)
+        {
+            Assert.assertTrue(map.containsKey(nodeIds.get(idx)));
+            Assert.assertEquals(Integer.valueOf(idx), map.get(nodeIds.get(idx)));
+        }
+
+        Assert.assertEquals(Integer.valueOf(0), map.put(nodeIds.get(0), Integer.valueOf(-1)));
+        Assert.assertEquals(Integer.valueOf(-1), map.get(nodeIds.get(0)));
+        Assert.assertEquals(nodeIds.size(), map.size());
+        Assert.assertNull(map.get(NodeId.of(UUID.randomUUID().toString())));
+        Assert.assertFalse(map.containsKey(NodeId.of("-my-")));
+
+        map.clear();
+        Assert.assertTrue(map.isEmpty());
+        Assert.assertNull(map.get(nodeIds.get(1)));
+        Assert.assertNull(map.get(NodeId.of(0, 0)));
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.model.nodes;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author Axel Faust
+ */
+public class NodeIdSetTests
+{
+
+    @Test
+    public void tracksPackedAndUnpackedIds()
+    {
+        final List<NodeId> nodeIds = new ArrayList<>();
+        for (int idx = 0; idx < 10000; idx++)
+        {
+            nodeIds.add(NodeId.of(UUID.randomUUID().toString()));
+        }
+        nodeIds.add(NodeId.of(0, 0));
+        nodeIds.add(NodeId.of("-root-"));
+
+        final NodeIdSet set = new NodeIdSet();
+        for (final NodeId nodeId : nodeIds)
+        {
+            Assert.assertTrue(set.add(nodeId));
+        }
+        for (final NodeId nodeId : nodeIds)
+        {
+            Assert.assertFalse(set.add(nodeId));
+            Assert.assertTrue(set.contains(nodeId));
+            Assert.assertTrue(set.contains(nodeId.toString()));
+        }
+
+        Assert.assertEquals(nodeIds.size(), set.size());
+        Assert.assertFalse(set.contains(NodeId.of(UUID.randomUUID().toString())));
+        Assert.assertFalse(set.contains("-my-"));
+        Assert.assertFalse(set.contains((NodeId) null));
+
+        set.clear();
+        Assert.assertTrue(set.isEmpty());
+        Assert.assertFalse(set.contains(nodeIds.get(0)));
+        Assert.assertFalse(set.contains(NodeId.of(0, 0)));
+    }
+}
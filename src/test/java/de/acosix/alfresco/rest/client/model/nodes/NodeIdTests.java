@@ -0,0 +1,82 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.model.nodes;
+
+import java.util.UUID;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author Axel Faust
+ */
+public class NodeIdTests
+{
+
+    @Test
+    public void packsAlfrescoUUIDs()
+    {
+        for (int idx = 0; idx < 1000; idx++)
+        {
+            final UUID uuid = UUID.randomUUID();
+            final NodeId nodeId = NodeId.of(uuid.toString());
+
+            Assert.assertTrue(nodeId.isPacked());
+            Assert.assertEquals(uuid.getMostSignificantBits(), nodeId.getMostSignificantBits());
+            Assert.assertEquals(uuid.getLeastSignificantBits(), nodeId.getLeastSignificantBits());
+            Assert.assertEquals(uuid.toString(), nodeId.toString());
+            Assert.assertEquals(nodeId, NodeId.of(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits()));
+        }
+
+        Assert.assertEquals("00000000-0000-0000-0000-000000000000", NodeId.of(0, 0).toString());
+        Assert.assertEquals("ffffffff-ffff-ffff-ffff-ffffffffffff", NodeId.of(-1, -1).toString());
+    }
+
+    @Test
+    public void keepsOtherIDsAsString()
+    {
+        final String[] ids = { "-root-", "-my-", "2B3C4D5E-0000-4000-8000-000000000001", "2b3c4d5e-0000-4000-8000-00000000000",
+                "2b3c4d5e-0000-4000-8000-0000000000001", "2b3c4d5e00000-4000-8000-000000000001", "2b3c4d5e-0000-4000-8000-00000000000g",
+                "workspace://SpacesStore/2b3c4d5e-0000-4000-8000-000000000001" };
+        for (final String id : ids)
+        {
+            final NodeId nodeId = NodeId.of(id);
+            Assert.assertFalse(id, nodeId.isPacked());
+            Assert.assertEquals(id, nodeId.toString());
+            Assert.assertEquals(NodeId.of(id), nodeId);
+            Assert.assertEquals(NodeId.of(id).hashCode(), nodeId.hashCode());
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void unpackedIDHasNoBits()
+    {
+        NodeId.of("-root-").getMostSignificantBits();
+    }
+
+    @Test
+    public void entitiesProvideNodeIds()
+    {
+        final NodeResponseEntity node = new NodeResponseEntity();
+        node.setId("2b3c4d5e-0000-4000-8000-000000000001");
+        node.setParentId("-root-");
+
+        Assert.assertTrue(node.getNodeId().isPacked());
+        Assert.assertEquals(node.getId(), node.getNodeId().toString());
+        Assert.assertFalse(node.getParentNodeId().isPacked());
+        Assert.assertNull(new ChildAssociationEntity().getChildNodeId());
+    }
+}
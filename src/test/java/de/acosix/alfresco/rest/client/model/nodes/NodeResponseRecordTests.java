@@ -0,0 +1,155 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.model.nodes;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import de.acosix.alfresco.rest.client.jackson.RestAPIAccessorsModule;
+import de.acosix.alfresco.rest.client.jackson.RestAPIBeanDeserializerModifier;
+import de.acosix.alfresco.rest.client.jackson.RestAPIDeserializersModule;
+import de.acosix.alfresco.rest.client.model.common.UserInfoRecord;
+
+/**
+ * @author Axel Faust
+ */
+public class NodeResponseRecordTests
+{
+
+    private static final String NODE_JSON = "{\"entry\":{\"createdAt\":\"2026-01-05T10:15:30.000+0000\",\"isFolder\":false,"
+            + "\"isFile\":true,\"createdByUser\":{\"id\":\"admin\",\"displayName\":\"Administrator\"},"
+            + "\"modifiedAt\":\"2026-01-06T08:00:00.000+0000\",\"modifiedByUser\":{\"id\":\"jdoe\",\"displayName\":\"John Doe\"},"
+            + "\"name\":\"Doc.txt\",\"id\":\"2b3c4d5e-0000-4000-8000-000000000001\",\"nodeType\":\"cm:content\","
+            + "\"content\":{\"mimeType\":\"text/plain\",\"mimeTypeName\":\"Plain Text\",\"sizeInBytes\":1234,\"encoding\":\"UTF-8\"},"
+            + "\"parentId\":\"1a2b3c4d-0000-4000-8000-000000000000\",\"aspectNames\":[\"cm:auditable\",\"cm:titled\"],"
+            + "\"properties\":{\"cm:title\":\"Title\",\"cm:tags\":[\"x\",\"y\"],\"custom:empty\":null},"
+            + "\"allowableOperations\":[\"delete\",\"update\"],\"path\":{\"name\":\"/Company Home\",\"isComplete\":true,"
+            + "\"elements\":[{\"id\":\"root\",\"name\":\"Company Home\",\"nodeType\":\"cm:folder\"}]},"
+            + "\"permissions\":{\"isInheritanceEnabled\":true,\"settable\":[\"Consumer\"],"
+            + "\"inherited\":[{\"authorityId\":\"GROUP_EVERYONE\",\"name\":\"Consumer\",\"accessStatus\":\"ALLOWED\"}]}}}";
+
+    private static ObjectMapper mapper;
+
+    private static ObjectMapper accessorsMapper;
+
+    @BeforeClass
+    public static void setupClass()
+    {
+        final SimpleModule module = new SimpleModule();
+        module.setDeserializerModifier(new RestAPIBeanDeserializerModifier());
+
+        mapper = new ObjectMapper();
+        mapper.registerModule(module);
+
+        accessorsMapper = new ObjectMapper();
+        accessorsMapper.registerModule(module);
+        accessorsMapper.registerModule(new RestAPIAccessorsModule());
+        accessorsMapper.registerModule(new RestAPIDeserializersModule());
+    }
+
+    @Test
+    public void readWrappedEntry() throws Exception
+    {
+        final NodeResponseRecord node = mapper.readValue(NODE_JSON, NodeResponseRecord.class);
+
+        Assert.assertEquals("Doc.txt", node.name());
+        Assert.assertEquals(Boolean.TRUE, node.isFile());
+        Assert.assertEquals(new UserInfoRecord("jdoe", "John Doe"), node.modifiedByUser());
+        Assert.assertEquals(Long.valueOf(1234), node.content().sizeInBytes());
+        Assert.assertEquals(Arrays.asList("x", "y"), node.properties().get("cm:tags"));
+        Assert.assertTrue(node.properties().containsKey("custom:empty"));
+        Assert.assertEquals("Company Home", node.path().elements().get(0).name());
+        Assert.assertEquals("GROUP_EVERYONE", node.permissions().inherited().get(0).authorityId());
+        Assert.assertTrue(node.nodeId().isPacked());
+        Assert.assertEquals(node, accessorsMapper.readValue(NODE_JSON, NodeResponseRecord.class));
+
+        try
+        {
+            mapper.readValue("{\"id\":\"a\",\"name\":\"A\"}", NodeResponseRecord.class);
+            Assert.fail("Unwrapped JSON should not be accepted");
+        }
+        catch (final JsonMappingException expected)
+        {
+            Assert.assertTrue(expected.getMessage().contains("is not wrapped inside an object with 'entry' property"));
+        }
+    }
+
+    @Test
+    public void sameStateAsEntity() throws Exception
+    {
+        final NodeResponseEntity entity = mapper.readValue(NODE_JSON, NodeResponseEntity.class);
+        final NodeResponseRecord node = mapper.readValue(NODE_JSON, NodeResponseRecord.class);
+
+        Assert.assertEquals(node, NodeResponseRecord.from(entity));
+        Assert.assertEquals(mapper.valueToTree(entity), mapper.valueToTree(node));
+        Assert.assertEquals(mapper.valueToTree(entity), mapper.valueToTree(node.toBean()));
+        Assert.assertEquals(entity.getCreatedAtInstant(), node.createdAtInstant());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void collectionsAreUnmodifiable() throws Exception
+    {
+        final NodeResponseRecord node = mapper.readValue(NODE_JSON, NodeResponseRecord.class);
+
+        final Map<String, Object> properties = node.properties();
+        assertUnsupported(() -> properties.put("cm:description", "Description"));
+        assertUnsupported(() -> properties.remove("cm:title"));
+        assertUnsupported(() -> properties.entrySet().iterator().next().setValue("Title"));
+        assertUnsupported(() -> ((List<Object>) properties.get("cm:tags")).add("z"));
+        assertUnsupported(() -> node.aspectNames().add("cm:versionable"));
+        assertUnsupported(() -> node.permissions().settable().clear());
+
+        final NodeResponseEntity entity = node.toBean();
+        entity.setProperty("cm:description", "Description");
+        Assert.assertFalse(node.properties().containsKey("cm:description"));
+    }
+
+    @Test
+    public void childNodeSharesState() throws Exception
+    {
+        final NodeResponseRecord node = mapper.readValue(NODE_JSON, NodeResponseRecord.class);
+        final ChildNodeResponseRecord child = ChildNodeResponseRecord.of(node, new ChildAssociationResponseRecord("cm:contains", true));
+
+        Assert.assertSame(node.properties(), child.properties());
+        Assert.assertSame(node.aspectNames(), child.aspectNames());
+        Assert.assertEquals(node, child.node());
+        Assert.assertEquals("cm:contains", child.toBean().getAssociation().getAssocType());
+        Assert.assertEquals(child, ChildNodeResponseRecord.from(child.toBean()));
+    }
+
+    private static void assertUnsupported(final Runnable operation)
+    {
+        try
+        {
+            operation.run();
+            Assert.fail("Modification should not be supported");
+        }
+        catch (final UnsupportedOperationException expected)
+        {
+            // expected
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.model.nodes;
+
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import de.acosix.alfresco.rest.client.jackson.RestAPIBeanDeserializerModifier;
+import de.acosix.alfresco.rest.client.jackson.RestAPIDeserializersModuleTests;
+import de.acosix.alfresco.rest.client.model.common.PaginatedListRecord;
+
+/**
+ * @author Axel Faust
+ */
+public class PaginatedNodeChildrenListRecordTests
+{
+
+    private static final String SOURCE_JSON = "{\"list\":{\"pagination\":{\"count\":0,\"hasMoreItems\":false,\"totalItems\":0,"
+            + "\"skipCount\":0,\"maxItems\":100},\"entries\":[],\"source\":{\"id\":\"p-1\",\"name\":\"Parent\",\"nodeType\":\"cm:folder\","
+            + "\"isFolder\":true,\"isFile\":false}}}";
+
+    private static ObjectMapper mapper;
+
+    @BeforeClass
+    public static void setupClass()
+    {
+        final SimpleModule module = new SimpleModule();
+        module.setDeserializerModifier(new RestAPIBeanDeserializerModifier());
+
+        mapper = new ObjectMapper();
+        mapper.registerModule(module);
+    }
+
+    @Test
+    public void readWrappedList() throws Exception
+    {
+        final PaginatedNodeChildrenList entity = mapper.readValue(RestAPIDeserializersModuleTests.CHILDREN_JSON,
+                PaginatedNodeChildrenList.class);
+        final PaginatedNodeChildrenListRecord list = mapper.readValue(RestAPIDeserializersModuleTests.CHILDREN_JSON,
+                PaginatedNodeChildrenListRecord.class);
+
+        Assert.assertEquals(2, list.pagination().count());
+        Assert.assertEquals(2, list.entries().size());
+        Assert.assertEquals("cm:contains", list.entries().get(0).association().assocType());
+        Assert.assertEquals(Long.valueOf(1234), list.entries().get(1).content().sizeInBytes());
+        Assert.assertNull(list.source());
+        Assert.assertEquals(list, PaginatedNodeChildrenListRecord.from(entity));
+        Assert.assertEquals(mapper.valueToTree(entity), mapper.valueToTree(list.toBean()));
+
+        final PaginatedListRecord<ChildNodeResponseRecord> genericList = mapper.readValue(RestAPIDeserializersModuleTests.CHILDREN_JSON,
+                new TypeReference<PaginatedListRecord<ChildNodeResponseRecord>>()
+                {
+                });
+        Assert.assertEquals(list.entries(), genericList.entries());
+        Assert.assertEquals(list.pagination(), genericList.pagination());
+    }
+
+    @Test
+    public void readUnwrappedSource() throws Exception
+    {
+        final PaginatedNodeChildrenListRecord list = mapper.readValue(SOURCE_JSON, PaginatedNodeChildrenListRecord.class);
+
+        Assert.assertTrue(list.entries().isEmpty());
+        Assert.assertEquals("Parent", list.source().name());
+        Assert.assertEquals(Boolean.TRUE, list.source().isFolder());
+        Assert.assertEquals("Parent", list.toBean().getSource().getName());
+    }
+}
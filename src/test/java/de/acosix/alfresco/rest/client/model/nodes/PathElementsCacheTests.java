@@ -0,0 +1,124 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.model.nodes;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author Axel Faust
+ */
+public class PathElementsCacheTests
+{
+
+    @Test
+    public void siblingPathsShareElements()
+    {
+        final PathElementsCache cache = new PathElementsCache();
+        final PathInfo first = cache.canonicalize(path("root", "sites", "site", "documentLibrary"));
+        final PathInfo second = cache.canonicalize(path("root", "sites", "site", "documentLibrary"));
+        final PathInfo sibling = cache.canonicalize(path("root", "sites", "site", "links"));
+
+        Assert.assertSame(first.pathElements(), second.pathElements());
+        Assert.assertSame(first.getElementsView(), second.getElementsView());
+        Assert.assertSame(first.pathElements().getParent(), sibling.pathElements().getParent());
+        Assert.assertSame(first.getElementsView().get(0), sibling.getElementsView().get(0));
+        Assert.assertEquals("links", sibling.getElementsView().get(3).getId());
+        Assert.assertEquals(5, cache.size());
+
+        cache.clear();
+        Assert.assertEquals(0, cache.size());
+        Assert.assertNotSame(first.pathElements(), cache.canonicalize(path("root", "sites", "site", "documentLibrary")).pathElements());
+    }
+
+    @Test
+    public void differentElementsAreNotShared()
+    {
+        final PathElementsCache cache = new PathElementsCache();
+        final PathInfo first = cache.canonicalize(path("root", "a"));
+        final PathInfo renamed = path("root", "a");
+        final List<PathNodeEntity> elements = renamed.getElements();
+        final PathNodeEntity element = new PathNodeEntity(elements.get(1));
+        element.setName("Renamed");
+        elements.set(1, element);
+        renamed.setElements(elements);
+        cache.canonicalize(renamed);
+
+        Assert.assertNotSame(first.pathElements(), renamed.pathElements());
+        Assert.assertSame(first.pathElements().getParent(), renamed.pathElements().getParent());
+        Assert.assertEquals("Renamed", renamed.getElementsView().get(1).getName());
+        Assert.assertEquals("a", first.getElementsView().get(1).getName());
+    }
+
+    @Test
+    public void elementsAreSharedAndImmutable()
+    {
+        final PathNodeEntity element = new PathNodeEntity();
+        element.setId("root");
+        element.setName("Company Home");
+
+        final PathInfo path = new PathInfo();
+        path.setElements(Arrays.asList(element));
+        element.setName("Changed");
+
+        final PathNodeEntity sharedElement = path.getElementsView().get(0);
+        Assert.assertTrue(sharedElement.isShared());
+        Assert.assertEquals("Company Home", sharedElement.getName());
+        Assert.assertFalse(new PathNodeEntity(sharedElement).isShared());
+
+        // regular accessor provides the same shared elements
+        Assert.assertSame(sharedElement, path.getElements().get(0));
+
+        try
+        {
+            sharedElement.setName("Changed");
+            Assert.fail("Shared path elements should be immutable");
+        }
+        catch (final UnsupportedOperationException expected)
+        {
+            // expected
+        }
+
+        final PathInfo copy = new PathInfo(path);
+        Assert.assertSame(path.getElementsView(), copy.getElementsView());
+
+        copy.setElements(new ArrayList<>());
+        Assert.assertTrue(copy.getElementsView().isEmpty());
+        Assert.assertEquals(1, path.getElementsView().size());
+    }
+
+    private static PathInfo path(final String... ids)
+    {
+        final List<PathNodeEntity> elements = new ArrayList<>();
+        for (final String id : ids)
+        {
+            final PathNodeEntity element = new PathNodeEntity();
+            element.setId(id);
+            element.setName(id);
+            element.setNodeType("cm:folder");
+            elements.add(element);
+        }
+
+        final PathInfo path = new PathInfo();
+        path.setIsComplete(Boolean.TRUE);
+        path.setElements(elements);
+        return path;
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.model.nodes;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author Axel Faust
+ */
+public class PermissionsInfoCopyFunctionsTests
+{
+
+    public static class CopyablePermissionsInfo extends ResponsePermissionsInfo
+    {
+
+        private String marker;
+
+        public CopyablePermissionsInfo()
+        {
+            super();
+        }
+
+        public CopyablePermissionsInfo(final CopyablePermissionsInfo reference)
+        {
+            super(reference);
+            this.marker = reference.marker;
+        }
+    }
+
+    public static class NonCopyablePermissionsInfo extends PermissionsInfo
+    {
+        // no copy-constructor
+    }
+
+    public static class RegisteredPermissionsInfo extends PermissionsInfo
+    {
+        // copied via registered function
+    }
+
+    @Test
+    public void copyPredefinedTypes()
+    {
+        final PermissionElement element = new PermissionElement();
+        element.setAuthorityId("GROUP_EVERYONE");
+        element.setName("Consumer");
+        element.setAccessStatus(PermissionElement.AccessStatus.ALLOWED);
+
+        final ResponsePermissionsInfo permissions = new ResponsePermissionsInfo();
+        permissions.setIsInheritanceEnabled(Boolean.FALSE);
+        permissions.setLocallySet(Collections.singletonList(element));
+        permissions.setSettable(Arrays.asList("Consumer", "Collaborator"));
+
+        final ResponsePermissionsInfo copy = PermissionsInfoCopyFunctions.copy(permissions);
+        Assert.assertNotSame(permissions, copy);
+        Assert.assertSame(ResponsePermissionsInfo.class, copy.getClass());
+        Assert.assertEquals(Boolean.FALSE, copy.getIsInheritanceEnabled());
+        Assert.assertEquals(Arrays.asList("Consumer", "Collaborator"), copy.getSettable());
+        Assert.assertNotSame(element, copy.getLocallySetView().get(0));
+        Assert.assertEquals("GROUP_EVERYONE", copy.getLocallySetView().get(0).getAuthorityId());
+
+        Assert.assertSame(PermissionsInfo.class, PermissionsInfoCopyFunctions.copy(new PermissionsInfo()).getClass());
+    }
+
+    @Test
+    public void copyViaCopyConstructor()
+    {
+        final CopyablePermissionsInfo permissions = new CopyablePermissionsInfo();
+        permissions.marker = "marker";
+        permissions.setSettable(Collections.singletonList("Consumer"));
+
+        final CopyablePermissionsInfo copy = PermissionsInfoCopyFunctions.copy(permissions);
+        Assert.assertNotSame(permissions, copy);
+        Assert.assertEquals("marker", copy.marker);
+        Assert.assertEquals(Collections.singletonList("Consumer"), copy.getSettable());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void copyWithoutCopyConstructor()
+    {
+        PermissionsInfoCopyFunctions.copy(new NonCopyablePermissionsInfo());
+    }
+
+    @Test
+    public void copyViaRegisteredFunction()
+    {
+        final RegisteredPermissionsInfo permissions = new RegisteredPermissionsInfo();
+        try
+        {
+            PermissionsInfoCopyFunctions.copy(permissions);
+            Assert.fail("Type without copy-constructor should not be copyable before registration");
+        }
+        catch (final UnsupportedOperationException expected)
+        {
+            // expected
+        }
+
+        PermissionsInfoCopyFunctions.register(RegisteredPermissionsInfo.class, p -> {
+            final RegisteredPermissionsInfo copy = new RegisteredPermissionsInfo();
+            copy.setIsInheritanceEnabled(p.getIsInheritanceEnabled());
+            return copy;
+        });
+
+        permissions.setIsInheritanceEnabled(Boolean.TRUE);
+        final RegisteredPermissionsInfo copy = PermissionsInfoCopyFunctions.copy(permissions);
+        Assert.assertNotSame(permissions, copy);
+        Assert.assertEquals(Boolean.TRUE, copy.getIsInheritanceEnabled());
+    }
+
+    @Test
+    public void entityCopyUsesCopyFunctions()
+    {
+        final CopyablePermissionsInfo permissions = new CopyablePermissionsInfo();
+        permissions.marker = "marker";
+
+        final NodeResponseEntity node = new NodeResponseEntity();
+        node.setPermissions(permissions);
+
+        final NodeResponseEntity copy = new NodeResponseEntity(node);
+        Assert.assertNotSame(node.getPermissions(), copy.getPermissions());
+        Assert.assertEquals("marker", ((CopyablePermissionsInfo) copy.getPermissions()).marker);
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.pagination;
+
+import java.time.Duration;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author Axel Faust
+ */
+public class AdaptivePageSizePolicyTests
+{
+
+    @Test
+    public void adaptivePolicyConvergesOnTargetDuration()
+    {
+        // 1ms target, 10us per entry => ideal page size of 100
+        final AdaptivePageSizePolicy policy = new AdaptivePageSizePolicy(5, 500, 10, Duration.ofMillis(1));
+        policy.pageFetched(10, 10, 100_000L, PageSizePolicy.UNKNOWN_PAYLOAD_SIZE);
+        // growth is limited to doubling per page
+        Assert.assertEquals(20, policy.nextPageSize());
+
+        for (int page = 1; page < 20; page++)
+        {
+            final int pageSize = policy.nextPageSize();
+            policy.pageFetched(pageSize, pageSize, pageSize * 10_000L, PageSizePolicy.UNKNOWN_PAYLOAD_SIZE);
+        }
+        Assert.assertEquals(100, policy.getCurrentPageSize());
+        Assert.assertEquals(20, policy.getPagesFetched());
+
+        // server slows down by factor of 10 => page size shrinks towards 10, bounded below by 5
+        for (int page = 0; page < 20; page++)
+        {
+            final int pageSize = policy.nextPageSize();
+            policy.pageFetched(pageSize, pageSize, pageSize * 100_000L, PageSizePolicy.UNKNOWN_PAYLOAD_SIZE);
+        }
+        Assert.assertEquals(10, policy.getCurrentPageSize());
+        Assert.assertTrue(policy.getSmallestPageSize() >= 5);
+    }
+
+    @Test
+    public void adaptivePolicySeparatesOverheadFromCostPerEntry()
+    {
+        // 100ms target, 50ms overhead per page, 10us per entry => ideal page size of 5000 instead of shrinking due to the overhead
+        final AdaptivePageSizePolicy policy = new AdaptivePageSizePolicy(10, 10_000, 50, Duration.ofMillis(100));
+        for (int page = 0; page < 30; page++)
+        {
+            final int pageSize = policy.nextPageSize();
+            policy.pageFetched(pageSize, pageSize, 50_000_000L + pageSize * 10_000L, PageSizePolicy.UNKNOWN_PAYLOAD_SIZE);
+        }
+        Assert.assertEquals(5_000, policy.getCurrentPageSize(), 10);
+        Assert.assertEquals(50_000_000d, policy.getOverheadNanos(), 100_000d);
+        Assert.assertEquals(10_000d, policy.getNanosPerEntry(), 100d);
+    }
+
+    @Test
+    public void adaptivePolicyUsesMaxPageSizeIfLatencyExceedsTarget()
+    {
+        // 100ms target, but 200ms latency per page => target cannot be met, so overhead should be amortized over largest possible pages
+        final AdaptivePageSizePolicy policy = new AdaptivePageSizePolicy(10, 1_000, 50, Duration.ofMillis(100));
+        for (int page = 0; page < 30; page++)
+        {
+            final int pageSize = policy.nextPageSize();
+            policy.pageFetched(pageSize, pageSize, 200_000_000L + pageSize * 10_000L, PageSizePolicy.UNKNOWN_PAYLOAD_SIZE);
+        }
+        Assert.assertEquals(1_000, policy.getCurrentPageSize());
+        Assert.assertEquals(1_000, policy.getLargestPageSize());
+        Assert.assertEquals(200_000_000d, policy.getOverheadNanos(), 100_000d);
+    }
+
+    @Test
+    public void adaptivePolicyRespectsPayloadLimit()
+    {
+        // time would allow 500 entries, but 2kB per entry with a 100kB limit only allows 50
+        final AdaptivePageSizePolicy policy = new AdaptivePageSizePolicy(1, 500, 10, Duration.ofSeconds(1), 100_000);
+        for (int page = 0; page < 10; page++)
+        {
+            final int pageSize = policy.nextPageSize();
+            policy.pageFetched(pageSize, pageSize, pageSize * 1_000L, pageSize * 2_000L);
+        }
+        Assert.assertEquals(50, policy.getCurrentPageSize());
+        Assert.assertEquals(2_000d, policy.getBytesPerEntry(), 0.001d);
+    }
+}
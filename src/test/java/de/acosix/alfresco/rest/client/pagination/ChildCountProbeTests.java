@@ -0,0 +1,47 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.pagination;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author Axel Faust
+ */
+public class ChildCountProbeTests
+{
+
+    @Test
+    public void countUsesTotalItemsOfSingleEntryProbe()
+    {
+        final FakeListing listing = new FakeListing(1234, true);
+        Assert.assertEquals(1234, ChildCountProbe.count(listing, 100));
+        Assert.assertEquals(1, listing.getRequestedPages().size());
+        Assert.assertArrayEquals(new int[] { 0, 1 }, listing.getRequestedPages().get(0));
+    }
+
+    @Test
+    public void countFallsBackToPagingWithoutTotalItems()
+    {
+        final FakeListing listing = new FakeListing(250, false);
+        Assert.assertEquals(250, ChildCountProbe.count(listing, 100));
+        // probe of 1 entry, then pages of 100 from offset 1
+        Assert.assertEquals(4, listing.getRequestedPages().size());
+        Assert.assertArrayEquals(new int[] { 1, 100 }, listing.getRequestedPages().get(1));
+
+        Assert.assertEquals(0, ChildCountProbe.count(new FakeListing(0, false), 100));
+    }
+}
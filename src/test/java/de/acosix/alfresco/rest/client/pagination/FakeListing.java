@@ -0,0 +1,76 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.pagination;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import de.acosix.alfresco.rest.client.model.common.PaginatedList;
+import de.acosix.alfresco.rest.client.model.common.PaginationInfo;
+
+/**
+ * Simulates a listing operation over a fixed number of integer entries, recording the pages requested.
+ *
+ * @author Axel Faust
+ */
+class FakeListing implements PageFetcher<Integer>
+{
+
+    private final int totalItems;
+
+    private final boolean includePagination;
+
+    private final List<int[]> requestedPages = new ArrayList<>();
+
+    FakeListing(final int totalItems, final boolean includePagination)
+    {
+        this.totalItems = totalItems;
+        this.includePagination = includePagination;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized PaginatedList<Integer> fetchPage(final int skipCount, final int maxItems)
+    {
+        this.requestedPages.add(new int[] { skipCount, maxItems });
+
+        final int end = Math.min(this.totalItems, skipCount + maxItems);
+        final List<Integer> entries = IntStream.range(Math.min(skipCount, end), end).boxed().collect(Collectors.toList());
+
+        final PaginatedList<Integer> page = new PaginatedList<>();
+        page.setEntries(entries);
+        if (this.includePagination)
+        {
+            final PaginationInfo pagination = new PaginationInfo();
+            pagination.setSkipCount(skipCount);
+            pagination.setMaxItems(maxItems);
+            pagination.setCount(entries.size());
+            pagination.setTotalItems(this.totalItems);
+            pagination.setHasMoreItems(end < this.totalItems);
+            page.setPagination(pagination);
+        }
+        return page;
+    }
+
+    synchronized List<int[]> getRequestedPages()
+    {
+        return new ArrayList<>(this.requestedPages);
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.pagination;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author Axel Faust
+ */
+public class PagedIteratorTests
+{
+
+    @Test
+    public void iteratesAllEntriesInOrder()
+    {
+        final FakeListing listing = new FakeListing(25, true);
+        final List<Integer> result = Paging.stream(listing, 10).collect(Collectors.toList());
+
+        Assert.assertEquals(IntStream.range(0, 25).boxed().collect(Collectors.toList()), result);
+        Assert.assertEquals(3, listing.getRequestedPages().size());
+        Assert.assertEquals(20, listing.getRequestedPages().get(2)[0]);
+    }
+
+    @Test
+    public void fetchesPagesLazily()
+    {
+        final FakeListing listing = new FakeListing(25, true);
+        final PagedIterator<Integer> iterator = Paging.iterator(listing, 10);
+
+        Assert.assertTrue(listing.getRequestedPages().isEmpty());
+        for (int i = 0; i < 10; i++)
+        {
+            Assert.assertEquals(Integer.valueOf(i), iterator.next());
+        }
+        Assert.assertEquals(1, listing.getRequestedPages().size());
+
+        iterator.next();
+        Assert.assertEquals(2, listing.getRequestedPages().size());
+        Assert.assertEquals(20, iterator.getNextSkipCount());
+    }
+
+    @Test
+    public void stopsWithoutExtraRequestOnExactMultiple()
+    {
+        final FakeListing listing = new FakeListing(20, true);
+        Assert.assertEquals(20, Paging.stream(listing, 10).count());
+        Assert.assertEquals(2, listing.getRequestedPages().size());
+    }
+
+    @Test
+    public void stopsOnShortPageWithoutPaginationInfo()
+    {
+        final FakeListing listing = new FakeListing(25, false);
+        Assert.assertEquals(25, Paging.stream(listing, 10).count());
+        Assert.assertEquals(3, listing.getRequestedPages().size());
+    }
+
+    @Test
+    public void emptyListing()
+    {
+        final FakeListing listing = new FakeListing(0, true);
+        final PagedIterator<Integer> iterator = Paging.iterator(listing, 10);
+        Assert.assertFalse(iterator.hasNext());
+        Assert.assertFalse(iterator.hasNext());
+        Assert.assertEquals(1, listing.getRequestedPages().size());
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void nextBeyondEnd()
+    {
+        final PagedIterator<Integer> iterator = Paging.iterator(new FakeListing(1, true), 10);
+        iterator.next();
+        iterator.next();
+    }
+
+    @Test
+    public void iteratorUsesPageSizesOfPolicy()
+    {
+        final FakeListing listing = new FakeListing(100, true);
+        final int[] pageSizes = { 10, 20, 40, 30 };
+        final List<int[]> observed = new ArrayList<>();
+        final PageSizePolicy policy = new PageSizePolicy()
+        {
+
+            private int page;
+
+            @Override
+            public int nextPageSize()
+            {
+                return pageSizes[Math.min(this.page, pageSizes.length - 1)];
+            }
+
+            @Override
+            public void pageFetched(final int requestedItems, final int receivedItems, final long durationNanos, final long payloadBytes)
+            {
+                this.page++;
+                observed.add(new int[] { requestedItems, receivedItems });
+                Assert.assertEquals(PageSizePolicy.UNKNOWN_PAYLOAD_SIZE, payloadBytes);
+            }
+        };
+
+        final List<Integer> result = Paging.stream(listing, policy).collect(Collectors.toList());
+        Assert.assertEquals(IntStream.range(0, 100).boxed().collect(Collectors.toList()), result);
+
+        final List<int[]> requestedPages = listing.getRequestedPages();
+        Assert.assertEquals(4, requestedPages.size());
+        Assert.assertArrayEquals(new int[] { 70, 30 }, requestedPages.get(3));
+        Assert.assertArrayEquals(new int[] { 40, 40 }, observed.get(2));
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.pagination;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author Axel Faust
+ */
+public class PagedPublisherTests
+{
+
+    @Test
+    public void publisherFetchesAccordingToDemand() throws Exception
+    {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try
+        {
+            final FakeListing listing = new FakeListing(20, true);
+            final List<Integer> received = new ArrayList<>();
+            final CountDownLatch completed = new CountDownLatch(1);
+
+            Paging.publisher(listing, 100, executor).subscribe(new Flow.Subscriber<Integer>()
+            {
+
+                private Flow.Subscription subscription;
+
+                @Override
+                public void onSubscribe(final Flow.Subscription subscription)
+                {
+                    this.subscription = subscription;
+                    subscription.request(3);
+                }
+
+                @Override
+                public void onNext(final Integer item)
+                {
+                    received.add(item);
+                    if (received.size() % 3 == 0)
+                    {
+                        this.subscription.request(3);
+                    }
+                }
+
+                @Override
+                public void onError(final Throwable throwable)
+                {
+                    completed.countDown();
+                }
+
+                @Override
+                public void onComplete()
+                {
+                    completed.countDown();
+                }
+            });
+
+            Assert.assertTrue(completed.await(5, TimeUnit.SECONDS));
+            Assert.assertEquals(IntStream.range(0, 20).boxed().collect(Collectors.toList()), received);
+            listing.getRequestedPages().forEach(page -> Assert.assertEquals(3, page[1]));
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void publisherStopsOnCancel() throws Exception
+    {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try
+        {
+            final FakeListing listing = new FakeListing(1000, true);
+            final CountDownLatch cancelled = new CountDownLatch(1);
+
+            Paging.publisher(listing, 10, executor).subscribe(new Flow.Subscriber<Integer>()
+            {
+
+                private Flow.Subscription subscription;
+
+                @Override
+                public void onSubscribe(final Flow.Subscription subscription)
+                {
+                    this.subscription = subscription;
+                    subscription.request(Long.MAX_VALUE);
+                }
+
+                @Override
+                public void onNext(final Integer item)
+                {
+                    if (item.intValue() == 15)
+                    {
+                        this.subscription.cancel();
+                        cancelled.countDown();
+                    }
+                }
+
+                @Override
+                public void onError(final Throwable throwable)
+                {
+                    // NO-OP
+                }
+
+                @Override
+                public void onComplete()
+                {
+                    // NO-OP
+                }
+            });
+
+            Assert.assertTrue(cancelled.await(5, TimeUnit.SECONDS));
+            executor.shutdown();
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+            Assert.assertEquals(2, listing.getRequestedPages().size());
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void publisherNeverExceedsDemandOfOverReturningFetcher() throws Exception
+    {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try
+        {
+            final FakeListing delegate = new FakeListing(20, true);
+            // server ignores the requested page size and always returns pages of 5
+            final PageFetcher<Integer> overReturningListing = (skipCount, maxItems) -> delegate.fetchPage(skipCount, 5);
+            final List<Integer> received = new CopyOnWriteArrayList<>();
+            final AtomicReference<Flow.Subscription> subscriptionRef = new AtomicReference<>();
+            final CountDownLatch completed = new CountDownLatch(1);
+
+            Paging.publisher(overReturningListing, 100, executor).subscribe(new Flow.Subscriber<Integer>()
+            {
+
+                @Override
+                public void onSubscribe(final Flow.Subscription subscription)
+                {
+                    subscriptionRef.set(subscription);
+                    subscription.request(2);
+                }
+
+                @Override
+                public void onNext(final Integer item)
+                {
+                    received.add(item);
+                }
+
+                @Override
+                public void onError(final Throwable throwable)
+                {
+                    completed.countDown();
+                }
+
+                @Override
+                public void onComplete()
+                {
+                    completed.countDown();
+                }
+            });
+
+            // single-threaded executor - once this task has run, the publisher has drained the initial demand
+            executor.submit(() -> {
+                // NO-OP
+            }).get(5, TimeUnit.SECONDS);
+            Assert.assertEquals(Arrays.asList(0, 1), received);
+
+            subscriptionRef.get().request(Long.MAX_VALUE);
+            Assert.assertTrue(completed.await(5, TimeUnit.SECONDS));
+            Assert.assertEquals(IntStream.range(0, 20).boxed().collect(Collectors.toList()), received);
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+}
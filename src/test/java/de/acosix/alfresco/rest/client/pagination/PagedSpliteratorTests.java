@@ -0,0 +1,72 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.pagination;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author Axel Faust
+ */
+public class PagedSpliteratorTests
+{
+
+    @Test
+    public void spliteratorSplitsAlongPages()
+    {
+        final FakeListing listing = new FakeListing(1000, true);
+        final PagedSpliterator<Integer> spliterator = PagedSpliterator.forListing(listing, 100);
+
+        Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+        Assert.assertEquals(1000, spliterator.getExactSizeIfKnown());
+
+        final Spliterator<Integer> prefix = spliterator.trySplit();
+        Assert.assertNotNull(prefix);
+        Assert.assertEquals(500, prefix.estimateSize());
+        Assert.assertEquals(500, spliterator.estimateSize());
+
+        final List<Integer> prefixEntries = new ArrayList<>();
+        prefix.forEachRemaining(prefixEntries::add);
+        Assert.assertEquals(IntStream.range(0, 500).boxed().collect(Collectors.toList()), prefixEntries);
+    }
+
+    @Test
+    public void parallelStreamCoversListing()
+    {
+        final FakeListing listing = new FakeListing(2345, true);
+        final List<Integer> result = Paging.parallelStream(listing, 50).collect(Collectors.toList());
+
+        Assert.assertEquals(IntStream.range(0, 2345).boxed().collect(Collectors.toList()), result);
+        Assert.assertEquals(47, listing.getRequestedPages().size());
+    }
+
+    @Test
+    public void spliteratorWithoutTotalIsUnsized()
+    {
+        final FakeListing listing = new FakeListing(25, false);
+        final PagedSpliterator<Integer> spliterator = PagedSpliterator.forListing(listing, 10);
+
+        Assert.assertFalse(spliterator.hasCharacteristics(Spliterator.SIZED));
+        Assert.assertNull(spliterator.trySplit());
+        Assert.assertEquals(25, Paging.parallelStream(listing, 10).count());
+    }
+}
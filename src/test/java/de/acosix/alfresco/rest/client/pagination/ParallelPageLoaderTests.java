@@ -0,0 +1,72 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.pagination;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import de.acosix.alfresco.rest.client.model.common.PaginatedList;
+
+/**
+ * @author Axel Faust
+ */
+public class ParallelPageLoaderTests
+{
+
+    @Test
+    public void fanOutLoadsAllInOrder() throws Exception
+    {
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try
+        {
+            final FakeListing listing = new FakeListing(1234, true);
+            final PaginatedList<Integer> all = Paging.loadAll(listing, 100, 4, executor);
+
+            Assert.assertEquals(IntStream.range(0, 1234).boxed().collect(Collectors.toList()), all.getEntries());
+            Assert.assertEquals(1234, all.getPagination().getCount());
+            Assert.assertFalse(all.getPagination().getHasMoreItems());
+            Assert.assertEquals(13, listing.getRequestedPages().size());
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void fanOutFallsBackToSequentialWithoutTotal() throws Exception
+    {
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try
+        {
+            final FakeListing listing = new FakeListing(55, false);
+            try (Stream<Integer> stream = Paging.fanOutStream(listing, 10, 4, executor))
+            {
+                Assert.assertEquals(IntStream.range(0, 55).boxed().collect(Collectors.toList()), stream.collect(Collectors.toList()));
+            }
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.pagination;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author Axel Faust
+ */
+public class PrefetchingPagedIteratorTests
+{
+
+    @Test
+    public void prefetchingKeepsOrder() throws Exception
+    {
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try
+        {
+            final FakeListing listing = new FakeListing(95, true);
+            try (Stream<Integer> stream = Paging.prefetchingStream(listing, 10, 3, executor))
+            {
+                Assert.assertEquals(IntStream.range(0, 95).boxed().collect(Collectors.toList()), stream.collect(Collectors.toList()));
+            }
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void prefetchingBoundsReadAheadAndStopsOnClose() throws Exception
+    {
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try
+        {
+            final FakeListing listing = new FakeListing(1000, true);
+            final PrefetchingPagedIterator<Integer> iterator = Paging.prefetchingIterator(listing, 10, 2, executor);
+            Assert.assertEquals(Integer.valueOf(0), iterator.next());
+            iterator.close();
+            Assert.assertFalse(iterator.hasNext());
+
+            executor.shutdown();
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+            // current page + at most 2 read-ahead pages
+            Assert.assertTrue(listing.getRequestedPages().size() <= 3);
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void prefetchingRealignsOnServerCappedPages() throws Exception
+    {
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try
+        {
+            final FakeListing delegate = new FakeListing(50, true);
+            // server silently caps page size to 7
+            final PageFetcher<Integer> cappedListing = (skipCount, maxItems) -> delegate.fetchPage(skipCount, Math.min(7, maxItems));
+            try (Stream<Integer> stream = Paging.prefetchingStream(cappedListing, 10, 2, executor))
+            {
+                Assert.assertEquals(IntStream.range(0, 50).boxed().collect(Collectors.toList()), stream.collect(Collectors.toList()));
+            }
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+}
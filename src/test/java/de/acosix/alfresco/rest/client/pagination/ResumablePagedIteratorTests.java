@@ -0,0 +1,89 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.pagination;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import de.acosix.alfresco.rest.client.model.common.PaginatedList;
+
+/**
+ * @author Axel Faust
+ */
+public class ResumablePagedIteratorTests
+{
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void resumableIteratorResumesAfterCheckpointWithoutDuplicatesOrGaps() throws Exception
+    {
+        final List<Integer> data = IntStream.range(0, 50).boxed().collect(Collectors.toCollection(ArrayList::new));
+        final PageFetcher<Integer> fetcher = (skipCount, maxItems) -> {
+            final int end = Math.min(data.size(), skipCount + maxItems);
+            final PaginatedList<Integer> page = new PaginatedList<>();
+            page.setEntries(new ArrayList<>(data.subList(Math.min(skipCount, end), end)));
+            return page;
+        };
+        final Path file = this.temporaryFolder.getRoot().toPath().resolve("crawl.json");
+        final PagingCursorFile checkpointFile = new PagingCursorFile(file);
+        final PagingCursor initialCursor = new PagingCursor("test", Collections.singletonMap("folder", "a"));
+
+        final List<Integer> processed = new ArrayList<>();
+        final ResumablePagedIterator<Integer> first = Paging.resumableIterator(fetcher, String::valueOf, 10, initialCursor,
+                checkpointFile);
+        while (processed.size() < 25 && first.hasNext())
+        {
+            processed.add(first.next());
+        }
+
+        // simulated crash after 25 entries - last checkpoint was at the page boundary after 20 entries
+        final PagingCursor checkpoint = checkpointFile.load();
+        Assert.assertEquals(20, checkpoint.getSkipCount());
+        Assert.assertFalse(checkpoint.isComplete());
+
+        // entries before the checkpoint were deleted in the meantime, shifting the listing
+        data.removeAll(Arrays.asList(3, 7, 15));
+
+        final List<Integer> resumed = new ArrayList<>();
+        Paging.resumableIterator(fetcher, String::valueOf, 10, initialCursor, checkpointFile).forEachRemaining(resumed::add);
+        Assert.assertEquals(IntStream.range(20, 50).boxed().collect(Collectors.toList()), resumed);
+        Assert.assertTrue(checkpointFile.load().isComplete());
+
+        Assert.assertFalse(Paging.resumableIterator(fetcher, String::valueOf, 10, initialCursor, checkpointFile).hasNext());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void resumableIteratorRejectsCheckpointOfOtherListing() throws Exception
+    {
+        final PagingCursorFile checkpointFile = new PagingCursorFile(this.temporaryFolder.getRoot().toPath().resolve("crawl.json"));
+        checkpointFile.save(new PagingCursor("test", Collections.singletonMap("folder", "a")));
+
+        Paging.resumableIterator(new FakeListing(10, true), String::valueOf, 10,
+                new PagingCursor("test", Collections.singletonMap("folder", "b")), checkpointFile);
+    }
+}
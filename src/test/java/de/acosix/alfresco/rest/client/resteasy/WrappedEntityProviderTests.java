@@ -0,0 +1,227 @@
+/*
+ * Copyright 2019 - 2026 Acosix GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.acosix.alfresco.rest.client.resteasy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.core.NoContentException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import de.acosix.alfresco.rest.client.jackson.RestAPIBeanDeserializerModifier;
+import de.acosix.alfresco.rest.client.jackson.RestAPIDeserializersModuleTests;
+import de.acosix.alfresco.rest.client.model.common.PaginatedList;
+import de.acosix.alfresco.rest.client.model.nodes.ChildNodeResponseEntity;
+import de.acosix.alfresco.rest.client.model.nodes.NodeCreationRequestEntity;
+import de.acosix.alfresco.rest.client.model.nodes.NodeResponseEntity;
+import de.acosix.alfresco.rest.client.model.nodes.PaginatedNodeChildrenList;
+
+/**
+ * @author Axel Faust
+ */
+public class WrappedEntityProviderTests
+{
+
+    private static final Annotation[] NO_ANNOTATIONS = new Annotation[0];
+
+    private final ObjectMapper mapper;
+
+    private final WrappedEntityProvider provider;
+
+    public WrappedEntityProviderTests()
+    {
+        final SimpleModule module = new SimpleModule();
+        module.setDeserializerModifier(new RestAPIBeanDeserializerModifier());
+        this.mapper = new ObjectMapper();
+        this.mapper.registerModule(module);
+        this.provider = new WrappedEntityProvider(this.mapper);
+    }
+
+    // only used to obtain generic types
+    public PaginatedList<ChildNodeResponseEntity> nodeList(final List<NodeCreationRequestEntity> nodes)
+    {
+        return null;
+    }
+
+    // only used to obtain generic types
+    public void nodeStreams(final Iterator<NodeCreationRequestEntity> iterator, final Stream<NodeCreationRequestEntity> stream)
+    {
+        // NO-OP
+    }
+
+    @Test
+    public void readableTypes()
+    {
+        Assert.assertTrue(this.provider.isReadable(NodeResponseEntity.class, NodeResponseEntity.class, NO_ANNOTATIONS,
+                MediaType.APPLICATION_JSON_TYPE));
+        Assert.assertTrue(this.provider.isReadable(PaginatedNodeChildrenList.class, PaginatedNodeChildrenList.class, NO_ANNOTATIONS,
+                new MediaType("application", "vnd.alfresco+json")));
+        Assert.assertFalse(this.provider.isReadable(NodeResponseEntity.class, NodeResponseEntity.class, NO_ANNOTATIONS,
+                MediaType.TEXT_PLAIN_TYPE));
+        Assert.assertFalse(this.provider.isReadable(NodeCreationRequestEntity.class, NodeCreationRequestEntity.class, NO_ANNOTATIONS,
+                MediaType.APPLICATION_JSON_TYPE));
+    }
+
+    @Test
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public void readGenericEntity() throws Exception
+    {
+        final Method method = WrappedEntityProviderTests.class.getMethod("nodeList", List.class);
+        final Type genericType = method.getGenericReturnType();
+
+        final byte[] json = RestAPIDeserializersModuleTests.CHILDREN_JSON.getBytes(StandardCharsets.UTF_8);
+        final CloseTrackingInputStream entityStream = new CloseTrackingInputStream(json);
+        final Object entity = this.provider.readFrom((Class) PaginatedList.class, genericType, NO_ANNOTATIONS,
+                MediaType.APPLICATION_JSON_TYPE, new MultivaluedHashMap<>(), entityStream);
+
+        Assert.assertFalse("Entity stream should not be closed by provider", entityStream.closed);
+        final PaginatedList<ChildNodeResponseEntity> list = (PaginatedList<ChildNodeResponseEntity>) entity;
+        Assert.assertEquals(2, list.getEntries().size());
+        Assert.assertEquals("cm:contains", list.getEntries().get(0).getAssociation().getAssocType());
+        Assert.assertEquals("Doc.txt", list.getEntries().get(1).getName());
+    }
+
+    @Test
+    public void equivalentGenericTypesShareReader() throws Exception
+    {
+        final Type genericType = WrappedEntityProviderTests.class.getMethod("nodeList", List.class).getGenericReturnType();
+        // distinct instance without value equality, as some JAX-RS runtimes construct for each request
+        final Type equivalentType = new ParameterizedType()
+        {
+
+            @Override
+            public Type[] getActualTypeArguments()
+            {
+                return new Type[] { ChildNodeResponseEntity.class };
+            }
+
+            @Override
+            public Type getRawType()
+            {
+                return PaginatedList.class;
+            }
+
+            @Override
+            public Type getOwnerType()
+            {
+                return null;
+            }
+        };
+
+        Assert.assertNotEquals(equivalentType, genericType);
+        Assert.assertSame(this.provider.getReader(genericType), this.provider.getReader(equivalentType));
+        Assert.assertSame(this.provider.getWriter(genericType), this.provider.getWriter(equivalentType));
+    }
+
+    @Test(expected = NoContentException.class)
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public void readEmptyEntity() throws Exception
+    {
+        this.provider.readFrom((Class) NodeResponseEntity.class, NodeResponseEntity.class, NO_ANNOTATIONS, MediaType.APPLICATION_JSON_TYPE,
+                new MultivaluedHashMap<>(), new ByteArrayInputStream(new byte[0]));
+    }
+
+    @Test
+    public void writeRequestEntities() throws Exception
+    {
+        final Method method = WrappedEntityProviderTests.class.getMethod("nodeList", List.class);
+        final Type genericType = method.getGenericParameterTypes()[0];
+
+        final NodeCreationRequestEntity node = new NodeCreationRequestEntity();
+        node.setName("Doc.txt");
+        node.setNodeType("cm:content");
+        final List<NodeCreationRequestEntity> nodes = Arrays.asList(node);
+
+        Assert.assertTrue(this.provider.isWriteable(List.class, genericType, NO_ANNOTATIONS, MediaType.APPLICATION_JSON_TYPE));
+        Assert.assertFalse(this.provider.isWriteable(List.class, List.class, NO_ANNOTATIONS, MediaType.APPLICATION_JSON_TYPE));
+        Assert.assertFalse(this.provider.isWriteable(String.class, String.class, NO_ANNOTATIONS, MediaType.APPLICATION_JSON_TYPE));
+
+        final ByteArrayOutputStream entityStream = new ByteArrayOutputStream();
+        this.provider.writeTo(nodes, List.class, genericType, NO_ANNOTATIONS, MediaType.APPLICATION_JSON_TYPE, new MultivaluedHashMap<>(),
+                entityStream);
+        Assert.assertEquals(this.mapper.writeValueAsString(nodes), entityStream.toString(StandardCharsets.UTF_8.name()));
+    }
+
+    @Test
+    public void writeRequestEntitiesIncrementally() throws Exception
+    {
+        final Method method = WrappedEntityProviderTests.class.getMethod("nodeStreams", Iterator.class, Stream.class);
+        final Type iteratorType = method.getGenericParameterTypes()[0];
+        final Type streamType = method.getGenericParameterTypes()[1];
+
+        final NodeCreationRequestEntity node1 = new NodeCreationRequestEntity();
+        node1.setName("Doc1.txt");
+        node1.setNodeType("cm:content");
+        final NodeCreationRequestEntity node2 = new NodeCreationRequestEntity();
+        node2.setName("Folder");
+        node2.setNodeType("cm:folder");
+        final List<NodeCreationRequestEntity> nodes = Arrays.asList(node1, node2);
+        final String expected = this.mapper.writeValueAsString(nodes);
+
+        Assert.assertTrue(this.provider.isWriteable(Iterator.class, iteratorType, NO_ANNOTATIONS, MediaType.APPLICATION_JSON_TYPE));
+        Assert.assertTrue(this.provider.isWriteable(Stream.class, streamType, NO_ANNOTATIONS, MediaType.APPLICATION_JSON_TYPE));
+        Assert.assertFalse(this.provider.isWriteable(Iterator.class, Iterator.class, NO_ANNOTATIONS, MediaType.APPLICATION_JSON_TYPE));
+
+        final ByteArrayOutputStream iteratorEntityStream = new ByteArrayOutputStream();
+        this.provider.writeTo(nodes.iterator(), Iterator.class, iteratorType, NO_ANNOTATIONS, MediaType.APPLICATION_JSON_TYPE,
+                new MultivaluedHashMap<>(), iteratorEntityStream);
+        Assert.assertEquals(expected, iteratorEntityStream.toString(StandardCharsets.UTF_8.name()));
+
+        final AtomicBoolean streamClosed = new AtomicBoolean(false);
+        final ByteArrayOutputStream streamEntityStream = new ByteArrayOutputStream();
+        this.provider.writeTo(nodes.stream().onClose(() -> streamClosed.set(true)), Stream.class, streamType, NO_ANNOTATIONS,
+                MediaType.APPLICATION_JSON_TYPE, new MultivaluedHashMap<>(), streamEntityStream);
+        Assert.assertEquals(expected, streamEntityStream.toString(StandardCharsets.UTF_8.name()));
+        Assert.assertTrue("Stream should be closed after being written", streamClosed.get());
+    }
+
+    private static class CloseTrackingInputStream extends ByteArrayInputStream
+    {
+
+        private boolean closed;
+
+        private CloseTrackingInputStream(final byte[] buf)
+        {
+            super(buf);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void close()
+        {
+            this.closed = true;
+        }
+    }
+}